@@ -2,6 +2,7 @@ package com.boopugstudios.dynamicjobseconomy;
 
 import com.boopugstudios.dynamicjobseconomy.commands.*;
 import com.boopugstudios.dynamicjobseconomy.commands.ConsolidatedBusinessCommand;
+import com.boopugstudios.dynamicjobseconomy.database.ChangeFeed;
 import com.boopugstudios.dynamicjobseconomy.database.DatabaseManager;
 import com.boopugstudios.dynamicjobseconomy.economy.EconomyManager;
 import com.boopugstudios.dynamicjobseconomy.integrations.IntegrationManager;
@@ -27,6 +28,7 @@ public final class DynamicJobsEconomy extends JavaPlugin {
     
     // Core managers
     private DatabaseManager databaseManager;
+    private ChangeFeed changeFeed;
     private EconomyManager economyManager;
     private JobManager jobManager;
     private ConsolidatedBusinessManager consolidatedBusinessManager;
@@ -103,6 +105,9 @@ public final class DynamicJobsEconomy extends JavaPlugin {
             "📚 Help: Use /jobs help, /gigs help, /business help\n" +
             "🐶 BooPug Studios - Thank you for choosing our plugin!\n");
         
+        // Build the /baltop index off the main thread; writes made meanwhile are indexed directly
+        getServer().getScheduler().runTaskAsynchronously(this, () -> economyManager.seedLeaderboard());
+        
         // Schedule a delayed message for admins
         getServer().getScheduler().runTaskLater(this, () -> sendAdminWelcomeMessage(), 60L);
         
@@ -116,6 +121,10 @@ public final class DynamicJobsEconomy extends JavaPlugin {
             if (jobManager != null) {
                 jobManager.saveAllPlayerData();
             }
+            // Checkpoint money supply / faucet / sink totals every 5 minutes
+            if (economyManager != null) {
+                economyManager.checkpointStats();
+            }
         }, 6000L, 6000L); // 5 minutes initial delay, then every 5 minutes
         
         // Schedule business payroll system - runs every hour
@@ -142,13 +151,25 @@ public final class DynamicJobsEconomy extends JavaPlugin {
     public void onDisable() {
         getLogger().info("Disabling Dynamic Jobs & Economy Pro...");
         
+        if (changeFeed != null) {
+            changeFeed.stop();
+        }
+        
         // Save all data
         if (jobManager != null) {
             jobManager.saveAllPlayerData();
         }
         
         if (consolidatedBusinessManager != null) {
-            // Business data is automatically saved when modified
+            // Business data is automatically saved when modified; production, contracts and prices are batched
+            consolidatedBusinessManager.flushProduction();
+            consolidatedBusinessManager.writePendingContracts();
+            consolidatedBusinessManager.flushMarketPrices();
+            consolidatedBusinessManager.shutdownWorkPool();
+        }
+        
+        if (economyManager != null && databaseManager != null) {
+            economyManager.checkpointStats();
         }
         
         // Close database connections
@@ -168,6 +189,7 @@ public final class DynamicJobsEconomy extends JavaPlugin {
                 getServer().getPluginManager().disablePlugin(this);
                 return false;
             }
+            changeFeed = new ChangeFeed(this);
             
             // Initialize v1.0.2 new managers
             notificationManager = new NotificationManager(this);
@@ -183,8 +205,14 @@ public final class DynamicJobsEconomy extends JavaPlugin {
             
             // Initialize other managers
             economyManager = new EconomyManager(this);
+            // Treasuries and gig escrow are part of the money supply, so moves into and out of them net to zero
+            economyManager.getStats().addHoldings(consolidatedBusinessManager::getTotalTreasuryBalance);
+            economyManager.getStats().addHoldings(gigManager::getHeldEscrow);
             jobManager = new JobManager(this);
             
+            // Every cache is loaded; follow writes made by other servers from here on
+            changeFeed.start();
+            
             return true;
         } catch (Exception e) {
             getLogger().log(Level.SEVERE, "Error initializing managers", e);
@@ -198,18 +226,21 @@ public final class DynamicJobsEconomy extends JavaPlugin {
         ConsolidatedBusinessCommand bizCmd = new ConsolidatedBusinessCommand(this);
         GigsCommand gigsCmd = new GigsCommand(this);
         AdminCommand adminCmd = new AdminCommand(this);
+        BaltopCommand baltopCmd = new BaltopCommand(this);
 
         // Register main commands
         getCommand("jobs").setExecutor(jobsCmd);
         getCommand("business").setExecutor(bizCmd);
         getCommand("gigs").setExecutor(gigsCmd);
         getCommand("djeconomy").setExecutor(adminCmd);
+        getCommand("baltop").setExecutor(baltopCmd);
 
         // Set tab completers
         getCommand("jobs").setTabCompleter(jobsCmd);
         getCommand("business").setTabCompleter(bizCmd);
         getCommand("gigs").setTabCompleter(gigsCmd);
         getCommand("djeconomy").setTabCompleter(adminCmd);
+        getCommand("baltop").setTabCompleter(baltopCmd);
     }
     
     private void registerListeners() {
@@ -228,6 +259,10 @@ public final class DynamicJobsEconomy extends JavaPlugin {
         return databaseManager;
     }
     
+    public ChangeFeed getChangeFeed() {
+        return changeFeed;
+    }
+    
     public EconomyManager getEconomyManager() {
         return economyManager;
     }
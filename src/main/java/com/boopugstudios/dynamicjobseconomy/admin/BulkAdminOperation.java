@@ -0,0 +1,383 @@
+package com.boopugstudios.dynamicjobseconomy.admin;
+
+import com.boopugstudios.dynamicjobseconomy.DynamicJobsEconomy;
+import com.boopugstudios.dynamicjobseconomy.database.ChangeFeed;
+import com.boopugstudios.dynamicjobseconomy.economy.EconomyManager;
+import com.boopugstudios.dynamicjobseconomy.economy.EconomyStats;
+import com.boopugstudios.dynamicjobseconomy.jobs.Job;
+import org.bukkit.OfflinePlayer;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Applies an admin economy or job-level change to many players at once.
+ *
+ * With the internal economy every row is written through batched statements inside a single
+ * JDBC transaction, so a failure leaves no partial payout behind. When Vault is the active
+ * provider the money never touches our tables, so the operation falls back to one provider
+ * call per player.
+ */
+public class BulkAdminOperation {
+
+    /** Rows per executeBatch round-trip; progress is reported after each chunk. */
+    public static final int CHUNK_SIZE = 500;
+
+    /**
+     * Receives progress updates while a bulk operation runs. Called from the thread running the operation.
+     */
+    public interface ProgressListener {
+        void onProgress(int processed, int total);
+    }
+
+    /**
+     * Aggregated outcome of a bulk operation.
+     */
+    public static class Result {
+        public final int total;
+        public int succeeded;
+        public int skipped;
+        public int failed;
+        public double volume;
+
+        public Result(int total) {
+            this.total = total;
+        }
+    }
+
+    private final DynamicJobsEconomy plugin;
+
+    public BulkAdminOperation(DynamicJobsEconomy plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Give, take or set the same amount for every target.
+     * Takes that would overdraw a player and gives that would push one past economy.max_money are
+     * skipped rather than failing the batch; a set above max_money is refused for everyone.
+     */
+    public Result applyEconomy(String action, List<OfflinePlayer> targets, double amount, ProgressListener progress) {
+        EconomyManager econ = plugin.getEconomyManager();
+        if (econ != null && econ.isVaultEnabled()) {
+            return applyEconomyViaProvider(econ, action, targets, amount, progress);
+        }
+
+        if (econ != null) {
+            // Hold every target's stripe so concurrent single-account updates cannot overwrite the batch
+            List<UUID> ids = new ArrayList<>(targets.size());
+            for (OfflinePlayer target : targets) ids.add(target.getUniqueId());
+            return econ.getAccountLocks().withLocks(ids, () -> applyEconomyInternal(action, targets, amount, progress));
+        }
+        return applyEconomyInternal(action, targets, amount, progress);
+    }
+
+    private Result applyEconomyInternal(String action, List<OfflinePlayer> targets, double amount, ProgressListener progress) {
+        Result result = new Result(targets.size());
+        double maxMoney = plugin.getConfig().getDouble("economy.max_money", 10000000.0);
+        double startingMoney = plugin.getConfig().getDouble("economy.starting_money", 1000.0);
+        boolean isSQLite = "sqlite".equalsIgnoreCase(plugin.getDatabaseManager().getDatabaseType());
+
+        String sql;
+        switch (action.toLowerCase()) {
+            case "give":
+                // Like every other credit, a give that would pass max_money is refused, not clamped
+                sql = "UPDATE players SET money = money + ?, last_seen = CURRENT_TIMESTAMP WHERE uuid = ? AND money + ? <= ?";
+                break;
+            case "take":
+                sql = "UPDATE players SET money = money - ?, last_seen = CURRENT_TIMESTAMP WHERE uuid = ? AND money >= ?";
+                break;
+            case "set":
+                sql = "UPDATE players SET money = ?, last_seen = CURRENT_TIMESTAMP WHERE uuid = ?";
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown bulk economy action: " + action);
+        }
+        if ("set".equalsIgnoreCase(action) && amount > maxMoney) {
+            // Nobody may hold more than max_money; refuse the whole set before touching any row
+            result.skipped = result.total;
+            return result;
+        }
+
+        Connection conn = null;
+        try {
+            conn = plugin.getDatabaseManager().getConnection();
+            conn.setAutoCommit(false);
+
+            ensurePlayerRows(conn, isSQLite, targets, startingMoney);
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int pending = 0;
+                int processed = 0;
+                for (OfflinePlayer target : targets) {
+                    String uuid = target.getUniqueId().toString();
+                    switch (action.toLowerCase()) {
+                        case "give":
+                            stmt.setDouble(1, amount);
+                            stmt.setString(2, uuid);
+                            stmt.setDouble(3, amount);
+                            stmt.setDouble(4, maxMoney);
+                            break;
+                        case "take":
+                            stmt.setDouble(1, amount);
+                            stmt.setString(2, uuid);
+                            stmt.setDouble(3, amount);
+                            break;
+                        default:
+                            stmt.setDouble(1, amount);
+                            stmt.setString(2, uuid);
+                            break;
+                    }
+                    stmt.addBatch();
+                    if (++pending >= CHUNK_SIZE) {
+                        tally(result, stmt.executeBatch());
+                        processed += pending;
+                        pending = 0;
+                        if (progress != null) progress.onProgress(processed, targets.size());
+                    }
+                }
+                if (pending > 0) {
+                    tally(result, stmt.executeBatch());
+                    processed += pending;
+                    if (progress != null) progress.onProgress(processed, targets.size());
+                }
+            }
+
+            conn.commit();
+            result.volume = result.succeeded * amount;
+            refreshLeaderboard(targets);
+            recordFlow(action, result.volume);
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Bulk economy " + action + " failed; rolling back", e);
+            rollbackQuietly(conn);
+            result.succeeded = 0;
+            result.skipped = 0;
+            result.failed = result.total;
+            result.volume = 0;
+        } finally {
+            closeQuietly(conn);
+        }
+        return result;
+    }
+
+    /**
+     * Set the given job level for every target. Missing player rows are created first so the
+     * job_levels foreign key is always satisfied.
+     */
+    public Result applySetLevel(List<OfflinePlayer> targets, Job job, int level, ProgressListener progress) {
+        Result result = new Result(targets.size());
+        if (level < 1) level = 1;
+        if (level > job.getMaxLevel()) level = job.getMaxLevel();
+        boolean isSQLite = "sqlite".equalsIgnoreCase(plugin.getDatabaseManager().getDatabaseType());
+        double startingMoney = plugin.getConfig().getDouble("economy.starting_money", 1000.0);
+
+        String sql = isSQLite
+            ? "INSERT INTO job_levels (player_uuid, job_name, level, experience) VALUES (?, ?, ?, 0) " +
+              "ON CONFLICT(player_uuid, job_name) DO UPDATE SET level = excluded.level, experience = 0"
+            : "INSERT INTO job_levels (player_uuid, job_name, level, experience) VALUES (?, ?, ?, 0) " +
+              "ON DUPLICATE KEY UPDATE level = VALUES(level), experience = 0";
+
+        Connection conn = null;
+        try {
+            conn = plugin.getDatabaseManager().getConnection();
+            conn.setAutoCommit(false);
+
+            ensurePlayerRows(conn, isSQLite, targets, startingMoney);
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int pending = 0;
+                int processed = 0;
+                for (OfflinePlayer target : targets) {
+                    stmt.setString(1, target.getUniqueId().toString());
+                    stmt.setString(2, job.getName());
+                    stmt.setInt(3, level);
+                    stmt.addBatch();
+                    if (++pending >= CHUNK_SIZE) {
+                        stmt.executeBatch();
+                        processed += pending;
+                        pending = 0;
+                        if (progress != null) progress.onProgress(processed, targets.size());
+                    }
+                }
+                if (pending > 0) {
+                    stmt.executeBatch();
+                    processed += pending;
+                    if (progress != null) progress.onProgress(processed, targets.size());
+                }
+            }
+
+            ChangeFeed feed = plugin.getChangeFeed();
+            if (feed != null) {
+                List<UUID> changed = new ArrayList<>(targets.size());
+                for (OfflinePlayer target : targets) changed.add(target.getUniqueId());
+                feed.record(conn, ChangeFeed.PLAYER_JOBS, changed);
+            }
+
+            conn.commit();
+            result.succeeded = targets.size();
+            result.volume = level;
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Bulk setlevel for job " + job.getName() + " failed; rolling back", e);
+            rollbackQuietly(conn);
+            result.succeeded = 0;
+            result.failed = result.total;
+        } finally {
+            closeQuietly(conn);
+        }
+        return result;
+    }
+
+    /**
+     * Whether this operation can run off the main thread. Vault providers are not guaranteed to be
+     * thread-safe, so the provider fallback must stay on the server thread.
+     */
+    public boolean canRunAsync() {
+        EconomyManager econ = plugin.getEconomyManager();
+        return econ == null || !econ.isVaultEnabled();
+    }
+
+    /**
+     * Parse a UUID list file: one UUID per line, blank lines and '#' comments ignored,
+     * duplicates collapsed while preserving order. Malformed lines are skipped.
+     */
+    public static List<UUID> parseUuidLines(List<String> lines) {
+        Set<UUID> out = new LinkedHashSet<>();
+        for (String raw : lines) {
+            if (raw == null) continue;
+            String line = raw.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            try {
+                out.add(UUID.fromString(line));
+            } catch (IllegalArgumentException ignored) {
+                // not a UUID; skip
+            }
+        }
+        return new ArrayList<>(out);
+    }
+
+    private Result applyEconomyViaProvider(EconomyManager econ, String action, List<OfflinePlayer> targets,
+                                           double amount, ProgressListener progress) {
+        Result result = new Result(targets.size());
+        int processed = 0;
+        for (OfflinePlayer target : targets) {
+            boolean ok;
+            switch (action.toLowerCase()) {
+                case "give":
+                    ok = econ.depositPlayer(target, amount);
+                    break;
+                case "take":
+                    if (econ.getBalance(target) < amount) {
+                        result.skipped++;
+                        processed++;
+                        continue;
+                    }
+                    ok = econ.withdraw(target, amount);
+                    break;
+                case "set": {
+                    double current = econ.getBalance(target);
+                    ok = current <= 0 || econ.withdraw(target, current);
+                    ok = ok && econ.depositPlayer(target, amount);
+                    break;
+                }
+                default:
+                    throw new IllegalArgumentException("Unknown bulk economy action: " + action);
+            }
+            if (ok) {
+                result.succeeded++;
+                result.volume += amount;
+            } else {
+                result.failed++;
+            }
+            processed++;
+            if (progress != null && (processed % CHUNK_SIZE == 0 || processed == targets.size())) {
+                progress.onProgress(processed, targets.size());
+            }
+        }
+        recordFlow(action, result.volume);
+        return result;
+    }
+
+    /**
+     * Tag bulk gives and takes as admin faucets and sinks. A set has no single direction and is
+     * left to the unattributed supply change.
+     */
+    private void recordFlow(String action, double volume) {
+        EconomyManager econ = plugin.getEconomyManager();
+        if (econ == null) return;
+        if ("give".equalsIgnoreCase(action)) {
+            econ.getStats().record(EconomyStats.Flow.ADMIN_GRANT, volume);
+        } else if ("take".equalsIgnoreCase(action)) {
+            econ.getStats().record(EconomyStats.Flow.ADMIN_REMOVAL, volume);
+        }
+    }
+
+    private void refreshLeaderboard(List<OfflinePlayer> targets) {
+        EconomyManager econ = plugin.getEconomyManager();
+        if (econ == null) return;
+        List<UUID> ids = new ArrayList<>(targets.size());
+        for (OfflinePlayer target : targets) ids.add(target.getUniqueId());
+        econ.refreshLeaderboard(ids);
+    }
+
+    private void ensurePlayerRows(Connection conn, boolean isSQLite, List<OfflinePlayer> targets, double startingMoney) throws SQLException {
+        String sql = isSQLite
+            ? "INSERT OR IGNORE INTO players (uuid, username, money) VALUES (?, ?, ?)"
+            : "INSERT IGNORE INTO players (uuid, username, money) VALUES (?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            int pending = 0;
+            for (OfflinePlayer target : targets) {
+                stmt.setString(1, target.getUniqueId().toString());
+                stmt.setString(2, target.getName() != null ? target.getName() : target.getUniqueId().toString());
+                stmt.setDouble(3, startingMoney);
+                stmt.addBatch();
+                if (++pending >= CHUNK_SIZE) {
+                    stmt.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                stmt.executeBatch();
+            }
+        }
+    }
+
+    private static void tally(Result result, int[] counts) {
+        for (int c : counts) {
+            if (c > 0 || c == Statement.SUCCESS_NO_INFO) {
+                result.succeeded++;
+            } else if (c == 0) {
+                // Row exists (ensured above) but the guard did not match: insufficient funds on
+                // take, or a give that would pass max_money
+                result.skipped++;
+            } else {
+                result.failed++;
+            }
+        }
+    }
+
+    private void rollbackQuietly(Connection conn) {
+        if (conn == null) return;
+        try {
+            conn.rollback();
+        } catch (SQLException rollbackEx) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to rollback bulk admin transaction", rollbackEx);
+        }
+    }
+
+    private void closeQuietly(Connection conn) {
+        if (conn == null) return;
+        try {
+            conn.setAutoCommit(true);
+            conn.close();
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to close bulk admin database connection", e);
+        }
+    }
+}
@@ -8,10 +8,11 @@ import org.bukkit.Bukkit;
 public class Business {
     
     private final int id;
-    private final String name;
-    private final UUID ownerUUID;
+    private volatile String name;
+    private volatile UUID ownerUUID;
     private final String type;
     private double balance;
+    private long version; // businesses.version of the row the balance was last read from; guarded by this with balance
     private final List<UUID> employees;
     private BusinessRevenueModel revenueModel; // Will be set via setter
     
@@ -36,16 +37,45 @@ public class Business {
         return ownerUUID;
     }
     
+    // Name and owner are indexed; change them through BusinessRegistry only
+    void setName(String name) {
+        this.name = name;
+    }
+    
+    void setOwnerUUID(UUID ownerUUID) {
+        this.ownerUUID = ownerUUID;
+    }
+    
     public String getType() {
         return type;
     }
     
-    public double getBalance() {
+    public synchronized double getBalance() {
         return balance;
     }
     
-    public void setBalance(double balance) {
+    public synchronized void setBalance(double balance) {
+        this.balance = balance;
+    }
+    
+    public synchronized long getVersion() {
+        return version;
+    }
+    
+    synchronized void setVersion(long version) {
+        this.version = version;
+    }
+    
+    /**
+     * Take the balance from a committed row unless a newer row was already applied. Balance and
+     * version are guarded by this object, so the check and both writes happen as one step even
+     * when snapshots arrive from worker threads.
+     */
+    synchronized boolean applySnapshot(double balance, long version) {
+        if (version <= this.version) return false;
         this.balance = balance;
+        this.version = version;
+        return true;
     }
     
     public List<UUID> getEmployees() {
@@ -15,9 +15,11 @@ import java.util.logging.Level;
 public class BusinessAnalytics {
     
     private final DynamicJobsEconomy plugin;
+    private final BusinessRollups rollups;
     
     public BusinessAnalytics(DynamicJobsEconomy plugin) {
         this.plugin = plugin;
+        this.rollups = new BusinessRollups(plugin);
     }
     
     /**
@@ -57,28 +59,11 @@ public class BusinessAnalytics {
             int payrollsPerMonth = 24 * 30; // Hourly payroll * 30 days
             stats.monthlySalaryExpense = stats.employeeCount * defaultSalary * payrollsPerMonth;
             
-            // Get transaction history (last 30 days)
-            boolean isSQLite = "sqlite".equalsIgnoreCase(plugin.getDatabaseManager().getDatabaseType());
-            String transactionSql = isSQLite
-                ? "SELECT SUM(CASE WHEN transaction_type = 'DEPOSIT' THEN amount ELSE 0 END) as total_deposits, " +
-                  "SUM(CASE WHEN transaction_type = 'WITHDRAW' THEN amount ELSE 0 END) as total_withdrawals, " +
-                  "COUNT(*) as transaction_count FROM business_transactions WHERE business_id = ? " +
-                  "AND created_at >= datetime('now','-30 days')"
-                : "SELECT SUM(CASE WHEN transaction_type = 'DEPOSIT' THEN amount ELSE 0 END) as total_deposits, " +
-                  "SUM(CASE WHEN transaction_type = 'WITHDRAW' THEN amount ELSE 0 END) as total_withdrawals, " +
-                  "COUNT(*) as transaction_count FROM business_transactions WHERE business_id = ? " +
-                  "AND created_at >= DATE_SUB(NOW(), INTERVAL 30 DAY)";
-            
-            try (PreparedStatement stmt = conn.prepareStatement(transactionSql)) {
-                stmt.setInt(1, businessId);
-                try (ResultSet rs = stmt.executeQuery()) {
-                    if (rs.next()) {
-                        stats.monthlyDeposits = rs.getDouble("total_deposits");
-                        stats.monthlyWithdrawals = rs.getDouble("total_withdrawals");
-                        stats.transactionCount = rs.getInt("transaction_count");
-                    }
-                }
-            }
+            // Money in/out over the last 30 days, from the daily rollups (at most 30 rows per category)
+            BusinessRollups.Summary month = rollups.summarize(businessId, 30);
+            stats.monthlyDeposits = month.total(BusinessRollups.DEPOSIT);
+            stats.monthlyWithdrawals = month.total(BusinessRollups.WITHDRAWAL);
+            stats.transactionCount = month.entries(BusinessRollups.DEPOSIT) + month.entries(BusinessRollups.WITHDRAWAL);
             
             // Calculate profit/loss
             stats.monthlyProfit = stats.monthlyDeposits - stats.monthlyWithdrawals - stats.monthlySalaryExpense;
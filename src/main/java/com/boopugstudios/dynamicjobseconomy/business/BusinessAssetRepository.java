@@ -0,0 +1,306 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-business contracts, locations, processing chains and construction contracts, loaded on first
+ * access and kept in an LRU of recently used businesses.
+ *
+ * Locations, chains and construction contracts are written by the manager straight away (it needs
+ * their generated ids) and then added to the cached bundle, if any. Business contracts are queued
+ * instead and written back in batches via {@link #drainPendingContracts()}. Queued and in-flight
+ * contracts are merged into a bundle when it is loaded, so evicting a business never loses
+ * unwritten state; a bundle loaded while its contracts are being written is not cached.
+ *
+ * Like {@link BusinessStaffCache}, loads run without the lock, and a load that raced with a write
+ * is returned but not cached. Callers always receive copies of the lists.
+ */
+public class BusinessAssetRepository {
+
+    /**
+     * Everything loaded for one business.
+     */
+    public static final class Assets {
+        private final List<BusinessContract> contracts = new ArrayList<>();
+        private final List<BusinessLocation> locations = new ArrayList<>();
+        private final List<ResourceProcessingChain> chains = new ArrayList<>();
+        private final List<ConstructionContract> construction = new ArrayList<>();
+        private long lastAccess;
+
+        public synchronized void addContract(BusinessContract contract) {
+            contracts.add(contract);
+        }
+
+        public synchronized void addLocation(BusinessLocation location) {
+            locations.add(location);
+        }
+
+        public synchronized void addChain(ResourceProcessingChain chain) {
+            chains.add(chain);
+        }
+
+        public synchronized void addConstructionContract(ConstructionContract contract) {
+            construction.add(contract);
+        }
+
+        synchronized List<BusinessContract> contracts() {
+            return new ArrayList<>(contracts);
+        }
+
+        synchronized List<BusinessLocation> locations() {
+            return new ArrayList<>(locations);
+        }
+
+        synchronized List<ResourceProcessingChain> chains() {
+            return new ArrayList<>(chains);
+        }
+
+        synchronized List<ConstructionContract> construction() {
+            return new ArrayList<>(construction);
+        }
+    }
+
+    private final LinkedHashMap<Integer, Assets> entries;
+    private final Map<Integer, Long> generations = new HashMap<>();
+    // Business contracts not yet written, by business id
+    private Map<Integer, List<BusinessContract>> pendingContracts = new HashMap<>();
+    // Drained contracts whose write has not finished yet, by business id
+    private final Map<Integer, List<BusinessContract>> inFlightContracts = new HashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongSupplier clock;
+
+    public BusinessAssetRepository(int maxBusinesses) {
+        this(maxBusinesses, System::currentTimeMillis);
+    }
+
+    BusinessAssetRepository(int maxBusinesses, LongSupplier clock) {
+        int capacity = Math.max(1, maxBusinesses);
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Assets> eldest) {
+                if (size() > capacity) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public List<BusinessContract> getContracts(int businessId, IntFunction<Assets> loader) {
+        Assets assets = get(businessId, loader);
+        return assets != null ? assets.contracts() : new ArrayList<>();
+    }
+
+    public List<BusinessLocation> getLocations(int businessId, IntFunction<Assets> loader) {
+        Assets assets = get(businessId, loader);
+        return assets != null ? assets.locations() : new ArrayList<>();
+    }
+
+    public List<ResourceProcessingChain> getChains(int businessId, IntFunction<Assets> loader) {
+        Assets assets = get(businessId, loader);
+        return assets != null ? assets.chains() : new ArrayList<>();
+    }
+
+    public List<ConstructionContract> getConstructionContracts(int businessId, IntFunction<Assets> loader) {
+        Assets assets = get(businessId, loader);
+        return assets != null ? assets.construction() : new ArrayList<>();
+    }
+
+    /**
+     * Contracts of a cached business without loading it, or null on a miss.
+     */
+    public synchronized List<BusinessContract> peekContracts(int businessId) {
+        Assets assets = entries.get(businessId);
+        return assets != null ? assets.contracts() : null;
+    }
+
+    /**
+     * Queued and in-flight contracts of a business, which a direct database read may not see yet.
+     */
+    public synchronized List<BusinessContract> unwrittenContracts(int businessId) {
+        List<BusinessContract> out = new ArrayList<>(inFlightContracts.getOrDefault(businessId, List.of()));
+        out.addAll(pendingContracts.getOrDefault(businessId, List.of()));
+        return out;
+    }
+
+    /**
+     * The bundle for a business, loading it on a miss.
+     *
+     * @param loader reads the business from the database; returns null on failure, which is not cached
+     */
+    Assets get(int businessId, IntFunction<Assets> loader) {
+        long generation;
+        boolean writing;
+        synchronized (this) {
+            Assets assets = entries.get(businessId);
+            if (assets != null) {
+                hits.increment();
+                assets.lastAccess = clock.getAsLong();
+                return assets;
+            }
+            generation = generations.getOrDefault(businessId, 0L);
+            writing = inFlightContracts.containsKey(businessId);
+        }
+        misses.increment();
+        Assets loaded = loader.apply(businessId);
+        if (loaded == null) return null;
+        synchronized (this) {
+            for (BusinessContract contract : inFlightContracts.getOrDefault(businessId, List.of())) {
+                loaded.addContract(contract);
+            }
+            for (BusinessContract contract : pendingContracts.getOrDefault(businessId, List.of())) {
+                loaded.addContract(contract);
+            }
+            loaded.lastAccess = clock.getAsLong();
+            // The read may or may not have seen rows of a write in progress, so keep it uncached
+            if (writing || generations.getOrDefault(businessId, 0L) != generation) {
+                return loaded;
+            }
+            Assets existing = entries.get(businessId);
+            if (existing != null) return existing;
+            entries.put(businessId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Queue a business contract for the next batched write and add it to the cached bundle.
+     */
+    public synchronized void queueContract(int businessId, BusinessContract contract) {
+        pendingContracts.computeIfAbsent(businessId, k -> new ArrayList<>()).add(contract);
+        Assets assets = written(businessId);
+        if (assets != null) assets.addContract(contract);
+    }
+
+    /**
+     * Take every queued contract for writing. Until {@link #completePendingContracts} or
+     * {@link #restorePendingContracts} is called they are merged into loads but not cached.
+     */
+    public synchronized Map<Integer, List<BusinessContract>> drainPendingContracts() {
+        if (pendingContracts.isEmpty()) return Map.of();
+        Map<Integer, List<BusinessContract>> out = pendingContracts;
+        pendingContracts = new HashMap<>();
+        for (Map.Entry<Integer, List<BusinessContract>> e : out.entrySet()) {
+            inFlightContracts.computeIfAbsent(e.getKey(), k -> new ArrayList<>()).addAll(e.getValue());
+            bump(e.getKey());
+        }
+        return out;
+    }
+
+    /** The drained contracts were committed; loads from now on see them in the database. */
+    public synchronized void completePendingContracts(Map<Integer, List<BusinessContract>> contracts) {
+        for (Integer businessId : contracts.keySet()) {
+            inFlightContracts.remove(businessId);
+            bump(businessId);
+        }
+    }
+
+    /** Put back contracts whose write failed so the next drain retries them. */
+    public synchronized void restorePendingContracts(Map<Integer, List<BusinessContract>> contracts) {
+        for (Map.Entry<Integer, List<BusinessContract>> e : contracts.entrySet()) {
+            if (inFlightContracts.remove(e.getKey()) == null) continue; // business was deleted meanwhile
+            pendingContracts.computeIfAbsent(e.getKey(), k -> new ArrayList<>()).addAll(0, e.getValue());
+            bump(e.getKey());
+        }
+    }
+
+    public synchronized int getPendingContractCount() {
+        int count = 0;
+        for (List<BusinessContract> list : pendingContracts.values()) count += list.size();
+        return count;
+    }
+
+    public synchronized void putLocation(int businessId, BusinessLocation location) {
+        Assets assets = written(businessId);
+        if (assets != null) assets.addLocation(location);
+    }
+
+    public synchronized void putChain(int businessId, ResourceProcessingChain chain) {
+        Assets assets = written(businessId);
+        if (assets != null) assets.addChain(chain);
+    }
+
+    public synchronized void putConstructionContract(int businessId, ConstructionContract contract) {
+        Assets assets = written(businessId);
+        if (assets != null) assets.addConstructionContract(contract);
+    }
+
+    /**
+     * Forget a business after a write the repository cannot apply in place; the next read reloads it.
+     */
+    public synchronized void invalidate(int businessId) {
+        bump(businessId);
+        entries.remove(businessId);
+    }
+
+    /** Drop a deleted business, including contracts still waiting to be written. */
+    public synchronized void remove(int businessId) {
+        invalidate(businessId);
+        pendingContracts.remove(businessId);
+        inFlightContracts.remove(businessId);
+    }
+
+    /** Drop every cached bundle; queued contracts are kept. */
+    public synchronized void clear() {
+        for (Integer businessId : entries.keySet()) {
+            bump(businessId);
+        }
+        entries.clear();
+    }
+
+    /**
+     * Drop businesses not read for {@code idleMillis}.
+     *
+     * @return how many entries were removed
+     */
+    public synchronized int evictIdle(long idleMillis) {
+        long cutoff = clock.getAsLong() - idleMillis;
+        int removed = 0;
+        Iterator<Assets> it = entries.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().lastAccess < cutoff) {
+                it.remove();
+                removed++;
+            }
+        }
+        evictions.add(removed);
+        return removed;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private Assets written(int businessId) {
+        bump(businessId);
+        return entries.get(businessId);
+    }
+
+    private void bump(int businessId) {
+        generations.merge(businessId, 1L, Long::sum);
+    }
+}
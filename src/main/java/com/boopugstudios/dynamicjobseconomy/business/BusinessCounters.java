@@ -0,0 +1,117 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Running counts of active positions, active employees and pending hiring requests, globally and
+ * per business.
+ *
+ * The manager adjusts these on every mutation so dashboards read them in O(1) instead of running
+ * COUNT(*) queries. Paths the manager cannot see (requests expiring, manual database edits) are
+ * corrected by {@link #reconcile}, which the manager runs against the database on a slow timer.
+ */
+public class BusinessCounters {
+
+    private static final class Counts {
+        final AtomicInteger positions = new AtomicInteger();
+        final AtomicInteger employees = new AtomicInteger();
+        final AtomicInteger pending = new AtomicInteger();
+    }
+
+    private final AtomicInteger activePositions = new AtomicInteger();
+    private final AtomicInteger activeEmployees = new AtomicInteger();
+    private final AtomicInteger pendingRequests = new AtomicInteger();
+    private final Map<Integer, Counts> perBusiness = new ConcurrentHashMap<>();
+
+    public void positionsChanged(int businessId, int delta) {
+        counts(businessId).positions.addAndGet(delta);
+        activePositions.addAndGet(delta);
+    }
+
+    public void employeesChanged(int businessId, int delta) {
+        counts(businessId).employees.addAndGet(delta);
+        activeEmployees.addAndGet(delta);
+    }
+
+    public void pendingRequestsChanged(int businessId, int delta) {
+        counts(businessId).pending.addAndGet(delta);
+        pendingRequests.addAndGet(delta);
+    }
+
+    /**
+     * Drop a deleted business and take its counts out of the totals.
+     */
+    public void businessDeleted(int businessId) {
+        Counts c = perBusiness.remove(businessId);
+        if (c != null) {
+            activePositions.addAndGet(-c.positions.get());
+            activeEmployees.addAndGet(-c.employees.get());
+            pendingRequests.addAndGet(-c.pending.get());
+        }
+    }
+
+    public int getActivePositions() {
+        return Math.max(0, activePositions.get());
+    }
+
+    public int getActiveEmployees() {
+        return Math.max(0, activeEmployees.get());
+    }
+
+    public int getPendingRequests() {
+        return Math.max(0, pendingRequests.get());
+    }
+
+    public int getActivePositions(int businessId) {
+        Counts c = perBusiness.get(businessId);
+        return c != null ? Math.max(0, c.positions.get()) : 0;
+    }
+
+    public int getActiveEmployees(int businessId) {
+        Counts c = perBusiness.get(businessId);
+        return c != null ? Math.max(0, c.employees.get()) : 0;
+    }
+
+    public int getPendingRequests(int businessId) {
+        Counts c = perBusiness.get(businessId);
+        return c != null ? Math.max(0, c.pending.get()) : 0;
+    }
+
+    /**
+     * Overwrite every count with values read from the database, keyed by business id. Businesses
+     * missing from a map are set to zero.
+     *
+     * @return how many of the global and per-business counters had drifted from the database
+     */
+    public synchronized int reconcile(Map<Integer, Integer> positions, Map<Integer, Integer> employees,
+                                      Map<Integer, Integer> pending) {
+        int drifted = 0;
+        for (Integer id : positions.keySet()) counts(id);
+        for (Integer id : employees.keySet()) counts(id);
+        for (Integer id : pending.keySet()) counts(id);
+
+        int totalPositions = 0, totalEmployees = 0, totalPending = 0;
+        for (Map.Entry<Integer, Counts> e : perBusiness.entrySet()) {
+            int p = positions.getOrDefault(e.getKey(), 0);
+            int m = employees.getOrDefault(e.getKey(), 0);
+            int r = pending.getOrDefault(e.getKey(), 0);
+            if (e.getValue().positions.getAndSet(p) != p) drifted++;
+            if (e.getValue().employees.getAndSet(m) != m) drifted++;
+            if (e.getValue().pending.getAndSet(r) != r) drifted++;
+            totalPositions += p;
+            totalEmployees += m;
+            totalPending += r;
+        }
+
+        if (activePositions.getAndSet(totalPositions) != totalPositions) drifted++;
+        if (activeEmployees.getAndSet(totalEmployees) != totalEmployees) drifted++;
+        if (pendingRequests.getAndSet(totalPending) != totalPending) drifted++;
+        return drifted;
+    }
+
+    private Counts counts(int businessId) {
+        return perBusiness.computeIfAbsent(businessId, k -> new Counts());
+    }
+}
@@ -24,6 +24,9 @@ public class BusinessLocation {
     private final double rentCost; // Monthly rent if rented
     private final String description;
     
+    /** Radius around the anchor point that counts as inside the location until WorldGuard regions are used. */
+    public static final double FOOTPRINT_RADIUS = 50.0;
+    
     public enum BusinessLocationType {
         HEADQUARTERS("Headquarters", "Main business office and operations center"),
         BRANCH_OFFICE("Branch Office", "Secondary business location"),
@@ -104,11 +107,16 @@ public class BusinessLocation {
     public boolean containsBlock(Block block) {
         // This would integrate with WorldGuard to check if block is in region
         // For now, simple distance check
-        Location blockLoc = block.getLocation();
-        if (!blockLoc.getWorld().getName().equals(worldName)) return false;
-        
-        double distance = blockLoc.distance(new Location(blockLoc.getWorld(), x, y, z));
-        return distance <= 50; // 50 block radius for now
+        return contains(block.getWorld().getName(), block.getX(), block.getY(), block.getZ());
+    }
+    
+    /**
+     * Check if a point lies within {@link #FOOTPRINT_RADIUS} of this location
+     */
+    public boolean contains(String world, double px, double py, double pz) {
+        if (!worldName.equals(world)) return false;
+        double dx = px - x, dy = py - y, dz = pz - z;
+        return dx * dx + dy * dy + dz * dz <= FOOTPRINT_RADIUS * FOOTPRINT_RADIUS;
     }
     
     /**
@@ -0,0 +1,159 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-world chunk grid over active business locations.
+ *
+ * Each location is filed under every chunk its footprint touches, so "which location is this
+ * point in?" is one hash lookup plus a distance check against the few locations sharing that
+ * chunk. Radius queries walk a second grid keyed by the chunk of each anchor point. Chunk
+ * coordinates are packed into a primitive long key.
+ *
+ * Reads never lock; writes are synchronized and replace the per-chunk arrays (copy-on-write), so
+ * event handlers can query from the main thread while loads happen elsewhere.
+ */
+public class BusinessLocationIndex {
+
+    private static final BusinessLocation[] EMPTY = new BusinessLocation[0];
+
+    private static final class WorldGrid {
+        final Map<Long, BusinessLocation[]> footprints = new ConcurrentHashMap<>();
+        final Map<Long, BusinessLocation[]> anchors = new ConcurrentHashMap<>();
+    }
+
+    private final Map<String, WorldGrid> worlds = new ConcurrentHashMap<>();
+    private final Map<BusinessLocation, Boolean> indexed = new ConcurrentHashMap<>();
+
+    static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    static int chunkOf(double coordinate) {
+        return (int) Math.floor(coordinate) >> 4;
+    }
+
+    /** Index an active location; inactive ones are ignored. */
+    public synchronized void add(BusinessLocation location) {
+        if (!location.isActive() || indexed.putIfAbsent(location, Boolean.TRUE) != null) return;
+        WorldGrid grid = worlds.computeIfAbsent(location.getWorldName(), k -> new WorldGrid());
+        forEachFootprintChunk(location, key -> grid.footprints.merge(key, new BusinessLocation[]{location}, BusinessLocationIndex::concat));
+        grid.anchors.merge(anchorKey(location), new BusinessLocation[]{location}, BusinessLocationIndex::concat);
+    }
+
+    public synchronized void remove(BusinessLocation location) {
+        if (indexed.remove(location) == null) return;
+        WorldGrid grid = worlds.get(location.getWorldName());
+        if (grid == null) return;
+        forEachFootprintChunk(location, key -> without(grid.footprints, key, location));
+        without(grid.anchors, anchorKey(location), location);
+    }
+
+    public synchronized void removeBusiness(int businessId) {
+        for (BusinessLocation location : new ArrayList<>(indexed.keySet())) {
+            if (location.getBusinessId() == businessId) remove(location);
+        }
+    }
+
+    public synchronized void clear() {
+        worlds.clear();
+        indexed.clear();
+    }
+
+    public int size() {
+        return indexed.size();
+    }
+
+    /**
+     * The location whose footprint contains the point, nearest anchor first, or null.
+     */
+    public BusinessLocation locate(String world, double x, double y, double z) {
+        WorldGrid grid = worlds.get(world);
+        if (grid == null) return null;
+        BusinessLocation[] candidates = grid.footprints.getOrDefault(chunkKey(chunkOf(x), chunkOf(z)), EMPTY);
+        BusinessLocation best = null;
+        double bestDistance = Double.MAX_VALUE;
+        for (BusinessLocation location : candidates) {
+            if (!location.contains(world, x, y, z)) continue;
+            double d = distanceSquared(location, x, y, z);
+            if (d < bestDistance) {
+                best = location;
+                bestDistance = d;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Locations whose anchor lies within {@code radius} of the point, nearest first.
+     */
+    public List<BusinessLocation> within(String world, double x, double y, double z, double radius) {
+        List<BusinessLocation> out = new ArrayList<>();
+        WorldGrid grid = worlds.get(world);
+        if (grid == null || radius < 0) return out;
+        double r2 = radius * radius;
+        int minX = chunkOf(x - radius), maxX = chunkOf(x + radius);
+        int minZ = chunkOf(z - radius), maxZ = chunkOf(z + radius);
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cz = minZ; cz <= maxZ; cz++) {
+                BusinessLocation[] bucket = grid.anchors.get(chunkKey(cx, cz));
+                if (bucket == null) continue;
+                for (BusinessLocation location : bucket) {
+                    if (distanceSquared(location, x, y, z) <= r2) out.add(location);
+                }
+            }
+        }
+        out.sort(Comparator.comparingDouble(l -> distanceSquared(l, x, y, z)));
+        return out;
+    }
+
+    private interface KeyConsumer {
+        void accept(long key);
+    }
+
+    private static void forEachFootprintChunk(BusinessLocation location, KeyConsumer action) {
+        double r = BusinessLocation.FOOTPRINT_RADIUS;
+        int minX = chunkOf(location.getX() - r), maxX = chunkOf(location.getX() + r);
+        int minZ = chunkOf(location.getZ() - r), maxZ = chunkOf(location.getZ() + r);
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cz = minZ; cz <= maxZ; cz++) {
+                action.accept(chunkKey(cx, cz));
+            }
+        }
+    }
+
+    private static long anchorKey(BusinessLocation location) {
+        return chunkKey(chunkOf(location.getX()), chunkOf(location.getZ()));
+    }
+
+    private static double distanceSquared(BusinessLocation location, double x, double y, double z) {
+        double dx = x - location.getX(), dy = y - location.getY(), dz = z - location.getZ();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static BusinessLocation[] concat(BusinessLocation[] a, BusinessLocation[] b) {
+        BusinessLocation[] out = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, out, a.length, b.length);
+        return out;
+    }
+
+    private static void without(Map<Long, BusinessLocation[]> grid, long key, BusinessLocation location) {
+        BusinessLocation[] bucket = grid.get(key);
+        if (bucket == null) return;
+        BusinessLocation[] out = new BusinessLocation[bucket.length];
+        int n = 0;
+        for (BusinessLocation l : bucket) {
+            if (l != location) out[n++] = l;
+        }
+        if (n == 0) {
+            grid.remove(key);
+        } else {
+            grid.put(key, Arrays.copyOf(out, n));
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe store of cached businesses with secondary indexes by owner, case-insensitive name
+ * and employee.
+ *
+ * Reads are lock-free and O(1) (plus the size of the result). Writes are serialized on the
+ * registry and replace index sets copy-on-write, so a reader on another thread (async payroll,
+ * revenue, GUI) never sees a half-updated set. Business names and owners may only change through
+ * {@link #rename} and {@link #transferOwnership} so the indexes stay consistent.
+ */
+public class BusinessRegistry {
+
+    private final Map<Integer, Business> byId = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<Integer>> byOwner = new ConcurrentHashMap<>();
+    private final Map<String, Set<Integer>> byName = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<Integer>> byEmployee = new ConcurrentHashMap<>();
+    // Reverse of byEmployee so deleting a business does not scan every employee
+    private final Map<Integer, Set<UUID>> employeesOf = new ConcurrentHashMap<>();
+
+    /**
+     * Add or replace a business.
+     */
+    public synchronized void put(Business business) {
+        Business previous = byId.put(business.getId(), business);
+        if (previous != null) {
+            unindex(previous);
+        }
+        byOwner.compute(business.getOwnerUUID(), (k, ids) -> with(ids, business.getId()));
+        byName.compute(nameKey(business.getName()), (k, ids) -> with(ids, business.getId()));
+    }
+
+    /**
+     * Remove a business and every index entry that points to it.
+     */
+    public synchronized Business remove(int businessId) {
+        Business removed = byId.remove(businessId);
+        if (removed != null) {
+            unindex(removed);
+            Set<UUID> employees = employeesOf.remove(businessId);
+            if (employees != null) {
+                for (UUID employee : employees) {
+                    byEmployee.computeIfPresent(employee, (k, ids) -> without(ids, businessId));
+                }
+            }
+        }
+        return removed;
+    }
+
+    public synchronized boolean rename(int businessId, String newName) {
+        Business business = byId.get(businessId);
+        if (business == null || newName == null) return false;
+        byName.computeIfPresent(nameKey(business.getName()), (k, ids) -> without(ids, businessId));
+        business.setName(newName);
+        byName.compute(nameKey(newName), (k, ids) -> with(ids, businessId));
+        return true;
+    }
+
+    public synchronized boolean transferOwnership(int businessId, UUID newOwner) {
+        Business business = byId.get(businessId);
+        if (business == null || newOwner == null) return false;
+        byOwner.computeIfPresent(business.getOwnerUUID(), (k, ids) -> without(ids, businessId));
+        business.setOwnerUUID(newOwner);
+        byOwner.compute(newOwner, (k, ids) -> with(ids, businessId));
+        return true;
+    }
+
+    public synchronized void addEmployee(UUID employee, int businessId) {
+        byEmployee.compute(employee, (k, ids) -> with(ids, businessId));
+        employeesOf.computeIfAbsent(businessId, k -> new LinkedHashSet<>()).add(employee);
+    }
+
+    public synchronized void removeEmployee(UUID employee, int businessId) {
+        byEmployee.computeIfPresent(employee, (k, ids) -> without(ids, businessId));
+        Set<UUID> employees = employeesOf.get(businessId);
+        if (employees != null) {
+            employees.remove(employee);
+            if (employees.isEmpty()) employeesOf.remove(businessId);
+        }
+    }
+
+    public synchronized void clear() {
+        byId.clear();
+        byOwner.clear();
+        byName.clear();
+        byEmployee.clear();
+        employeesOf.clear();
+    }
+
+    public Business get(int businessId) {
+        return byId.get(businessId);
+    }
+
+    /**
+     * Case-insensitive name lookup. When several businesses share a name the lowest id wins,
+     * matching the order businesses were created in.
+     */
+    public Business getByName(String name) {
+        if (name == null) return null;
+        Set<Integer> ids = byName.get(nameKey(name));
+        if (ids == null) return null;
+        Business best = null;
+        for (Integer id : ids) {
+            Business b = byId.get(id);
+            if (b != null && (best == null || b.getId() < best.getId())) best = b;
+        }
+        return best;
+    }
+
+    public List<Business> getByOwner(UUID owner) {
+        return resolve(byOwner.get(owner));
+    }
+
+    /**
+     * Businesses that currently employ the player.
+     */
+    public List<Business> getByEmployee(UUID employee) {
+        return resolve(byEmployee.get(employee));
+    }
+
+    public boolean isEmployedBy(UUID employee, int businessId) {
+        Set<Integer> ids = byEmployee.get(employee);
+        return ids != null && ids.contains(businessId);
+    }
+
+    /** Live, weakly consistent view of all businesses. */
+    public Collection<Business> values() {
+        return Collections.unmodifiableCollection(byId.values());
+    }
+
+    /** Live read-only view keyed by business id. */
+    public Map<Integer, Business> asMap() {
+        return Collections.unmodifiableMap(byId);
+    }
+
+    public Set<Integer> ids() {
+        return Collections.unmodifiableSet(byId.keySet());
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    private void unindex(Business business) {
+        byOwner.computeIfPresent(business.getOwnerUUID(), (k, ids) -> without(ids, business.getId()));
+        byName.computeIfPresent(nameKey(business.getName()), (k, ids) -> without(ids, business.getId()));
+    }
+
+    private List<Business> resolve(Set<Integer> ids) {
+        if (ids == null || ids.isEmpty()) return new ArrayList<>(0);
+        List<Business> out = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            Business b = byId.get(id);
+            if (b != null) out.add(b);
+        }
+        return out;
+    }
+
+    private static Set<Integer> with(Set<Integer> ids, int id) {
+        if (ids != null && ids.contains(id)) return ids;
+        Set<Integer> copy = ids == null ? new LinkedHashSet<>() : new LinkedHashSet<>(ids);
+        copy.add(id);
+        return Collections.unmodifiableSet(copy);
+    }
+
+    /** Returns null (removing the key) when the last id goes away. */
+    private static Set<Integer> without(Set<Integer> ids, int id) {
+        if (!ids.contains(id)) return ids;
+        if (ids.size() == 1) return null;
+        Set<Integer> copy = new LinkedHashSet<>(ids);
+        copy.remove(id);
+        return Collections.unmodifiableSet(copy);
+    }
+
+    private static String nameKey(String name) {
+        return name == null ? "" : name.toLowerCase(Locale.ROOT);
+    }
+}
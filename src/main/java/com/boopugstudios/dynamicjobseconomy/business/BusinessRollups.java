@@ -0,0 +1,159 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import com.boopugstudios.dynamicjobseconomy.DynamicJobsEconomy;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+
+/**
+ * Per-business, per-day, per-category totals kept in business_daily_stats.
+ *
+ * Every write path that moves business money adds to the matching day row in the same
+ * transaction as the raw write, so reports read at most one row per day and category instead of
+ * scanning business_revenue. Days are UTC epoch days. Categories are {@link #DEPOSIT},
+ * {@link #WITHDRAWAL}, {@link #PAYROLL} and "revenue.&lt;RevenueType&gt;".
+ */
+public class BusinessRollups {
+
+    public static final long DAY_MS = 24L * 60L * 60L * 1000L;
+    public static final String DEPOSIT = "deposit";
+    public static final String WITHDRAWAL = "withdrawal";
+    public static final String PAYROLL = "payroll";
+    private static final String REVENUE_PREFIX = "revenue.";
+
+    private final DynamicJobsEconomy plugin;
+
+    public BusinessRollups(DynamicJobsEconomy plugin) {
+        this.plugin = plugin;
+    }
+
+    public static String revenueCategory(BusinessRevenue.RevenueType type) {
+        return REVENUE_PREFIX + type.name();
+    }
+
+    public static long epochDay(long millis) {
+        return Math.floorDiv(millis, DAY_MS);
+    }
+
+    /**
+     * Prepare the upsert used by {@link #addRow}; callers batch rows and execute with their own writes.
+     */
+    public PreparedStatement prepare(Connection conn) throws SQLException {
+        boolean isSQLite = "sqlite".equalsIgnoreCase(plugin.getDatabaseManager().getDatabaseType());
+        String sql = isSQLite
+            ? """
+                INSERT INTO business_daily_stats (business_id, stat_day, category, amount, entries) VALUES (?, ?, ?, ?, 1)
+                ON CONFLICT(business_id, stat_day, category) DO UPDATE SET amount = amount + excluded.amount, entries = entries + 1
+            """
+            : """
+                INSERT INTO business_daily_stats (business_id, stat_day, category, amount, entries) VALUES (?, ?, ?, ?, 1)
+                ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount), entries = entries + 1
+            """;
+        return conn.prepareStatement(sql);
+    }
+
+    public static void addRow(PreparedStatement stmt, int businessId, long timestamp, String category, double amount) throws SQLException {
+        stmt.setInt(1, businessId);
+        stmt.setLong(2, epochDay(timestamp));
+        stmt.setString(3, category);
+        stmt.setDouble(4, amount);
+        stmt.addBatch();
+    }
+
+    /**
+     * Add one entry on its own connection, for writes that are not already in a transaction.
+     */
+    public void record(int businessId, String category, double amount) {
+        try (Connection conn = plugin.getDatabaseManager().getConnection();
+             PreparedStatement stmt = prepare(conn)) {
+            addRow(stmt, businessId, System.currentTimeMillis(), category, amount);
+            stmt.executeBatch();
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error recording business daily stats", e);
+        }
+    }
+
+    /**
+     * Totals for the last {@code days} days, today included.
+     */
+    public Summary summarize(int businessId, int days) {
+        Summary summary = new Summary();
+        long firstDay = epochDay(System.currentTimeMillis()) - Math.max(1, days) + 1;
+        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+            String sql = "SELECT stat_day, category, amount, entries FROM business_daily_stats WHERE business_id = ? AND stat_day >= ?";
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, businessId);
+                stmt.setLong(2, firstDay);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        summary.add(rs.getLong("stat_day"), rs.getString("category"),
+                            rs.getDouble("amount"), rs.getInt("entries"));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error reading business daily stats", e);
+        }
+        return summary;
+    }
+
+    /**
+     * Day rows for one business folded into report-ready totals.
+     */
+    public static final class Summary {
+        private final Map<String, Double> amounts = new HashMap<>();
+        private final Map<String, Integer> entries = new HashMap<>();
+        private final Map<BusinessRevenue.RevenueType, Double> revenueByType = new EnumMap<>(BusinessRevenue.RevenueType.class);
+        private final TreeMap<Long, Double> revenueByDay = new TreeMap<>();
+        private final Map<Long, Integer> revenueEntriesByDay = new HashMap<>();
+
+        void add(long day, String category, double amount, int count) {
+            amounts.merge(category, amount, Double::sum);
+            entries.merge(category, count, Integer::sum);
+            if (category.startsWith(REVENUE_PREFIX)) {
+                revenueByDay.merge(day, amount, Double::sum);
+                revenueEntriesByDay.merge(day, count, Integer::sum);
+                try {
+                    revenueByType.merge(BusinessRevenue.RevenueType.valueOf(category.substring(REVENUE_PREFIX.length())),
+                        amount, Double::sum);
+                } catch (IllegalArgumentException ignored) {
+                    revenueByType.merge(BusinessRevenue.RevenueType.OTHER, amount, Double::sum);
+                }
+            }
+        }
+
+        public double total(String category) {
+            return amounts.getOrDefault(category, 0.0);
+        }
+
+        public int entries(String category) {
+            return entries.getOrDefault(category, 0);
+        }
+
+        public double revenueTotal() {
+            double sum = 0;
+            for (double v : revenueByDay.values()) sum += v;
+            return sum;
+        }
+
+        public Map<BusinessRevenue.RevenueType, Double> revenueByType() {
+            return revenueByType;
+        }
+
+        /** Revenue per epoch day, newest first; days without revenue are absent. */
+        public Map<Long, Double> revenueByDay() {
+            return revenueByDay.descendingMap();
+        }
+
+        public int revenueEntries(long day) {
+            return revenueEntriesByDay.getOrDefault(day, 0);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * Write-through cache of each business's positions and active employees.
+ *
+ * A business is loaded on first access and then kept in step by the manager, which updates the
+ * cache right after each successful database write. Entries are softly referenced so idle
+ * businesses are dropped when the heap runs short, and {@link #evictIdle} drops those nobody has
+ * looked at for a while. Callers always receive copies, so mutating a returned object never
+ * changes the cached one.
+ *
+ * Loads run without holding any lock. Every write bumps a per-business generation, and a load that
+ * raced with a write is returned to its caller but not cached.
+ */
+public class BusinessStaffCache {
+
+    /**
+     * Positions (active and inactive) and active employees of one business.
+     */
+    public static final class Staff {
+        private final Map<Integer, BusinessPosition> positions = new LinkedHashMap<>();
+        private final Map<UUID, BusinessEmployee> employees = new LinkedHashMap<>();
+        private volatile long lastAccess;
+
+        public synchronized void addPosition(BusinessPosition position) {
+            positions.put(position.getPositionId(), position);
+        }
+
+        public synchronized void addEmployee(BusinessEmployee employee) {
+            employees.put(employee.getPlayerUUID(), employee);
+        }
+
+        synchronized List<BusinessPosition> activePositions() {
+            List<BusinessPosition> out = new ArrayList<>(positions.size());
+            for (BusinessPosition p : positions.values()) {
+                if (p.isActive()) out.add(copy(p));
+            }
+            return out;
+        }
+
+        synchronized BusinessPosition position(int positionId) {
+            BusinessPosition p = positions.get(positionId);
+            return p != null ? copy(p) : null;
+        }
+
+        synchronized BusinessPosition positionByTitle(String title) {
+            for (BusinessPosition p : positions.values()) {
+                if (p.getTitle().equals(title)) return p;
+            }
+            return null;
+        }
+
+        /** Active employees, most recently hired first. */
+        synchronized List<BusinessEmployee> employees() {
+            List<BusinessEmployee> out = new ArrayList<>(employees.size());
+            for (BusinessEmployee e : employees.values()) {
+                out.add(copy(e));
+            }
+            out.sort(Comparator.comparingLong(BusinessEmployee::getHiredAt).reversed());
+            return out;
+        }
+
+        synchronized BusinessEmployee employee(UUID playerUUID) {
+            BusinessEmployee e = employees.get(playerUUID);
+            return e != null ? copy(e) : null;
+        }
+
+        synchronized int employeesInPosition(int positionId) {
+            int count = 0;
+            for (BusinessEmployee e : employees.values()) {
+                if (e.getPositionId() == positionId) count++;
+            }
+            return count;
+        }
+    }
+
+    private final Map<Integer, SoftReference<Staff>> entries = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> generations = new ConcurrentHashMap<>();
+    // Kept across evictions so getPosition(id) can find the business without a query
+    private final Map<Integer, Integer> positionOwners = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongSupplier clock;
+
+    public BusinessStaffCache() {
+        this(System::currentTimeMillis);
+    }
+
+    BusinessStaffCache(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * The cached staff of a business, loading it on a miss.
+     *
+     * @param loader reads the business from the database; returns null on failure, which is not cached
+     * @return the staff, or null if it could not be loaded
+     */
+    public Staff get(int businessId, IntFunction<Staff> loader) {
+        Staff staff = live(businessId);
+        if (staff != null) {
+            hits.increment();
+            staff.lastAccess = clock.getAsLong();
+            return staff;
+        }
+        misses.increment();
+        long generation = generations.getOrDefault(businessId, 0L);
+        Staff loaded = loader.apply(businessId);
+        if (loaded == null) return null;
+        loaded.lastAccess = clock.getAsLong();
+        synchronized (this) {
+            if (generations.getOrDefault(businessId, 0L) != generation) {
+                return loaded;
+            }
+            Staff existing = live(businessId);
+            if (existing != null) return existing;
+            entries.put(businessId, new SoftReference<>(loaded));
+            for (Integer positionId : loaded.positions.keySet()) {
+                positionOwners.put(positionId, businessId);
+            }
+        }
+        return loaded;
+    }
+
+    /** Business that owns a position, if the position has been seen. */
+    public Integer businessOfPosition(int positionId) {
+        return positionOwners.get(positionId);
+    }
+
+    public void rememberPosition(int positionId, int businessId) {
+        positionOwners.put(positionId, businessId);
+    }
+
+    public synchronized void putEmployee(BusinessEmployee employee) {
+        Staff staff = written(employee.getBusinessId());
+        if (staff != null) staff.addEmployee(copy(employee));
+    }
+
+    public synchronized void removeEmployee(int businessId, UUID playerUUID) {
+        Staff staff = written(businessId);
+        if (staff != null) {
+            synchronized (staff) {
+                staff.employees.remove(playerUUID);
+            }
+        }
+    }
+
+    public synchronized void updateEmployeePosition(int businessId, UUID playerUUID, int positionId, double salary) {
+        Staff staff = written(businessId);
+        if (staff == null) return;
+        synchronized (staff) {
+            BusinessEmployee e = staff.employees.get(playerUUID);
+            if (e != null) {
+                e.setPositionId(positionId);
+                e.setCurrentSalary(salary);
+            }
+        }
+    }
+
+    public synchronized void updatePosition(int businessId, int positionId, String title, String description,
+                                            double salary, int maxEmployees) {
+        Staff staff = written(businessId);
+        if (staff == null) return;
+        synchronized (staff) {
+            BusinessPosition p = staff.positions.get(positionId);
+            if (p != null) {
+                p.setTitle(title);
+                p.setDescription(description);
+                p.setSalary(salary);
+                p.setMaxEmployees(maxEmployees);
+            }
+        }
+    }
+
+    public synchronized void updatePositionSalary(int businessId, String title, double salary) {
+        Staff staff = written(businessId);
+        if (staff == null) return;
+        synchronized (staff) {
+            BusinessPosition p = staff.positionByTitle(title);
+            if (p != null) p.setSalary(salary);
+        }
+    }
+
+    public synchronized void setPositionActive(int businessId, int positionId, boolean active) {
+        Staff staff = written(businessId);
+        if (staff == null) return;
+        synchronized (staff) {
+            BusinessPosition p = staff.positions.get(positionId);
+            if (p != null) p.setActive(active);
+        }
+    }
+
+    /**
+     * Forget a business after a write the cache cannot apply in place; the next read reloads it.
+     */
+    public synchronized void invalidate(int businessId) {
+        bump(businessId);
+        entries.remove(businessId);
+    }
+
+    public synchronized void clear() {
+        for (Integer businessId : entries.keySet()) {
+            bump(businessId);
+        }
+        entries.clear();
+        positionOwners.clear();
+    }
+
+    /**
+     * Drop businesses not read for {@code idleMillis}, plus any whose entry the GC already cleared.
+     *
+     * @return how many entries were removed
+     */
+    public int evictIdle(long idleMillis) {
+        long cutoff = clock.getAsLong() - idleMillis;
+        int removed = 0;
+        for (Map.Entry<Integer, SoftReference<Staff>> e : entries.entrySet()) {
+            Staff staff = e.getValue().get();
+            if ((staff == null || staff.lastAccess < cutoff) && entries.remove(e.getKey(), e.getValue())) {
+                removed++;
+            }
+        }
+        evictions.add(removed);
+        return removed;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /** Businesses currently cached (entries the GC cleared but not yet swept are counted). */
+    public int size() {
+        return entries.size();
+    }
+
+    /** Cached staff for a write; records the write so an in-flight load is not cached. */
+    private Staff written(int businessId) {
+        bump(businessId);
+        return live(businessId);
+    }
+
+    private void bump(int businessId) {
+        generations.merge(businessId, 1L, Long::sum);
+    }
+
+    private Staff live(int businessId) {
+        SoftReference<Staff> ref = entries.get(businessId);
+        if (ref == null) return null;
+        Staff staff = ref.get();
+        if (staff == null) {
+            entries.remove(businessId, ref);
+            evictions.increment();
+        }
+        return staff;
+    }
+
+    static BusinessPosition copy(BusinessPosition p) {
+        return new BusinessPosition(p.getPositionId(), p.getBusinessId(), p.getTitle(), p.getSalary(),
+            p.getDescription(), p.getMaxEmployees(), p.isActive(), p.getCreatedBy(), p.getCreatedAt());
+    }
+
+    static BusinessEmployee copy(BusinessEmployee e) {
+        return new BusinessEmployee(e.getEmployeeId(), e.getBusinessId(), e.getPositionId(), e.getPlayerUUID(),
+            e.getPlayerName(), e.getCurrentSalary(), e.getHiredAt(), e.isActive(), e.getNotes());
+    }
+}
@@ -0,0 +1,169 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Fork-join pool for per-business evaluation passes (revenue, global reports).
+ *
+ * Callers snapshot their inputs into a list first; the list is split into index ranges that
+ * workers evaluate independently, and the partial results are merged back in input order so the
+ * caller can write them in one batch. Lists shorter than the configured threshold are evaluated
+ * on the calling thread, where forking would cost more than it saves.
+ *
+ * The pool is dedicated rather than the common pool so a long revenue pass cannot starve other
+ * plugins' parallel streams, and its size is capped by configuration.
+ */
+public class BusinessWorkPool {
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final int parallelism;
+
+    /**
+     * @param parallelism worker threads; 0 or less uses one fewer than the available cores
+     * @param threshold   smallest input evaluated in parallel; also bounds the leaf size
+     */
+    public BusinessWorkPool(int parallelism, int threshold) {
+        this.parallelism = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.threshold = Math.max(1, threshold);
+        this.pool = this.parallelism > 1 ? new ForkJoinPool(this.parallelism, BusinessWorkPool::newWorker, null, false) : null;
+    }
+
+    private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("DJE-Business-Worker-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Apply {@code fn} to every item and return the non-null results in input order.
+     * {@code fn} must be safe to call from several threads at once.
+     */
+    public <T, R> List<R> map(List<T> items, Function<? super T, ? extends R> fn) {
+        if (items.isEmpty()) return Collections.emptyList();
+        if (!isParallel(items.size())) {
+            List<R> out = new ArrayList<>(items.size());
+            mapRange(items, 0, items.size(), fn, out);
+            return out;
+        }
+        return pool.invoke(new MapTask<T, R>(items, 0, items.size(), leafSize(items.size()), fn));
+    }
+
+    /**
+     * Sum {@code fn} over every item.
+     */
+    public <T> double sum(List<T> items, ToDoubleFunction<? super T> fn) {
+        if (items.isEmpty()) return 0.0;
+        if (!isParallel(items.size())) {
+            return sumRange(items, 0, items.size(), fn);
+        }
+        return pool.invoke(new SumTask<>(items, 0, items.size(), leafSize(items.size()), fn));
+    }
+
+    public void shutdown() {
+        if (pool == null) return;
+        pool.shutdown();
+        try {
+            pool.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    boolean isParallel(int size) {
+        return pool != null && !pool.isShutdown() && size >= threshold;
+    }
+
+    /** Roughly four leaves per worker, but never smaller than half the threshold. */
+    int leafSize(int size) {
+        return Math.max(Math.max(1, threshold / 2), size / (parallelism * 4));
+    }
+
+    private static <T, R> void mapRange(List<T> items, int from, int to, Function<? super T, ? extends R> fn, List<R> out) {
+        for (int i = from; i < to; i++) {
+            R result = fn.apply(items.get(i));
+            if (result != null) out.add(result);
+        }
+    }
+
+    private static <T> double sumRange(List<T> items, int from, int to, ToDoubleFunction<? super T> fn) {
+        double total = 0.0;
+        for (int i = from; i < to; i++) {
+            total += fn.applyAsDouble(items.get(i));
+        }
+        return total;
+    }
+
+    private static final class MapTask<T, R> extends RecursiveTask<List<R>> {
+        private final List<T> items;
+        private final int from;
+        private final int to;
+        private final int leaf;
+        private final Function<? super T, ? extends R> fn;
+
+        MapTask(List<T> items, int from, int to, int leaf, Function<? super T, ? extends R> fn) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.leaf = leaf;
+            this.fn = fn;
+        }
+
+        @Override
+        protected List<R> compute() {
+            if (to - from <= leaf) {
+                List<R> out = new ArrayList<>(to - from);
+                mapRange(items, from, to, fn, out);
+                return out;
+            }
+            int mid = (from + to) >>> 1;
+            MapTask<T, R> left = new MapTask<>(items, from, mid, leaf, fn);
+            left.fork();
+            List<R> right = new MapTask<T, R>(items, mid, to, leaf, fn).compute();
+            List<R> merged = left.join();
+            merged.addAll(right);
+            return merged;
+        }
+    }
+
+    private static final class SumTask<T> extends RecursiveTask<Double> {
+        private final List<T> items;
+        private final int from;
+        private final int to;
+        private final int leaf;
+        private final ToDoubleFunction<? super T> fn;
+
+        SumTask(List<T> items, int from, int to, int leaf, ToDoubleFunction<? super T> fn) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.leaf = leaf;
+            this.fn = fn;
+        }
+
+        @Override
+        protected Double compute() {
+            if (to - from <= leaf) {
+                return sumRange(items, from, to, fn);
+            }
+            int mid = (from + to) >>> 1;
+            SumTask<T> left = new SumTask<>(items, from, mid, leaf, fn);
+            left.fork();
+            double right = new SumTask<>(items, mid, to, leaf, fn).compute();
+            return left.join() + right;
+        }
+    }
+}
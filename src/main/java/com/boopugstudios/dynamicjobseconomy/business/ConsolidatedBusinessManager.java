@@ -1,10 +1,13 @@
 package com.boopugstudios.dynamicjobseconomy.business;
 
 import com.boopugstudios.dynamicjobseconomy.DynamicJobsEconomy;
+import com.boopugstudios.dynamicjobseconomy.database.ChangeFeed;
+import com.boopugstudios.dynamicjobseconomy.economy.BatchTransfer;
+import com.boopugstudios.dynamicjobseconomy.economy.EconomyStats;
 import com.boopugstudios.dynamicjobseconomy.gui.BusinessGUI;
 import org.bukkit.Location;
 import org.bukkit.Material;
-import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
@@ -14,9 +17,12 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.logging.Level;
-import java.util.stream.Collectors;
 
 /**
  * Consolidated Business Manager - Combines all business-related operations
@@ -26,21 +32,78 @@ import java.util.stream.Collectors;
 public class ConsolidatedBusinessManager {
     
     private final DynamicJobsEconomy plugin;
-    private final Map<Integer, Business> businessCache = new HashMap<>();
-    private final Map<Integer, List<BusinessContract>> businessContracts = new HashMap<>();
+    // Cached businesses, indexed by owner, name and employee; shared by main-thread commands and async tasks
+    private final BusinessRegistry businessCache = new BusinessRegistry();
+    // Positions and employees per business, loaded on first use and updated on every write
+    private final BusinessStaffCache staffCache = new BusinessStaffCache();
+    private static final long STAFF_IDLE_EVICT_MS = 30L * 60L * 1000L;
+    // Dashboard counts, adjusted by each mutation and reconciled against the database periodically
+    private final BusinessCounters counters = new BusinessCounters();
+    private static final long COUNTER_RECONCILE_TICKS = 20L * 60 * 30;
+    private final BusinessRollups rollups;
+    // Contracts, locations, processing chains and construction contracts, loaded per business on demand
+    private final BusinessAssetRepository assets;
+    private final MaterialMapCodec materialCodec;
+    private BukkitTask assetWriteTask;
+    private final AtomicBoolean assetWriteInProgress = new AtomicBoolean(false);
+    private static final long ASSET_WRITE_TICKS = 20L * 60; // Every minute
+    // Every active location, gridded by chunk for in-world lookups
+    private final BusinessLocationIndex locationIndex = new BusinessLocationIndex();
+    private final Map<Integer, LongAdder> locationActivity = new ConcurrentHashMap<>();
+    // Pending hiring requests, so offer lookups never query hiring_requests
+    private final HiringOfferIndex hiringOffers = new HiringOfferIndex();
+    private BukkitTask hiringExpiryTask;
+    private static final long HIRING_EXPIRY_TICKS = 20L * 60; // Every minute
+    // Fork-join workers for per-business evaluation passes (revenue, payroll funding, global totals)
+    private BusinessWorkPool workPool;
     private final Map<Integer, BusinessRevenueModel> businessRevenueModels = new HashMap<>();
     
     // Revenue generation timers and tracking
     private final Map<Integer, Long> lastRevenueGeneration = new HashMap<>();
     private final Map<Integer, Double> dailyRevenueTargets = new HashMap<>();
     private BukkitTask revenueTask;
+    private final AtomicBoolean revenueRunInProgress = new AtomicBoolean(false);
+    private static final long REVENUE_MIN_INTERVAL_MS = 10 * 60 * 1000L;
+    
+    // Supply/demand driven material prices, recomputed and snapshotted to market_prices in the background
+    private MarketPriceEngine marketPrices;
+    private BukkitTask marketTask;
+    private final AtomicBoolean marketWriteInProgress = new AtomicBoolean(false);
+    private static final long MARKET_TICKS = 20L * 60; // Every minute
+    // Processing chain production: cycles complete on the main thread, profit is settled in batches
+    private ProductionEngine production;
+    private BukkitTask productionTask;
+    private BukkitTask settlementTask;
+    private final AtomicBoolean settlementInProgress = new AtomicBoolean(false);
+    private static final long PRODUCTION_TICK_TICKS = 20L; // Every second
+    private static final long SETTLEMENT_TICKS = 20L * 60; // Every minute
+    private static final int BALANCE_READ_CHUNK = 500;
     
     public ConsolidatedBusinessManager(DynamicJobsEconomy plugin) {
         this.plugin = plugin;
+        this.rollups = new BusinessRollups(plugin);
+        this.assets = new BusinessAssetRepository(plugin.getConfig().getInt("business.asset_cache_size", 256));
+        this.marketPrices = createMarketPriceEngine();
+        this.production = new ProductionEngine(System.currentTimeMillis() / 1000L, marketPrices);
+        this.workPool = createWorkPool();
         initializeTables();
         initializeMinecraftViableTables();
+        this.materialCodec = loadMaterialCodec();
+        migrateLegacyMaterialMaps();
+        loadMarketPrices();
         loadBusinesses();
+        loadProcessingChains();
+        loadLocationIndex();
+        loadPendingHiringRequests();
+        reconcileCounters();
         startRevenueGenerationTask();
+        startCounterReconcileTask();
+        startMarketTask();
+        startProductionTasks();
+        startAssetWriteTask();
+        startHiringExpiryTask();
+        ChangeFeed feed = plugin.getChangeFeed();
+        if (feed != null) feed.subscribe(ChangeFeed.BUSINESS, this::onRemoteBusinessChange);
     }
     
     // ==================== CORE BUSINESS OPERATIONS ====================
@@ -57,8 +120,9 @@ public class ConsolidatedBusinessManager {
                     try (ResultSet keys = stmt.getGeneratedKeys()) {
                         if (keys.next()) {
                             int businessId = keys.getInt(1);
+                            recordChange(conn, businessId);
                             Business business = new Business(businessId, name, owner.getUniqueId(), type, 0.0);
-                            businessCache.put(businessId, business);
+                            businessCache.put(business);
                             return true;
                         }
                     }
@@ -74,14 +138,22 @@ public class ConsolidatedBusinessManager {
         return businessCache.get(businessId);
     }
     
+    /**
+     * Sum of the cached treasury balances of every business.
+     */
+    public double getTotalTreasuryBalance() {
+        double total = 0;
+        for (Business business : businessCache.values()) {
+            total += business.getBalance();
+        }
+        return total;
+    }
+    
     /**
      * Get business by name
      */
     public Business getBusinessByName(String businessName) {
-        return businessCache.values().stream()
-            .filter(b -> b.getName().equalsIgnoreCase(businessName))
-            .findFirst()
-            .orElse(null);
+        return businessCache.getByName(businessName);
     }
     
     /**
@@ -94,7 +166,12 @@ public class ConsolidatedBusinessManager {
                 stmt.setDouble(1, newSalary);
                 stmt.setInt(2, businessId);
                 stmt.setString(3, positionName);
-                return stmt.executeUpdate() > 0;
+                if (stmt.executeUpdate() > 0) {
+                    recordChange(conn, businessId);
+                    staffCache.updatePositionSalary(businessId, positionName, newSalary);
+                    return true;
+                }
+                return false;
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Error updating position salary", e);
@@ -148,25 +225,145 @@ public class ConsolidatedBusinessManager {
 
     
     public List<Business> getPlayerBusinesses(Player player) {
-        return businessCache.values().stream()
-            .filter(b -> b.getOwnerUUID().equals(player.getUniqueId()))
-            .toList();
+        return businessCache.getByOwner(player.getUniqueId());
     }
     
-    public boolean depositToBusiness(int businessId, double amount) {
+    /**
+     * Businesses where the player is an active employee.
+     */
+    public List<Business> getBusinessesByEmployee(UUID playerUUID) {
+        return businessCache.getByEmployee(playerUUID);
+    }
+    
+    public boolean renameBusiness(int businessId, String newName) {
+        Business business = getBusiness(businessId);
+        if (business == null || newName == null || newName.isBlank()) return false;
+        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement("UPDATE businesses SET name = ? WHERE id = ?")) {
+                stmt.setString(1, newName);
+                stmt.setInt(2, businessId);
+                if (stmt.executeUpdate() > 0) {
+                    recordChange(conn, businessId);
+                    return businessCache.rename(businessId, newName);
+                }
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error renaming business", e);
+        }
+        return false;
+    }
+    
+    public boolean transferBusinessOwnership(int businessId, UUID newOwner) {
         Business business = getBusiness(businessId);
-        if (business != null) {
-            business.setBalance(business.getBalance() + amount);
-            return saveBusiness(business);
+        if (business == null || newOwner == null) return false;
+        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement("UPDATE businesses SET owner_uuid = ? WHERE id = ?")) {
+                stmt.setString(1, newOwner.toString());
+                stmt.setInt(2, businessId);
+                if (stmt.executeUpdate() > 0) {
+                    recordChange(conn, businessId);
+                    return businessCache.transferOwnership(businessId, newOwner);
+                }
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error transferring business ownership", e);
         }
         return false;
     }
     
+    public boolean deleteBusiness(int businessId) {
+        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM businesses WHERE id = ?")) {
+                stmt.setInt(1, businessId);
+                if (stmt.executeUpdate() > 0) {
+                    recordChange(conn, businessId);
+                    forgetBusiness(businessId);
+                    return true;
+                }
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error deleting business", e);
+        }
+        return false;
+    }
+    
+    /**
+     * Drop every cached trace of a deleted business.
+     */
+    private void forgetBusiness(int businessId) {
+        businessCache.remove(businessId);
+        staffCache.invalidate(businessId);
+        counters.businessDeleted(businessId);
+        businessRevenueModels.remove(businessId);
+        lastRevenueGeneration.remove(businessId);
+        dailyRevenueTargets.remove(businessId);
+        assets.remove(businessId);
+        locationIndex.removeBusiness(businessId);
+        locationActivity.remove(businessId);
+        hiringOffers.removeBusiness(businessId);
+        production.unregisterBusiness(businessId);
+    }
+    
+    /**
+     * Credit a business. Returns true only once the credit is committed.
+     */
+    public boolean depositToBusiness(int businessId, double amount) {
+        if (amount <= 0 || getBusiness(businessId) == null) return false;
+        return adjustBalance(businessId, amount, BusinessRollups.DEPOSIT);
+    }
+    
+    /**
+     * Debit a business. Returns false, with the cached balance reloaded, if the committed balance
+     * cannot cover the amount even though the cache thought it could.
+     */
     public boolean withdrawFromBusiness(int businessId, double amount) {
         Business business = getBusiness(businessId);
-        if (business != null && business.getBalance() >= amount) {
-            business.setBalance(business.getBalance() - amount);
-            return saveBusiness(business);
+        if (amount <= 0 || business == null || business.getBalance() < amount) return false;
+        return adjustBalance(businessId, -amount, BusinessRollups.WITHDRAWAL);
+    }
+    
+    /**
+     * Apply {@code delta} as one guarded statement ({@code balance = balance + ?} where the result
+     * stays non-negative) so concurrent writers on any server add up instead of overwriting each
+     * other, then mirror the committed row into the cache. A null {@code rollupCategory} leaves the
+     * rollups alone for callers that already recorded the movement under its own category.
+     */
+    private boolean adjustBalance(int businessId, double delta, String rollupCategory) {
+        Connection conn = null;
+        try {
+            conn = plugin.getDatabaseManager().getConnection();
+            conn.setAutoCommit(false);
+            boolean updated;
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "UPDATE businesses SET balance = balance + ?, version = version + 1 WHERE id = ? AND balance >= ?")) {
+                stmt.setDouble(1, delta);
+                stmt.setInt(2, businessId);
+                stmt.setDouble(3, -delta);
+                updated = stmt.executeUpdate() > 0;
+            }
+            if (updated) {
+                if (rollupCategory != null) {
+                    try (PreparedStatement rollup = rollups.prepare(conn)) {
+                        BusinessRollups.addRow(rollup, businessId, System.currentTimeMillis(), rollupCategory, Math.abs(delta));
+                        rollup.executeBatch();
+                    }
+                }
+                recordChange(conn, businessId);
+            }
+            Map<Integer, BalanceSnapshot> balances = readBalances(conn, List.of(businessId));
+            conn.commit();
+            applyBalances(balances);
+            return updated;
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error updating business balance", e);
+            if (conn != null) {
+                try { conn.rollback(); } catch (SQLException ignored) {}
+            }
+        } finally {
+            if (conn != null) {
+                try { conn.setAutoCommit(true); } catch (SQLException ignored) {}
+                try { conn.close(); } catch (SQLException ignored) {}
+            }
         }
         return false;
     }
@@ -182,7 +379,13 @@ public class ConsolidatedBusinessManager {
                 stmt.setDouble(3, salary);
                 stmt.setString(4, description);
                 stmt.setInt(5, maxEmployees);
-                return stmt.executeUpdate() > 0;
+                if (stmt.executeUpdate() > 0) {
+                    recordChange(conn, businessId);
+                    staffCache.invalidate(businessId);
+                    counters.positionsChanged(businessId, 1);
+                    return true;
+                }
+                return false;
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Error creating position", e);
@@ -191,42 +394,53 @@ public class ConsolidatedBusinessManager {
     }
     
     public List<BusinessPosition> getBusinessPositions(int businessId) {
-        List<BusinessPosition> positions = new ArrayList<>();
+        BusinessStaffCache.Staff staff = getStaff(businessId);
+        return staff != null ? staff.activePositions() : new ArrayList<>();
+    }
+    
+    public BusinessPosition getPosition(int positionId) {
+        Integer businessId = staffCache.businessOfPosition(positionId);
+        if (businessId == null) {
+            businessId = findPositionBusiness(positionId);
+            if (businessId == null) return null;
+            staffCache.rememberPosition(positionId, businessId);
+        }
+        BusinessStaffCache.Staff staff = getStaff(businessId);
+        return staff != null ? staff.position(positionId) : null;
+    }
+    
+    private Integer findPositionBusiness(int positionId) {
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql = "SELECT * FROM business_positions WHERE business_id = ? AND is_active = ?";
+            String sql = "SELECT business_id FROM business_positions WHERE position_id = ?";
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setInt(1, businessId);
-                stmt.setBoolean(2, true);
+                stmt.setInt(1, positionId);
                 try (ResultSet rs = stmt.executeQuery()) {
-                    while (rs.next()) {
-                        positions.add(new BusinessPosition(
-                            rs.getInt("position_id"),
-                            rs.getInt("business_id"),
-                            rs.getString("title"),
-                            rs.getDouble("salary"),
-                            rs.getString("description"),
-                            rs.getInt("max_employees"),
-                            rs.getBoolean("is_active"),
-                            rs.getString("created_by") != null ? UUID.fromString(rs.getString("created_by")) : null,
-                            rs.getLong("created_at")
-                        ));
+                    if (rs.next()) {
+                        return rs.getInt("business_id");
                     }
                 }
             }
         } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Error getting business positions", e);
+            plugin.getLogger().log(Level.SEVERE, "Error getting position", e);
         }
-        return positions;
+        return null;
     }
     
-    public BusinessPosition getPosition(int positionId) {
+    private BusinessStaffCache.Staff getStaff(int businessId) {
+        return staffCache.get(businessId, this::loadStaff);
+    }
+    
+    /**
+     * Read every position and active employee of a business; null on failure so nothing is cached.
+     */
+    private BusinessStaffCache.Staff loadStaff(int businessId) {
+        BusinessStaffCache.Staff staff = new BusinessStaffCache.Staff();
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql = "SELECT * FROM business_positions WHERE position_id = ?";
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setInt(1, positionId);
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT * FROM business_positions WHERE business_id = ?")) {
+                stmt.setInt(1, businessId);
                 try (ResultSet rs = stmt.executeQuery()) {
-                    if (rs.next()) {
-                        return new BusinessPosition(
+                    while (rs.next()) {
+                        staff.addPosition(new BusinessPosition(
                             rs.getInt("position_id"),
                             rs.getInt("business_id"),
                             rs.getString("title"),
@@ -236,34 +450,16 @@ public class ConsolidatedBusinessManager {
                             rs.getBoolean("is_active"),
                             rs.getString("created_by") != null ? UUID.fromString(rs.getString("created_by")) : null,
                             rs.getLong("created_at")
-                        );
+                        ));
                     }
                 }
             }
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Error getting position", e);
-        }
-        return null;
-    }
-    
-    // ==================== EMPLOYEE MANAGEMENT ====================
-    
-    public List<BusinessEmployee> getBusinessEmployees(int businessId) {
-        List<BusinessEmployee> employees = new ArrayList<>();
-        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql = """
-                SELECT be.*, bp.title as position_title 
-                FROM business_employees be 
-                JOIN business_positions bp ON be.position_id = bp.position_id 
-                WHERE be.business_id = ? AND be.is_active = ? 
-                ORDER BY be.hired_at DESC
-            """;
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT * FROM business_employees WHERE business_id = ? AND is_active = ?")) {
                 stmt.setInt(1, businessId);
                 stmt.setBoolean(2, true);
                 try (ResultSet rs = stmt.executeQuery()) {
                     while (rs.next()) {
-                        employees.add(new BusinessEmployee(
+                        staff.addEmployee(new BusinessEmployee(
                             rs.getInt("employee_id"),
                             rs.getInt("business_id"),
                             rs.getInt("position_id"),
@@ -277,10 +473,32 @@ public class ConsolidatedBusinessManager {
                     }
                 }
             }
+            return staff;
         } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Error getting business employees", e);
+            plugin.getLogger().log(Level.SEVERE, "Error loading business staff", e);
         }
-        return employees;
+        return null;
+    }
+    
+    /**
+     * Positions/employees cache counters for diagnostics.
+     */
+    public BusinessStaffCache getStaffCache() {
+        return staffCache;
+    }
+    
+    /**
+     * Daily per-category totals for reports; see {@link BusinessRollups}.
+     */
+    public BusinessRollups getRollups() {
+        return rollups;
+    }
+    
+    // ==================== EMPLOYEE MANAGEMENT ====================
+    
+    public List<BusinessEmployee> getBusinessEmployees(int businessId) {
+        BusinessStaffCache.Staff staff = getStaff(businessId);
+        return staff != null ? staff.employees() : new ArrayList<>();
     }
     
     public boolean hirePlayerToPosition(int businessId, int positionId, UUID playerUUID, double customSalary) {
@@ -293,14 +511,30 @@ public class ConsolidatedBusinessManager {
         
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
             String sql = "INSERT INTO business_employees (business_id, position_id, player_uuid, player_name, current_salary, hired_at) VALUES (?, ?, ?, ?, ?, ?)";
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            String playerName = plugin.getServer().getOfflinePlayer(playerUUID).getName();
+            long hiredAt = System.currentTimeMillis();
+            try (PreparedStatement stmt = conn.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
                 stmt.setInt(1, businessId);
                 stmt.setInt(2, positionId);
                 stmt.setString(3, playerUUID.toString());
-                stmt.setString(4, plugin.getServer().getOfflinePlayer(playerUUID).getName());
+                stmt.setString(4, playerName);
                 stmt.setDouble(5, customSalary);
-                stmt.setLong(6, System.currentTimeMillis());
-                return stmt.executeUpdate() > 0;
+                stmt.setLong(6, hiredAt);
+                if (stmt.executeUpdate() > 0) {
+                    recordChange(conn, businessId);
+                    businessCache.addEmployee(playerUUID, businessId);
+                    counters.employeesChanged(businessId, 1);
+                    try (ResultSet keys = stmt.getGeneratedKeys()) {
+                        if (keys.next()) {
+                            staffCache.putEmployee(new BusinessEmployee(keys.getInt(1), businessId, positionId,
+                                playerUUID, playerName, customSalary, hiredAt, true, null));
+                        } else {
+                            staffCache.invalidate(businessId);
+                        }
+                    }
+                    return true;
+                }
+                return false;
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Error hiring player", e);
@@ -309,13 +543,21 @@ public class ConsolidatedBusinessManager {
     }
     
     public boolean fireEmployee(int businessId, UUID playerUUID) {
+        boolean wasEmployed = isPlayerEmployedByBusiness(businessId, playerUUID);
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
             String sql = "UPDATE business_employees SET is_active = ? WHERE business_id = ? AND player_uuid = ?";
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
                 stmt.setBoolean(1, false);
                 stmt.setInt(2, businessId);
                 stmt.setString(3, playerUUID.toString());
-                return stmt.executeUpdate() > 0;
+                if (stmt.executeUpdate() > 0) {
+                    recordChange(conn, businessId);
+                    businessCache.removeEmployee(playerUUID, businessId);
+                    staffCache.removeEmployee(businessId, playerUUID);
+                    if (wasEmployed) counters.employeesChanged(businessId, -1);
+                    return true;
+                }
+                return false;
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Error firing employee", e);
@@ -338,7 +580,7 @@ public class ConsolidatedBusinessManager {
             long currentTime = System.currentTimeMillis();
             long expirationTime = currentTime + (24 * 60 * 60 * 1000);
             
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            try (PreparedStatement stmt = conn.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
                 stmt.setInt(1, businessId);
                 stmt.setInt(2, positionId);
                 stmt.setString(3, playerUUID.toString());
@@ -347,7 +589,18 @@ public class ConsolidatedBusinessManager {
                 stmt.setString(6, message);
                 stmt.setLong(7, currentTime);
                 stmt.setLong(8, expirationTime);
-                return stmt.executeUpdate() > 0;
+                if (stmt.executeUpdate() > 0) {
+                    try (ResultSet keys = stmt.getGeneratedKeys()) {
+                        if (keys.next()) {
+                            hiringOffers.put(new HiringRequest(keys.getInt(1), businessId, positionId, playerUUID,
+                                requestedBy, offeredSalary, message, currentTime, expirationTime,
+                                HiringRequest.HiringRequestStatus.PENDING));
+                        }
+                    }
+                    counters.pendingRequestsChanged(businessId, 1);
+                    return true;
+                }
+                return false;
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Error creating hiring request", e);
@@ -365,11 +618,14 @@ public class ConsolidatedBusinessManager {
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
             conn.setAutoCommit(false);
             try {
-                // Update request status
-                String updateSql = "UPDATE hiring_requests SET status = 'ACCEPTED' WHERE request_id = ?";
+                // Update request status; a request already expired or answered elsewhere is not accepted
+                String updateSql = "UPDATE hiring_requests SET status = 'ACCEPTED' WHERE request_id = ? AND status = 'PENDING'";
                 try (PreparedStatement stmt = conn.prepareStatement(updateSql)) {
                     stmt.setInt(1, requestId);
-                    stmt.executeUpdate();
+                    if (stmt.executeUpdate() == 0) {
+                        conn.rollback();
+                        return false;
+                    }
                 }
                 
                 // Create employment
@@ -378,6 +634,8 @@ public class ConsolidatedBusinessManager {
                 
                 if (hired) {
                     conn.commit();
+                    hiringOffers.remove(requestId);
+                    counters.pendingRequestsChanged(request.getBusinessId(), -1);
                     sendHiringNotifications(request, true);
                     return true;
                 } else {
@@ -397,49 +655,198 @@ public class ConsolidatedBusinessManager {
     
     // ==================== PAYROLL PROCESSING ====================
     
+    /**
+     * Pay every active employee: a single streaming read of all salaries grouped by business, an
+     * in-memory funds check, then one batched transaction per business that credits its employees
+     * and debits its balance together. A business that cannot pay only holds up its own staff, and
+     * an employee at economy.max_money is skipped without holding up the rest of their business.
+     * Runs on the payroll timer thread; the cache and players are updated on the main thread.
+     */
     public void processPayroll() {
-        for (Business business : businessCache.values()) {
-            processBusinessPayroll(business);
+        long startNanos = System.nanoTime();
+        PayrollBatch payroll = loadPayroll();
+        if (payroll == null || payroll.isEmpty()) {
+            plugin.getLogger().info("Processed payroll for all businesses (no salaried employees)");
+            return;
         }
-        plugin.getLogger().info("Processed payroll for all businesses");
-    }
-    
-    private void processBusinessPayroll(Business business) {
-        List<BusinessEmployee> employees = getBusinessEmployees(business.getId());
-        if (employees.isEmpty()) return;
         
-        double totalPayroll = employees.stream().mapToDouble(BusinessEmployee::getCurrentSalary).sum();
+        List<PayrollBatch.Group> unfunded = new ArrayList<>();
+        List<PayrollBatch.Group> funded = payroll.splitFunded(businessCache.asMap(), unfunded);
+        Map<Integer, PayrollRun> paid = new LinkedHashMap<>();
+        Map<Integer, BalanceSnapshot> balances = new HashMap<>();
+        int failed = 0;
+        int held = 0;
+        double totalPaid = 0.0;
+        int employeesPaid = 0;
+        for (PayrollBatch.Group group : funded) {
+            Set<UUID> atMax = new HashSet<>();
+            PayrollRun run = payGroup(group, atMax, balances);
+            if (run == null) {
+                // The guarded debit found less money than the cache did (spent elsewhere since):
+                // re-check against the stored balance and retry once if it still covers the payroll
+                BalanceSnapshot fresh = readBalance(group.getBusinessId());
+                if (fresh != null) balances.put(group.getBusinessId(), fresh);
+                if (fresh != null && fresh.balance < payableTotal(group, atMax)) {
+                    unfunded.add(group);
+                    continue;
+                }
+                run = fresh != null ? payGroup(group, atMax, balances) : null;
+            }
+            held += atMax.size();
+            if (run != null && run != PayrollRun.WRITE_FAILED) {
+                if (!run.employees.isEmpty()) paid.put(group.getBusinessId(), run);
+                employeesPaid += run.employees.size();
+                totalPaid += run.total;
+            } else {
+                failed++;
+                plugin.getLogger().warning("Payroll for business #" + group.getBusinessId() + " was rolled back; its salaries were not paid");
+            }
+        }
         
-        if (business.getBalance() < totalPayroll) {
-            notifyInsufficientFunds(business, totalPayroll);
-            return;
+        if (plugin.isEnabled()) {
+            plugin.getServer().getScheduler().runTask(plugin, () -> {
+                applyBalances(balances);
+                for (Map.Entry<Integer, PayrollRun> e : paid.entrySet()) {
+                    Business business = businessCache.get(e.getKey());
+                    if (business != null) notifyPayrollSuccess(business, e.getValue().employees, e.getValue().total);
+                }
+                for (PayrollBatch.Group group : unfunded) {
+                    Business business = businessCache.get(group.getBusinessId());
+                    if (business != null) notifyInsufficientFunds(business, group.getTotal());
+                }
+            });
         }
         
-        // Process atomic payroll transaction
-        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            conn.setAutoCommit(false);
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000L;
+        plugin.getLogger().info("Processed payroll: " + paid.size() + " businesses paid $" + String.format("%.2f", totalPaid)
+            + " to " + employeesPaid + " employees, " + held + " held at max balance, " + unfunded.size() + " underfunded, "
+            + failed + " failed (" + elapsedMs + "ms)");
+    }
+    
+    /**
+     * Pay one business's employees in their own all-or-nothing batch. Employees whose wallet
+     * cannot take their salary without passing economy.max_money are added to {@code atMax} and
+     * left out; their salary stays in the treasury until a later run. On commit the business's
+     * new balance is added to {@code balances}.
+     *
+     * @return what was paid; null if the business's guarded debit found too little money, or
+     *         {@link PayrollRun#WRITE_FAILED} if the write itself failed (not retried this run)
+     */
+    private PayrollRun payGroup(PayrollBatch.Group group, Set<UUID> atMax, Map<Integer, BalanceSnapshot> balances) {
+        while (true) {
+            List<BusinessEmployee> paying = new ArrayList<>(group.getEmployees().size());
+            BatchTransfer batch = new BatchTransfer().allOrNothing();
+            double total = 0.0;
+            for (BusinessEmployee emp : group.getEmployees()) {
+                if (atMax.contains(emp.getPlayerUUID())) continue;
+                paying.add(emp);
+                batch.add(plugin.getServer().getOfflinePlayer(emp.getPlayerUUID()), emp.getCurrentSalary());
+                total += emp.getCurrentSalary();
+            }
+            if (paying.isEmpty()) return new PayrollRun(paying, 0.0);
             
-            boolean allPaymentsSuccessful = true;
-            for (BusinessEmployee emp : employees) {
-                OfflinePlayer player = plugin.getServer().getOfflinePlayer(emp.getPlayerUUID());
-                if (!plugin.getEconomyManager().depositPlayer(player, emp.getCurrentSalary())) {
-                    allPaymentsSuccessful = false;
-                    break;
+            double debit = total;
+            BalanceSnapshot[] after = new BalanceSnapshot[1];
+            BatchTransfer.Result result = plugin.getEconomyManager()
+                .executeBatch(batch, conn -> (after[0] = debitPayroll(conn, group.getBusinessId(), debit)) != null);
+            if (result.isCommitted()) {
+                balances.put(group.getBusinessId(), after[0]);
+                return new PayrollRun(paying, total);
+            }
+            boolean capped = false;
+            List<BatchTransfer.EntryResult> results = result.getResults();
+            for (int i = 0; i < results.size(); i++) {
+                if (results.get(i).status == BatchTransfer.Status.MAX_BALANCE_EXCEEDED) {
+                    atMax.add(paying.get(i).getPlayerUUID());
+                    capped = true;
                 }
             }
-            
-            if (allPaymentsSuccessful) {
-                business.setBalance(business.getBalance() - totalPayroll);
-                saveBusiness(business);
-                conn.commit();
-                notifyPayrollSuccess(business, employees, totalPayroll);
-            } else {
-                conn.rollback();
-                plugin.getLogger().warning("Payroll failed for business: " + business.getName());
+            if (!capped) return hasFailedEntry(result) ? PayrollRun.WRITE_FAILED : null;
+        }
+    }
+    
+    private static boolean hasFailedEntry(BatchTransfer.Result result) {
+        for (BatchTransfer.EntryResult entry : result.getResults()) {
+            if (entry.status == BatchTransfer.Status.FAILED) return true;
+        }
+        return false;
+    }
+    
+    private static double payableTotal(PayrollBatch.Group group, Set<UUID> atMax) {
+        double total = 0.0;
+        for (BusinessEmployee emp : group.getEmployees()) {
+            if (!atMax.contains(emp.getPlayerUUID())) total += emp.getCurrentSalary();
+        }
+        return total;
+    }
+    
+    /**
+     * Stream every active employee ordered by business into a {@link PayrollBatch}.
+     * Returns null if the read fails so that no partial payroll is paid.
+     */
+    private PayrollBatch loadPayroll() {
+        PayrollBatch payroll = new PayrollBatch();
+        return streamActiveEmployees(payroll::add) ? payroll : null;
+    }
+    
+    /**
+     * Feed every active employee, ordered by business, to {@code sink} using one forward-only
+     * streaming query. Returns false if the read failed.
+     */
+    private boolean streamActiveEmployees(Consumer<BusinessEmployee> sink) {
+        boolean isMySQL = "mysql".equalsIgnoreCase(plugin.getDatabaseManager().getDatabaseType());
+        String sql = """
+            SELECT be.employee_id, be.business_id, be.position_id, be.player_uuid, be.player_name,
+                   be.current_salary, be.hired_at, be.is_active, be.notes
+            FROM business_employees be
+            JOIN business_positions bp ON be.position_id = bp.position_id
+            WHERE be.is_active = ?
+            ORDER BY be.business_id
+        """;
+        try (Connection conn = plugin.getDatabaseManager().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            stmt.setFetchSize(isMySQL ? Integer.MIN_VALUE : 1000);
+            stmt.setBoolean(1, true);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    sink.accept(new BusinessEmployee(
+                        rs.getInt("employee_id"),
+                        rs.getInt("business_id"),
+                        rs.getInt("position_id"),
+                        UUID.fromString(rs.getString("player_uuid")),
+                        rs.getString("player_name"),
+                        rs.getDouble("current_salary"),
+                        rs.getLong("hired_at"),
+                        rs.getBoolean("is_active"),
+                        rs.getString("notes")
+                    ));
+                }
             }
+            return true;
         } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Error processing payroll", e);
+            plugin.getLogger().log(Level.SEVERE, "Error loading active employees", e);
+            return false;
+        }
+    }
+    
+    /**
+     * Debit the paying business inside its payroll transaction and return its new balance, or
+     * null (rolling the payroll back) when it no longer has the funds.
+     */
+    private BalanceSnapshot debitPayroll(Connection conn, int businessId, double total) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "UPDATE businesses SET balance = balance - ?, version = version + 1 WHERE id = ? AND balance >= ?")) {
+            stmt.setDouble(1, total);
+            stmt.setInt(2, businessId);
+            stmt.setDouble(3, total);
+            if (stmt.executeUpdate() == 0) return null;
+        }
+        try (PreparedStatement rollup = rollups.prepare(conn)) {
+            BusinessRollups.addRow(rollup, businessId, System.currentTimeMillis(), BusinessRollups.PAYROLL, total);
+            rollup.executeBatch();
         }
+        recordChange(conn, businessId);
+        return readBalances(conn, List.of(businessId)).get(businessId);
     }
     
     // ==================== ANALYTICS & REPORTING ====================
@@ -475,6 +882,12 @@ public class ConsolidatedBusinessManager {
     
     // Position Management Extensions methods
     public boolean updatePosition(int positionId, String title, String description, double salary, int maxEmployees) {
+        // Resolve the owning business like getPosition so an uncached position still records its change
+        Integer businessId = staffCache.businessOfPosition(positionId);
+        if (businessId == null) {
+            businessId = findPositionBusiness(positionId);
+            if (businessId != null) staffCache.rememberPosition(positionId, businessId);
+        }
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
             String sql = "UPDATE business_positions SET title = ?, description = ?, salary = ?, max_employees = ? WHERE position_id = ?";
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -483,7 +896,14 @@ public class ConsolidatedBusinessManager {
                 stmt.setDouble(3, salary);
                 stmt.setInt(4, maxEmployees);
                 stmt.setInt(5, positionId);
-                return stmt.executeUpdate() > 0;
+                if (stmt.executeUpdate() > 0) {
+                    if (businessId != null) {
+                        recordChange(conn, businessId);
+                        staffCache.updatePosition(businessId, positionId, title, description, salary, maxEmployees);
+                    }
+                    return true;
+                }
+                return false;
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Error updating position", e);
@@ -492,32 +912,9 @@ public class ConsolidatedBusinessManager {
     }
     
     public BusinessEmployee getBusinessEmployee(int businessId, UUID playerUUID) {
-        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql = "SELECT * FROM business_employees WHERE business_id = ? AND player_uuid = ? AND is_active = ?";
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setInt(1, businessId);
-                stmt.setString(2, playerUUID.toString());
-                stmt.setBoolean(3, true);
-                try (ResultSet rs = stmt.executeQuery()) {
-                    if (rs.next()) {
-                        return new BusinessEmployee(
-                            rs.getInt("employee_id"),
-                            rs.getInt("business_id"),
-                            rs.getInt("position_id"),
-                            UUID.fromString(rs.getString("player_uuid")),
-                            rs.getString("player_name"),
-                            rs.getDouble("current_salary"),
-                            rs.getLong("hired_at"),
-                            rs.getBoolean("is_active"),
-                            rs.getString("notes")
-                        );
-                    }
-                }
-            }
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Error getting business employee", e);
-        }
-        return null;
+        if (!isPlayerEmployedByBusiness(businessId, playerUUID)) return null;
+        BusinessStaffCache.Staff staff = getStaff(businessId);
+        return staff != null ? staff.employee(playerUUID) : null;
     }
     
     public boolean promoteEmployee(int businessId, UUID playerUUID, int newPositionId) {
@@ -533,7 +930,12 @@ public class ConsolidatedBusinessManager {
                 stmt.setInt(3, businessId);
                 stmt.setString(4, playerUUID.toString());
                 stmt.setBoolean(5, true);
-                return stmt.executeUpdate() > 0;
+                if (stmt.executeUpdate() > 0) {
+                    recordChange(conn, businessId);
+                    staffCache.updateEmployeePosition(businessId, playerUUID, newPositionId, newPosition.getSalary());
+                    return true;
+                }
+                return false;
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Error promoting employee", e);
@@ -598,16 +1000,16 @@ public class ConsolidatedBusinessManager {
     }
     
     /**
-     * Update market price for business revenue calculations
+     * Anchor a material's market price to an external quote (e.g. a shop plugin sync)
      */
     public void updateMarketPrice(String itemType, double price) {
-        try {
-            // Update market prices for all businesses dealing with this item
-            // Store market prices for business revenue calculations
-            plugin.getLogger().fine("Updated market price for " + itemType + ": $" + price);
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.SEVERE, "Error updating market price", e);
+        Material material = Material.matchMaterial(itemType);
+        if (material == null) {
+            plugin.getLogger().fine("Ignoring market price for unknown item " + itemType);
+            return;
         }
+        marketPrices.setBasePrice(material, price);
+        plugin.getLogger().fine("Updated market price for " + material.name() + ": $" + price);
     }
     
     public List<String> getPositionAnalytics(int positionId) {
@@ -628,12 +1030,21 @@ public class ConsolidatedBusinessManager {
     }
     
     public boolean deactivatePosition(int positionId) {
+        BusinessPosition before = getPosition(positionId);
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
             String sql = "UPDATE business_positions SET is_active = ? WHERE position_id = ?";
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
                 stmt.setBoolean(1, false);
                 stmt.setInt(2, positionId);
-                return stmt.executeUpdate() > 0;
+                if (stmt.executeUpdate() > 0) {
+                    if (before != null) {
+                        recordChange(conn, before.getBusinessId());
+                        staffCache.setPositionActive(before.getBusinessId(), positionId, false);
+                        if (before.isActive()) counters.positionsChanged(before.getBusinessId(), -1);
+                    }
+                    return true;
+                }
+                return false;
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Error deactivating position", e);
@@ -642,12 +1053,21 @@ public class ConsolidatedBusinessManager {
     }
     
     public boolean reactivatePosition(int positionId) {
+        BusinessPosition before = getPosition(positionId);
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
             String sql = "UPDATE business_positions SET is_active = ? WHERE position_id = ?";
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
                 stmt.setBoolean(1, true);
                 stmt.setInt(2, positionId);
-                return stmt.executeUpdate() > 0;
+                if (stmt.executeUpdate() > 0) {
+                    if (before != null) {
+                        recordChange(conn, before.getBusinessId());
+                        staffCache.setPositionActive(before.getBusinessId(), positionId, true);
+                        if (!before.isActive()) counters.positionsChanged(before.getBusinessId(), 1);
+                    }
+                    return true;
+                }
+                return false;
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Error reactivating position", e);
@@ -666,14 +1086,22 @@ public class ConsolidatedBusinessManager {
     
     // Hiring Request methods
     public boolean rejectHiringRequest(int requestId, UUID playerUUID, String reason) {
+        HiringRequest request = getHiringRequest(requestId);
+        if (request == null) return false;
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql = "UPDATE hiring_requests SET status = 'REJECTED', rejection_reason = ? WHERE request_id = ? AND player_uuid = ?";
+            // Only pending requests can be rejected, so an accepted offer is never flipped back
+            String sql = "UPDATE hiring_requests SET status = 'REJECTED', rejection_reason = ? WHERE request_id = ? AND player_uuid = ? AND status = 'PENDING'";
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
                 stmt.setString(1, reason);
                 stmt.setInt(2, requestId);
                 stmt.setString(3, playerUUID.toString());
-                return stmt.executeUpdate() > 0;
-            }
+                if (stmt.executeUpdate() > 0) {
+                    hiringOffers.remove(requestId);
+                    counters.pendingRequestsChanged(request.getBusinessId(), -1);
+                    return true;
+                }
+                return false;
+            }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Error rejecting hiring request", e);
         }
@@ -681,33 +1109,112 @@ public class ConsolidatedBusinessManager {
     }
     
     public List<HiringRequest> getPendingRequests(UUID playerUUID) {
-        List<HiringRequest> requests = new ArrayList<>();
+        return hiringOffers.getForPlayer(playerUUID, System.currentTimeMillis());
+    }
+    
+    public HiringOfferIndex getHiringOffers() {
+        return hiringOffers;
+    }
+    
+    /**
+     * Index every PENDING request. Ones already past their deadline are expired by the first
+     * run of the expiry task.
+     */
+    private void loadPendingHiringRequests() {
+        hiringOffers.clear();
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql = "SELECT * FROM hiring_requests WHERE player_uuid = ? AND status = 'PENDING' AND expiration_time > ?";
+            String sql = "SELECT * FROM hiring_requests WHERE status = 'PENDING'";
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, playerUUID.toString());
-                stmt.setLong(2, System.currentTimeMillis());
                 try (ResultSet rs = stmt.executeQuery()) {
                     while (rs.next()) {
-                        requests.add(new HiringRequest(
-                            rs.getInt("request_id"),
-                            rs.getInt("business_id"),
-                            rs.getInt("position_id"),
-                            UUID.fromString(rs.getString("player_uuid")),
-                            UUID.fromString(rs.getString("requested_by")),
-                            rs.getDouble("offered_salary"),
-                            rs.getString("message"),
-                            rs.getLong("request_time"),
-                            rs.getLong("expiration_time"),
-                            HiringRequest.HiringRequestStatus.valueOf(rs.getString("status"))
-                        ));
+                        hiringOffers.put(readHiringRequest(rs));
                     }
                 }
             }
         } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Error getting pending hiring requests", e);
+            plugin.getLogger().log(Level.SEVERE, "Error loading pending hiring requests", e);
+        }
+    }
+    
+    private void startHiringExpiryTask() {
+        if (hiringExpiryTask != null) {
+            try { hiringExpiryTask.cancel(); } catch (Throwable ignored) {}
+        }
+        hiringExpiryTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                expireHiringRequests();
+            }
+        }.runTaskTimerAsynchronously(plugin, 20L, HIRING_EXPIRY_TICKS);
+    }
+    
+    /**
+     * Pop every request past its deadline, mark them EXPIRED in one batch and tell whoever is
+     * online. Requests already answered or expired elsewhere (no row updated) are dropped quietly;
+     * requests whose update fails go back into the index for the next run.
+     */
+    private void expireHiringRequests() {
+        List<HiringRequest> due = hiringOffers.pollExpired(System.currentTimeMillis());
+        if (due.isEmpty()) return;
+        
+        List<HiringRequest> expired = new ArrayList<>(due.size());
+        Connection conn = null;
+        try {
+            conn = plugin.getDatabaseManager().getConnection();
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "UPDATE hiring_requests SET status = 'EXPIRED' WHERE request_id = ? AND status = 'PENDING'")) {
+                for (HiringRequest request : due) {
+                    stmt.setInt(1, request.getRequestId());
+                    stmt.addBatch();
+                }
+                int[] counts = stmt.executeBatch();
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] > 0 || counts[i] == java.sql.Statement.SUCCESS_NO_INFO) expired.add(due.get(i));
+                }
+            }
+            conn.commit();
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error expiring hiring requests", e);
+            if (conn != null) {
+                try { conn.rollback(); } catch (SQLException ignored) {}
+            }
+            for (HiringRequest request : due) {
+                hiringOffers.put(request);
+            }
+            return;
+        } finally {
+            if (conn != null) {
+                try { conn.setAutoCommit(true); } catch (SQLException ignored) {}
+                try { conn.close(); } catch (SQLException ignored) {}
+            }
+        }
+        
+        for (HiringRequest request : expired) {
+            counters.pendingRequestsChanged(request.getBusinessId(), -1);
+            request.setStatus(HiringRequest.HiringRequestStatus.EXPIRED);
+        }
+        if (!expired.isEmpty() && plugin.isEnabled()) {
+            plugin.getServer().getScheduler().runTask(plugin, () -> notifyHiringRequestsExpired(expired));
+        }
+    }
+    
+    private void notifyHiringRequestsExpired(List<HiringRequest> expired) {
+        String prefix = getPrefix();
+        for (HiringRequest request : expired) {
+            Business business = businessCache.get(request.getBusinessId());
+            String businessName = business != null ? business.getName() : "a business";
+            Player candidate = plugin.getServer().getPlayer(request.getPlayerUUID());
+            if (candidate != null) {
+                candidate.sendMessage(prefix + "§7Your job offer from §e" + businessName + " §7has expired.");
+            }
+            Player requester = plugin.getServer().getPlayer(request.getRequestedBy());
+            if (requester != null) {
+                String name = plugin.getServer().getOfflinePlayer(request.getPlayerUUID()).getName();
+                requester.sendMessage(prefix + "§7Your job offer to §e" + (name != null ? name : "a player") +
+                    " §7at " + businessName + " expired without a response.");
+            }
         }
-        return requests;
     }
 
     /**
@@ -721,116 +1228,86 @@ public class ConsolidatedBusinessManager {
     
     /** Total count of all businesses */
     public int getTotalBusinessesCount() {
-        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql = "SELECT COUNT(*) FROM businesses";
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                try (ResultSet rs = stmt.executeQuery()) {
-                    return rs.next() ? rs.getInt(1) : businessCache.size();
-                }
-            }
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.WARNING, "Error counting businesses; falling back to cache size", e);
-            return businessCache.size();
-        }
+        return businessCache.size();
+    }
+    
+    /** Sum of every business balance, evaluated across the work pool on large servers */
+    public double getTotalBusinessBalance() {
+        return workPool.sum(new ArrayList<>(businessCache.values()), Business::getBalance);
     }
     
     /** Total count of active positions across all businesses */
     public int getTotalActivePositionsCount() {
-        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql = "SELECT COUNT(*) FROM business_positions WHERE is_active = ?";
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setBoolean(1, true);
-                try (ResultSet rs = stmt.executeQuery()) {
-                    return rs.next() ? rs.getInt(1) : 0;
-                }
-            }
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Error counting active positions", e);
-            return 0;
-        }
+        return counters.getActivePositions();
     }
     
     /** Total count of active employees across all businesses */
     public int getTotalActiveEmployeesCount() {
-        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql = "SELECT COUNT(*) FROM business_employees WHERE is_active = ?";
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setBoolean(1, true);
-                try (ResultSet rs = stmt.executeQuery()) {
-                    return rs.next() ? rs.getInt(1) : 0;
-                }
-            }
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Error counting active employees", e);
-            return 0;
-        }
+        return counters.getActiveEmployees();
     }
     
-    /** Total count of pending, non-expired hiring requests across all businesses */
+    /** Total count of pending hiring requests across all businesses (expiries are applied by the expiry task) */
     public int getTotalPendingHiringRequestsCount() {
-        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql = "SELECT COUNT(*) FROM hiring_requests WHERE status = 'PENDING' AND expiration_time > ?";
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setLong(1, System.currentTimeMillis());
-                try (ResultSet rs = stmt.executeQuery()) {
-                    return rs.next() ? rs.getInt(1) : 0;
-                }
-            }
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Error counting pending hiring requests", e);
-            return 0;
-        }
+        return counters.getPendingRequests();
     }
     
     /** Count of active positions for a specific business */
     public int getActivePositionsCount(int businessId) {
-        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql = "SELECT COUNT(*) FROM business_positions WHERE business_id = ? AND is_active = ?";
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setInt(1, businessId);
-                stmt.setBoolean(2, true);
-                try (ResultSet rs = stmt.executeQuery()) {
-                    return rs.next() ? rs.getInt(1) : 0;
-                }
-            }
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Error counting business active positions", e);
-            return 0;
-        }
+        return counters.getActivePositions(businessId);
     }
     
     /** Count of active employees for a specific business */
     public int getEmployeesCount(int businessId) {
+        return counters.getActiveEmployees(businessId);
+    }
+    
+    /** Count of pending hiring requests for a specific business (expiries are applied by the expiry task) */
+    public int getPendingHiringRequestsCountForBusiness(int businessId) {
+        return counters.getPendingRequests(businessId);
+    }
+    
+    /**
+     * Re-read every aggregate count with one grouped query per table and overwrite the running
+     * counters. Corrects drift from expired requests and edits made outside the plugin.
+     */
+    public void reconcileCounters() {
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql = "SELECT COUNT(*) FROM business_employees WHERE business_id = ? AND is_active = ?";
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setInt(1, businessId);
-                stmt.setBoolean(2, true);
-                try (ResultSet rs = stmt.executeQuery()) {
-                    return rs.next() ? rs.getInt(1) : 0;
-                }
+            Map<Integer, Integer> positions = countByBusiness(conn,
+                "SELECT business_id, COUNT(*) FROM business_positions WHERE is_active = ? GROUP BY business_id", true);
+            Map<Integer, Integer> employees = countByBusiness(conn,
+                "SELECT business_id, COUNT(*) FROM business_employees WHERE is_active = ? GROUP BY business_id", true);
+            Map<Integer, Integer> pending = countByBusiness(conn,
+                "SELECT business_id, COUNT(*) FROM hiring_requests WHERE status = 'PENDING' AND expiration_time > ? GROUP BY business_id",
+                System.currentTimeMillis());
+            int drifted = counters.reconcile(positions, employees, pending);
+            if (drifted > 0) {
+                plugin.getLogger().fine("Reconciled business counters (" + drifted + " corrected)");
             }
         } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Error counting business employees", e);
-            return 0;
+            plugin.getLogger().log(Level.SEVERE, "Error reconciling business counters", e);
         }
     }
     
-    /** Count of pending, non-expired hiring requests for a specific business */
-    public int getPendingHiringRequestsCountForBusiness(int businessId) {
-        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql = "SELECT COUNT(*) FROM hiring_requests WHERE business_id = ? AND status = 'PENDING' AND expiration_time > ?";
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setInt(1, businessId);
-                stmt.setLong(2, System.currentTimeMillis());
-                try (ResultSet rs = stmt.executeQuery()) {
-                    return rs.next() ? rs.getInt(1) : 0;
+    private Map<Integer, Integer> countByBusiness(Connection conn, String sql, Object param) throws SQLException {
+        Map<Integer, Integer> counts = new HashMap<>();
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            if (param instanceof Boolean b) {
+                stmt.setBoolean(1, b);
+            } else {
+                stmt.setLong(1, (Long) param);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    counts.put(rs.getInt(1), rs.getInt(2));
                 }
             }
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Error counting business pending requests", e);
-            return 0;
         }
+        return counts;
+    }
+    
+    private void startCounterReconcileTask() {
+        plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, this::reconcileCounters,
+            COUNTER_RECONCILE_TICKS, COUNTER_RECONCILE_TICKS); // Every 30 minutes
     }
     
     // ==================== UTILITY METHODS ====================
@@ -859,23 +1336,20 @@ public class ConsolidatedBusinessManager {
     
     // Make helper methods public for external access
     public boolean isPlayerEmployedByBusiness(int businessId, UUID playerUUID) {
-        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql = "SELECT COUNT(*) FROM business_employees WHERE business_id = ? AND player_uuid = ? AND is_active = ?";
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setInt(1, businessId);
-                stmt.setString(2, playerUUID.toString());
-                stmt.setBoolean(3, true);
-                try (ResultSet rs = stmt.executeQuery()) {
-                    return rs.next() && rs.getInt(1) > 0;
-                }
-            }
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Error checking player employment", e);
-        }
-        return false;
+        // The registry's employee index is loaded with the businesses and kept current on hire/fire
+        return businessCache.isEmployedBy(playerUUID, businessId);
     }
     
     public int getPositionEmployeeCount(int positionId) {
+        Integer businessId = staffCache.businessOfPosition(positionId);
+        if (businessId != null) {
+            BusinessStaffCache.Staff staff = getStaff(businessId);
+            if (staff != null) return staff.employeesInPosition(positionId);
+        }
+        return countPositionEmployees(positionId);
+    }
+    
+    private int countPositionEmployees(int positionId) {
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
             String sql = "SELECT COUNT(*) FROM business_employees WHERE position_id = ? AND is_active = ?";
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -905,7 +1379,16 @@ public class ConsolidatedBusinessManager {
                             rs.getString("type"),
                             rs.getDouble("balance")
                         );
-                        businessCache.put(business.getId(), business);
+                        business.setVersion(rs.getLong("version"));
+                        businessCache.put(business);
+                    }
+                }
+            }
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT business_id, player_uuid FROM business_employees WHERE is_active = ?")) {
+                stmt.setBoolean(1, true);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        businessCache.addEmployee(UUID.fromString(rs.getString("player_uuid")), rs.getInt("business_id"));
                     }
                 }
             }
@@ -914,59 +1397,95 @@ public class ConsolidatedBusinessManager {
         }
     }
     
-    private boolean saveBusiness(Business business) {
-        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql = "UPDATE businesses SET name = ?, balance = ? WHERE id = ?";
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, business.getName());
-                stmt.setDouble(2, business.getBalance());
-                stmt.setInt(3, business.getId());
-                return stmt.executeUpdate() > 0;
+    /**
+     * Committed balance and version of each business, read inside the writer's transaction so the
+     * rows reflect exactly that write.
+     */
+    private Map<Integer, BalanceSnapshot> readBalances(Connection conn, Collection<Integer> businessIds) throws SQLException {
+        Map<Integer, BalanceSnapshot> balances = new HashMap<>();
+        List<Integer> ids = new ArrayList<>(businessIds);
+        for (int from = 0; from < ids.size(); from += BALANCE_READ_CHUNK) {
+            List<Integer> chunk = ids.subList(from, Math.min(ids.size(), from + BALANCE_READ_CHUNK));
+            StringBuilder sql = new StringBuilder("SELECT id, balance, version FROM businesses WHERE id IN (");
+            for (int i = 0; i < chunk.size(); i++) sql.append(i == 0 ? "?" : ", ?");
+            sql.append(")");
+            try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+                for (int i = 0; i < chunk.size(); i++) stmt.setInt(i + 1, chunk.get(i));
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        balances.put(rs.getInt("id"), new BalanceSnapshot(rs.getDouble("balance"), rs.getLong("version")));
+                    }
+                }
             }
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Error saving business", e);
         }
-        return false;
+        return balances;
     }
     
-    // Helper methods for various operations - removed duplicate definitions
+    /**
+     * Main thread: take committed balances into the cache; older snapshots than the cached one are ignored.
+     */
+    private void applyBalances(Map<Integer, BalanceSnapshot> balances) {
+        for (Map.Entry<Integer, BalanceSnapshot> e : balances.entrySet()) {
+            Business business = businessCache.get(e.getKey());
+            if (business != null) business.applySnapshot(e.getValue().balance, e.getValue().version);
+        }
+    }
     
-    private boolean hasPendingRequest(UUID playerUUID, int businessId) {
+    /**
+     * Stored balance of one business, e.g. after the database refused to spend the cached one.
+     * Returns null if the business is gone or the read failed.
+     */
+    private BalanceSnapshot readBalance(int businessId) {
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql = "SELECT COUNT(*) FROM hiring_requests WHERE player_uuid = ? AND business_id = ? AND status = 'PENDING' AND expiration_time > ?";
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, playerUUID.toString());
-                stmt.setInt(2, businessId);
-                stmt.setLong(3, System.currentTimeMillis());
-                try (ResultSet rs = stmt.executeQuery()) {
-                    return rs.next() && rs.getInt(1) > 0;
-                }
-            }
+            return readBalances(conn, List.of(businessId)).get(businessId);
         } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Error checking pending requests", e);
+            plugin.getLogger().log(Level.SEVERE, "Error reloading balance of business #" + businessId, e);
+            return null;
+        }
+    }
+    
+    private static final class BalanceSnapshot {
+        final double balance;
+        final long version;
+        
+        BalanceSnapshot(double balance, long version) {
+            this.balance = balance;
+            this.version = version;
+        }
+    }
+    
+    /** Employees one business actually paid in a payroll run, and the amount debited for them. */
+    private static final class PayrollRun {
+        static final PayrollRun WRITE_FAILED = new PayrollRun(List.of(), 0.0);
+        
+        final List<BusinessEmployee> employees;
+        final double total;
+        
+        PayrollRun(List<BusinessEmployee> employees, double total) {
+            this.employees = employees;
+            this.total = total;
         }
-        return false;
     }
     
+    // Helper methods for various operations - removed duplicate definitions
+    
+    private boolean hasPendingRequest(UUID playerUUID, int businessId) {
+        return hiringOffers.hasPending(playerUUID, businessId, System.currentTimeMillis());
+    }
+    
+    /**
+     * Pending requests come from the index; anything else is read from the database.
+     */
     private HiringRequest getHiringRequest(int requestId) {
+        HiringRequest pending = hiringOffers.get(requestId);
+        if (pending != null) return pending;
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
             String sql = "SELECT * FROM hiring_requests WHERE request_id = ?";
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
                 stmt.setInt(1, requestId);
                 try (ResultSet rs = stmt.executeQuery()) {
                     if (rs.next()) {
-                        return new HiringRequest(
-                            rs.getInt("request_id"),
-                            rs.getInt("business_id"),
-                            rs.getInt("position_id"),
-                            UUID.fromString(rs.getString("player_uuid")),
-                            UUID.fromString(rs.getString("requested_by")),
-                            rs.getDouble("offered_salary"),
-                            rs.getString("message"),
-                            rs.getLong("request_time"),
-                            rs.getLong("expiration_time"),
-                            HiringRequest.HiringRequestStatus.valueOf(rs.getString("status"))
-                        );
+                        return readHiringRequest(rs);
                     }
                 }
             }
@@ -976,6 +1495,21 @@ public class ConsolidatedBusinessManager {
         return null;
     }
     
+    private HiringRequest readHiringRequest(ResultSet rs) throws SQLException {
+        return new HiringRequest(
+            rs.getInt("request_id"),
+            rs.getInt("business_id"),
+            rs.getInt("position_id"),
+            UUID.fromString(rs.getString("player_uuid")),
+            UUID.fromString(rs.getString("requested_by")),
+            rs.getDouble("offered_salary"),
+            rs.getString("message"),
+            rs.getLong("request_time"),
+            rs.getLong("expiration_time"),
+            HiringRequest.HiringRequestStatus.valueOf(rs.getString("status"))
+        );
+    }
+    
     private void sendHiringNotifications(HiringRequest request, boolean accepted) {
         // Implementation for sending notifications
     }
@@ -1021,6 +1555,7 @@ public class ConsolidatedBusinessManager {
                 stmt.setInt(2, businessId);
                 boolean success = stmt.executeUpdate() > 0;
                 if (success) {
+                    recordChange(conn, businessId);
                     businessRevenueModels.put(businessId, model);
                     calculateDailyRevenueTarget(businessId);
                 }
@@ -1051,6 +1586,8 @@ public class ConsolidatedBusinessManager {
             @Override
             public void run() {
                 generateAllBusinessRevenue();
+                staffCache.evictIdle(STAFF_IDLE_EVICT_MS);
+                assets.evictIdle(STAFF_IDLE_EVICT_MS);
             }
         }.runTaskTimer(plugin, 20L * 60 * 5, 20L * 60 * 15); // Every 15 minutes, start after 5 minutes
     }
@@ -1059,54 +1596,230 @@ public class ConsolidatedBusinessManager {
      * Generate revenue for all businesses based on their models
      */
     private void generateAllBusinessRevenue() {
-        for (Business business : businessCache.values()) {
-            generateBusinessRevenue(business);
-        }
+        runRevenuePipeline(businessCache.values());
     }
     
     /**
-     * Generate revenue for a specific business based on its model and employees
+     * Generate revenue for a specific business based on its model and employees.
+     *
+     * @return false if nothing was started: another revenue run is still in progress, or this
+     *         business already generated revenue within the last 10 minutes
      */
-    public void generateBusinessRevenue(Business business) {
-        BusinessRevenueModel model = getBusinessRevenueModel(business.getId());
-        List<BusinessEmployee> employees = getBusinessEmployees(business.getId());
-        
-        if (employees.isEmpty()) return; // No employees, no revenue generation
+    public boolean generateBusinessRevenue(Business business) {
+        return runRevenuePipeline(Collections.singletonList(business));
+    }
+    
+    /**
+     * Revenue pipeline, stage 1 (caller thread, normally the main thread): snapshot the cached
+     * inputs of every business that is due, then hand off to an async task that loads contracts
+     * and computes the amounts in parallel (stage 2) and writes all revenue rows and balance
+     * changes in one transaction (stage 3). Cache updates and notifications are applied back on
+     * the main thread.
+     *
+     * @return true if a run was started
+     */
+    private boolean runRevenuePipeline(Collection<Business> businesses) {
+        if (!revenueRunInProgress.compareAndSet(false, true)) {
+            return false; // Previous run still writing
+        }
+        long now = System.currentTimeMillis();
+        List<BusinessRevenueModel> contractModels = Arrays.asList(BusinessRevenueModel.getContractModels());
+        List<RevenueInput> inputs = new ArrayList<>();
+        for (Business business : businesses) {
+            long last = lastRevenueGeneration.getOrDefault(business.getId(), 0L);
+            // Minimum 10 minutes between revenue generations for same business
+            if (now - last < REVENUE_MIN_INTERVAL_MS) continue;
+            BusinessRevenueModel model = getBusinessRevenueModel(business.getId());
+            inputs.add(new RevenueInput(business.getId(), model, contractModels.contains(model)));
+        }
+        if (inputs.isEmpty()) {
+            revenueRunInProgress.set(false);
+            return false;
+        }
         
-        // Check if enough time has passed since last revenue generation
-        long currentTime = System.currentTimeMillis();
-        long lastGeneration = lastRevenueGeneration.getOrDefault(business.getId(), 0L);
-        long timeSinceLastGeneration = currentTime - lastGeneration;
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                List<RevenueResult> results = computeRevenue(inputs);
+                Map<Integer, BalanceSnapshot> balances = results.isEmpty() ? null : writeRevenueBatch(results, now);
+                if (balances != null && plugin.isEnabled()) {
+                    plugin.getServer().getScheduler().runTask(plugin, () -> applyRevenueResults(results, balances, now));
+                }
+            } finally {
+                revenueRunInProgress.set(false);
+            }
+        });
+        return true;
+    }
+    
+    /**
+     * Stage 2: one streaming read of active employees and one bulk read of the contracts of
+     * contract-model businesses, then compute each business's revenue across the work pool. Both
+     * maps are fully built before any worker reads them.
+     */
+    private List<RevenueResult> computeRevenue(List<RevenueInput> inputs) {
+        Map<Integer, List<BusinessEmployee>> employeesByBusiness = new HashMap<>();
+        if (!streamActiveEmployees(emp ->
+                employeesByBusiness.computeIfAbsent(emp.getBusinessId(), k -> new ArrayList<>()).add(emp))) {
+            return Collections.emptyList();
+        }
+        Map<Integer, List<BusinessContract>> contractsByBusiness = loadRevenueContracts(inputs);
+        if (contractsByBusiness == null) {
+            return Collections.emptyList();
+        }
+        return workPool.map(inputs, input -> {
+            List<BusinessEmployee> employees = employeesByBusiness.get(input.businessId);
+            if (employees == null || employees.isEmpty()) return null; // No employees, no revenue generation
+            List<BusinessContract> contracts = contractsByBusiness.getOrDefault(input.businessId, Collections.emptyList());
+            double amount = calculateRevenueAmount(input.model, employees, contracts);
+            return amount > 0 ? new RevenueResult(input.businessId, input.model, amount, employees.size()) : null;
+        });
+    }
+    
+    /**
+     * Stage 3: insert every business_revenue row and apply every balance change in one transaction.
+     * Returns the committed balances, or null if the batch rolled back.
+     */
+    private Map<Integer, BalanceSnapshot> writeRevenueBatch(List<RevenueResult> results, long timestamp) {
+        Connection conn = null;
+        try {
+            conn = plugin.getDatabaseManager().getConnection();
+            conn.setAutoCommit(false);
+            String insertSql = "INSERT INTO business_revenue (business_id, revenue_type, amount, source, generated_by, timestamp, description, metadata) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+            try (PreparedStatement insert = conn.prepareStatement(insertSql);
+                 PreparedStatement update = conn.prepareStatement("UPDATE businesses SET balance = balance + ?, version = version + 1 WHERE id = ?");
+                 PreparedStatement rollup = rollups.prepare(conn)) {
+                for (RevenueResult r : results) {
+                    insert.setInt(1, r.businessId);
+                    insert.setString(2, getRevenueTypeForModel(r.model).name());
+                    insert.setDouble(3, r.amount);
+                    insert.setString(4, "Automated " + r.model.getDisplayName() + " Revenue");
+                    insert.setString(5, null);
+                    insert.setLong(6, timestamp);
+                    insert.setString(7, "Generated by " + r.employeeCount + " employees");
+                    insert.setString(8, "{\"employees\":" + r.employeeCount + ",\"model\":\"" + r.model.name() + "\"}");
+                    insert.addBatch();
+                    
+                    update.setDouble(1, r.amount);
+                    update.setInt(2, r.businessId);
+                    update.addBatch();
+                    
+                    BusinessRollups.addRow(rollup, r.businessId, timestamp,
+                        BusinessRollups.revenueCategory(getRevenueTypeForModel(r.model)), r.amount);
+                }
+                insert.executeBatch();
+                update.executeBatch();
+                rollup.executeBatch();
+            }
+            List<Integer> ids = results.stream().map(r -> r.businessId).toList();
+            recordChanges(conn, ids);
+            Map<Integer, BalanceSnapshot> balances = readBalances(conn, ids);
+            conn.commit();
+            return balances;
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error writing business revenue batch", e);
+            if (conn != null) {
+                try { conn.rollback(); } catch (SQLException ignored) {}
+            }
+            return null;
+        } finally {
+            if (conn != null) {
+                try { conn.setAutoCommit(true); } catch (SQLException ignored) {}
+                try { conn.close(); } catch (SQLException ignored) {}
+            }
+        }
+    }
+    
+    /**
+     * Main thread: mirror the committed balances into the cache and notify owners.
+     */
+    private void applyRevenueResults(List<RevenueResult> results, Map<Integer, BalanceSnapshot> balances, long timestamp) {
+        applyBalances(balances);
+        for (RevenueResult r : results) {
+            lastRevenueGeneration.put(r.businessId, timestamp);
+            Business business = businessCache.get(r.businessId);
+            if (business == null) continue;
+            recordRevenueFaucet(r.amount);
+            notifyRevenueGenerated(business, r.amount, getRevenueTypeForModel(r.model));
+        }
+    }
+    
+    /**
+     * Contracts of every input that needs them. Businesses in the asset cache are served from it;
+     * the rest are read in one chunked query (without caching them, so a run cannot churn the
+     * LRU) plus any contracts still waiting to be written. Returns null if the read fails.
+     */
+    private Map<Integer, List<BusinessContract>> loadRevenueContracts(List<RevenueInput> inputs) {
+        Map<Integer, List<BusinessContract>> out = new HashMap<>();
+        List<Integer> misses = new ArrayList<>();
+        for (RevenueInput input : inputs) {
+            if (!input.needsContracts) continue;
+            List<BusinessContract> cached = assets.peekContracts(input.businessId);
+            if (cached != null) {
+                out.put(input.businessId, cached);
+            } else {
+                misses.add(input.businessId);
+            }
+        }
+        if (misses.isEmpty()) return out;
+        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+            for (int from = 0; from < misses.size(); from += BALANCE_READ_CHUNK) {
+                List<Integer> chunk = misses.subList(from, Math.min(misses.size(), from + BALANCE_READ_CHUNK));
+                StringBuilder sql = new StringBuilder("SELECT * FROM business_contracts WHERE business_id IN (");
+                for (int i = 0; i < chunk.size(); i++) sql.append(i == 0 ? "?" : ", ?");
+                sql.append(") ORDER BY business_id, contract_id");
+                try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+                    for (int i = 0; i < chunk.size(); i++) stmt.setInt(i + 1, chunk.get(i));
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            BusinessContract contract = readBusinessContract(rs);
+                            if (contract != null) {
+                                out.computeIfAbsent(rs.getInt("business_id"), k -> new ArrayList<>()).add(contract);
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error loading contracts for revenue generation", e);
+            return null;
+        }
+        for (Integer businessId : misses) {
+            List<BusinessContract> unwritten = assets.unwrittenContracts(businessId);
+            if (!unwritten.isEmpty()) out.computeIfAbsent(businessId, k -> new ArrayList<>()).addAll(unwritten);
+        }
+        return out;
+    }
+    
+    private static final class RevenueInput {
+        final int businessId;
+        final BusinessRevenueModel model;
+        final boolean needsContracts;
         
-        // Minimum 10 minutes between revenue generations for same business
-        if (timeSinceLastGeneration < (10 * 60 * 1000)) {
-            return; // Too soon since last generation
+        RevenueInput(int businessId, BusinessRevenueModel model, boolean needsContracts) {
+            this.businessId = businessId;
+            this.model = model;
+            this.needsContracts = needsContracts;
         }
+    }
+    
+    private static final class RevenueResult {
+        final int businessId;
+        final BusinessRevenueModel model;
+        final double amount;
+        final int employeeCount;
         
-        double revenueAmount = calculateRevenueAmount(business, model, employees);
-        if (revenueAmount > 0) {
-            // Generate revenue based on business model
-            BusinessRevenue.RevenueType revenueType = getRevenueTypeForModel(model);
-            recordBusinessRevenue(business.getId(), revenueType, revenueAmount, 
-                "Automated " + model.getDisplayName() + " Revenue", null, 
-                "Generated by " + employees.size() + " employees", 
-                "{\"employees\":" + employees.size() + ",\"model\":\"" + model.name() + "\"}");
-            
-            // Add revenue to business balance
-            depositToBusiness(business.getId(), revenueAmount);
-            
-            // Update last revenue generation time
-            lastRevenueGeneration.put(business.getId(), currentTime);
-            
-            // Notify business owner
-            notifyRevenueGenerated(business, revenueAmount, revenueType);
+        RevenueResult(int businessId, BusinessRevenueModel model, double amount, int employeeCount) {
+            this.businessId = businessId;
+            this.model = model;
+            this.amount = amount;
+            this.employeeCount = employeeCount;
         }
     }
     
     /**
      * Calculate revenue amount based on business model, employees, and performance
      */
-    private double calculateRevenueAmount(Business business, BusinessRevenueModel model, List<BusinessEmployee> employees) {
+    private double calculateRevenueAmount(BusinessRevenueModel model, List<BusinessEmployee> employees, List<BusinessContract> contracts) {
         double baseRevenue = 0.0;
         int employeeCount = employees.size();
         double avgSalary = employees.stream().mapToDouble(BusinessEmployee::getCurrentSalary).average().orElse(50.0);
@@ -1134,7 +1847,7 @@ public class ConsolidatedBusinessManager {
                     baseRevenue = employeeCount * avgSalary * (2.0 + ThreadLocalRandom.current().nextDouble(1.5));
                 }
                 // Add contract-specific revenue
-                baseRevenue += generateContractRevenue(business, employees);
+                baseRevenue += generateContractRevenue(contracts, employees);
                 break;
                 
             case PROPERTY_MANAGEMENT:
@@ -1199,21 +1912,41 @@ public class ConsolidatedBusinessManager {
      */
     public boolean recordBusinessRevenue(int businessId, BusinessRevenue.RevenueType type, double amount, 
                                         String source, UUID generatedBy, String description, String metadata) {
-        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+        Connection conn = null;
+        try {
+            conn = plugin.getDatabaseManager().getConnection();
+            conn.setAutoCommit(false);
+            long now = System.currentTimeMillis();
             String sql = "INSERT INTO business_revenue (business_id, revenue_type, amount, source, generated_by, timestamp, description, metadata) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            try (PreparedStatement stmt = conn.prepareStatement(sql);
+                 PreparedStatement rollup = rollups.prepare(conn)) {
                 stmt.setInt(1, businessId);
                 stmt.setString(2, type.name());
                 stmt.setDouble(3, amount);
                 stmt.setString(4, source);
                 stmt.setString(5, generatedBy != null ? generatedBy.toString() : null);
-                stmt.setLong(6, System.currentTimeMillis());
+                stmt.setLong(6, now);
                 stmt.setString(7, description);
                 stmt.setString(8, metadata);
-                return stmt.executeUpdate() > 0;
+                if (stmt.executeUpdate() == 0) {
+                    conn.rollback();
+                    return false;
+                }
+                BusinessRollups.addRow(rollup, businessId, now, BusinessRollups.revenueCategory(type), amount);
+                rollup.executeBatch();
             }
+            conn.commit();
+            return true;
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Error recording business revenue", e);
+            if (conn != null) {
+                try { conn.rollback(); } catch (SQLException ignored) {}
+            }
+        } finally {
+            if (conn != null) {
+                try { conn.setAutoCommit(true); } catch (SQLException ignored) {}
+                try { conn.close(); } catch (SQLException ignored) {}
+            }
         }
         return false;
     }
@@ -1277,11 +2010,11 @@ public class ConsolidatedBusinessManager {
         Business business = getBusiness(businessId);
         if (business == null) return report;
         
-        List<BusinessRevenue> recentRevenue = getBusinessRevenueHistory(businessId, 7);
+        BusinessRollups.Summary recent = rollups.summarize(businessId, 7);
         List<BusinessEmployee> employees = getBusinessEmployees(businessId);
         BusinessRevenueModel model = getBusinessRevenueModel(businessId);
         
-        double totalRevenue = recentRevenue.stream().mapToDouble(BusinessRevenue::getAmount).sum();
+        double totalRevenue = recent.revenueTotal();
         double totalSalaryCosts = employees.stream().mapToDouble(BusinessEmployee::getCurrentSalary).sum() * 7; // 7 days
         double profit = totalRevenue - totalSalaryCosts;
         double profitMargin = totalRevenue > 0 ? (profit / totalRevenue) * 100 : 0;
@@ -1296,9 +2029,7 @@ public class ConsolidatedBusinessManager {
         report.add("  §7Profit Margin: " + (profitMargin >= 0 ? "§a" : "§c") + String.format("%.1f", profitMargin) + "%");
         
         // Revenue by type
-        Map<BusinessRevenue.RevenueType, Double> revenueByType = recentRevenue.stream()
-            .collect(Collectors.groupingBy(BusinessRevenue::getType, 
-                    Collectors.summingDouble(BusinessRevenue::getAmount)));
+        Map<BusinessRevenue.RevenueType, Double> revenueByType = recent.revenueByType();
         
         if (!revenueByType.isEmpty()) {
             report.add("§f💰 Revenue Sources:");
@@ -1337,13 +2068,25 @@ public class ConsolidatedBusinessManager {
             "{\"manual\":true,\"timestamp\":" + System.currentTimeMillis() + "}");
         
         if (recorded) {
-            depositToBusiness(businessId, amount);
+            // recordBusinessRevenue already rolled the amount up as revenue; don't count it again as a deposit
+            if (amount > 0 && adjustBalance(businessId, amount, null)) {
+                recordRevenueFaucet(amount);
+            }
             notifyRevenueGenerated(business, amount, type);
         }
         
         return recorded;
     }
     
+    /**
+     * Generated revenue is new money entering the economy through business treasuries.
+     */
+    private void recordRevenueFaucet(double amount) {
+        if (plugin.getEconomyManager() != null) {
+            plugin.getEconomyManager().getStats().record(EconomyStats.Flow.BUSINESS_REVENUE, amount);
+        }
+    }
+    
     /**
      * Get available business revenue models for selection
      */
@@ -1383,21 +2126,21 @@ public class ConsolidatedBusinessManager {
      * Get active contracts for a business
      */
     public List<BusinessContract> getBusinessContracts(int businessId) {
-        return businessContracts.getOrDefault(businessId, new ArrayList<>());
+        return assets.getContracts(businessId, this::loadAssets);
     }
     
     /**
-     * Add a contract to a business (for future contract system expansion)
+     * Add a contract to a business (for future contract system expansion). The contract is
+     * visible immediately and written with the next asset batch.
      */
     public void addBusinessContract(int businessId, BusinessContract contract) {
-        businessContracts.computeIfAbsent(businessId, k -> new ArrayList<>()).add(contract);
+        assets.queueContract(businessId, contract);
     }
     
     /**
      * Generate contract-based revenue (used by contract business models)
      */
-    private double generateContractRevenue(Business business, List<BusinessEmployee> employees) {
-        List<BusinessContract> contracts = getBusinessContracts(business.getId());
+    private double generateContractRevenue(List<BusinessContract> contracts, List<BusinessEmployee> employees) {
         double contractRevenue = 0.0;
         
         for (BusinessContract contract : contracts) {
@@ -1413,9 +2156,6 @@ public class ConsolidatedBusinessManager {
     
     // ==================== MINECRAFT-VIABLE BUSINESS FEATURES ====================
     
-    private final Map<Integer, List<BusinessLocation>> businessLocations = new HashMap<>();
-    private final Map<Integer, List<ResourceProcessingChain>> processingChains = new HashMap<>();
-    private final Map<Integer, List<ConstructionContract>> constructionContracts = new HashMap<>();
     private BusinessGUI businessGUI;
     
     /**
@@ -1436,9 +2176,7 @@ public class ConsolidatedBusinessManager {
      * Get businesses owned by a specific player
      */
     public List<Business> getBusinessesByOwner(UUID ownerUUID) {
-        return businessCache.values().stream()
-                .filter(business -> business.getOwnerUUID().equals(ownerUUID))
-                .collect(Collectors.toList());
+        return businessCache.getByOwner(ownerUUID);
     }
     
     // ==================== BUSINESS LOCATION MANAGEMENT ====================
@@ -1454,7 +2192,8 @@ public class ConsolidatedBusinessManager {
                         "region_name, type, rent_cost, description, created_by, created_at) " +
                         "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
             
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            long createdAt = System.currentTimeMillis();
+            try (PreparedStatement stmt = conn.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
                 stmt.setInt(1, businessId);
                 stmt.setString(2, locationName);
                 stmt.setString(3, location.getWorld().getName());
@@ -1466,15 +2205,21 @@ public class ConsolidatedBusinessManager {
                 stmt.setDouble(9, rentCost);
                 stmt.setString(10, description);
                 stmt.setString(11, createdBy.toString());
-                stmt.setLong(12, System.currentTimeMillis());
+                stmt.setLong(12, createdAt);
                 
                 boolean success = stmt.executeUpdate() > 0;
                 if (success) {
+                    int locationId = 0;
+                    try (ResultSet keys = stmt.getGeneratedKeys()) {
+                        if (keys.next()) locationId = keys.getInt(1);
+                    }
                     // Add to cache
-                    BusinessLocation businessLocation = new BusinessLocation(businessId, locationName, location, 
+                    BusinessLocation businessLocation = new BusinessLocation(locationId, businessId, locationName,
+                            location.getWorld().getName(), location.getX(), location.getY(), location.getZ(),
                             "region_" + businessId + "_" + locationName.toLowerCase().replace(" ", "_"), 
-                            type, createdBy, rentCost, description);
-                    businessLocations.computeIfAbsent(businessId, k -> new ArrayList<>()).add(businessLocation);
+                            type, true, createdBy, createdAt, rentCost, description);
+                    assets.putLocation(businessId, businessLocation);
+                    locationIndex.add(businessLocation);
                 }
                 return success;
             }
@@ -1488,7 +2233,65 @@ public class ConsolidatedBusinessManager {
      * Get all locations for a business
      */
     public List<BusinessLocation> getBusinessLocations(int businessId) {
-        return businessLocations.getOrDefault(businessId, new ArrayList<>());
+        return assets.getLocations(businessId, this::loadAssets);
+    }
+    
+    /**
+     * The business location containing a point in the world, or null. One chunk lookup, safe to
+     * call from event handlers.
+     */
+    public BusinessLocation getBusinessLocationAt(Location location) {
+        if (location.getWorld() == null) return null;
+        return locationIndex.locate(location.getWorld().getName(), location.getX(), location.getY(), location.getZ());
+    }
+    
+    /**
+     * Business locations anchored within {@code radius} blocks of a point, nearest first
+     */
+    public List<BusinessLocation> getBusinessLocationsNear(Location location, double radius) {
+        if (location.getWorld() == null) return new ArrayList<>();
+        return locationIndex.within(location.getWorld().getName(), location.getX(), location.getY(), location.getZ(), radius);
+    }
+    
+    /**
+     * Count an in-world action by an employee at one of their employer's locations
+     */
+    public void recordLocationActivity(int businessId) {
+        locationActivity.computeIfAbsent(businessId, k -> new LongAdder()).increment();
+    }
+    
+    /**
+     * In-world actions attributed to a business since startup
+     */
+    public long getLocationActivity(int businessId) {
+        LongAdder adder = locationActivity.get(businessId);
+        return adder != null ? adder.sum() : 0L;
+    }
+    
+    public BusinessLocationIndex getLocationIndex() {
+        return locationIndex;
+    }
+    
+    /**
+     * Index every active business location; the per-business lists stay lazily loaded.
+     */
+    private void loadLocationIndex() {
+        locationIndex.clear();
+        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+            String sql = "SELECT * FROM business_locations WHERE is_active = ?";
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setBoolean(1, true);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        if (businessCache.get(rs.getInt("business_id")) == null) continue;
+                        BusinessLocation location = readBusinessLocation(rs);
+                        if (location != null) locationIndex.add(location);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error loading business location index", e);
+        }
     }
     
     /**
@@ -1511,27 +2314,34 @@ public class ConsolidatedBusinessManager {
                                     double processingCost, long processingTime, int requiredEmployees, double profitMargin) {
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
             String sql = "INSERT INTO processing_chains (business_id, chain_name, type, input_materials, " +
-                        "output_materials, processing_cost, processing_time, required_employees, profit_margin) " +
-                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+                        "output_materials, processing_cost, processing_time, required_employees, profit_margin, created_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
             
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            long createdAt = System.currentTimeMillis();
+            try (PreparedStatement stmt = conn.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
                 stmt.setInt(1, businessId);
                 stmt.setString(2, chainName);
                 stmt.setString(3, type.name());
-                stmt.setString(4, serializeMaterialMap(inputMaterials));
-                stmt.setString(5, serializeMaterialMap(outputMaterials));
+                stmt.setString(4, materialCodec.encode(inputMaterials));
+                stmt.setString(5, materialCodec.encode(outputMaterials));
                 stmt.setDouble(6, processingCost);
                 stmt.setLong(7, processingTime);
                 stmt.setInt(8, requiredEmployees);
                 stmt.setDouble(9, profitMargin);
+                stmt.setLong(10, createdAt);
                 
                 boolean success = stmt.executeUpdate() > 0;
                 if (success) {
-                    // Add to cache
-                    ResourceProcessingChain chain = new ResourceProcessingChain(0, businessId, chainName, type,
+                    int chainId = 0;
+                    try (ResultSet keys = stmt.getGeneratedKeys()) {
+                        if (keys.next()) chainId = keys.getInt(1);
+                    }
+                    // Add to cache and start producing
+                    ResourceProcessingChain chain = new ResourceProcessingChain(chainId, businessId, chainName, type,
                             inputMaterials, outputMaterials, processingCost, processingTime, requiredEmployees,
-                            profitMargin, true, System.currentTimeMillis());
-                    processingChains.computeIfAbsent(businessId, k -> new ArrayList<>()).add(chain);
+                            profitMargin, true, createdAt);
+                    assets.putChain(businessId, chain);
+                    production.register(chain);
                 }
                 return success;
             }
@@ -1541,30 +2351,623 @@ public class ConsolidatedBusinessManager {
         }
     }
     
+    /**
+     * Stop a processing chain without deleting it; it stays out of production until reactivated.
+     */
+    public boolean deactivateProcessingChain(int businessId, int chainId) {
+        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+            String sql = "UPDATE processing_chains SET is_active = ? WHERE chain_id = ? AND business_id = ?";
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setBoolean(1, false);
+                stmt.setInt(2, chainId);
+                stmt.setInt(3, businessId);
+                if (stmt.executeUpdate() == 0) return false;
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error deactivating processing chain", e);
+            return false;
+        }
+        assets.invalidate(businessId);
+        production.unregister(chainId);
+        return true;
+    }
+    
+    /**
+     * Delete a processing chain and stop its production.
+     */
+    public boolean removeProcessingChain(int businessId, int chainId) {
+        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+            String sql = "DELETE FROM processing_chains WHERE chain_id = ? AND business_id = ?";
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, chainId);
+                stmt.setInt(2, businessId);
+                if (stmt.executeUpdate() == 0) return false;
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error removing processing chain", e);
+            return false;
+        }
+        assets.invalidate(businessId);
+        production.unregister(chainId);
+        return true;
+    }
+    
     /**
      * Get processing chains for a business
      */
     public List<ResourceProcessingChain> getProcessingChains(int businessId) {
-        return processingChains.getOrDefault(businessId, new ArrayList<>());
+        return assets.getChains(businessId, this::loadAssets);
+    }
+    
+    public ProductionEngine getProductionEngine() {
+        return production;
     }
     
     /**
-     * Process resources through business chains (automated revenue generation)
+     * Register every active processing chain with the production engine. The chain lists
+     * themselves are loaded per business on demand.
      */
-    public double processResourceChains(Business business, List<BusinessEmployee> employees) {
-        List<ResourceProcessingChain> chains = getProcessingChains(business.getId());
-        double totalRevenue = 0.0;
-        
-        for (ResourceProcessingChain chain : chains) {
-            if (chain.isActive() && employees.size() >= chain.getRequiredEmployees()) {
-                // Simulate processing with available employees
-                double efficiency = chain.getProcessingEfficiency(employees.size());
-                double potentialProfit = chain.calculatePotentialProfit() * efficiency;
-                totalRevenue += potentialProfit * 0.1; // 10% of potential per cycle
+    private void loadProcessingChains() {
+        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+            String sql = "SELECT * FROM processing_chains WHERE is_active = ?";
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setBoolean(1, true);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        if (businessCache.get(rs.getInt("business_id")) == null) continue;
+                        ResourceProcessingChain chain = readProcessingChain(rs);
+                        if (chain != null) production.register(chain);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error loading processing chains", e);
+        }
+    }
+    
+    /**
+     * Drive the production engine every second on the main thread and settle profit every minute.
+     */
+    private void startProductionTasks() {
+        cancelProductionTasks();
+        productionTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                production.tick(System.currentTimeMillis() / 1000L, counters::getActiveEmployees);
+            }
+        }.runTaskTimer(plugin, PRODUCTION_TICK_TICKS, PRODUCTION_TICK_TICKS);
+        settlementTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                settleProduction(true);
+            }
+        }.runTaskTimerAsynchronously(plugin, SETTLEMENT_TICKS, SETTLEMENT_TICKS);
+    }
+    
+    private void cancelProductionTasks() {
+        if (productionTask != null) {
+            try { productionTask.cancel(); } catch (Throwable ignored) {}
+            productionTask = null;
+        }
+        if (settlementTask != null) {
+            try { settlementTask.cancel(); } catch (Throwable ignored) {}
+            settlementTask = null;
+        }
+    }
+    
+    /**
+     * Settle outstanding production synchronously, e.g. on shutdown. The cache is not touched; it is
+     * either being discarded or reloaded from the database.
+     */
+    public void flushProduction() {
+        cancelProductionTasks();
+        settleProduction(false);
+    }
+    
+    /**
+     * Write all production profit accumulated since the last settlement in one transaction, then
+     * optionally mirror the balances into the cache on the main thread. Failed batches are kept for
+     * the next run.
+     */
+    private void settleProduction(boolean applyToCache) {
+        if (!settlementInProgress.compareAndSet(false, true)) return;
+        try {
+            Map<Integer, Double> settlements = production.drainSettlements();
+            if (settlements.isEmpty()) return;
+            long now = System.currentTimeMillis();
+            Map<Integer, BalanceSnapshot> balances = writeProductionBatch(settlements, now);
+            if (balances == null) {
+                production.restoreSettlements(settlements);
+                return;
+            }
+            if (applyToCache && plugin.isEnabled()) {
+                plugin.getServer().getScheduler().runTask(plugin, () -> applyProductionSettlements(settlements, balances));
+            }
+        } finally {
+            settlementInProgress.set(false);
+        }
+    }
+    
+    private Map<Integer, BalanceSnapshot> writeProductionBatch(Map<Integer, Double> settlements, long timestamp) {
+        Connection conn = null;
+        try {
+            conn = plugin.getDatabaseManager().getConnection();
+            conn.setAutoCommit(false);
+            String insertSql = "INSERT INTO business_revenue (business_id, revenue_type, amount, source, generated_by, timestamp, description, metadata) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+            String category = BusinessRollups.revenueCategory(BusinessRevenue.RevenueType.PRODUCT_SALE);
+            try (PreparedStatement insert = conn.prepareStatement(insertSql);
+                 PreparedStatement update = conn.prepareStatement("UPDATE businesses SET balance = balance + ?, version = version + 1 WHERE id = ?");
+                 PreparedStatement rollup = rollups.prepare(conn)) {
+                for (Map.Entry<Integer, Double> e : settlements.entrySet()) {
+                    insert.setInt(1, e.getKey());
+                    insert.setString(2, BusinessRevenue.RevenueType.PRODUCT_SALE.name());
+                    insert.setDouble(3, e.getValue());
+                    insert.setString(4, "Processing Chains");
+                    insert.setString(5, null);
+                    insert.setLong(6, timestamp);
+                    insert.setString(7, "Settled production cycles");
+                    insert.setString(8, "{\"production\":true}");
+                    insert.addBatch();
+                    
+                    update.setDouble(1, e.getValue());
+                    update.setInt(2, e.getKey());
+                    update.addBatch();
+                    
+                    BusinessRollups.addRow(rollup, e.getKey(), timestamp, category, e.getValue());
+                }
+                insert.executeBatch();
+                update.executeBatch();
+                rollup.executeBatch();
+            }
+            recordChanges(conn, settlements.keySet());
+            Map<Integer, BalanceSnapshot> balances = readBalances(conn, settlements.keySet());
+            conn.commit();
+            return balances;
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error settling processing chain production", e);
+            if (conn != null) {
+                try { conn.rollback(); } catch (SQLException ignored) {}
+            }
+            return null;
+        } finally {
+            if (conn != null) {
+                try { conn.setAutoCommit(true); } catch (SQLException ignored) {}
+                try { conn.close(); } catch (SQLException ignored) {}
+            }
+        }
+    }
+    
+    private void applyProductionSettlements(Map<Integer, Double> settlements, Map<Integer, BalanceSnapshot> balances) {
+        applyBalances(balances);
+        for (Map.Entry<Integer, Double> e : settlements.entrySet()) {
+            if (businessCache.get(e.getKey()) == null) continue;
+            recordRevenueFaucet(e.getValue());
+        }
+    }
+    
+    // ==================== CROSS-NODE CHANGES ====================
+    
+    private void recordChange(Connection conn, int businessId) throws SQLException {
+        ChangeFeed feed = plugin.getChangeFeed();
+        if (feed != null) feed.record(conn, ChangeFeed.BUSINESS, businessId);
+    }
+    
+    private void recordChanges(Connection conn, Collection<Integer> businessIds) throws SQLException {
+        ChangeFeed feed = plugin.getChangeFeed();
+        if (feed != null) feed.record(conn, ChangeFeed.BUSINESS, businessIds);
+    }
+    
+    /**
+     * Another node wrote a business: reload its row and employee list here on the poller thread,
+     * then swap them into the caches on the main thread. Staff and assets are reloaded lazily.
+     */
+    private void onRemoteBusinessChange(String key) {
+        int businessId;
+        try {
+            businessId = Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            return;
+        }
+        Business fresh = null;
+        BusinessRevenueModel model = null;
+        List<UUID> employees = new ArrayList<>();
+        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT * FROM businesses WHERE id = ?")) {
+                stmt.setInt(1, businessId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        fresh = new Business(
+                            rs.getInt("id"),
+                            rs.getString("name"),
+                            UUID.fromString(rs.getString("owner_uuid")),
+                            rs.getString("type"),
+                            rs.getDouble("balance")
+                        );
+                        fresh.setVersion(rs.getLong("version"));
+                        String modelStr = rs.getString("revenue_model");
+                        if (modelStr != null && !modelStr.isEmpty()) {
+                            try {
+                                model = BusinessRevenueModel.valueOf(modelStr);
+                            } catch (IllegalArgumentException ignored) {
+                                // Unknown model in DB; keep the current one
+                            }
+                        }
+                    }
+                }
+            }
+            if (fresh != null) {
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        "SELECT player_uuid FROM business_employees WHERE business_id = ? AND is_active = ?")) {
+                    stmt.setInt(1, businessId);
+                    stmt.setBoolean(2, true);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) employees.add(UUID.fromString(rs.getString("player_uuid")));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error reloading business " + businessId + " after remote change", e);
+            return;
+        }
+        Business business = fresh;
+        BusinessRevenueModel revenueModel = model;
+        plugin.getServer().getScheduler().runTask(plugin, () -> applyRemoteBusiness(businessId, business, revenueModel, employees));
+    }
+    
+    private void applyRemoteBusiness(int businessId, Business business, BusinessRevenueModel model, List<UUID> employees) {
+        if (business == null) {
+            forgetBusiness(businessId);
+            return;
+        }
+        Business cached = businessCache.get(businessId);
+        if (cached != null) {
+            // Keep a local balance write that committed after this row was read
+            synchronized (cached) {
+                business.applySnapshot(cached.getBalance(), cached.getVersion());
+            }
+        }
+        businessCache.remove(businessId);
+        businessCache.put(business);
+        for (UUID employee : employees) {
+            businessCache.addEmployee(employee, businessId);
+        }
+        staffCache.invalidate(businessId);
+        assets.invalidate(businessId);
+        if (model != null) {
+            businessRevenueModels.put(businessId, model);
+        }
+    }
+    
+    // ==================== PARALLEL EVALUATION ====================
+    
+    private BusinessWorkPool createWorkPool() {
+        return new BusinessWorkPool(
+            plugin.getConfig().getInt("business.parallelism", 0),
+            plugin.getConfig().getInt("business.parallel_threshold", 512));
+    }
+    
+    /**
+     * Stop the work pool's threads, e.g. on shutdown.
+     */
+    public void shutdownWorkPool() {
+        workPool.shutdown();
+    }
+    
+    // ==================== MARKET PRICES ====================
+    
+    public MarketPriceEngine getMarketPrices() {
+        return marketPrices;
+    }
+    
+    private MarketPriceEngine createMarketPriceEngine() {
+        return new MarketPriceEngine(
+            plugin.getConfig().getBoolean("economy.dynamic_pricing", true),
+            plugin.getConfig().getDouble("economy.price_smoothing", 0.2),
+            plugin.getConfig().getDouble("economy.price_liquidity", 64.0));
+    }
+    
+    /**
+     * Seed the price engine from market_prices. Rows for items that no longer resolve are ignored;
+     * if an item has several rows the newest wins.
+     */
+    private void loadMarketPrices() {
+        Map<Material, MarketPriceEngine.Quote> quotes = new EnumMap<>(Material.class);
+        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+            String sql = "SELECT item_name, price, base_price, supply, demand FROM market_prices ORDER BY id";
+            try (PreparedStatement stmt = conn.prepareStatement(sql);
+                 ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Material material = Material.matchMaterial(rs.getString("item_name"));
+                    if (material == null) continue;
+                    quotes.put(material, new MarketPriceEngine.Quote(material, rs.getDouble("price"),
+                        rs.getDouble("base_price"), rs.getLong("supply"), rs.getLong("demand")));
+                }
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error loading market prices", e);
+        }
+        marketPrices.restore(quotes);
+    }
+    
+    /**
+     * Recompute prices every minute and snapshot whatever changed.
+     */
+    private void startMarketTask() {
+        cancelMarketTask();
+        marketTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                marketPrices.tick();
+                writeMarketSnapshot();
+            }
+        }.runTaskTimerAsynchronously(plugin, MARKET_TICKS, MARKET_TICKS);
+    }
+    
+    private void cancelMarketTask() {
+        if (marketTask != null) {
+            try { marketTask.cancel(); } catch (Throwable ignored) {}
+            marketTask = null;
+        }
+    }
+    
+    /**
+     * Fold outstanding activity into prices and snapshot them synchronously, e.g. on shutdown.
+     */
+    public void flushMarketPrices() {
+        cancelMarketTask();
+        marketPrices.tick();
+        writeMarketSnapshot();
+    }
+    
+    private void writeMarketSnapshot() {
+        if (!marketWriteInProgress.compareAndSet(false, true)) return;
+        try {
+            List<MarketPriceEngine.Quote> quotes = marketPrices.drainDirty();
+            if (quotes.isEmpty()) return;
+            if (!writeMarketBatch(quotes)) {
+                marketPrices.restoreDirty(quotes);
+            }
+        } finally {
+            marketWriteInProgress.set(false);
+        }
+    }
+    
+    /**
+     * Replace the market_prices row of every quoted item in one transaction.
+     */
+    private boolean writeMarketBatch(List<MarketPriceEngine.Quote> quotes) {
+        Connection conn = null;
+        try {
+            conn = plugin.getDatabaseManager().getConnection();
+            conn.setAutoCommit(false);
+            try (PreparedStatement delete = conn.prepareStatement("DELETE FROM market_prices WHERE item_name = ?");
+                 PreparedStatement insert = conn.prepareStatement("INSERT INTO market_prices (item_name, price, base_price, supply, demand) VALUES (?, ?, ?, ?, ?)")) {
+                for (MarketPriceEngine.Quote quote : quotes) {
+                    delete.setString(1, quote.material.name());
+                    delete.addBatch();
+                    
+                    insert.setString(1, quote.material.name());
+                    insert.setDouble(2, quote.price);
+                    insert.setDouble(3, quote.base);
+                    insert.setLong(4, quote.supply);
+                    insert.setLong(5, quote.demand);
+                    insert.addBatch();
+                }
+                delete.executeBatch();
+                insert.executeBatch();
+            }
+            conn.commit();
+            return true;
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error writing market price snapshot", e);
+            if (conn != null) {
+                try { conn.rollback(); } catch (SQLException ignored) {}
+            }
+            return false;
+        } finally {
+            if (conn != null) {
+                try { conn.setAutoCommit(true); } catch (SQLException ignored) {}
+                try { conn.close(); } catch (SQLException ignored) {}
+            }
+        }
+    }
+    
+    // ==================== BUSINESS ASSET LOADING ====================
+    
+    public BusinessAssetRepository getAssetRepository() {
+        return assets;
+    }
+    
+    /**
+     * Read one business's contracts, locations, active chains and construction contracts on a
+     * single connection. Returns null on failure so nothing partial is cached.
+     */
+    private BusinessAssetRepository.Assets loadAssets(int businessId) {
+        BusinessAssetRepository.Assets loaded = new BusinessAssetRepository.Assets();
+        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT * FROM business_contracts WHERE business_id = ? ORDER BY contract_id")) {
+                stmt.setInt(1, businessId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        BusinessContract contract = readBusinessContract(rs);
+                        if (contract != null) loaded.addContract(contract);
+                    }
+                }
+            }
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT * FROM business_locations WHERE business_id = ? ORDER BY location_id")) {
+                stmt.setInt(1, businessId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        BusinessLocation location = readBusinessLocation(rs);
+                        if (location != null) loaded.addLocation(location);
+                    }
+                }
+            }
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT * FROM processing_chains WHERE business_id = ? AND is_active = ? ORDER BY chain_id")) {
+                stmt.setInt(1, businessId);
+                stmt.setBoolean(2, true);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        ResourceProcessingChain chain = readProcessingChain(rs);
+                        if (chain != null) loaded.addChain(chain);
+                    }
+                }
+            }
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT * FROM construction_contracts WHERE business_id = ? ORDER BY contract_id")) {
+                stmt.setInt(1, businessId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        ConstructionContract contract = readConstructionContract(rs);
+                        if (contract != null) loaded.addConstructionContract(contract);
+                    }
+                }
+            }
+            return loaded;
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error loading business assets", e);
+            return null;
+        }
+    }
+    
+    private BusinessContract readBusinessContract(ResultSet rs) throws SQLException {
+        try {
+            String createdBy = rs.getString("created_by");
+            return new BusinessContract(rs.getInt("contract_id"), rs.getInt("business_id"), rs.getString("title"),
+                    rs.getString("description"), BusinessContract.ContractType.valueOf(rs.getString("type")),
+                    rs.getDouble("total_value"), rs.getDouble("completion_bonus"), rs.getInt("required_employees"),
+                    rs.getLong("start_time"), rs.getLong("deadline"),
+                    BusinessContract.ContractStatus.valueOf(rs.getString("status")),
+                    createdBy != null ? UUID.fromString(createdBy) : null, rs.getString("requirements"),
+                    rs.getString("client_name"), rs.getDouble("progress_percentage"));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    private BusinessLocation readBusinessLocation(ResultSet rs) throws SQLException {
+        try {
+            return new BusinessLocation(rs.getInt("location_id"), rs.getInt("business_id"), rs.getString("location_name"),
+                    rs.getString("world_name"), rs.getDouble("x"), rs.getDouble("y"), rs.getDouble("z"),
+                    rs.getString("region_name"), BusinessLocation.BusinessLocationType.valueOf(rs.getString("type")),
+                    rs.getBoolean("is_active"), UUID.fromString(rs.getString("created_by")), rs.getLong("created_at"),
+                    rs.getDouble("rent_cost"), rs.getString("description"));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    private ResourceProcessingChain readProcessingChain(ResultSet rs) throws SQLException {
+        try {
+            return new ResourceProcessingChain(rs.getInt("chain_id"), rs.getInt("business_id"),
+                    rs.getString("chain_name"), ResourceProcessingChain.ProcessingType.valueOf(rs.getString("type")),
+                    materialCodec.decode(rs.getString("input_materials")),
+                    materialCodec.decode(rs.getString("output_materials")),
+                    rs.getDouble("processing_cost"), rs.getLong("processing_time"),
+                    rs.getInt("required_employees"), rs.getDouble("profit_margin"),
+                    rs.getBoolean("is_active"), rs.getLong("created_at"));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    private ConstructionContract readConstructionContract(ResultSet rs) throws SQLException {
+        try {
+            World world = plugin.getServer().getWorld(rs.getString("world_name"));
+            Location start = new Location(world, rs.getDouble("start_x"), rs.getDouble("start_y"), rs.getDouble("start_z"));
+            double endX = rs.getDouble("end_x");
+            Location end = rs.wasNull() ? null : new Location(world, endX, rs.getDouble("end_y"), rs.getDouble("end_z"));
+            String requirements = rs.getString("special_requirements");
+            String foreman = rs.getString("assigned_foreman");
+            return new ConstructionContract(rs.getInt("contract_id"), rs.getInt("business_id"),
+                    UUID.fromString(rs.getString("client_uuid")), rs.getString("project_name"),
+                    ConstructionContract.ConstructionType.valueOf(rs.getString("type")), start, end,
+                    materialCodec.decode(rs.getString("required_materials")),
+                    rs.getDouble("contract_value"), rs.getDouble("materials_cost"), rs.getLong("estimated_time"),
+                    rs.getInt("required_workers"), ConstructionContract.ContractStatus.valueOf(rs.getString("status")),
+                    rs.getLong("created_at"), rs.getLong("deadline"), rs.getString("blueprint_data"),
+                    requirements == null || requirements.isEmpty() ? new ArrayList<>() : new ArrayList<>(Arrays.asList(requirements.split(";"))),
+                    rs.getDouble("completion_percentage"), foreman != null ? UUID.fromString(foreman) : null);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    private void startAssetWriteTask() {
+        if (assetWriteTask != null) {
+            try { assetWriteTask.cancel(); } catch (Throwable ignored) {}
+        }
+        assetWriteTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                writePendingContracts();
+            }
+        }.runTaskTimerAsynchronously(plugin, ASSET_WRITE_TICKS, ASSET_WRITE_TICKS);
+    }
+    
+    /**
+     * Write every queued business contract in one transaction; a failed batch stays queued.
+     */
+    public void writePendingContracts() {
+        if (!assetWriteInProgress.compareAndSet(false, true)) return;
+        try {
+            Map<Integer, List<BusinessContract>> pending = assets.drainPendingContracts();
+            if (pending.isEmpty()) return;
+            if (writeContractBatch(pending)) {
+                assets.completePendingContracts(pending);
+            } else {
+                assets.restorePendingContracts(pending);
+            }
+        } finally {
+            assetWriteInProgress.set(false);
+        }
+    }
+    
+    private boolean writeContractBatch(Map<Integer, List<BusinessContract>> pending) {
+        Connection conn = null;
+        try {
+            conn = plugin.getDatabaseManager().getConnection();
+            conn.setAutoCommit(false);
+            String sql = """
+                INSERT INTO business_contracts (business_id, title, description, type, total_value, completion_bonus,
+                    required_employees, start_time, deadline, status, created_by, requirements, client_name, progress_percentage)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (Map.Entry<Integer, List<BusinessContract>> e : pending.entrySet()) {
+                    for (BusinessContract c : e.getValue()) {
+                        stmt.setInt(1, e.getKey());
+                        stmt.setString(2, c.getTitle());
+                        stmt.setString(3, c.getDescription());
+                        stmt.setString(4, c.getType().name());
+                        stmt.setDouble(5, c.getTotalValue());
+                        stmt.setDouble(6, c.getCompletionBonus());
+                        stmt.setInt(7, c.getRequiredEmployees());
+                        stmt.setLong(8, c.getStartTime());
+                        stmt.setLong(9, c.getDeadline());
+                        stmt.setString(10, c.getStatus().name());
+                        stmt.setString(11, c.getCreatedBy() != null ? c.getCreatedBy().toString() : null);
+                        stmt.setString(12, c.getRequirements());
+                        stmt.setString(13, c.getClientName());
+                        stmt.setDouble(14, c.getProgressPercentage());
+                        stmt.addBatch();
+                    }
+                }
+                stmt.executeBatch();
+            }
+            conn.commit();
+            return true;
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error writing business contract batch", e);
+            if (conn != null) {
+                try { conn.rollback(); } catch (SQLException ignored) {}
+            }
+            return false;
+        } finally {
+            if (conn != null) {
+                try { conn.setAutoCommit(true); } catch (SQLException ignored) {}
+                try { conn.close(); } catch (SQLException ignored) {}
             }
         }
-        
-        return totalRevenue;
     }
     
     // ==================== CONSTRUCTION CONTRACT SYSTEM ====================
@@ -1588,7 +2991,7 @@ public class ConsolidatedBusinessManager {
                 stmt.setDouble(5, startLocation.getX());
                 stmt.setDouble(6, startLocation.getY());
                 stmt.setDouble(7, startLocation.getZ());
-                stmt.setString(8, serializeMaterialMap(requiredMaterials));
+                stmt.setString(8, materialCodec.encode(requiredMaterials));
                 stmt.setString(9, String.join(";", specialRequirements));
                 stmt.setString(10, ConstructionContract.ContractStatus.PENDING_APPROVAL.name());
                 stmt.setLong(11, System.currentTimeMillis());
@@ -1605,7 +3008,7 @@ public class ConsolidatedBusinessManager {
      * Get construction contracts for a business
      */
     public List<ConstructionContract> getConstructionContracts(int businessId) {
-        return constructionContracts.getOrDefault(businessId, new ArrayList<>());
+        return assets.getConstructionContracts(businessId, this::loadAssets);
     }
     
     /**
@@ -1619,7 +3022,11 @@ public class ConsolidatedBusinessManager {
                 stmt.setString(2, ConstructionContract.ContractStatus.MATERIALS_GATHERING.name());
                 stmt.setInt(3, contractId);
                 
-                return stmt.executeUpdate() > 0;
+                boolean success = stmt.executeUpdate() > 0;
+                if (success) {
+                    assets.invalidate(businessId);
+                }
+                return success;
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Error assigning construction contract", e);
@@ -1630,18 +3037,97 @@ public class ConsolidatedBusinessManager {
     // ==================== UTILITY METHODS ====================
     
     /**
-     * Serialize material map to JSON string for database storage
+     * Load the material_ids dictionary, adding ids for any materials this server version knows
+     * that the dictionary does not, and build the material map codec from it.
      */
-    private String serializeMaterialMap(Map<Material, Integer> materials) {
-        StringBuilder json = new StringBuilder("{");
-        boolean first = true;
-        for (Map.Entry<Material, Integer> entry : materials.entrySet()) {
-            if (!first) json.append(",");
-            json.append("\"").append(entry.getKey().name()).append("\":").append(entry.getValue());
-            first = false;
+    private MaterialMapCodec loadMaterialCodec() {
+        Map<Integer, String> dictionary = new HashMap<>();
+        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT id, name FROM material_ids");
+                 ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    dictionary.put(rs.getInt("id"), rs.getString("name"));
+                }
+            }
+            Map<Integer, String> missing = MaterialMapCodec.missingEntries(dictionary);
+            if (!missing.isEmpty()) {
+                conn.setAutoCommit(false);
+                try (PreparedStatement stmt = conn.prepareStatement("INSERT INTO material_ids (id, name) VALUES (?, ?)")) {
+                    for (Map.Entry<Integer, String> e : missing.entrySet()) {
+                        stmt.setInt(1, e.getKey());
+                        stmt.setString(2, e.getValue());
+                        stmt.addBatch();
+                    }
+                    stmt.executeBatch();
+                    conn.commit();
+                    dictionary.putAll(missing);
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                } finally {
+                    conn.setAutoCommit(true);
+                }
+            }
+        } catch (SQLException e) {
+            // Without ids the codec writes the text form, which stays readable later
+            plugin.getLogger().log(Level.SEVERE, "Error loading material id dictionary", e);
+        }
+        return new MaterialMapCodec(dictionary);
+    }
+    
+    /**
+     * Rewrite processing chain and construction material columns still in the text form. Runs
+     * once per row; later loads find nothing to do.
+     */
+    private void migrateLegacyMaterialMaps() {
+        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+            int rows = migrateMaterialColumns(conn, "processing_chains", "chain_id", "input_materials", "output_materials")
+                + migrateMaterialColumns(conn, "construction_contracts", "contract_id", "required_materials");
+            if (rows > 0) {
+                plugin.getLogger().info("Re-encoded material maps for " + rows + " rows");
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error migrating material maps", e);
+        }
+    }
+    
+    private int migrateMaterialColumns(Connection conn, String table, String idColumn, String... columns) throws SQLException {
+        Map<Integer, String[]> updates = new HashMap<>();
+        String select = "SELECT " + idColumn + ", " + String.join(", ", columns) + " FROM " + table +
+            " WHERE " + String.join(" NOT LIKE 'm1:%' OR ", columns) + " NOT LIKE 'm1:%'";
+        try (PreparedStatement stmt = conn.prepareStatement(select);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                String[] values = new String[columns.length];
+                boolean changed = false;
+                for (int i = 0; i < columns.length; i++) {
+                    String stored = rs.getString(i + 2);
+                    values[i] = materialCodec.migrate(stored);
+                    changed |= !Objects.equals(values[i], stored);
+                }
+                if (changed) updates.put(rs.getInt(1), values);
+            }
+        }
+        if (updates.isEmpty()) return 0;
+        String update = "UPDATE " + table + " SET " + String.join(" = ?, ", columns) + " = ? WHERE " + idColumn + " = ?";
+        conn.setAutoCommit(false);
+        try (PreparedStatement stmt = conn.prepareStatement(update)) {
+            for (Map.Entry<Integer, String[]> e : updates.entrySet()) {
+                for (int i = 0; i < columns.length; i++) {
+                    stmt.setString(i + 1, e.getValue()[i]);
+                }
+                stmt.setInt(columns.length + 1, e.getKey());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
         }
-        json.append("}");
-        return json.toString();
+        return updates.size();
     }
     
     /**
@@ -1736,27 +3222,42 @@ public class ConsolidatedBusinessManager {
                 revenueTask = null;
             }
         }
+        flushProduction();
+        writePendingContracts();
+        flushMarketPrices();
 
         // 2) Clear caches
         businessCache.clear();
-        businessContracts.clear();
+        staffCache.clear();
+        assets.clear();
         businessRevenueModels.clear();
         lastRevenueGeneration.clear();
         dailyRevenueTargets.clear();
-        businessLocations.clear();
-        processingChains.clear();
-        constructionContracts.clear();
+        marketPrices = createMarketPriceEngine();
+        production = new ProductionEngine(System.currentTimeMillis() / 1000L, marketPrices);
+        BusinessWorkPool previousPool = workPool;
+        workPool = createWorkPool();
+        previousPool.shutdown();
 
         // 3) Reload data from DB
+        loadMarketPrices();
         loadBusinesses();
+        loadProcessingChains();
+        loadLocationIndex();
+        loadPendingHiringRequests();
+        reconcileCounters();
         loadRevenueModels();
         // Precompute daily targets if possible
-        for (Integer businessId : businessCache.keySet()) {
+        for (Integer businessId : businessCache.ids()) {
             try { calculateDailyRevenueTarget(businessId); } catch (Throwable ignored) {}
         }
 
         // 4) Restart scheduled tasks
         startRevenueGenerationTask();
+        startMarketTask();
+        startProductionTasks();
+        startAssetWriteTask();
+        startHiringExpiryTask();
 
         // 5) Log completion
         plugin.getLogger().info("ConsolidatedBusinessManager reloaded.");
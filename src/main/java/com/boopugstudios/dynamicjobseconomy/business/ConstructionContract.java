@@ -156,53 +156,11 @@ public class ConstructionContract {
     private double calculateMaterialsCost() {
         double totalCost = 0.0;
         for (Map.Entry<Material, Integer> entry : requiredMaterials.entrySet()) {
-            totalCost += getBaseMaterialValue(entry.getKey()) * entry.getValue();
+            totalCost += MarketPriceEngine.getBasePrice(entry.getKey()) * entry.getValue();
         }
         return totalCost;
     }
     
-    /**
-     * Get base material value (should integrate with server economy)
-     */
-    private double getBaseMaterialValue(Material material) {
-        switch (material) {
-            // Building blocks
-            case STONE: return 0.2;
-            case COBBLESTONE: return 0.1;
-            case STONE_BRICKS: return 0.3;
-            case BRICKS: return 0.5;
-            case OAK_PLANKS: return 0.3;
-            case OAK_LOG: return 1.0;
-            case GLASS: return 0.4;
-            case IRON_BARS: return 2.0;
-            case IRON_DOOR: return 6.0;
-            case OAK_DOOR: return 1.5;
-            
-            // Roofing materials
-            case OAK_STAIRS: return 0.5;
-            case STONE_STAIRS: return 0.4;
-            case STONE_SLAB: return 0.2;
-            case OAK_SLAB: return 0.2;
-            
-            // Decorative
-            case WHITE_WOOL: return 1.0;
-            case WHITE_CARPET: return 0.7;
-            case PAINTING: return 5.0;
-            case ITEM_FRAME: return 3.0;
-            
-            // Redstone components
-            case REDSTONE: return 2.0;
-            case REDSTONE_TORCH: return 3.0;
-            case LEVER: return 2.5;
-            case STONE_BUTTON: return 1.5;
-            case REDSTONE_LAMP: return 8.0;
-            case PISTON: return 15.0;
-            case STICKY_PISTON: return 20.0;
-            
-            default: return 1.0;
-        }
-    }
-    
     /**
      * Calculate estimated completion time based on project size and complexity
      */
@@ -0,0 +1,133 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Pending hiring requests indexed by id, by player and by business, with a min-heap of
+ * expiration times.
+ *
+ * The manager keeps it in step with hiring_requests: every request created as PENDING is added,
+ * and accepting, rejecting or deleting removes it. {@link #pollExpired} pops everything past its
+ * deadline in O(k log n), so the expiry task can mark them EXPIRED in one batch. Entries removed
+ * early stay in the heap and are skipped when they surface.
+ */
+public class HiringOfferIndex {
+
+    private static final class Deadline {
+        final long expiresAt;
+        final HiringRequest request;
+
+        Deadline(long expiresAt, HiringRequest request) {
+            this.expiresAt = expiresAt;
+            this.request = request;
+        }
+    }
+
+    private final Map<Integer, HiringRequest> byId = new HashMap<>();
+    private final Map<UUID, Map<Integer, HiringRequest>> byPlayer = new HashMap<>();
+    private final Map<Integer, Map<Integer, HiringRequest>> byBusiness = new HashMap<>();
+    private final PriorityQueue<Deadline> deadlines = new PriorityQueue<>(Comparator.comparingLong(d -> d.expiresAt));
+
+    /** Track a pending request; anything else is ignored. */
+    public synchronized void put(HiringRequest request) {
+        if (request.getStatus() != HiringRequest.HiringRequestStatus.PENDING) return;
+        remove(request.getRequestId());
+        byId.put(request.getRequestId(), request);
+        byPlayer.computeIfAbsent(request.getPlayerUUID(), k -> new LinkedHashMap<>()).put(request.getRequestId(), request);
+        byBusiness.computeIfAbsent(request.getBusinessId(), k -> new LinkedHashMap<>()).put(request.getRequestId(), request);
+        deadlines.add(new Deadline(request.getExpirationTime(), request));
+    }
+
+    /**
+     * Stop tracking a request.
+     *
+     * @return the request, or null if it was not pending here
+     */
+    public synchronized HiringRequest remove(int requestId) {
+        HiringRequest request = byId.remove(requestId);
+        if (request == null) return null;
+        unlink(byPlayer, request.getPlayerUUID(), requestId);
+        unlink(byBusiness, request.getBusinessId(), requestId);
+        return request;
+    }
+
+    public synchronized HiringRequest get(int requestId) {
+        return byId.get(requestId);
+    }
+
+    /** Unexpired pending requests for a player, oldest first. */
+    public synchronized List<HiringRequest> getForPlayer(UUID playerUUID, long now) {
+        List<HiringRequest> out = new ArrayList<>();
+        Map<Integer, HiringRequest> requests = byPlayer.get(playerUUID);
+        if (requests == null) return out;
+        for (HiringRequest request : requests.values()) {
+            if (request.getExpirationTime() > now) out.add(request);
+        }
+        out.sort(Comparator.comparingLong(HiringRequest::getRequestTime));
+        return out;
+    }
+
+    public synchronized boolean hasPending(UUID playerUUID, int businessId, long now) {
+        Map<Integer, HiringRequest> requests = byPlayer.get(playerUUID);
+        if (requests == null) return false;
+        for (HiringRequest request : requests.values()) {
+            if (request.getBusinessId() == businessId && request.getExpirationTime() > now) return true;
+        }
+        return false;
+    }
+
+    public synchronized int countForBusiness(int businessId) {
+        Map<Integer, HiringRequest> requests = byBusiness.get(businessId);
+        return requests != null ? requests.size() : 0;
+    }
+
+    public synchronized int size() {
+        return byId.size();
+    }
+
+    /**
+     * Remove and return every request whose expiration time is at or before {@code now},
+     * earliest first.
+     */
+    public synchronized List<HiringRequest> pollExpired(long now) {
+        List<HiringRequest> expired = new ArrayList<>();
+        while (!deadlines.isEmpty() && deadlines.peek().expiresAt <= now) {
+            Deadline d = deadlines.poll();
+            // Skip entries that were removed, or re-added with a new deadline
+            if (byId.get(d.request.getRequestId()) != d.request || d.request.getExpirationTime() != d.expiresAt) continue;
+            remove(d.request.getRequestId());
+            expired.add(d.request);
+        }
+        return expired;
+    }
+
+    /** Drop every request for a deleted business. */
+    public synchronized void removeBusiness(int businessId) {
+        Map<Integer, HiringRequest> requests = byBusiness.get(businessId);
+        if (requests == null) return;
+        for (Integer requestId : new ArrayList<>(requests.keySet())) {
+            remove(requestId);
+        }
+    }
+
+    public synchronized void clear() {
+        byId.clear();
+        byPlayer.clear();
+        byBusiness.clear();
+        deadlines.clear();
+    }
+
+    private static <K> void unlink(Map<K, Map<Integer, HiringRequest>> index, K key, int requestId) {
+        Map<Integer, HiringRequest> requests = index.get(key);
+        if (requests == null) return;
+        requests.remove(requestId);
+        if (requests.isEmpty()) index.remove(key);
+    }
+}
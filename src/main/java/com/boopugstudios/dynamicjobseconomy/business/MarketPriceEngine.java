@@ -0,0 +1,260 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import org.bukkit.Material;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Material prices driven by supply and demand.
+ *
+ * Job payouts and finished production cycles report the materials they bring into or take out of
+ * the economy through lock-free counters indexed by {@link Material#ordinal()}. {@link #tick()}
+ * runs on a background timer: it folds the window's counts into a target price per material and
+ * moves the current price toward it with an exponentially weighted moving average, so one busy
+ * minute nudges a price instead of spiking it. Prices are published as a fresh array, which keeps
+ * {@link #getPrice(Material)} a plain array read from any thread.
+ *
+ * Materials whose price or totals changed are reported by {@link #drainDirty()} so the manager can
+ * snapshot them to market_prices in one batch, and {@link #restore} seeds the engine from that
+ * table on startup.
+ */
+public class MarketPriceEngine {
+
+    /** Lowest and highest price, as a multiple of the base price. */
+    static final double MIN_MULTIPLIER = 0.25;
+    static final double MAX_MULTIPLIER = 4.0;
+
+    private static final Material[] MATERIALS = Material.values();
+    private static final double[] BASE_PRICES = new double[MATERIALS.length];
+
+    static {
+        Arrays.fill(BASE_PRICES, 1.0);
+        // Raw materials
+        base(Material.COBBLESTONE, 0.1);
+        base(Material.STONE, 0.2);
+        base(Material.COAL, 1.0);
+        base(Material.IRON_ORE, 2.0);
+        base(Material.GOLD_ORE, 5.0);
+        base(Material.DIAMOND, 20.0);
+        base(Material.EMERALD, 25.0);
+        // Processed materials
+        base(Material.IRON_INGOT, 3.0);
+        base(Material.GOLD_INGOT, 7.0);
+        base(Material.COAL_BLOCK, 9.0);
+        base(Material.IRON_BLOCK, 27.0);
+        base(Material.GOLD_BLOCK, 63.0);
+        base(Material.DIAMOND_BLOCK, 180.0);
+        // Food items
+        base(Material.WHEAT, 0.5);
+        base(Material.BREAD, 2.0);
+        base(Material.BEEF, 1.5);
+        base(Material.COOKED_BEEF, 3.0);
+        base(Material.PORKCHOP, 1.5);
+        base(Material.COOKED_PORKCHOP, 3.0);
+        // Wood products
+        base(Material.OAK_LOG, 1.0);
+        base(Material.OAK_PLANKS, 0.3);
+        base(Material.STICK, 0.1);
+        // Building blocks
+        base(Material.STONE_BRICKS, 0.3);
+        base(Material.BRICKS, 0.5);
+        base(Material.GLASS, 0.4);
+        base(Material.IRON_BARS, 2.0);
+        base(Material.IRON_DOOR, 6.0);
+        base(Material.OAK_DOOR, 1.5);
+        // Roofing materials
+        base(Material.OAK_STAIRS, 0.5);
+        base(Material.STONE_STAIRS, 0.4);
+        base(Material.STONE_SLAB, 0.2);
+        base(Material.OAK_SLAB, 0.2);
+        // Decorative
+        base(Material.WHITE_WOOL, 1.0);
+        base(Material.WHITE_CARPET, 0.7);
+        base(Material.PAINTING, 5.0);
+        base(Material.ITEM_FRAME, 3.0);
+        // Redstone components
+        base(Material.REDSTONE, 2.0);
+        base(Material.REDSTONE_TORCH, 3.0);
+        base(Material.LEVER, 2.5);
+        base(Material.STONE_BUTTON, 1.5);
+        base(Material.REDSTONE_LAMP, 8.0);
+        base(Material.PISTON, 15.0);
+        base(Material.STICKY_PISTON, 20.0);
+    }
+
+    private static void base(Material material, double price) {
+        BASE_PRICES[material.ordinal()] = price;
+    }
+
+    /** Built-in reference price, used before any market activity and when dynamic pricing is off. */
+    public static double getBasePrice(Material material) {
+        return BASE_PRICES[material.ordinal()];
+    }
+
+    /**
+     * A material's state as written to market_prices.
+     */
+    public static final class Quote {
+        public final Material material;
+        public final double price;
+        /** Base the price moves around; 0 when the row predates stored bases. */
+        public final double base;
+        public final long supply;
+        public final long demand;
+
+        Quote(Material material, double price, long supply, long demand) {
+            this(material, price, 0.0, supply, demand);
+        }
+
+        Quote(Material material, double price, double base, long supply, long demand) {
+            this.material = material;
+            this.price = price;
+            this.base = base;
+            this.supply = supply;
+            this.demand = demand;
+        }
+    }
+
+    private final boolean dynamic;
+    private final double smoothing;
+    private final double liquidity;
+
+    // Counts since the last tick, written lock-free from any thread
+    private final AtomicLongArray supplyWindow = new AtomicLongArray(MATERIALS.length);
+    private final AtomicLongArray demandWindow = new AtomicLongArray(MATERIALS.length);
+
+    // Published copy-on-write; readers never lock
+    private volatile double[] prices = BASE_PRICES.clone();
+    private final double[] bases = BASE_PRICES.clone();
+
+    // Guarded by this
+    private final long[] supplyTotals = new long[MATERIALS.length];
+    private final long[] demandTotals = new long[MATERIALS.length];
+    private final boolean[] dirty = new boolean[MATERIALS.length];
+
+    /**
+     * @param dynamic   false pins every price to its base; activity is still counted
+     * @param smoothing EWMA weight of the newest target price per tick, in (0, 1]
+     * @param liquidity pseudo-volume added to both sides, so thin trading barely moves a price
+     */
+    public MarketPriceEngine(boolean dynamic, double smoothing, double liquidity) {
+        this.dynamic = dynamic;
+        this.smoothing = Math.min(1.0, Math.max(0.001, smoothing));
+        this.liquidity = Math.max(1.0, liquidity);
+    }
+
+    public double getPrice(Material material) {
+        return prices[material.ordinal()];
+    }
+
+    /** Quantity of a material entering the economy, e.g. mined, harvested or produced. */
+    public void recordSupply(Material material, long quantity) {
+        if (quantity > 0) supplyWindow.addAndGet(material.ordinal(), quantity);
+    }
+
+    /** Quantity of a material leaving the economy, e.g. consumed as a production input. */
+    public void recordDemand(Material material, long quantity) {
+        if (quantity > 0) demandWindow.addAndGet(material.ordinal(), quantity);
+    }
+
+    /**
+     * Re-anchor a material to an externally quoted price (e.g. a shop plugin). The current price
+     * jumps to it; supply and demand then move it around the new base.
+     */
+    public synchronized void setBasePrice(Material material, double price) {
+        if (price <= 0 || Double.isNaN(price) || Double.isInfinite(price)) return;
+        int i = material.ordinal();
+        bases[i] = price;
+        double[] next = prices.clone();
+        next[i] = price;
+        prices = next;
+        dirty[i] = true;
+    }
+
+    /**
+     * Fold the counts since the last tick into the prices.
+     *
+     * @return number of materials whose price changed
+     */
+    public synchronized int tick() {
+        double[] next = null;
+        int changed = 0;
+        for (int i = 0; i < MATERIALS.length; i++) {
+            long supply = supplyWindow.getAndSet(i, 0);
+            long demand = demandWindow.getAndSet(i, 0);
+            if (supply != 0 || demand != 0) {
+                supplyTotals[i] += supply;
+                demandTotals[i] += demand;
+                dirty[i] = true;
+            }
+            double current = prices[i];
+            double target = dynamic ? targetPrice(bases[i], supply, demand) : bases[i];
+            double updated = current + smoothing * (target - current);
+            if (Math.abs(updated - target) < 1e-6) updated = target;
+            if (updated != current) {
+                if (next == null) next = prices.clone();
+                next[i] = updated;
+                dirty[i] = true;
+                changed++;
+            }
+        }
+        if (next != null) prices = next;
+        return changed;
+    }
+
+    private double targetPrice(double base, long supply, long demand) {
+        double ratio = (demand + liquidity) / (supply + liquidity);
+        return base * Math.min(MAX_MULTIPLIER, Math.max(MIN_MULTIPLIER, ratio));
+    }
+
+    /**
+     * Take every material changed since the last drain.
+     */
+    public synchronized List<Quote> drainDirty() {
+        double[] current = prices;
+        List<Quote> out = new ArrayList<>();
+        for (int i = 0; i < MATERIALS.length; i++) {
+            if (!dirty[i]) continue;
+            dirty[i] = false;
+            out.add(new Quote(MATERIALS[i], current[i], bases[i], supplyTotals[i], demandTotals[i]));
+        }
+        return out;
+    }
+
+    /** Mark quotes whose write failed so the next drain retries them. */
+    public synchronized void restoreDirty(List<Quote> quotes) {
+        for (Quote quote : quotes) {
+            dirty[quote.material.ordinal()] = true;
+        }
+    }
+
+    /**
+     * Seed prices, bases and totals from market_prices. A stored base (one re-anchored by
+     * {@link #setBasePrice}) replaces the built-in one, and restored prices are kept within the
+     * usual band around it so a stale row cannot pin a material far off.
+     */
+    public synchronized void restore(Map<Material, Quote> quotes) {
+        double[] next = prices.clone();
+        for (Quote quote : quotes.values()) {
+            int i = quote.material.ordinal();
+            if (quote.base > 0 && !Double.isInfinite(quote.base)) {
+                bases[i] = quote.base;
+                if (!dynamic) next[i] = quote.base;
+            }
+            if (dynamic && quote.price > 0) {
+                next[i] = Math.min(bases[i] * MAX_MULTIPLIER, Math.max(bases[i] * MIN_MULTIPLIER, quote.price));
+            }
+            supplyTotals[i] = quote.supply;
+            demandTotals[i] = quote.demand;
+        }
+        prices = next;
+    }
+
+    public boolean isDynamic() {
+        return dynamic;
+    }
+}
@@ -0,0 +1,194 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import org.bukkit.Material;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact encoding for material/quantity maps stored in text columns.
+ *
+ * Materials are written as stable integer ids from the material_ids dictionary rather than names
+ * or enum ordinals, so a Minecraft update that renames or reorders materials only changes how the
+ * dictionary resolves, never the stored rows. The layout is a version byte, a varint entry count,
+ * then a varint id and a zigzag varint quantity per entry, stored Base64 encoded after
+ * {@link #PREFIX}.
+ *
+ * Decoding also accepts the older {@code {"STONE":4}} text, so existing rows stay readable. Decoded
+ * maps are cached by their stored string and handed out as EnumMap copies.
+ */
+public class MaterialMapCodec {
+
+    public static final String PREFIX = "m1:";
+    private static final int VERSION = 1;
+    private static final int DECODE_CACHE_LIMIT = 4096;
+
+    private final Map<Material, Integer> ids = new EnumMap<>(Material.class);
+    private final Map<Integer, Material> materials = new HashMap<>();
+    private final Map<String, EnumMap<Material, Integer>> decodeCache = new ConcurrentHashMap<>();
+
+    /**
+     * @param dictionary stable id to material name, as stored in material_ids
+     */
+    public MaterialMapCodec(Map<Integer, String> dictionary) {
+        for (Map.Entry<Integer, String> e : dictionary.entrySet()) {
+            Material material = resolve(e.getValue());
+            if (material == null) continue;
+            materials.put(e.getKey(), material);
+            // A renamed material keeps its old id for decoding; encode with the id of its current name
+            if (!ids.containsKey(material) || material.name().equals(e.getValue())) {
+                ids.put(material, e.getKey());
+            }
+        }
+    }
+
+    /**
+     * Dictionary rows to add so every current (non-legacy) material has an id; new ids follow the
+     * highest existing one, in enum order.
+     */
+    public static Map<Integer, String> missingEntries(Map<Integer, String> dictionary) {
+        Set<String> known = new HashSet<>(dictionary.values());
+        int next = 1;
+        for (Integer id : dictionary.keySet()) next = Math.max(next, id + 1);
+        Map<Integer, String> missing = new LinkedHashMap<>();
+        for (Material material : Material.values()) {
+            if (!material.isLegacy() && !known.contains(material.name())) {
+                missing.put(next++, material.name());
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Encode a map. Falls back to the text form if a material has no id yet, so nothing is lost.
+     */
+    public String encode(Map<Material, Integer> map) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2 + map.size() * 4);
+        out.write(VERSION);
+        writeVarint(out, map.size());
+        for (Map.Entry<Material, Integer> e : map.entrySet()) {
+            Integer id = ids.get(e.getKey());
+            if (id == null) return encodeText(map);
+            writeVarint(out, id);
+            int qty = e.getValue();
+            writeVarint(out, (qty << 1) ^ (qty >> 31));
+        }
+        return PREFIX + Base64.getEncoder().withoutPadding().encodeToString(out.toByteArray());
+    }
+
+    /**
+     * Decode either form into a fresh EnumMap; unknown materials and malformed data are skipped.
+     */
+    public EnumMap<Material, Integer> decode(String stored) {
+        if (stored == null || stored.isEmpty()) return new EnumMap<>(Material.class);
+        EnumMap<Material, Integer> cached = decodeCache.get(stored);
+        if (cached == null) {
+            cached = stored.startsWith(PREFIX) ? decodeBinary(stored) : decodeText(stored);
+            if (decodeCache.size() >= DECODE_CACHE_LIMIT) decodeCache.clear();
+            decodeCache.put(stored, cached);
+        }
+        return new EnumMap<>(cached);
+    }
+
+    public static boolean isLegacy(String stored) {
+        return stored != null && !stored.startsWith(PREFIX);
+    }
+
+    /**
+     * Re-encode a text-form value. Returns it unchanged if any entry would be dropped because its
+     * material no longer resolves, so a migration never loses data.
+     */
+    public String migrate(String stored) {
+        if (!isLegacy(stored)) return stored;
+        EnumMap<Material, Integer> map = decodeText(stored);
+        int entries = 0;
+        for (int i = 0; i < stored.length(); i++) {
+            if (stored.charAt(i) == ':') entries++;
+        }
+        return map.size() == entries ? encode(map) : stored;
+    }
+
+    private EnumMap<Material, Integer> decodeBinary(String stored) {
+        EnumMap<Material, Integer> map = new EnumMap<>(Material.class);
+        byte[] data;
+        try {
+            data = Base64.getDecoder().decode(stored.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            return map;
+        }
+        int[] pos = {0};
+        if (data.length == 0 || data[pos[0]++] != VERSION) return map;
+        long count = readVarint(data, pos);
+        for (long i = 0; i < count; i++) {
+            long id = readVarint(data, pos);
+            long raw = readVarint(data, pos);
+            if (id < 0 || raw < 0) break;
+            int zigzag = (int) raw;
+            Material material = materials.get((int) id);
+            if (material != null) {
+                map.merge(material, (zigzag >>> 1) ^ -(zigzag & 1), Integer::sum);
+            }
+        }
+        return map;
+    }
+
+    private static EnumMap<Material, Integer> decodeText(String json) {
+        EnumMap<Material, Integer> map = new EnumMap<>(Material.class);
+        String body = json.trim();
+        if (body.startsWith("{")) body = body.substring(1);
+        if (body.endsWith("}")) body = body.substring(0, body.length() - 1);
+        for (String pair : body.split(",")) {
+            int colon = pair.indexOf(':');
+            if (colon < 0) continue;
+            Material material = resolve(pair.substring(0, colon).replace("\"", "").trim());
+            if (material == null) continue;
+            try {
+                map.merge(material, Integer.parseInt(pair.substring(colon + 1).trim()), Integer::sum);
+            } catch (NumberFormatException ignored) {}
+        }
+        return map;
+    }
+
+    private static String encodeText(Map<Material, Integer> map) {
+        StringBuilder json = new StringBuilder("{");
+        boolean first = true;
+        for (Map.Entry<Material, Integer> entry : map.entrySet()) {
+            if (!first) json.append(",");
+            json.append("\"").append(entry.getKey().name()).append("\":").append(entry.getValue());
+            first = false;
+        }
+        return json.append("}").toString();
+    }
+
+    private static Material resolve(String name) {
+        Material material = Material.matchMaterial(name);
+        return material != null ? material : Material.matchMaterial(name, true);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    /** Unsigned 32-bit value, or -1 on truncated or oversized input. */
+    private static long readVarint(byte[] data, int[] pos) {
+        long value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (pos[0] >= data.length) return -1;
+            byte b = data[pos[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value <= 0xFFFFFFFFL ? value : -1;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,88 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One payroll run's salaries, grouped by business.
+ *
+ * Rows are fed in from a single streaming query over every active employee; the funds check is
+ * then done in memory against the cached business balances, so a run costs one read plus one
+ * transaction per business that pays its staff.
+ */
+public class PayrollBatch {
+
+    public static final class Group {
+        private final int businessId;
+        private final List<BusinessEmployee> employees = new ArrayList<>();
+        private double total;
+
+        Group(int businessId) {
+            this.businessId = businessId;
+        }
+
+        public int getBusinessId() {
+            return businessId;
+        }
+
+        public List<BusinessEmployee> getEmployees() {
+            return Collections.unmodifiableList(employees);
+        }
+
+        public double getTotal() {
+            return total;
+        }
+    }
+
+    private final Map<Integer, Group> groups = new LinkedHashMap<>();
+    private int employeeCount;
+
+    /**
+     * Add an employee's salary to their business's group. Non-positive salaries are skipped.
+     */
+    public void add(BusinessEmployee employee) {
+        double salary = employee.getCurrentSalary();
+        if (!(salary > 0) || !Double.isFinite(salary)) return;
+        Group group = groups.computeIfAbsent(employee.getBusinessId(), Group::new);
+        group.employees.add(employee);
+        group.total += salary;
+        employeeCount++;
+    }
+
+    public Collection<Group> getGroups() {
+        return Collections.unmodifiableCollection(groups.values());
+    }
+
+    public int getEmployeeCount() {
+        return employeeCount;
+    }
+
+    public boolean isEmpty() {
+        return groups.isEmpty();
+    }
+
+    /**
+     * Split the groups into those the business can currently afford and those it cannot.
+     * Groups whose business is not in {@code businesses} are dropped.
+     *
+     * @param unfunded receives the groups that cannot be paid
+     * @return the groups that can be paid in full
+     */
+    public List<Group> splitFunded(Map<Integer, Business> businesses, List<Group> unfunded) {
+        List<Group> funded = new ArrayList<>(groups.size());
+        for (Group group : groups.values()) {
+            Business business = businesses.get(group.businessId);
+            if (business == null) continue;
+            if (business.getBalance() >= group.total) {
+                funded.add(group);
+            } else {
+                unfunded.add(group);
+            }
+        }
+        return funded;
+    }
+}
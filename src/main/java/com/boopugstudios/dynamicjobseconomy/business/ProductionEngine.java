@@ -0,0 +1,187 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import org.bukkit.Material;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Runs every active {@link ResourceProcessingChain} as repeating production cycles.
+ *
+ * Each chain is compiled once into a {@link Recipe} (input/output material vectors) and filed on a
+ * {@link TimingWheel} keyed in seconds, so a tick only touches the chains whose cycle just
+ * finished. A finished cycle moves materials through the business's EnumMap ledger, reports them
+ * to the {@link MarketPriceEngine} as demand (inputs) and supply (outputs), and adds its share of
+ * the profit at current market prices to a pending settlement; the manager drains settlements
+ * periodically and writes them in one batch.
+ *
+ * A chain pays out {@link #PAYOUT_SHARE} of its potential profit per {@link #PAYOUT_WINDOW_SECONDS},
+ * the rate of the old 15-minute revenue estimate, spread over its cycles. Shortening a chain's cycle
+ * therefore runs more cycles without raising its hourly payout.
+ *
+ * Main thread only, except {@link #drainSettlements()} and {@link #getLedger(int)}, which may be
+ * called from anywhere.
+ */
+public class ProductionEngine {
+
+    /** Wheel length in seconds; cycles up to about an hour never wrap. */
+    private static final int WHEEL_SLOTS = 4096;
+    
+    /** Share of a chain's potential profit paid out per payout window. */
+    static final double PAYOUT_SHARE = 0.1;
+    static final long PAYOUT_WINDOW_SECONDS = 15L * 60L;
+
+    /**
+     * A chain compiled for the hot path.
+     */
+    static final class Recipe {
+        final ResourceProcessingChain chain;
+        final int chainId;
+        final int businessId;
+        final Material[] inputs;
+        final int[] inputQuantities;
+        final Material[] outputs;
+        final int[] outputQuantities;
+        final long periodSeconds;
+        final double processingCost;
+        final double marginFactor;
+        // Fraction of the potential profit one cycle pays out
+        final double payoutFactor;
+
+        Recipe(ResourceProcessingChain chain) {
+            this.chain = chain;
+            this.chainId = chain.getChainId();
+            this.businessId = chain.getBusinessId();
+            Map<Material, Integer> in = chain.getInputMaterials();
+            Map<Material, Integer> out = chain.getOutputMaterials();
+            this.inputs = in.keySet().toArray(new Material[0]);
+            this.inputQuantities = new int[inputs.length];
+            for (int i = 0; i < inputs.length; i++) inputQuantities[i] = in.get(inputs[i]);
+            this.outputs = out.keySet().toArray(new Material[0]);
+            this.outputQuantities = new int[outputs.length];
+            for (int i = 0; i < outputs.length; i++) outputQuantities[i] = out.get(outputs[i]);
+            this.periodSeconds = Math.max(1L, chain.getProcessingTime() / 1000L);
+            this.processingCost = chain.getProcessingCost();
+            this.marginFactor = chain.getProfitMargin() / 100.0;
+            this.payoutFactor = PAYOUT_SHARE * periodSeconds / PAYOUT_WINDOW_SECONDS;
+        }
+
+        /** Same as {@link ResourceProcessingChain#calculatePotentialProfit}, off the compiled vectors. */
+        double profit(MarketPriceEngine market) {
+            double value = -processingCost;
+            for (int i = 0; i < inputs.length; i++) value -= market.getPrice(inputs[i]) * inputQuantities[i];
+            for (int i = 0; i < outputs.length; i++) value += market.getPrice(outputs[i]) * outputQuantities[i];
+            return value * marginFactor;
+        }
+    }
+
+    private final TimingWheel<Recipe> wheel;
+    private final MarketPriceEngine market;
+    private final Map<Integer, Recipe> recipes = new HashMap<>();
+    // Net materials produced (positive) and consumed (negative) per business
+    private final Map<Integer, EnumMap<Material, Long>> ledgers = new HashMap<>();
+    private Map<Integer, Double> pending = new HashMap<>();
+    private long cyclesCompleted;
+
+    public ProductionEngine(long nowSeconds, MarketPriceEngine market) {
+        this.wheel = new TimingWheel<>(WHEEL_SLOTS, nowSeconds);
+        this.market = market;
+    }
+
+    /**
+     * Start (or restart) a chain; its first cycle finishes one period from now.
+     */
+    public void register(ResourceProcessingChain chain) {
+        if (!chain.isActive()) return;
+        Recipe recipe = new Recipe(chain);
+        recipes.put(recipe.chainId, recipe);
+        wheel.schedule(recipe, wheel.getCurrentTick() + recipe.periodSeconds);
+    }
+
+    /** Stop a chain. Its wheel entry is dropped lazily when it comes due. */
+    public void unregister(int chainId) {
+        recipes.remove(chainId);
+    }
+
+    public void unregisterBusiness(int businessId) {
+        recipes.values().removeIf(r -> r.businessId == businessId);
+        synchronized (this) {
+            ledgers.remove(businessId);
+            pending.remove(businessId);
+        }
+    }
+
+    /**
+     * Complete every cycle due up to {@code nowSeconds}. A chain whose business is short of its
+     * required staff idles for that cycle.
+     *
+     * @param employeesOf active employee count per business id
+     * @return cycles completed
+     */
+    public int tick(long nowSeconds, IntUnaryOperator employeesOf) {
+        int[] completed = {0};
+        wheel.advance(nowSeconds, recipe -> {
+            if (recipes.get(recipe.chainId) != recipe) return; // unregistered or replaced
+            int employees = employeesOf.applyAsInt(recipe.businessId);
+            if (employees >= recipe.chain.getRequiredEmployees()) {
+                complete(recipe, recipe.chain.getProcessingEfficiency(employees));
+                completed[0]++;
+            }
+            wheel.schedule(recipe, wheel.getCurrentTick() + recipe.periodSeconds);
+        });
+        cyclesCompleted += completed[0];
+        return completed[0];
+    }
+
+    private synchronized void complete(Recipe recipe, double efficiency) {
+        EnumMap<Material, Long> ledger = ledgers.computeIfAbsent(recipe.businessId, k -> new EnumMap<>(Material.class));
+        for (int i = 0; i < recipe.inputs.length; i++) {
+            ledger.merge(recipe.inputs[i], (long) -recipe.inputQuantities[i], Long::sum);
+            market.recordDemand(recipe.inputs[i], recipe.inputQuantities[i]);
+        }
+        for (int i = 0; i < recipe.outputs.length; i++) {
+            ledger.merge(recipe.outputs[i], (long) recipe.outputQuantities[i], Long::sum);
+            market.recordSupply(recipe.outputs[i], recipe.outputQuantities[i]);
+        }
+        double profit = recipe.profit(market) * efficiency * recipe.payoutFactor;
+        if (profit > 0) {
+            pending.merge(recipe.businessId, profit, Double::sum);
+        }
+    }
+
+    /**
+     * Take the profit accumulated since the last drain, per business.
+     */
+    public synchronized Map<Integer, Double> drainSettlements() {
+        if (pending.isEmpty()) return Collections.emptyMap();
+        Map<Integer, Double> out = pending;
+        pending = new HashMap<>();
+        return out;
+    }
+
+    /**
+     * Put back settlements that could not be written so the next drain retries them.
+     */
+    public synchronized void restoreSettlements(Map<Integer, Double> settlements) {
+        for (Map.Entry<Integer, Double> e : settlements.entrySet()) {
+            pending.merge(e.getKey(), e.getValue(), Double::sum);
+        }
+    }
+
+    /** Copy of a business's net material flow since startup. */
+    public synchronized Map<Material, Long> getLedger(int businessId) {
+        EnumMap<Material, Long> ledger = ledgers.get(businessId);
+        return ledger != null ? new EnumMap<>(ledger) : new EnumMap<>(Material.class);
+    }
+
+    public int getActiveChainCount() {
+        return recipes.size();
+    }
+
+    public long getCyclesCompleted() {
+        return cyclesCompleted;
+    }
+}
@@ -2,6 +2,7 @@ package com.boopugstudios.dynamicjobseconomy.business;
 
 import org.bukkit.Material;
 import java.util.*;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Represents a resource processing chain for businesses
@@ -81,23 +82,28 @@ public class ResourceProcessingChain {
     public long getCreatedAt() { return createdAt; }
     
     /**
-     * Calculate potential profit from processing
+     * Calculate potential profit from processing at base material prices
      */
     public double calculatePotentialProfit() {
-        double inputCost = calculateInputCost();
-        double outputValue = calculateOutputValue();
+        return calculatePotentialProfit(MarketPriceEngine::getBasePrice);
+    }
+    
+    /**
+     * Calculate potential profit from processing at the given material prices
+     */
+    public double calculatePotentialProfit(ToDoubleFunction<Material> priceOf) {
+        double inputCost = calculateInputCost(priceOf);
+        double outputValue = calculateOutputValue(priceOf);
         return (outputValue - inputCost - processingCost) * (profitMargin / 100.0);
     }
     
     /**
      * Calculate cost of input materials
      */
-    private double calculateInputCost() {
+    private double calculateInputCost(ToDoubleFunction<Material> priceOf) {
         double totalCost = 0.0;
         for (Map.Entry<Material, Integer> entry : inputMaterials.entrySet()) {
-            // Base material values - could be integrated with server economy
-            double materialValue = getBaseMaterialValue(entry.getKey());
-            totalCost += materialValue * entry.getValue();
+            totalCost += priceOf.applyAsDouble(entry.getKey()) * entry.getValue();
         }
         return totalCost;
     }
@@ -105,54 +111,14 @@ public class ResourceProcessingChain {
     /**
      * Calculate value of output materials
      */
-    private double calculateOutputValue() {
+    private double calculateOutputValue(ToDoubleFunction<Material> priceOf) {
         double totalValue = 0.0;
         for (Map.Entry<Material, Integer> entry : outputMaterials.entrySet()) {
-            double materialValue = getBaseMaterialValue(entry.getKey());
-            totalValue += materialValue * entry.getValue();
+            totalValue += priceOf.applyAsDouble(entry.getKey()) * entry.getValue();
         }
         return totalValue;
     }
     
-    /**
-     * Get base material value (could be integrated with server economy)
-     */
-    private double getBaseMaterialValue(Material material) {
-        switch (material) {
-            // Raw materials
-            case COBBLESTONE: return 0.1;
-            case STONE: return 0.2;
-            case COAL: return 1.0;
-            case IRON_ORE: return 2.0;
-            case GOLD_ORE: return 5.0;
-            case DIAMOND: return 20.0;
-            case EMERALD: return 25.0;
-            
-            // Processed materials
-            case IRON_INGOT: return 3.0;
-            case GOLD_INGOT: return 7.0;
-            case COAL_BLOCK: return 9.0;
-            case IRON_BLOCK: return 27.0;
-            case GOLD_BLOCK: return 63.0;
-            case DIAMOND_BLOCK: return 180.0;
-            
-            // Food items
-            case WHEAT: return 0.5;
-            case BREAD: return 2.0;
-            case BEEF: return 1.5;
-            case COOKED_BEEF: return 3.0;
-            case PORKCHOP: return 1.5;
-            case COOKED_PORKCHOP: return 3.0;
-            
-            // Wood products
-            case OAK_LOG: return 1.0;
-            case OAK_PLANKS: return 0.3;
-            case STICK: return 0.1;
-            
-            default: return 1.0; // Default value
-        }
-    }
-    
     /**
      * Check if business has required materials for processing
      */
@@ -0,0 +1,99 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel: items are filed in the slot for their due tick, and advancing one tick only
+ * visits that slot. Items due more than one revolution out share a slot with nearer ones and are
+ * skipped until their round comes up, so with a wheel at least as long as the usual delay each
+ * advance costs O(items due).
+ *
+ * Not thread-safe; the owner drives it from a single thread.
+ */
+public class TimingWheel<T> {
+
+    private static final class Entry<T> {
+        final T item;
+        final long due;
+
+        Entry(T item, long due) {
+            this.item = item;
+            this.due = due;
+        }
+    }
+
+    private final List<Entry<T>>[] slots;
+    private final int mask;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param slotCount number of slots, rounded up to a power of two
+     * @param startTick the tick the wheel starts at; nothing can be due at or before it
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(int slotCount, long startTick) {
+        int n = Integer.highestOneBit(Math.max(2, slotCount - 1)) << 1;
+        this.slots = new List[n];
+        this.mask = n - 1;
+        this.currentTick = startTick;
+    }
+
+    /**
+     * File an item for {@code dueTick}; ticks already passed are treated as the next tick.
+     */
+    public void schedule(T item, long dueTick) {
+        long due = Math.max(dueTick, currentTick + 1);
+        int index = (int) (due & mask);
+        List<Entry<T>> slot = slots[index];
+        if (slot == null) {
+            slot = new ArrayList<>(4);
+            slots[index] = slot;
+        }
+        slot.add(new Entry<>(item, due));
+        size++;
+    }
+
+    /**
+     * Move the wheel forward to {@code toTick}, handing every item that came due to {@code sink}
+     * in due order. The sink may schedule items again.
+     *
+     * @return number of items delivered
+     */
+    public int advance(long toTick, Consumer<T> sink) {
+        int delivered = 0;
+        List<T> due = new ArrayList<>();
+        while (currentTick < toTick) {
+            currentTick++;
+            List<Entry<T>> slot = slots[(int) (currentTick & mask)];
+            if (slot == null || slot.isEmpty()) continue;
+            Iterator<Entry<T>> it = slot.iterator();
+            while (it.hasNext()) {
+                Entry<T> e = it.next();
+                if (e.due <= currentTick) {
+                    it.remove();
+                    size--;
+                    due.add(e.item);
+                }
+            }
+            // Deliver after the sweep so re-scheduling into this slot is safe
+            for (T item : due) {
+                sink.accept(item);
+            }
+            delivered += due.size();
+            due.clear();
+        }
+        return delivered;
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -2,6 +2,7 @@ package com.boopugstudios.dynamicjobseconomy.commands;
 
 import com.boopugstudios.dynamicjobseconomy.DynamicJobsEconomy;
 import com.boopugstudios.dynamicjobseconomy.admin.AdminConfirmationManager;
+import com.boopugstudios.dynamicjobseconomy.admin.BulkAdminOperation;
 import com.boopugstudios.dynamicjobseconomy.economy.EconomyManager;
 import com.boopugstudios.dynamicjobseconomy.gui.AdminEconomyGui;
 import com.boopugstudios.dynamicjobseconomy.util.JobNameUtil;
@@ -25,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -208,6 +210,9 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
             case "businessinfo":
                 handleBusinessInfo(sender, args, prefix);
                 break;
+            case "bulk":
+                handleBulk(sender, args, prefix);
+                break;
             case "doctor":
                 handleDoctor(sender, prefix);
                 break;
@@ -483,6 +488,15 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
         
         // Execute the original command with confirmation bypass (reason captured via GUI, may be null)
         String storedReason = mgr.getReason(player.getUniqueId());
+        if (pending.action.startsWith(BULK_ACTION_PREFIX)) {
+            mgr.remove(player.getUniqueId());
+            List<OfflinePlayer> targets = resolveBulkTargets(sender, pending.playerName, prefix);
+            if (targets != null) {
+                runBulkEconomy(sender, pending.action.substring(BULK_ACTION_PREFIX.length()), pending.playerName,
+                    targets, pending.amount, prefix, storedReason);
+            }
+            return;
+        }
         PlayerResolution resolution = resolvePlayer(pending.playerName);
         if (!resolution.isValid()) {
             Map<String, String> ph = new HashMap<>();
@@ -517,6 +531,7 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(msg("admin.help.refreshjobs", null, "§f/djeconomy refreshjobs <player> §7- Reload a player's job data from DB (online only)"));
         sender.sendMessage(msg("admin.help.invalidatejobs", null, "§f/djeconomy invalidatejobs <player> §7- Invalidate cached job data (online only)"));
         sender.sendMessage(msg("admin.help.businessinfo", null, "§f/djeconomy businessinfo [businessName] §7- View global or per-business stats"));
+        sender.sendMessage(msg("admin.help.bulk", null, "§f/djeconomy bulk <give|take|set> <selector> <amount> §7| §fbulk setlevel <selector> <job> <level> §7- Apply to many players (online, all, perm:<node>, group:<name>, file:<name>)"));
     }
 
     /**
@@ -540,6 +555,27 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
         return Bukkit.getOfflinePlayers();
     }
 
+    /**
+     * Seam for resolving an offline player by UUID for testing without static mocking.
+     */
+    protected OfflinePlayer getOfflinePlayerById(UUID id) {
+        return Bukkit.getOfflinePlayer(id);
+    }
+
+    /**
+     * Seam for running bulk database work off the main thread.
+     */
+    protected void runAsync(Runnable task) {
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, task);
+    }
+
+    /**
+     * Seam for hopping back to the main thread (messages, cache updates) from bulk work.
+     */
+    protected void runSync(Runnable task) {
+        plugin.getServer().getScheduler().runTask(plugin, task);
+    }
+
     /**
      * Time seam for tests to control confirmation expiry without sleeping.
      */
@@ -574,6 +610,12 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
         return v <= 0 ? 100000.0 : v;
     }
 
+    private int getBulkMaxTargets() {
+        // Same guard as the threshold: an unstubbed mock config returns 0
+        int v = plugin.getConfig().getInt("economy.admin_bulk.max_targets", 10000);
+        return v <= 0 ? 10000 : v;
+    }
+
     private int getConfirmExpirySeconds() {
         // Use the overload with default so tests can stub (path, default) and reload reflects new values.
         // Guard for mocks returning 0 by enforcing a sane default of 30 seconds.
@@ -584,7 +626,7 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
         if (args.length == 1) {
-            List<String> base = Arrays.asList("reload", "doctor", "gui", "setlevel", "getlevel", "resetlevel", "addxp", "economy", "confirm", "history", "refreshjobs", "invalidatejobs", "businessinfo");
+            List<String> base = Arrays.asList("reload", "doctor", "gui", "setlevel", "getlevel", "resetlevel", "addxp", "economy", "confirm", "history", "refreshjobs", "invalidatejobs", "businessinfo", "bulk");
             String pref = args[0].toLowerCase();
             return base.stream()
                 .filter(s -> s.toLowerCase().startsWith(pref))
@@ -596,6 +638,11 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
         // we provide suggestions regardless of permission so users can discover valid arguments.
 
         if (args.length == 2) {
+            if (args[0].equalsIgnoreCase("bulk")) {
+                return Arrays.asList("give", "take", "set", "setlevel").stream()
+                    .filter(s -> s.toLowerCase().startsWith(args[1].toLowerCase()))
+                    .collect(Collectors.toList());
+            }
             if (args[0].equalsIgnoreCase("economy")) {
                 return Arrays.asList("give", "take", "set").stream()
                     .filter(s -> s.toLowerCase().startsWith(args[1].toLowerCase()))
@@ -620,6 +667,16 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
             }
         }
 
+        if (args.length == 3 && args[0].equalsIgnoreCase("bulk")) {
+            return Arrays.asList("online", "all", "perm:", "group:", "file:").stream()
+                .filter(s -> s.startsWith(args[2].toLowerCase()))
+                .collect(Collectors.toList());
+        }
+
+        if (args.length == 4 && args[0].equalsIgnoreCase("bulk") && args[1].equalsIgnoreCase("setlevel")) {
+            return JobNameUtil.suggestJobs(plugin.getJobManager().getJobs().keySet(), args[3]);
+        }
+
         if (args.length == 3) {
             if (args[0].equalsIgnoreCase("setlevel") || args[0].equalsIgnoreCase("addxp")
                 || args[0].equalsIgnoreCase("getlevel") || args[0].equalsIgnoreCase("resetlevel")) {
@@ -722,6 +779,8 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
                 return "djeconomy.admin.history.view";
             case "businessinfo":
                 return "djeconomy.admin.businessinfo";
+            case "bulk":
+                return "djeconomy.admin.bulk";
             default:
                 return null;
         }
@@ -744,6 +803,7 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
             int totalPositions = mgr.getTotalActivePositionsCount();
             int totalEmployees = mgr.getTotalActiveEmployeesCount();
             int totalPending = mgr.getTotalPendingHiringRequestsCount();
+            double totalBalance = mgr.getTotalBusinessBalance();
 
             sender.sendMessage(msg("admin.businessinfo.header.global", null, "§6Business Statistics (Global)"));
             Map<String, String> ph = new HashMap<>();
@@ -753,6 +813,8 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
             ph.put("pending", String.valueOf(totalPending));
             sender.sendMessage(msg("admin.businessinfo.global", ph,
                 "§7Total Businesses: §f%businesses%§7, Active Positions: §f%positions%§7, Employees: §f%employees%§7, Pending Requests: §f%pending%"));
+            ph.put("balance", EconomyFormat.money(totalBalance));
+            sender.sendMessage(msg("admin.businessinfo.treasury", ph, "§7Combined Business Balance: §a%balance%"));
             return;
         }
 
@@ -877,6 +939,248 @@ public class AdminCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(prefix + msg("admin.resetlevel_success", ph3, "§aReset %player%'s '%job%' level to 1%suffix%"));
     }
 
+    // --- Bulk operations ---
+
+    private static final String BULK_ACTION_PREFIX = "bulk:";
+
+    private void handleBulk(CommandSender sender, String[] args, String prefix) {
+        if (args.length < 4 || (args[1].equalsIgnoreCase("setlevel") && args.length < 5)) {
+            sender.sendMessage(prefix + msg("admin.usage.bulk", null,
+                "§cUsage: /djeconomy bulk <give|take|set> <selector> <amount> | bulk setlevel <selector> <job> <level>"));
+            return;
+        }
+        String action = args[1].toLowerCase();
+        String selector = args[2];
+
+        if (action.equals("setlevel")) {
+            com.boopugstudios.dynamicjobseconomy.jobs.Job job = plugin.getJobManager().getJob(args[3]);
+            if (job == null) {
+                Map<String, String> ph = new HashMap<>();
+                ph.put("job", args[3]);
+                sender.sendMessage(prefix + msg("admin.unknown_job", ph, "§cUnknown job '%job%'."));
+                return;
+            }
+            int level;
+            try {
+                level = Integer.parseInt(args[4]);
+            } catch (NumberFormatException e) {
+                sender.sendMessage(prefix + msg("admin.invalid_level", null, "§cInvalid level number!"));
+                return;
+            }
+            List<OfflinePlayer> targets = resolveBulkTargets(sender, selector, prefix);
+            if (targets == null) return;
+            runBulkSetLevel(sender, selector, targets, job, level, prefix);
+            return;
+        }
+
+        if (!action.equals("give") && !action.equals("take") && !action.equals("set")) {
+            sender.sendMessage(prefix + msg("admin.invalid_action", null, "§cInvalid action! Use give, take, or set"));
+            return;
+        }
+
+        double amount;
+        try {
+            amount = Double.parseDouble(args[3]);
+        } catch (NumberFormatException e) {
+            sender.sendMessage(prefix + msg("admin.invalid_amount", null, "§cInvalid amount!"));
+            return;
+        }
+        if (amount < 0) {
+            sender.sendMessage(prefix + msg("admin.negative_amount", null, "§cAmount cannot be negative!"));
+            return;
+        }
+        double MAX = 1_000_000_000d;
+        if (amount > MAX) {
+            Map<String, String> ph = new HashMap<>();
+            ph.put("max", EconomyFormat.money(MAX));
+            sender.sendMessage(prefix + msg("admin.amount_too_large", ph, "§cAmount too large! Maximum: %max%"));
+            return;
+        }
+
+        List<OfflinePlayer> targets = resolveBulkTargets(sender, selector, prefix);
+        if (targets == null) return;
+
+        // The confirmation threshold applies to the total money moved, not the per-player amount
+        double total = amount * targets.size();
+        if (total >= getConfirmThreshold() && sender instanceof Player) {
+            UUID senderUUID = ((Player) sender).getUniqueId();
+            AdminConfirmationManager mgr = getOrCreateConfirmationManager();
+            mgr.putPending(senderUUID, BULK_ACTION_PREFIX + action, selector, amount);
+            Map<String, String> ph1 = new HashMap<>();
+            ph1.put("money", EconomyFormat.money(total));
+            ph1.put("count", String.valueOf(targets.size()));
+            sender.sendMessage(prefix + msg("admin.bulk.large_detected", ph1, "§e⚠ Bulk operation moves %money% across %count% players"));
+            Map<String, String> ph2 = new HashMap<>();
+            ph2.put("seconds", String.valueOf(getConfirmExpirySeconds()));
+            sender.sendMessage(prefix + msg("admin.confirm_prompt", ph2, "§eUse §f/djeconomy confirm §eto proceed (expires in %seconds% seconds)"));
+            return;
+        }
+
+        runBulkEconomy(sender, action, selector, targets, amount, prefix, null);
+    }
+
+    /**
+     * Resolve a bulk selector to a de-duplicated target list, or null (after messaging the sender) when it is invalid.
+     * Supported selectors: online, all, perm:&lt;node&gt;, group:&lt;name&gt; and file:&lt;name&gt; (UUID per line, relative to the data folder).
+     * Permission and group selectors only match online players since offline permissions cannot be checked.
+     */
+    private List<OfflinePlayer> resolveBulkTargets(CommandSender sender, String selector, String prefix) {
+        Map<UUID, OfflinePlayer> targets = new LinkedHashMap<>();
+        String lower = selector.toLowerCase();
+        if (lower.equals("online")) {
+            for (Player p : getOnlinePlayers()) targets.put(p.getUniqueId(), p);
+        } else if (lower.equals("all")) {
+            for (OfflinePlayer p : getOfflinePlayersArray()) {
+                if (p.hasPlayedBefore() || p.isOnline()) targets.put(p.getUniqueId(), p);
+            }
+            for (Player p : getOnlinePlayers()) targets.put(p.getUniqueId(), p);
+        } else if (lower.startsWith("perm:") || lower.startsWith("group:")) {
+            String node = lower.startsWith("perm:")
+                ? selector.substring("perm:".length())
+                : "group." + selector.substring("group:".length());
+            for (Player p : getOnlinePlayers()) {
+                if (p.hasPermission(node)) targets.put(p.getUniqueId(), p);
+            }
+        } else if (lower.startsWith("file:")) {
+            File dataDir = plugin.getDataFolder();
+            Path base = (dataDir != null ? dataDir : new File(".")).toPath().toAbsolutePath().normalize();
+            Path file = base.resolve(selector.substring("file:".length())).normalize();
+            if (!file.startsWith(base) || !Files.isRegularFile(file)) {
+                Map<String, String> ph = new HashMap<>();
+                ph.put("file", selector.substring("file:".length()));
+                sender.sendMessage(prefix + msg("admin.bulk.file_not_found", ph, "§cUUID file '%file%' not found in the plugin folder."));
+                return null;
+            }
+            try {
+                for (UUID id : BulkAdminOperation.parseUuidLines(Files.readAllLines(file, StandardCharsets.UTF_8))) {
+                    OfflinePlayer p = getOfflinePlayerById(id);
+                    if (p != null) targets.put(id, p);
+                }
+            } catch (IOException e) {
+                Map<String, String> ph = new HashMap<>();
+                ph.put("error", e.getMessage());
+                sender.sendMessage(prefix + msg("admin.bulk.file_read_failed", ph, "§cFailed to read UUID file: %error%"));
+                return null;
+            }
+        } else {
+            Map<String, String> ph = new HashMap<>();
+            ph.put("selector", selector);
+            sender.sendMessage(prefix + msg("admin.bulk.invalid_selector", ph,
+                "§cUnknown selector '%selector%'. Use online, all, perm:<node>, group:<name> or file:<name>"));
+            return null;
+        }
+        if (targets.isEmpty()) {
+            Map<String, String> ph = new HashMap<>();
+            ph.put("selector", selector);
+            sender.sendMessage(prefix + msg("admin.bulk.no_targets", ph, "§cSelector '%selector%' matched no players."));
+            return null;
+        }
+        int maxTargets = getBulkMaxTargets();
+        if (targets.size() > maxTargets) {
+            Map<String, String> ph = new HashMap<>();
+            ph.put("selector", selector);
+            ph.put("count", String.valueOf(targets.size()));
+            ph.put("max", String.valueOf(maxTargets));
+            sender.sendMessage(prefix + msg("admin.bulk.too_many_targets", ph,
+                "§cSelector '%selector%' matched %count% players; the limit is %max%."));
+            return null;
+        }
+        return new ArrayList<>(targets.values());
+    }
+
+    private void runBulkEconomy(CommandSender sender, String action, String selector, List<OfflinePlayer> targets,
+                                double amount, String prefix, String reason) {
+        BulkAdminOperation op = new BulkAdminOperation(plugin);
+        String admin = (sender instanceof Player) ? ((Player) sender).getName() : "Console";
+        Map<String, String> startPh = new HashMap<>();
+        startPh.put("action", action);
+        startPh.put("count", String.valueOf(targets.size()));
+        startPh.put("money", EconomyFormat.money(amount));
+        sender.sendMessage(prefix + msg("admin.bulk.started", startPh, "§7Running bulk %action% of %money% for %count% players..."));
+
+        boolean async = op.canRunAsync();
+        Runnable work = () -> {
+            BulkAdminOperation.Result result = op.applyEconomy(action, targets, amount,
+                (done, total) -> reportBulkProgress(sender, prefix, done, total, async));
+            String details = bulkDetails(result, reason);
+            appendHistory(admin, "BULK_" + action.toUpperCase(), "@" + selector, result.volume, details);
+            try {
+                plugin.getAdminAuditLogger().logAction(sender, "BULK_ECONOMY_" + action.toUpperCase(), "@" + selector, result.volume,
+                    "Bulk " + action + " " + EconomyFormat.money(amount) + " each; " + details);
+            } catch (Throwable ignored) {}
+            Runnable done = () -> sendBulkSummary(sender, prefix, action, result);
+            if (async) runSync(done); else done.run();
+        };
+        if (async) runAsync(work); else work.run();
+    }
+
+    private void runBulkSetLevel(CommandSender sender, String selector, List<OfflinePlayer> targets,
+                                 com.boopugstudios.dynamicjobseconomy.jobs.Job job, int level, String prefix) {
+        BulkAdminOperation op = new BulkAdminOperation(plugin);
+        String admin = (sender instanceof Player) ? ((Player) sender).getName() : "Console";
+        Map<String, String> startPh = new HashMap<>();
+        startPh.put("job", job.getName());
+        startPh.put("level", String.valueOf(level));
+        startPh.put("count", String.valueOf(targets.size()));
+        sender.sendMessage(prefix + msg("admin.bulk.setlevel_started", startPh, "§7Setting %job% to level %level% for %count% players..."));
+
+        runAsync(() -> {
+            BulkAdminOperation.Result result = op.applySetLevel(targets, job, level,
+                (done, total) -> reportBulkProgress(sender, prefix, done, total, true));
+            String details = job.getName() + " level " + level + "; " + bulkDetails(result, null);
+            appendHistory(admin, "BULK_SETLEVEL", "@" + selector, level, details);
+            try {
+                plugin.getAdminAuditLogger().logAction(sender, "BULK_JOB_SETLEVEL", "@" + selector, level, details);
+            } catch (Throwable ignored) {}
+            runSync(() -> {
+                // Online targets hold cached levels; update them in place so their other jobs keep
+                // unsaved experience, then save so a periodic save that ran in between cannot
+                // leave the old level behind
+                if (result.succeeded > 0) {
+                    List<Player> updated = new ArrayList<>();
+                    for (OfflinePlayer target : targets) {
+                        Player online = target.getPlayer();
+                        if (online == null) continue;
+                        plugin.getJobManager().applyStoredLevel(online, job.getName(), (int) result.volume);
+                        updated.add(online);
+                    }
+                    if (!updated.isEmpty()) {
+                        runAsync(() -> updated.forEach(plugin.getJobManager()::savePlayerData));
+                    }
+                }
+                sendBulkSummary(sender, prefix, "setlevel", result);
+            });
+        });
+    }
+
+    private void reportBulkProgress(CommandSender sender, String prefix, int done, int total, boolean async) {
+        Map<String, String> ph = new HashMap<>();
+        ph.put("done", String.valueOf(done));
+        ph.put("total", String.valueOf(total));
+        String line = prefix + msg("admin.bulk.progress", ph, "§7Bulk progress: §f%done%§7/§f%total%");
+        if (async) runSync(() -> sender.sendMessage(line)); else sender.sendMessage(line);
+    }
+
+    private void sendBulkSummary(CommandSender sender, String prefix, String action, BulkAdminOperation.Result result) {
+        Map<String, String> ph = new HashMap<>();
+        ph.put("action", action);
+        ph.put("succeeded", String.valueOf(result.succeeded));
+        ph.put("skipped", String.valueOf(result.skipped));
+        ph.put("failed", String.valueOf(result.failed));
+        ph.put("total", String.valueOf(result.total));
+        if (result.failed == result.total && result.total > 0) {
+            sender.sendMessage(prefix + msg("admin.bulk.failed", ph, "§cBulk %action% failed and was rolled back. See console for details."));
+            return;
+        }
+        sender.sendMessage(prefix + msg("admin.bulk.complete", ph,
+            "§aBulk %action% complete: §f%succeeded%§a applied, §f%skipped%§a skipped, §f%failed%§a failed (of %total%)"));
+    }
+
+    private String bulkDetails(BulkAdminOperation.Result result, String reason) {
+        String counts = "targets=" + result.total + " ok=" + result.succeeded + " skipped=" + result.skipped + " failed=" + result.failed;
+        return reason == null || reason.isEmpty() ? counts : reason + " (" + counts + ")";
+    }
+
     private File getHistoryFile() {
         File dir = plugin.getDataFolder();
         if (dir == null) {
@@ -0,0 +1,116 @@
+package com.boopugstudios.dynamicjobseconomy.commands;
+
+import com.boopugstudios.dynamicjobseconomy.DynamicJobsEconomy;
+import com.boopugstudios.dynamicjobseconomy.economy.BalanceLeaderboard;
+import com.boopugstudios.dynamicjobseconomy.economy.EconomyManager;
+import com.boopugstudios.dynamicjobseconomy.util.EconomyFormat;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /baltop [page] - ranked balances served from the in-memory {@link BalanceLeaderboard}.
+ */
+public class BaltopCommand implements CommandExecutor, TabCompleter {
+
+    static final int PAGE_SIZE = 10;
+
+    private final DynamicJobsEconomy plugin;
+
+    public BaltopCommand(DynamicJobsEconomy plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        String prefix = plugin.getMessages().getPrefix();
+        EconomyManager economy = plugin.getEconomyManager();
+        if (economy == null || economy.isVaultEnabled()) {
+            sender.sendMessage(prefix + msg("baltop.unavailable", null, "§c/baltop is only available with the internal economy."));
+            return true;
+        }
+
+        int page = 1;
+        if (args.length > 0) {
+            try {
+                page = Integer.parseInt(args[0]);
+            } catch (NumberFormatException e) {
+                page = -1;
+            }
+            if (page < 1) {
+                Map<String, Object> ph = new HashMap<>();
+                ph.put("page", args[0]);
+                sender.sendMessage(prefix + msg("baltop.invalid_page", ph, "§cInvalid page number: %page%"));
+                return true;
+            }
+        }
+
+        BalanceLeaderboard leaderboard = economy.getLeaderboard();
+        int total = leaderboard.size();
+        if (total == 0) {
+            sender.sendMessage(prefix + msg("baltop.empty", null, "§7No balances recorded yet."));
+            return true;
+        }
+        int pages = (total + PAGE_SIZE - 1) / PAGE_SIZE;
+        page = Math.min(page, pages);
+
+        Map<String, Object> ph = new HashMap<>();
+        ph.put("page", page);
+        ph.put("pages", pages);
+        sender.sendMessage(msg("baltop.header", ph, "§8§m----------§r §6Top Balances §7(page %page%/%pages%) §8§m----------"));
+        for (BalanceLeaderboard.Entry entry : leaderboard.getRange((page - 1) * PAGE_SIZE, PAGE_SIZE)) {
+            ph.clear();
+            ph.put("rank", entry.rank);
+            ph.put("player", entry.name != null ? entry.name : entry.id.toString().substring(0, 8));
+            ph.put("amount", EconomyFormat.moneyArg(entry.balance));
+            sender.sendMessage(msg("baltop.entry", ph, "§e#%rank% §f%player% §7- §a%amount%"));
+        }
+
+        if (sender instanceof Player) {
+            Player player = (Player) sender;
+            int rank = leaderboard.getRank(player.getUniqueId());
+            Double balance = leaderboard.getBalance(player.getUniqueId());
+            if (rank > 0 && balance != null) {
+                ph.clear();
+                ph.put("rank", rank);
+                ph.put("total", total);
+                ph.put("amount", EconomyFormat.moneyArg(balance));
+                sender.sendMessage(msg("baltop.self", ph, "§7Your rank: §e#%rank% §7of §e%total% §7(§a%amount%§7)"));
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        List<String> out = new ArrayList<>();
+        if (args.length == 1) {
+            EconomyManager economy = plugin.getEconomyManager();
+            int total = economy != null ? economy.getLeaderboard().size() : 0;
+            int pages = Math.max(1, (total + PAGE_SIZE - 1) / PAGE_SIZE);
+            for (int i = 1; i <= Math.min(pages, 10); i++) {
+                String s = String.valueOf(i);
+                if (s.startsWith(args[0])) out.add(s);
+            }
+        }
+        return out;
+    }
+
+    private String msg(String path, Map<String, ?> placeholders, String def) {
+        try {
+            if (plugin.getMessages() != null) {
+                return plugin.getMessages().get(path, placeholders, def);
+            }
+        } catch (Throwable ignored) {
+            // Fallback below
+        }
+        return def;
+    }
+}
@@ -290,8 +290,15 @@ public class ConsolidatedBusinessCommand implements CommandExecutor, TabComplete
         }
         
         if (manager.withdrawFromBusiness(businessId, amount)) {
-            plugin.getEconomyManager().depositPlayer(player, amount);
-            player.sendMessage("§aWithdrew $" + String.format("%.2f", amount) + " from " + business.getName());
+            if (plugin.getEconomyManager().depositPlayer(player, amount)) {
+                player.sendMessage("§aWithdrew $" + String.format("%.2f", amount) + " from " + business.getName());
+            } else {
+                manager.depositToBusiness(businessId, amount); // Refund
+                player.sendMessage("§cCould not pay out the withdrawal (your balance may be at its maximum); the business was refunded.");
+            }
+        } else if (business.getBalance() < amount) {
+            // The stored balance was lower than the cached one; the cache has been reloaded
+            player.sendMessage("§cBusiness doesn't have enough funds!");
         } else {
             player.sendMessage("§cFailed to withdraw from business!");
         }
@@ -970,27 +977,27 @@ public class ConsolidatedBusinessCommand implements CommandExecutor, TabComplete
                 return true;
             }
             
-            List<BusinessRevenue> revenues = plugin.getConsolidatedBusinessManager().getBusinessRevenueHistory(businessId, days);
+            // One line per day from the daily rollups rather than every raw revenue row
+            BusinessRollups.Summary summary = plugin.getConsolidatedBusinessManager().getRollups().summarize(businessId, days);
             
             player.sendMessage("§f" + business.getName() + " §7- Revenue History (" + days + " days)");
             player.sendMessage("§7═══════════════════════════════════════");
             
-            if (revenues.isEmpty()) {
+            if (summary.revenueByDay().isEmpty()) {
                 player.sendMessage("§7No revenue recorded in the last " + days + " days.");
                 return true;
             }
             
-            double totalRevenue = 0;
-            for (BusinessRevenue revenue : revenues) {
-                totalRevenue += revenue.getAmount();
-                String timeAgo = getTimeAgo(revenue.getTimestamp());
-                player.sendMessage("§f$" + String.format("%.2f", revenue.getAmount()) + " §7from " + 
-                    revenue.getType().getDisplayName() + " §8(" + timeAgo + ")");
-                if (revenue.getDescription() != null && !revenue.getDescription().isEmpty()) {
-                    player.sendMessage("  §7" + revenue.getDescription());
-                }
+            for (Map.Entry<Long, Double> day : summary.revenueByDay().entrySet()) {
+                String date = java.time.LocalDate.ofEpochDay(day.getKey()).toString();
+                player.sendMessage("§f" + date + " §7- §a$" + String.format("%.2f", day.getValue()) + 
+                    " §8(" + summary.revenueEntries(day.getKey()) + " payments)");
+            }
+            for (Map.Entry<BusinessRevenue.RevenueType, Double> type : summary.revenueByType().entrySet()) {
+                player.sendMessage("  §7" + type.getKey().getDisplayName() + ": §a$" + String.format("%.2f", type.getValue()));
             }
             
+            double totalRevenue = summary.revenueTotal();
             player.sendMessage("§7═══════════════════════════════════════");
             player.sendMessage("§fTotal Revenue: §a$" + String.format("%.2f", totalRevenue));
             player.sendMessage("§fAverage per Day: §e$" + String.format("%.2f", totalRevenue / days));
@@ -1022,8 +1029,12 @@ public class ConsolidatedBusinessCommand implements CommandExecutor, TabComplete
             
             if (args.length == 2) {
                 // Auto-generate revenue based on business model
-                plugin.getConsolidatedBusinessManager().generateBusinessRevenue(business);
-                player.sendMessage("§aRevenue generation triggered for " + business.getName() + "!");
+                if (plugin.getConsolidatedBusinessManager().generateBusinessRevenue(business)) {
+                    player.sendMessage("§aRevenue generation triggered for " + business.getName() + "!");
+                } else {
+                    player.sendMessage("§eRevenue generation is already running, or " + business.getName()
+                        + " generated revenue in the last 10 minutes. Try again later.");
+                }
             } else {
                 // Manual revenue entry
                 double amount = Double.parseDouble(args[2]);
@@ -1048,26 +1059,6 @@ public class ConsolidatedBusinessCommand implements CommandExecutor, TabComplete
         return true;
     }
     
-    /**
-     * Helper method to format time ago
-     */
-    private String getTimeAgo(long timestamp) {
-        long diff = System.currentTimeMillis() - timestamp;
-        long minutes = diff / (60 * 1000);
-        long hours = minutes / 60;
-        long days = hours / 24;
-        
-        if (days > 0) {
-            return days + "d ago";
-        } else if (hours > 0) {
-            return hours + "h ago";
-        } else if (minutes > 0) {
-            return minutes + "m ago";
-        } else {
-            return "just now";
-        }
-    }
-    
     private void showBusinessHelp(Player player) {
         player.sendMessage("§f§lDynamic Jobs & Economy Pro - Business Commands");
         player.sendMessage("§7═══════════════════════════════════════");
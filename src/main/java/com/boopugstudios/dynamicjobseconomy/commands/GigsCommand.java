@@ -2,6 +2,7 @@ package com.boopugstudios.dynamicjobseconomy.commands;
 
 import com.boopugstudios.dynamicjobseconomy.DynamicJobsEconomy;
 import com.boopugstudios.dynamicjobseconomy.gigs.Gig;
+import com.boopugstudios.dynamicjobseconomy.gigs.GigRegistry;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -15,6 +16,8 @@ import java.util.stream.Collectors;
 
 public class GigsCommand implements CommandExecutor, TabCompleter {
     
+    static final int PAGE_SIZE = 8;
+    
     private final DynamicJobsEconomy plugin;
     
     public GigsCommand(DynamicJobsEconomy plugin) {
@@ -38,7 +41,7 @@ public class GigsCommand implements CommandExecutor, TabCompleter {
         
         switch (args[0].toLowerCase()) {
             case "list":
-                handleListGigs(player);
+                handleListGigs(player, args);
                 break;
             case "create":
                 handleCreateGig(player, args);
@@ -62,6 +65,9 @@ public class GigsCommand implements CommandExecutor, TabCompleter {
             case "mine":
                 handleMyGigs(player);
                 break;
+            case "search":
+                handleSearchGigs(player, args);
+                break;
                 
             default:
                 showGigsHelp(player, prefix);
@@ -73,7 +79,7 @@ public class GigsCommand implements CommandExecutor, TabCompleter {
     
     private void showGigsHelp(Player player, String prefix) {
         player.sendMessage("§8§m----------§r §6Gigs Help §8§m----------");
-        player.sendMessage(prefix + "§7/gigs list - View available gigs");
+        player.sendMessage(prefix + "§7/gigs list [newest|pay] - View available gigs");
         player.sendMessage(prefix + "§7/gigs create <title> <payment> <description> §7- Create a new gig");
         player.sendMessage(prefix + "§7/gigs accept <id> - Accept a gig");
         player.sendMessage(prefix + "§7/gigs complete <id> - Submit gig completion");
@@ -81,23 +87,49 @@ public class GigsCommand implements CommandExecutor, TabCompleter {
         player.sendMessage(prefix + "§7/gigs reject <id> [reason] - Reject gig submission (poster only)");
         player.sendMessage(prefix + "§7/gigs cancel <id> - Cancel your posted gig");
         player.sendMessage(prefix + "§7/gigs mine - View your gigs");
+        player.sendMessage(prefix + "§7/gigs search <terms> - Find open gigs by title or description");
     }
     
-    private void handleListGigs(Player player) {
+    /**
+     * /gigs list [newest|pay] [cursor] - one page of open gigs; the footer carries the command
+     * for the next page.
+     */
+    private void handleListGigs(Player player, String[] args) {
         String prefix = plugin.getMessages().getPrefix();
-        List<Gig> openGigs = plugin.getGigManager().getOpenGigs();
+        GigRegistry.Order order = GigRegistry.Order.NEWEST;
+        if (args.length > 1) {
+            if (args[1].equalsIgnoreCase("pay")) {
+                order = GigRegistry.Order.PAYMENT;
+            } else if (!args[1].equalsIgnoreCase("newest")) {
+                player.sendMessage(prefix + "§cUsage: /gigs list [newest|pay]");
+                return;
+            }
+        }
+        String cursor = args.length > 2 ? args[2] : null;
         
-        if (openGigs.isEmpty()) {
-            player.sendMessage(prefix + "§7No gigs available at the moment.");
+        GigRegistry.Page page;
+        try {
+            page = plugin.getGigManager().getOpenGigPage(order, cursor, PAGE_SIZE);
+        } catch (IllegalArgumentException e) {
+            player.sendMessage(prefix + "§cInvalid page cursor. Use /gigs list to start over.");
+            return;
+        }
+        
+        if (page.gigs.isEmpty()) {
+            player.sendMessage(prefix + (cursor == null ? "§7No gigs available at the moment." : "§7No more gigs."));
             return;
         }
         
         player.sendMessage(prefix + "§6Available Gigs:");
-        for (Gig gig : openGigs) {
+        for (Gig gig : page.gigs) {
             player.sendMessage(String.format("§7[§e%d§7] §f%s §7- §a$%.2f", 
                 gig.getId(), gig.getTitle(), gig.getPayment()));
             player.sendMessage("  §7" + gig.getDescription());
         }
+        if (page.nextCursor != null) {
+            String orderArg = order == GigRegistry.Order.PAYMENT ? "pay" : "newest";
+            player.sendMessage(prefix + "§7More: §f/gigs list " + orderArg + " " + page.nextCursor);
+        }
     }
     
     private void handleCreateGig(Player player, String[] args) {
@@ -259,6 +291,28 @@ public class GigsCommand implements CommandExecutor, TabCompleter {
         }
     }
     
+    private void handleSearchGigs(Player player, String[] args) {
+        String prefix = plugin.getMessages().getPrefix();
+        if (args.length < 2) {
+            player.sendMessage(prefix + "§cUsage: /gigs search <terms>");
+            return;
+        }
+        String query = String.join(" ", Arrays.copyOfRange(args, 1, args.length));
+        List<Gig> results = plugin.getGigManager().searchOpenGigs(query, PAGE_SIZE);
+        
+        if (results.isEmpty()) {
+            player.sendMessage(prefix + "§7No open gigs match '" + query + "'.");
+            return;
+        }
+        
+        player.sendMessage(prefix + "§6Gigs matching '" + query + "':");
+        for (Gig gig : results) {
+            player.sendMessage(String.format("§7[§e%d§7] §f%s §7- §a$%.2f", 
+                gig.getId(), gig.getTitle(), gig.getPayment()));
+            player.sendMessage("  §7" + gig.getDescription());
+        }
+    }
+    
     private void handleMyGigs(Player player) {
         String prefix = plugin.getMessages().getPrefix();
         List<Gig> playerGigs = plugin.getGigManager().getPlayerGigs(player);
@@ -279,10 +333,15 @@ public class GigsCommand implements CommandExecutor, TabCompleter {
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
         if (args.length == 1) {
-            return Arrays.asList("create", "list", "accept", "complete", "approve", "reject", "cancel", "mine").stream()
+            return Arrays.asList("create", "list", "search", "accept", "complete", "approve", "reject", "cancel", "mine").stream()
                 .filter(s -> s.toLowerCase().startsWith(args[0].toLowerCase()))
                 .collect(Collectors.toList());
         }
+        if (args.length == 2 && args[0].equalsIgnoreCase("list")) {
+            return Arrays.asList("newest", "pay").stream()
+                .filter(s -> s.startsWith(args[1].toLowerCase()))
+                .collect(Collectors.toList());
+        }
         
         return new ArrayList<>();
     }
@@ -0,0 +1,81 @@
+package com.boopugstudios.dynamicjobseconomy.database;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read position in the change_log feed.
+ *
+ * change_log ids are assigned when a row is inserted but only become visible when its transaction
+ * commits, so a poller can see id 12 before id 11. The cursor therefore remembers every id it
+ * skipped over as a gap and keeps asking for it until it shows up or the gap times out (the
+ * writing transaction rolled back, or the server hands out ids in steps). Each change is accepted
+ * exactly once.
+ */
+public class ChangeCursor {
+
+    private final long gapTimeoutMs;
+    private final int maxGaps;
+    private long position;
+    // Missing id -> when it was first skipped, oldest first
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();
+
+    /**
+     * @param position     highest id already applied
+     * @param gapTimeoutMs how long a skipped id is retried
+     * @param maxGaps      cap on remembered gaps; the oldest are dropped first
+     */
+    public ChangeCursor(long position, long gapTimeoutMs, int maxGaps) {
+        this.position = position;
+        this.gapTimeoutMs = gapTimeoutMs;
+        this.maxGaps = Math.max(0, maxGaps);
+    }
+
+    public synchronized long getPosition() {
+        return position;
+    }
+
+    /**
+     * Record that a change was read.
+     *
+     * @return true the first time the id is seen, false for ids already applied
+     */
+    public synchronized boolean accept(long id, long now) {
+        if (id > position) {
+            // Only the newest maxGaps ids of a large jump can still be worth waiting for
+            for (long missing = Math.max(position + 1, id - maxGaps); missing < id; missing++) {
+                gaps.put(missing, now);
+            }
+            position = id;
+            trim();
+            return true;
+        }
+        return gaps.remove(id) != null;
+    }
+
+    /**
+     * Skipped ids still worth asking for, oldest first. Expired gaps are forgotten.
+     */
+    public synchronized List<Long> pendingGaps(long now) {
+        Iterator<Map.Entry<Long, Long>> it = gaps.entrySet().iterator();
+        while (it.hasNext()) {
+            if (now - it.next().getValue() >= gapTimeoutMs) it.remove();
+        }
+        return new ArrayList<>(gaps.keySet());
+    }
+
+    public synchronized int getGapCount() {
+        return gaps.size();
+    }
+
+    private void trim() {
+        Iterator<Long> it = gaps.keySet().iterator();
+        while (gaps.size() > maxGaps && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.boopugstudios.dynamicjobseconomy.database;
+
+import com.boopugstudios.dynamicjobseconomy.DynamicJobsEconomy;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Cache invalidation feed for several servers sharing one database.
+ *
+ * Every cached write also inserts a change_log row (entity, key, writing node) on the same
+ * connection, inside the write's transaction where there is one. Each node polls change_log for
+ * ids past its {@link ChangeCursor} and hands the keys written by other nodes to the handler
+ * subscribed for that entity; handlers run on the poller thread and reload what they need before
+ * touching main-thread caches. Repeated changes to the same key within one poll are delivered
+ * once.
+ *
+ * Disabled by default: a single server never needs it, and then {@link #record} writes nothing.
+ */
+public class ChangeFeed {
+
+    public static final String BUSINESS = "business";
+    public static final String GIG = "gig";
+    public static final String PLAYER_JOBS = "player_jobs";
+
+    private static final int POLL_LIMIT = 500;
+    private static final long GAP_TIMEOUT_MS = 60_000L;
+    private static final int MAX_GAPS = 256;
+    private static final long PRUNE_INTERVAL_MS = 5L * 60L * 1000L;
+
+    private final DynamicJobsEconomy plugin;
+    private final boolean enabled;
+    private final String nodeId;
+    private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+    private final AtomicBoolean pollInProgress = new AtomicBoolean(false);
+    private ChangeCursor cursor;
+    private BukkitTask pollTask;
+    private long lastPrune;
+
+    public ChangeFeed(DynamicJobsEconomy plugin) {
+        this.plugin = plugin;
+        this.enabled = plugin.getConfig().getBoolean("network.change_feed.enabled", false);
+        String configured = plugin.getConfig().getString("network.node_id", "");
+        this.nodeId = configured == null || configured.isBlank()
+            ? UUID.randomUUID().toString().substring(0, 8)
+            : configured;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Receive keys of {@code entity} changed by other nodes. Called on the poller thread.
+     */
+    public void subscribe(String entity, Consumer<String> handler) {
+        handlers.put(entity, handler);
+    }
+
+    /**
+     * Record a change on the caller's connection so it commits (or rolls back) with the write.
+     * Inside a transaction a failure is thrown so the write rolls back too; after an auto-committed
+     * write it is only logged, since the write itself already stands.
+     */
+    public void record(Connection conn, String entity, Object key) throws SQLException {
+        record(conn, entity, Collections.singletonList(key));
+    }
+
+    public void record(Connection conn, String entity, Collection<?> keys) throws SQLException {
+        if (!enabled || keys.isEmpty()) return;
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "INSERT INTO change_log (node_id, entity, entity_key, created_at) VALUES (?, ?, ?, ?)")) {
+            long now = System.currentTimeMillis();
+            for (Object key : keys) {
+                stmt.setString(1, nodeId);
+                stmt.setString(2, entity);
+                stmt.setString(3, String.valueOf(key));
+                stmt.setLong(4, now);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        } catch (SQLException e) {
+            if (!conn.getAutoCommit()) throw e;
+            plugin.getLogger().log(Level.WARNING, "Error recording " + entity + " change; other servers may serve it stale", e);
+        }
+    }
+
+    /**
+     * Start polling from the current end of the log; earlier changes are already reflected in
+     * what the caches loaded at startup.
+     */
+    public void start() {
+        if (!enabled) return;
+        stop();
+        cursor = new ChangeCursor(readMaxId(), GAP_TIMEOUT_MS, MAX_GAPS);
+        long interval = Math.max(1L, plugin.getConfig().getLong("network.change_feed.poll_ticks", 40L));
+        pollTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                poll();
+            }
+        }.runTaskTimerAsynchronously(plugin, interval, interval);
+        plugin.getLogger().info("Change feed enabled for node " + nodeId);
+    }
+
+    public void stop() {
+        if (pollTask != null) {
+            try { pollTask.cancel(); } catch (Throwable ignored) {}
+            pollTask = null;
+        }
+    }
+
+    private long readMaxId() {
+        try (Connection conn = plugin.getDatabaseManager().getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT MAX(id) FROM change_log")) {
+            return rs.next() ? rs.getLong(1) : 0L;
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error reading change log position", e);
+            return 0L;
+        }
+    }
+
+    /**
+     * Read everything past the cursor (plus any gaps still open), then dispatch other nodes'
+     * changes, each key once.
+     */
+    private void poll() {
+        if (!pollInProgress.compareAndSet(false, true)) return;
+        try {
+            long now = System.currentTimeMillis();
+            List<Long> gaps = cursor.pendingGaps(now);
+            StringBuilder sql = new StringBuilder("SELECT id, node_id, entity, entity_key FROM change_log WHERE id > ?");
+            if (!gaps.isEmpty()) {
+                sql.append(" OR id IN (");
+                for (int i = 0; i < gaps.size(); i++) sql.append(i == 0 ? "?" : ", ?");
+                sql.append(")");
+            }
+            sql.append(" ORDER BY id LIMIT ").append(POLL_LIMIT);
+
+            Set<List<String>> changes = new LinkedHashSet<>();
+            try (Connection conn = plugin.getDatabaseManager().getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+                stmt.setLong(1, cursor.getPosition());
+                for (int i = 0; i < gaps.size(); i++) stmt.setLong(i + 2, gaps.get(i));
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        if (!cursor.accept(rs.getLong("id"), now)) continue;
+                        if (nodeId.equals(rs.getString("node_id"))) continue;
+                        changes.add(List.of(rs.getString("entity"), rs.getString("entity_key")));
+                    }
+                }
+                if (now - lastPrune >= PRUNE_INTERVAL_MS) {
+                    prune(conn, now);
+                    lastPrune = now;
+                }
+            } catch (SQLException e) {
+                plugin.getLogger().log(Level.SEVERE, "Error polling change log", e);
+            }
+
+            for (List<String> change : changes) {
+                Consumer<String> handler = handlers.get(change.get(0));
+                if (handler == null) continue;
+                try {
+                    handler.accept(change.get(1));
+                } catch (RuntimeException e) {
+                    plugin.getLogger().log(Level.WARNING, "Error applying " + change.get(0) + " change " + change.get(1), e);
+                }
+            }
+        } finally {
+            pollInProgress.set(false);
+        }
+    }
+
+    /**
+     * Drop rows every node has had ample time to read.
+     */
+    private void prune(Connection conn, long now) throws SQLException {
+        long retentionMs = Math.max(1L, plugin.getConfig().getLong("network.change_feed.retention_minutes", 60L)) * 60_000L;
+        try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM change_log WHERE created_at < ?")) {
+            stmt.setLong(1, now - retentionMs);
+            stmt.executeUpdate();
+        }
+    }
+
+    /** Skipped change ids still being waited for. */
+    public int getOpenGapCount() {
+        return cursor != null ? cursor.getGapCount() : 0;
+    }
+}
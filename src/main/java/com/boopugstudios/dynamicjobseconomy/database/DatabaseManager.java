@@ -132,6 +132,7 @@ public class DatabaseManager {
                 type TEXT NOT NULL,
                 revenue_model TEXT DEFAULT 'STARTUP',
                 balance REAL DEFAULT 0.00,
+                version INTEGER NOT NULL DEFAULT 0,
                 created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
                 FOREIGN KEY (owner_uuid) REFERENCES players(uuid) ON DELETE CASCADE
             )
@@ -143,6 +144,7 @@ public class DatabaseManager {
                 type VARCHAR(50) NOT NULL,
                 revenue_model VARCHAR(50) DEFAULT 'STARTUP',
                 balance DECIMAL(15,2) DEFAULT 0.00,
+                version BIGINT NOT NULL DEFAULT 0,
                 created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
                 FOREIGN KEY (owner_uuid) REFERENCES players(uuid) ON DELETE CASCADE
             )
@@ -317,12 +319,155 @@ public class DatabaseManager {
             )
         """;
         
+        // Business revenue table (one row per revenue event; timestamp is epoch millis)
+        String businessRevenueTable = isSQLite ? """
+            CREATE TABLE IF NOT EXISTS business_revenue (
+                revenue_id INTEGER PRIMARY KEY AUTOINCREMENT,
+                business_id INTEGER NOT NULL,
+                revenue_type TEXT NOT NULL,
+                amount REAL NOT NULL,
+                source TEXT,
+                generated_by TEXT,
+                timestamp INTEGER NOT NULL,
+                description TEXT,
+                metadata TEXT,
+                FOREIGN KEY (business_id) REFERENCES businesses(id) ON DELETE CASCADE
+            )
+        """ : """
+            CREATE TABLE IF NOT EXISTS business_revenue (
+                revenue_id INTEGER PRIMARY KEY AUTO_INCREMENT,
+                business_id INTEGER NOT NULL,
+                revenue_type VARCHAR(50) NOT NULL,
+                amount DECIMAL(15,2) NOT NULL,
+                source VARCHAR(200),
+                generated_by VARCHAR(36),
+                timestamp BIGINT NOT NULL,
+                description TEXT,
+                metadata TEXT,
+                FOREIGN KEY (business_id) REFERENCES businesses(id) ON DELETE CASCADE
+            )
+        """;
+        
+        // Economy stats table (hourly checkpoints of money supply, faucets and sinks)
+        String economyStatsTable = isSQLite ? """
+            CREATE TABLE IF NOT EXISTS economy_stats (
+                stat_hour INTEGER NOT NULL,
+                metric TEXT NOT NULL,
+                amount REAL NOT NULL DEFAULT 0,
+                PRIMARY KEY (stat_hour, metric)
+            )
+        """ : """
+            CREATE TABLE IF NOT EXISTS economy_stats (
+                stat_hour BIGINT NOT NULL,
+                metric VARCHAR(64) NOT NULL,
+                amount DECIMAL(19,2) NOT NULL DEFAULT 0,
+                PRIMARY KEY (stat_hour, metric)
+            )
+        """;
+        
+        // Business daily rollups (per business, UTC epoch day and category; maintained on write)
+        String businessDailyStatsTable = isSQLite ? """
+            CREATE TABLE IF NOT EXISTS business_daily_stats (
+                business_id INTEGER NOT NULL,
+                stat_day INTEGER NOT NULL,
+                category TEXT NOT NULL,
+                amount REAL NOT NULL DEFAULT 0,
+                entries INTEGER NOT NULL DEFAULT 0,
+                PRIMARY KEY (business_id, stat_day, category),
+                FOREIGN KEY (business_id) REFERENCES businesses(id) ON DELETE CASCADE
+            )
+        """ : """
+            CREATE TABLE IF NOT EXISTS business_daily_stats (
+                business_id INTEGER NOT NULL,
+                stat_day INTEGER NOT NULL,
+                category VARCHAR(64) NOT NULL,
+                amount DECIMAL(19,2) NOT NULL DEFAULT 0,
+                entries INTEGER NOT NULL DEFAULT 0,
+                PRIMARY KEY (business_id, stat_day, category),
+                FOREIGN KEY (business_id) REFERENCES businesses(id) ON DELETE CASCADE
+            )
+        """;
+        
+        // Business contracts (queued in memory and written in batches by the business manager)
+        String businessContractsTable = isSQLite ? """
+            CREATE TABLE IF NOT EXISTS business_contracts (
+                contract_id INTEGER PRIMARY KEY AUTOINCREMENT,
+                business_id INTEGER NOT NULL,
+                title TEXT NOT NULL,
+                description TEXT,
+                type TEXT NOT NULL,
+                total_value REAL NOT NULL DEFAULT 0,
+                completion_bonus REAL NOT NULL DEFAULT 0,
+                required_employees INTEGER NOT NULL DEFAULT 1,
+                start_time INTEGER NOT NULL,
+                deadline INTEGER NOT NULL,
+                status TEXT NOT NULL,
+                created_by TEXT,
+                requirements TEXT,
+                client_name TEXT,
+                progress_percentage REAL NOT NULL DEFAULT 0,
+                FOREIGN KEY (business_id) REFERENCES businesses(id) ON DELETE CASCADE
+            )
+        """ : """
+            CREATE TABLE IF NOT EXISTS business_contracts (
+                contract_id INTEGER PRIMARY KEY AUTO_INCREMENT,
+                business_id INTEGER NOT NULL,
+                title VARCHAR(200) NOT NULL,
+                description TEXT,
+                type VARCHAR(50) NOT NULL,
+                total_value DECIMAL(15,2) NOT NULL DEFAULT 0,
+                completion_bonus DECIMAL(15,2) NOT NULL DEFAULT 0,
+                required_employees INTEGER NOT NULL DEFAULT 1,
+                start_time BIGINT NOT NULL,
+                deadline BIGINT NOT NULL,
+                status VARCHAR(20) NOT NULL,
+                created_by VARCHAR(36),
+                requirements TEXT,
+                client_name VARCHAR(100),
+                progress_percentage DECIMAL(5,2) NOT NULL DEFAULT 0,
+                FOREIGN KEY (business_id) REFERENCES businesses(id) ON DELETE CASCADE
+            )
+        """;
+        
+        // Stable material ids for the binary material map encoding (never reused or renumbered)
+        String materialIdsTable = isSQLite ? """
+            CREATE TABLE IF NOT EXISTS material_ids (
+                id INTEGER PRIMARY KEY,
+                name TEXT NOT NULL UNIQUE
+            )
+        """ : """
+            CREATE TABLE IF NOT EXISTS material_ids (
+                id INTEGER PRIMARY KEY,
+                name VARCHAR(64) NOT NULL UNIQUE
+            )
+        """;
+        
+        // Cross-server cache invalidation feed (see ChangeFeed); rows are pruned after a retention window
+        String changeLogTable = isSQLite ? """
+            CREATE TABLE IF NOT EXISTS change_log (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                node_id TEXT NOT NULL,
+                entity TEXT NOT NULL,
+                entity_key TEXT NOT NULL,
+                created_at INTEGER NOT NULL
+            )
+        """ : """
+            CREATE TABLE IF NOT EXISTS change_log (
+                id BIGINT PRIMARY KEY AUTO_INCREMENT,
+                node_id VARCHAR(64) NOT NULL,
+                entity VARCHAR(32) NOT NULL,
+                entity_key VARCHAR(64) NOT NULL,
+                created_at BIGINT NOT NULL
+            )
+        """;
+        
         // Market prices table
         String marketTable = isSQLite ? """
             CREATE TABLE IF NOT EXISTS market_prices (
                 id INTEGER PRIMARY KEY AUTOINCREMENT,
                 item_name TEXT NOT NULL,
                 price REAL NOT NULL,
+                base_price REAL,
                 supply INTEGER DEFAULT 0,
                 demand INTEGER DEFAULT 0,
                 updated_at DATETIME DEFAULT CURRENT_TIMESTAMP
@@ -332,6 +477,7 @@ public class DatabaseManager {
                 id INTEGER PRIMARY KEY AUTO_INCREMENT,
                 item_name VARCHAR(100) NOT NULL,
                 price DECIMAL(10,2) NOT NULL,
+                base_price DECIMAL(10,2) NULL,
                 supply INTEGER DEFAULT 0,
                 demand INTEGER DEFAULT 0,
                 updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
@@ -349,7 +495,9 @@ public class DatabaseManager {
                 payment REAL NOT NULL,
                 status TEXT DEFAULT 'OPEN',
                 created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+                submitted_at DATETIME NULL,
                 completed_at DATETIME NULL,
+                cancelled_at DATETIME NULL,
                 FOREIGN KEY (poster_uuid) REFERENCES players(uuid) ON DELETE CASCADE,
                 FOREIGN KEY (worker_uuid) REFERENCES players(uuid) ON DELETE SET NULL
             )
@@ -361,14 +509,41 @@ public class DatabaseManager {
                 poster_uuid VARCHAR(36) NOT NULL,
                 worker_uuid VARCHAR(36),
                 payment DECIMAL(10,2) NOT NULL,
-                status ENUM('OPEN', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED') DEFAULT 'OPEN',
+                status ENUM('OPEN', 'IN_PROGRESS', 'PENDING_APPROVAL', 'COMPLETED', 'CANCELLED') DEFAULT 'OPEN',
                 created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                submitted_at TIMESTAMP NULL,
                 completed_at TIMESTAMP NULL,
+                cancelled_at TIMESTAMP NULL,
                 FOREIGN KEY (poster_uuid) REFERENCES players(uuid) ON DELETE CASCADE,
                 FOREIGN KEY (worker_uuid) REFERENCES players(uuid) ON DELETE SET NULL
             )
         """;
         
+        // Escrow ledger: one row per gig holding its payment until it is released or refunded
+        String escrowAccountsTable = isSQLite ? """
+            CREATE TABLE IF NOT EXISTS escrow_accounts (
+                gig_id INTEGER PRIMARY KEY,
+                poster_uuid TEXT NOT NULL,
+                amount REAL NOT NULL,
+                state TEXT NOT NULL DEFAULT 'HELD',
+                refunded_amount REAL NULL,
+                created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+                settled_at DATETIME NULL,
+                FOREIGN KEY (gig_id) REFERENCES gigs(id) ON DELETE CASCADE
+            )
+        """ : """
+            CREATE TABLE IF NOT EXISTS escrow_accounts (
+                gig_id INTEGER PRIMARY KEY,
+                poster_uuid VARCHAR(36) NOT NULL,
+                amount DECIMAL(10,2) NOT NULL,
+                state ENUM('HELD', 'RELEASED', 'REFUNDED') NOT NULL DEFAULT 'HELD',
+                refunded_amount DECIMAL(10,2) NULL,
+                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                settled_at TIMESTAMP NULL,
+                FOREIGN KEY (gig_id) REFERENCES gigs(id) ON DELETE CASCADE
+            )
+        """;
+        
         // Execute table creation
         try (Statement stmt = connection.createStatement()) {
             stmt.execute(playersTable);
@@ -387,10 +562,19 @@ public class DatabaseManager {
             stmt.execute(employeesTable);
             stmt.execute(marketTable);
             stmt.execute(gigsTable);
+            stmt.execute(escrowAccountsTable);
             stmt.execute(employeeNotesTable);
             stmt.execute(hiringRequestsTable);
             stmt.execute(businessTransactionsTable);
             stmt.execute(employeePerformanceTable);
+            stmt.execute(businessRevenueTable);
+            stmt.execute(economyStatsTable);
+            stmt.execute(businessDailyStatsTable);
+            stmt.execute(businessContractsTable);
+            stmt.execute(materialIdsTable);
+            stmt.execute(changeLogTable);
+            backfillBusinessDailyStats(stmt, isSQLite);
+            backfillEscrowAccounts(stmt);
 
             // Safe migrations for existing databases
             try {
@@ -400,6 +584,42 @@ public class DatabaseManager {
                 stmt.execute(alterEmployeesHiredAt);
             } catch (SQLException ignore) { }
 
+            try {
+                String alterBusinessesVersion = isSQLite
+                    ? "ALTER TABLE businesses ADD COLUMN version INTEGER NOT NULL DEFAULT 0"
+                    : "ALTER TABLE businesses ADD COLUMN version BIGINT NOT NULL DEFAULT 0";
+                stmt.execute(alterBusinessesVersion);
+            } catch (SQLException ignore) { }
+
+            // Re-anchored market bases, so restore clamps against them instead of the built-in table
+            try {
+                stmt.execute(isSQLite
+                    ? "ALTER TABLE market_prices ADD COLUMN base_price REAL"
+                    : "ALTER TABLE market_prices ADD COLUMN base_price DECIMAL(10,2) NULL");
+            } catch (SQLException ignore) { }
+
+            // Gigs awaiting review: the status value and the timestamps the gig workflow writes
+            if (!isSQLite) {
+                try {
+                    stmt.execute("ALTER TABLE gigs MODIFY COLUMN status ENUM('OPEN', 'IN_PROGRESS', 'PENDING_APPROVAL', 'COMPLETED', 'CANCELLED') DEFAULT 'OPEN'");
+                } catch (SQLException ignore) { }
+            }
+            try {
+                stmt.execute(isSQLite
+                    ? "ALTER TABLE gigs ADD COLUMN submitted_at DATETIME NULL"
+                    : "ALTER TABLE gigs ADD COLUMN submitted_at TIMESTAMP NULL");
+            } catch (SQLException ignore) { }
+            try {
+                stmt.execute(isSQLite
+                    ? "ALTER TABLE gigs ADD COLUMN cancelled_at DATETIME NULL"
+                    : "ALTER TABLE gigs ADD COLUMN cancelled_at TIMESTAMP NULL");
+            } catch (SQLException ignore) { }
+            try {
+                stmt.execute(isSQLite
+                    ? "ALTER TABLE escrow_accounts ADD COLUMN refunded_amount REAL NULL"
+                    : "ALTER TABLE escrow_accounts ADD COLUMN refunded_amount DECIMAL(10,2) NULL");
+            } catch (SQLException ignore) { }
+
             try {
                 String alterHiringRequestTime = isSQLite
                     ? "ALTER TABLE hiring_requests ADD COLUMN request_time INTEGER NOT NULL DEFAULT 0"
@@ -493,6 +713,20 @@ public class DatabaseManager {
                 stmt.execute(idxTransBusinessCreated);
             } catch (SQLException ignore) { }
 
+            try {
+                String idxRevenueBusinessTime = isSQLite
+                    ? "CREATE INDEX IF NOT EXISTS idx_revenue_business_time ON business_revenue(business_id, timestamp)"
+                    : "CREATE INDEX idx_revenue_business_time ON business_revenue(business_id, timestamp)";
+                stmt.execute(idxRevenueBusinessTime);
+            } catch (SQLException ignore) { }
+
+            try {
+                String idxContractsBusiness = isSQLite
+                    ? "CREATE INDEX IF NOT EXISTS idx_business_contracts_business ON business_contracts(business_id)"
+                    : "CREATE INDEX idx_business_contracts_business ON business_contracts(business_id)";
+                stmt.execute(idxContractsBusiness);
+            } catch (SQLException ignore) { }
+
             try {
                 String idxNotesBusiness = isSQLite
                     ? "CREATE INDEX IF NOT EXISTS idx_notes_business ON employee_notes(business_id)"
@@ -507,6 +741,13 @@ public class DatabaseManager {
                 stmt.execute(idxGigsStatus);
             } catch (SQLException ignore) { }
 
+            try {
+                String idxChangeLogCreated = isSQLite
+                    ? "CREATE INDEX IF NOT EXISTS idx_change_log_created ON change_log(created_at)"
+                    : "CREATE INDEX idx_change_log_created ON change_log(created_at)";
+                stmt.execute(idxChangeLogCreated);
+            } catch (SQLException ignore) { }
+
             try {
                 String idxMarketItem = isSQLite
                     ? "CREATE INDEX IF NOT EXISTS idx_market_item ON market_prices(item_name)"
@@ -518,6 +759,45 @@ public class DatabaseManager {
         plugin.getLogger().info("Database tables created successfully!");
     }
     
+    /**
+     * Gigs that were live before the escrow ledger existed already hold their poster's money;
+     * give them a HELD row so they can be settled like new ones. Idempotent.
+     */
+    private void backfillEscrowAccounts(Statement stmt) throws SQLException {
+        stmt.executeUpdate("""
+            INSERT INTO escrow_accounts (gig_id, poster_uuid, amount, state)
+            SELECT g.id, g.poster_uuid, g.payment, 'HELD'
+            FROM gigs g
+            WHERE g.status IN ('OPEN', 'IN_PROGRESS', 'PENDING_APPROVAL')
+              AND NOT EXISTS (SELECT 1 FROM escrow_accounts e WHERE e.gig_id = g.id)
+        """);
+    }
+    
+    /**
+     * Seed business_daily_stats from existing business_revenue rows the first time the rollup
+     * table is created; afterwards every revenue write maintains it directly.
+     */
+    private void backfillBusinessDailyStats(Statement stmt, boolean isSQLite) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM business_daily_stats")) {
+            if (rs.next() && rs.getLong(1) > 0) return;
+        }
+        String backfill = isSQLite ? """
+            INSERT INTO business_daily_stats (business_id, stat_day, category, amount, entries)
+            SELECT business_id, timestamp / 86400000, 'revenue.' || revenue_type, SUM(amount), COUNT(*)
+            FROM business_revenue
+            GROUP BY business_id, timestamp / 86400000, revenue_type
+        """ : """
+            INSERT INTO business_daily_stats (business_id, stat_day, category, amount, entries)
+            SELECT business_id, timestamp DIV 86400000, CONCAT('revenue.', revenue_type), SUM(amount), COUNT(*)
+            FROM business_revenue
+            GROUP BY business_id, timestamp DIV 86400000, revenue_type
+        """;
+        int rows = stmt.executeUpdate(backfill);
+        if (rows > 0) {
+            plugin.getLogger().info("Backfilled " + rows + " business daily stat rows from revenue history");
+        }
+    }
+    
     public Connection getConnection() {
         // Try to get connection from pool first
         Connection conn = connectionPool.poll();
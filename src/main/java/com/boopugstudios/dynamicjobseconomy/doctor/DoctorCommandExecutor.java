@@ -1,6 +1,10 @@
 package com.boopugstudios.dynamicjobseconomy.doctor;
 
 import com.boopugstudios.dynamicjobseconomy.DynamicJobsEconomy;
+import com.boopugstudios.dynamicjobseconomy.business.BusinessStaffCache;
+import com.boopugstudios.dynamicjobseconomy.business.ConsolidatedBusinessManager;
+import com.boopugstudios.dynamicjobseconomy.economy.EconomyStats;
+import com.boopugstudios.dynamicjobseconomy.util.EconomyFormat;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 
@@ -127,6 +131,50 @@ public class DoctorCommandExecutor {
             sender.sendMessage(msg(vaultPref ? "admin.doctor.economy.internal_preferred" : "admin.doctor.economy.internal", null, def));
         }
 
+        // Economy health from the in-memory aggregator (no players table scan)
+        try {
+            EconomyStats stats = plugin.getEconomyManager() != null ? plugin.getEconomyManager().getStats() : null;
+            if (stats != null) {
+                EconomyStats.Snapshot snap = stats.snapshot();
+                if (!vaultEnabled) {
+                    if (snap.supplySeeded) {
+                        ph = new HashMap<>();
+                        ph.put("supply", EconomyFormat.money(snap.moneySupply));
+                        ph.put("accounts", String.valueOf(plugin.getEconomyManager().getLeaderboard().size()));
+                        sender.sendMessage(msg("admin.doctor.economy.supply", ph, "§7Money supply: §f%supply% §8(%accounts% accounts)"));
+                    } else {
+                        sender.sendMessage(msg("admin.doctor.economy.supply_pending", null, "§7Money supply: §estill indexing accounts..."));
+                    }
+                }
+                ph = new HashMap<>();
+                ph.put("faucets", EconomyFormat.money(snap.faucetsThisHour()));
+                ph.put("sinks", EconomyFormat.money(snap.sinksThisHour()));
+                ph.put("other", EconomyFormat.money(snap.supplySeeded ? snap.unattributedThisHour() : 0.0));
+                sender.sendMessage(msg("admin.doctor.economy.flows_hour", ph, "§7This hour: §a+%faucets% §7faucets, §c-%sinks% §7sinks, §f%other% §7other"));
+                ph = new HashMap<>();
+                ph.put("faucets", EconomyFormat.money(snap.faucetsLastHour()));
+                ph.put("sinks", EconomyFormat.money(snap.sinksLastHour()));
+                sender.sendMessage(msg("admin.doctor.economy.flows_last_hour", ph, "§7Last hour: §a+%faucets% §7faucets, §c-%sinks% §7sinks"));
+            }
+        } catch (Throwable ignored) {}
+
+        // Business staff cache effectiveness
+        try {
+            ConsolidatedBusinessManager cbm = plugin.getConsolidatedBusinessManager();
+            BusinessStaffCache cache = cbm != null ? cbm.getStaffCache() : null;
+            if (cache != null) {
+                long hits = cache.getHits();
+                long lookups = hits + cache.getMisses();
+                ph = new HashMap<>();
+                ph.put("businesses", String.valueOf(cache.size()));
+                ph.put("hits", String.valueOf(hits));
+                ph.put("misses", String.valueOf(cache.getMisses()));
+                ph.put("rate", lookups > 0 ? String.format("%.1f%%", hits * 100.0 / lookups) : "n/a");
+                ph.put("evictions", String.valueOf(cache.getEvictions()));
+                sender.sendMessage(msg("admin.doctor.business.staff_cache", ph, "§7Staff cache: §f%businesses% §7businesses, §f%rate% §7hit rate §8(%hits% hits, %misses% misses, %evictions% evicted)"));
+            }
+        } catch (Throwable ignored) {}
+
         // Managers presence
         boolean ok = true;
         if (plugin.getEconomyManager() == null) { ph = new HashMap<>(); ph.put("name", "EconomyManager"); sender.sendMessage(msg("admin.doctor.manager_missing", ph, "§7%name%: §cMISSING")); ok = false; }
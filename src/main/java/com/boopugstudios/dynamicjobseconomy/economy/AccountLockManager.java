@@ -0,0 +1,86 @@
+package com.boopugstudios.dynamicjobseconomy.economy;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped locks keyed by account UUID for the internal economy.
+ *
+ * Each account maps to one of a fixed number of stripes, so unrelated accounts rarely contend
+ * while read-modify-write on the same account is serialized. Multi-account operations always
+ * acquire stripes in ascending index order, which rules out lock-ordering deadlocks.
+ */
+public class AccountLockManager {
+
+    private static final int DEFAULT_STRIPES = 64;
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public AccountLockManager() {
+        this(DEFAULT_STRIPES);
+    }
+
+    public AccountLockManager(int stripeCount) {
+        int size = 1;
+        while (size < Math.max(1, stripeCount)) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Run the action while holding the stripe for a single account.
+     */
+    public <T> T withLock(UUID account, Supplier<T> action) {
+        ReentrantLock lock = stripes[stripeIndex(account)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Run the action while holding the stripes for every given account.
+     * Stripes are de-duplicated and acquired in ascending order.
+     */
+    public <T> T withLocks(Collection<UUID> accounts, Supplier<T> action) {
+        boolean[] needed = new boolean[stripes.length];
+        for (UUID account : accounts) {
+            if (account != null) needed[stripeIndex(account)] = true;
+        }
+        int acquired = 0;
+        int[] order = new int[stripes.length];
+        try {
+            for (int i = 0; i < needed.length; i++) {
+                if (needed[i]) {
+                    stripes[i].lock();
+                    order[acquired++] = i;
+                }
+            }
+            return action.get();
+        } finally {
+            for (int k = acquired - 1; k >= 0; k--) {
+                stripes[order[k]].unlock();
+            }
+        }
+    }
+
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    int stripeIndex(UUID account) {
+        int h = account.hashCode();
+        h ^= (h >>> 16);
+        return h & mask;
+    }
+}
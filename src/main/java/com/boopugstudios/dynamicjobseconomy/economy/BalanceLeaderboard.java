@@ -0,0 +1,289 @@
+package com.boopugstudios.dynamicjobseconomy.economy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory ranked index of internal-economy balances backing /baltop.
+ *
+ * Balances are kept in a treap ordered by (balance descending, UUID ascending) where every node
+ * tracks its subtree size. That gives O(log n) expected time for updates, rank-of-player and
+ * locating the start of a page, with no database access after the initial seed.
+ */
+public class BalanceLeaderboard {
+
+    /**
+     * A single leaderboard row.
+     */
+    public static final class Entry {
+        public final int rank;
+        public final UUID id;
+        public final String name;
+        public final double balance;
+
+        Entry(int rank, UUID id, String name, double balance) {
+            this.rank = rank;
+            this.id = id;
+            this.name = name;
+            this.balance = balance;
+        }
+    }
+
+    private static final class Node {
+        final UUID id;
+        final double balance;
+        final int priority;
+        int size = 1;
+        Node left;
+        Node right;
+
+        Node(UUID id, double balance, int priority) {
+            this.id = id;
+            this.balance = balance;
+            this.priority = priority;
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Node> nodes = new HashMap<>();
+    private final Map<UUID, String> names = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    /**
+     * Record the current balance of an account, replacing any previous value.
+     *
+     * @return the previously indexed balance, or NaN when the account was not indexed
+     */
+    public double update(UUID id, String name, double balance) {
+        lock.writeLock().lock();
+        try {
+            Node existing = nodes.get(id);
+            double previous = existing != null ? existing.balance : Double.NaN;
+            put(id, name, balance);
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Insert an account only if it is not indexed yet. Used while seeding so that a stale
+     * row read from the database never overwrites a fresher update made in the meantime.
+     *
+     * @return true when the account was added
+     */
+    public boolean seed(UUID id, String name, double balance) {
+        lock.writeLock().lock();
+        try {
+            if (nodes.containsKey(id)) return false;
+            put(id, name, balance);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            Node existing = nodes.remove(id);
+            names.remove(id);
+            if (existing != null) {
+                root = erase(root, existing.balance, existing.id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            nodes.clear();
+            names.clear();
+            root = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 1-based rank of the account, or -1 when it is not indexed.
+     */
+    public int getRank(UUID id) {
+        lock.readLock().lock();
+        try {
+            Node target = nodes.get(id);
+            if (target == null) return -1;
+            int rank = 0;
+            Node t = root;
+            while (t != null) {
+                int c = compare(target.balance, target.id, t.balance, t.id);
+                if (c < 0) {
+                    t = t.left;
+                } else if (c == 0) {
+                    return rank + size(t.left) + 1;
+                } else {
+                    rank += size(t.left) + 1;
+                    t = t.right;
+                }
+            }
+            return -1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexed balance of the account, or null when it is not indexed.
+     */
+    public Double getBalance(UUID id) {
+        lock.readLock().lock();
+        try {
+            Node n = nodes.get(id);
+            return n != null ? n.balance : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} entries starting at the 0-based {@code offset}, highest balance first.
+     */
+    public List<Entry> getRange(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Entry> out = new ArrayList<>(Math.max(0, Math.min(limit, nodes.size())));
+            if (offset < 0 || limit <= 0 || offset >= nodes.size()) return out;
+            // Walk down to the offset-th node, remembering the ancestors still to visit in order
+            List<Node> stack = new ArrayList<>();
+            Node t = root;
+            int k = offset;
+            while (t != null) {
+                int leftSize = size(t.left);
+                if (k < leftSize) {
+                    stack.add(t);
+                    t = t.left;
+                } else if (k == leftSize) {
+                    stack.add(t);
+                    break;
+                } else {
+                    k -= leftSize + 1;
+                    t = t.right;
+                }
+            }
+            int rank = offset + 1;
+            while (!stack.isEmpty() && out.size() < limit) {
+                Node n = stack.remove(stack.size() - 1);
+                out.add(new Entry(rank++, n.id, names.get(n.id), n.balance));
+                for (Node c = n.right; c != null; c = c.left) {
+                    stack.add(c);
+                }
+            }
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // --- treap internals (callers hold the write lock) ---
+
+    private void put(UUID id, String name, double balance) {
+        if (name != null) names.put(id, name);
+        Node existing = nodes.get(id);
+        if (existing != null) {
+            if (existing.balance == balance) return;
+            root = erase(root, existing.balance, existing.id);
+        }
+        Node node = new Node(id, balance, random.nextInt());
+        nodes.put(id, node);
+        root = insert(root, node);
+    }
+
+    private static Node insert(Node t, Node n) {
+        if (t == null) return n;
+        if (n.priority > t.priority) {
+            Node[] parts = split(t, n.balance, n.id);
+            n.left = parts[0];
+            n.right = parts[1];
+            recompute(n);
+            return n;
+        }
+        if (compare(n.balance, n.id, t.balance, t.id) < 0) {
+            t.left = insert(t.left, n);
+        } else {
+            t.right = insert(t.right, n);
+        }
+        recompute(t);
+        return t;
+    }
+
+    private static Node erase(Node t, double balance, UUID id) {
+        if (t == null) return null;
+        int c = compare(balance, id, t.balance, t.id);
+        if (c == 0) return merge(t.left, t.right);
+        if (c < 0) {
+            t.left = erase(t.left, balance, id);
+        } else {
+            t.right = erase(t.right, balance, id);
+        }
+        recompute(t);
+        return t;
+    }
+
+    /** Split into nodes ordered before the key and nodes at or after it. */
+    private static Node[] split(Node t, double balance, UUID id) {
+        if (t == null) return new Node[]{null, null};
+        if (compare(t.balance, t.id, balance, id) < 0) {
+            Node[] parts = split(t.right, balance, id);
+            t.right = parts[0];
+            recompute(t);
+            return new Node[]{t, parts[1]};
+        }
+        Node[] parts = split(t.left, balance, id);
+        t.left = parts[1];
+        recompute(t);
+        return new Node[]{parts[0], t};
+    }
+
+    private static Node merge(Node a, Node b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            recompute(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        recompute(b);
+        return b;
+    }
+
+    private static void recompute(Node n) {
+        n.size = 1 + size(n.left) + size(n.right);
+    }
+
+    private static int size(Node n) {
+        return n == null ? 0 : n.size;
+    }
+
+    private static int compare(double balanceA, UUID idA, double balanceB, UUID idB) {
+        int c = Double.compare(balanceB, balanceA);
+        return c != 0 ? c : idA.compareTo(idB);
+    }
+}
@@ -0,0 +1,137 @@
+package com.boopugstudios.dynamicjobseconomy.economy;
+
+import org.bukkit.OfflinePlayer;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A set of balance changes applied together through {@link EconomyManager#executeBatch(BatchTransfer)}.
+ *
+ * Each entry is an (account, delta) pair; positive deltas credit, negative deltas debit. Entries are
+ * validated and applied in insertion order, so several entries for the same account see each other's
+ * effects. With the internal economy all accepted entries are written in one transaction using JDBC
+ * batches; with Vault the entries fall back to one provider call each.
+ */
+public class BatchTransfer {
+
+    public enum Status {
+        /** Change was written. */
+        APPLIED,
+        /** Entry was malformed (no account, zero or non-finite delta). */
+        INVALID,
+        /** Debit would have taken the account below zero. */
+        INSUFFICIENT_FUNDS,
+        /** Credit would have pushed the account above economy.max_money. */
+        MAX_BALANCE_EXCEEDED,
+        /** Entry was valid but the write failed. */
+        FAILED,
+        /** Entry was valid but not written because the batch was all-or-nothing and another entry was rejected. */
+        ROLLED_BACK
+    }
+
+    public static final class Entry {
+        public final OfflinePlayer account;
+        public final double delta;
+
+        Entry(OfflinePlayer account, double delta) {
+            this.account = account;
+            this.delta = delta;
+        }
+    }
+
+    public static final class EntryResult {
+        public final Entry entry;
+        public final Status status;
+        /** Balance after this entry was applied, or NaN when it was not applied. */
+        public final double balanceAfter;
+
+        EntryResult(Entry entry, Status status, double balanceAfter) {
+            this.entry = entry;
+            this.status = status;
+            this.balanceAfter = balanceAfter;
+        }
+
+        public boolean isApplied() {
+            return status == Status.APPLIED;
+        }
+    }
+
+    public static final class Result {
+        private final List<EntryResult> results;
+        private final boolean committed;
+
+        Result(List<EntryResult> results, boolean committed) {
+            this.results = Collections.unmodifiableList(results);
+            this.committed = committed;
+        }
+
+        /** Per-entry outcomes, in the same order the entries were added. */
+        public List<EntryResult> getResults() {
+            return results;
+        }
+
+        /** True when the batch (and any transaction hook) was committed. */
+        public boolean isCommitted() {
+            return committed;
+        }
+
+        public int getAppliedCount() {
+            int n = 0;
+            for (EntryResult r : results) {
+                if (r.isApplied()) n++;
+            }
+            return n;
+        }
+    }
+
+    /**
+     * Extra work that must commit or roll back together with the batch, such as debiting the
+     * business that funds a payroll. Return false to roll the whole batch back.
+     * With Vault the hook runs in its own transaction after the provider calls, and the
+     * provider calls are reversed if it fails.
+     */
+    @FunctionalInterface
+    public interface TransactionHook {
+        boolean run(Connection conn) throws SQLException;
+    }
+
+    private final List<Entry> entries = new ArrayList<>();
+    private boolean allOrNothing;
+
+    public BatchTransfer add(OfflinePlayer account, double delta) {
+        entries.add(new Entry(account, delta));
+        return this;
+    }
+
+    /**
+     * When set, any rejected entry causes the whole batch to be skipped.
+     */
+    public BatchTransfer allOrNothing() {
+        this.allOrNothing = true;
+        return this;
+    }
+
+    public boolean isAllOrNothing() {
+        return allOrNothing;
+    }
+
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    static boolean isValid(Entry entry) {
+        return entry.account != null && entry.delta != 0 && Double.isFinite(entry.delta);
+    }
+}
@@ -10,6 +10,13 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.logging.Level;
 
 public class EconomyManager {
@@ -17,6 +24,12 @@ public class EconomyManager {
     private final DynamicJobsEconomy plugin;
     private Economy vaultEconomy;
     private boolean useVault;
+    // Serializes internal read-modify-write per account; async payroll, gig timeouts and job payouts can interleave
+    private final AccountLockManager accountLocks = new AccountLockManager();
+    // Ranked balances for /baltop; seeded once at startup, then kept current by every internal write
+    private final BalanceLeaderboard leaderboard = new BalanceLeaderboard();
+    // Money supply and hourly faucet/sink totals, fed from the same write path as the leaderboard
+    private final EconomyStats stats = new EconomyStats();
     
     public EconomyManager(DynamicJobsEconomy plugin) {
         this.plugin = plugin;
@@ -57,7 +70,10 @@ public class EconomyManager {
             return vaultEconomy.depositPlayer(player, amount).transactionSuccess();
         }
         
-        return setInternalBalance(player, getInternalBalance(player) + amount);
+        return accountLocks.withLock(player.getUniqueId(), () -> {
+            double next = getInternalBalance(player) + amount;
+            return !exceedsMaxMoney(next) && setInternalBalance(player, next);
+        });
     }
     
     public boolean depositPlayer(OfflinePlayer player, double amount) {
@@ -66,7 +82,28 @@ public class EconomyManager {
         }
         
         // For offline players, we need to work directly with the database
-        return setInternalBalanceOffline(player, getInternalBalanceOffline(player) + amount);
+        return accountLocks.withLock(player.getUniqueId(), () -> {
+            double next = getInternalBalanceOffline(player) + amount;
+            return !exceedsMaxMoney(next) && setInternalBalanceOffline(player, next);
+        });
+    }
+    
+    /**
+     * Credits that would leave an account above economy.max_money are refused everywhere
+     * (deposits, transfers, batches, bulk admin gives) rather than clamped, so no money is
+     * silently destroyed.
+     */
+    private boolean exceedsMaxMoney(double balance) {
+        return balance > plugin.getConfig().getDouble("economy.max_money", 10000000.0);
+    }
+    
+    /**
+     * Deposit and record the amount as an economy faucet or sink (e.g. a job payout).
+     */
+    public boolean deposit(Player player, double amount, EconomyStats.Flow flow) {
+        boolean ok = deposit(player, amount);
+        if (ok) stats.record(flow, amount);
+        return ok;
     }
     
     public double getBalance(OfflinePlayer player) {
@@ -82,11 +119,13 @@ public class EconomyManager {
             return vaultEconomy.withdrawPlayer(player, amount).transactionSuccess();
         }
         
-        double currentBalance = getInternalBalanceOffline(player);
-        if (currentBalance >= amount) {
-            return setInternalBalanceOffline(player, currentBalance - amount);
-        }
-        return false;
+        return accountLocks.withLock(player.getUniqueId(), () -> {
+            double currentBalance = getInternalBalanceOffline(player);
+            if (currentBalance >= amount) {
+                return setInternalBalanceOffline(player, currentBalance - amount);
+            }
+            return false;
+        });
     }
     
     public boolean withdraw(Player player, double amount) {
@@ -94,17 +133,471 @@ public class EconomyManager {
             return vaultEconomy.withdrawPlayer(player, amount).transactionSuccess();
         }
         
-        double currentBalance = getInternalBalance(player);
-        if (currentBalance >= amount) {
-            return setInternalBalance(player, currentBalance - amount);
-        }
-        return false;
+        return accountLocks.withLock(player.getUniqueId(), () -> {
+            double currentBalance = getInternalBalance(player);
+            if (currentBalance >= amount) {
+                return setInternalBalance(player, currentBalance - amount);
+            }
+            return false;
+        });
     }
     
     public boolean has(Player player, double amount) {
         return getBalance(player) >= amount;
     }
     
+    /**
+     * Atomically move money between two accounts.
+     * With the internal economy both account stripes are locked (in a fixed order) and both rows are
+     * written in one transaction. Transfers that would push the recipient past economy.max_money are
+     * rejected rather than silently clamped. With Vault, the withdrawal is rolled back by re-depositing
+     * if the deposit fails.
+     */
+    public boolean transfer(OfflinePlayer from, OfflinePlayer to, double amount) {
+        if (amount <= 0 || from.getUniqueId().equals(to.getUniqueId())) {
+            return false;
+        }
+        
+        if (useVault && vaultEconomy != null) {
+            if (!vaultEconomy.has(from, amount)) return false;
+            if (!vaultEconomy.withdrawPlayer(from, amount).transactionSuccess()) return false;
+            if (vaultEconomy.depositPlayer(to, amount).transactionSuccess()) return true;
+            vaultEconomy.depositPlayer(from, amount);
+            return false;
+        }
+        
+        return accountLocks.withLocks(Arrays.asList(from.getUniqueId(), to.getUniqueId()), () -> {
+            double fromBalance = getInternalBalanceOffline(from);
+            if (fromBalance < amount) return false;
+            double toBalance = getInternalBalanceOffline(to);
+            if (exceedsMaxMoney(toBalance + amount)) return false;
+            
+            Connection conn = null;
+            try {
+                conn = plugin.getDatabaseManager().getConnection();
+                conn.setAutoCommit(false);
+                boolean ok = upsertBalance(conn, from, fromBalance - amount)
+                    && upsertBalance(conn, to, toBalance + amount);
+                if (ok) {
+                    conn.commit();
+                    onBalanceWritten(from.getUniqueId(), from.getName(), fromBalance - amount);
+                    onBalanceWritten(to.getUniqueId(), to.getName(), toBalance + amount);
+                } else {
+                    conn.rollback();
+                }
+                return ok;
+            } catch (SQLException e) {
+                plugin.getLogger().log(Level.SEVERE, "Error transferring " + amount + " from " + from.getUniqueId() + " to " + to.getUniqueId(), e);
+                if (conn != null) {
+                    try {
+                        conn.rollback();
+                    } catch (SQLException rollbackEx) {
+                        plugin.getLogger().log(Level.SEVERE, "Failed to rollback transfer", rollbackEx);
+                    }
+                }
+                return false;
+            } finally {
+                if (conn != null) {
+                    try {
+                        conn.setAutoCommit(true);
+                        conn.close();
+                    } catch (SQLException e) {
+                        plugin.getLogger().log(Level.SEVERE, "Failed to close transfer database connection", e);
+                    }
+                }
+            }
+        });
+    }
+    
+    /**
+     * Striped per-account locks guarding internal balance updates. Other economy code that
+     * writes the players table directly should hold the relevant stripes as well.
+     */
+    public AccountLockManager getAccountLocks() {
+        return accountLocks;
+    }
+    
+    public BalanceLeaderboard getLeaderboard() {
+        return leaderboard;
+    }
+    
+    public EconomyStats getStats() {
+        return stats;
+    }
+    
+    /**
+     * Persist the current (and most recently closed) hour of economy stats to economy_stats so
+     * dashboards can chart supply, faucets and sinks without touching the players table.
+     */
+    public void checkpointStats() {
+        EconomyStats.Snapshot snap = stats.snapshot();
+        boolean isSQLite = "sqlite".equalsIgnoreCase(plugin.getDatabaseManager().getDatabaseType());
+        String sql = isSQLite
+            ? """
+                INSERT INTO economy_stats (stat_hour, metric, amount) VALUES (?, ?, ?)
+                ON CONFLICT(stat_hour, metric) DO UPDATE SET amount = excluded.amount
+            """
+            : """
+                INSERT INTO economy_stats (stat_hour, metric, amount) VALUES (?, ?, ?)
+                ON DUPLICATE KEY UPDATE amount = VALUES(amount)
+            """;
+        try (Connection conn = plugin.getDatabaseManager().getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            if (snap.getPreviousHourStart() >= 0) {
+                for (EconomyStats.Flow flow : EconomyStats.Flow.values()) {
+                    addStatRow(stmt, snap.getPreviousHourStart(), flow.metricName(), snap.previousHour(flow));
+                }
+            }
+            if (snap.supplySeeded) {
+                addStatRow(stmt, snap.hourStart, "supply", snap.moneySupply);
+                addStatRow(stmt, snap.hourStart, "supply.open", snap.supplyAtHourStart);
+            }
+            for (EconomyStats.Flow flow : EconomyStats.Flow.values()) {
+                addStatRow(stmt, snap.hourStart, flow.metricName(), snap.currentHour(flow));
+            }
+            stmt.executeBatch();
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error checkpointing economy stats", e);
+        }
+    }
+    
+    private static void addStatRow(PreparedStatement stmt, long hour, String metric, double amount) throws SQLException {
+        stmt.setLong(1, hour);
+        stmt.setString(2, metric);
+        stmt.setDouble(3, amount);
+        stmt.addBatch();
+    }
+    
+    /**
+     * Populate the leaderboard from the players table with a single forward-only streaming read.
+     * Safe to run asynchronously while the server is live: rows only fill accounts that have not
+     * already been updated since startup.
+     */
+    public void seedLeaderboard() {
+        if (isVaultEnabled()) return;
+        boolean isMySQL = "mysql".equalsIgnoreCase(plugin.getDatabaseManager().getDatabaseType());
+        int count = 0;
+        try (Connection conn = plugin.getDatabaseManager().getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT uuid, username, money FROM players",
+                 ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            // Connector/J only streams rows (instead of buffering the whole table) with this sentinel
+            stmt.setFetchSize(isMySQL ? Integer.MIN_VALUE : 1000);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    try {
+                        onAccountIndexed(UUID.fromString(rs.getString("uuid")), rs.getString("username"), rs.getDouble("money"));
+                        count++;
+                    } catch (IllegalArgumentException ignored) {
+                        // malformed uuid row; skip
+                    }
+                }
+            }
+            stats.markSupplySeeded();
+            plugin.getLogger().info("Balance leaderboard seeded with " + count + " accounts");
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error seeding balance leaderboard", e);
+        }
+    }
+    
+    /**
+     * Re-read the given accounts into the leaderboard after writes made outside EconomyManager
+     * (e.g. bulk admin SQL updates whose resulting balances are only known to the database).
+     */
+    public void refreshLeaderboard(java.util.Collection<UUID> ids) {
+        if (isVaultEnabled() || ids.isEmpty()) return;
+        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+            for (Map.Entry<UUID, Double> e : loadBalances(conn, ids).entrySet()) {
+                onBalanceWritten(e.getKey(), null, e.getValue());
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error refreshing balance leaderboard", e);
+        }
+    }
+    
+    /**
+     * Single funnel for committed internal balance writes, keeping the leaderboard and money supply current.
+     */
+    private void onBalanceWritten(UUID id, String name, double balance) {
+        double previous = leaderboard.update(id, name, balance);
+        stats.adjustSupply(Double.isNaN(previous) ? balance : balance - previous);
+    }
+    
+    /**
+     * Index an account read from (or just inserted into) the players table, unless a write
+     * has already indexed it.
+     */
+    private void onAccountIndexed(UUID id, String name, double balance) {
+        if (leaderboard.seed(id, name, balance)) {
+            stats.adjustSupply(balance);
+        }
+    }
+    
+    public BatchTransfer.Result executeBatch(BatchTransfer batch) {
+        return executeBatch(batch, null);
+    }
+    
+    /**
+     * Apply every entry of the batch, returning per-entry results.
+     * With the internal economy all touched accounts are locked, balances are read in one pass,
+     * validated in memory and written back with batched statements in a single transaction
+     * together with the optional hook. With Vault each entry is a provider call.
+     */
+    public BatchTransfer.Result executeBatch(BatchTransfer batch, BatchTransfer.TransactionHook hook) {
+        if (useVault && vaultEconomy != null) {
+            return executeBatchViaVault(batch, hook);
+        }
+        List<UUID> ids = new ArrayList<>(batch.size());
+        for (BatchTransfer.Entry entry : batch.getEntries()) {
+            if (entry.account != null) ids.add(entry.account.getUniqueId());
+        }
+        return accountLocks.withLocks(ids, () -> executeBatchInternal(batch, hook));
+    }
+    
+    private BatchTransfer.Result executeBatchInternal(BatchTransfer batch, BatchTransfer.TransactionHook hook) {
+        List<BatchTransfer.Entry> entries = batch.getEntries();
+        BatchTransfer.Status[] statuses = new BatchTransfer.Status[entries.size()];
+        double[] after = new double[entries.size()];
+        double startingMoney = plugin.getConfig().getDouble("economy.starting_money", 1000.0);
+        
+        Connection conn = null;
+        try {
+            conn = plugin.getDatabaseManager().getConnection();
+            conn.setAutoCommit(false);
+            
+            Map<UUID, OfflinePlayer> accounts = new LinkedHashMap<>();
+            for (BatchTransfer.Entry entry : entries) {
+                if (BatchTransfer.isValid(entry)) accounts.put(entry.account.getUniqueId(), entry.account);
+            }
+            Map<UUID, Double> existing = loadBalances(conn, accounts.keySet());
+            Map<UUID, Double> working = new HashMap<>(existing);
+            
+            boolean rejected = false;
+            for (int i = 0; i < entries.size(); i++) {
+                BatchTransfer.Entry entry = entries.get(i);
+                after[i] = Double.NaN;
+                if (!BatchTransfer.isValid(entry)) {
+                    statuses[i] = BatchTransfer.Status.INVALID;
+                    rejected = true;
+                    continue;
+                }
+                UUID id = entry.account.getUniqueId();
+                double balance = working.getOrDefault(id, startingMoney);
+                double next = balance + entry.delta;
+                if (next < 0) {
+                    statuses[i] = BatchTransfer.Status.INSUFFICIENT_FUNDS;
+                    rejected = true;
+                    continue;
+                }
+                if (entry.delta > 0 && exceedsMaxMoney(next)) {
+                    // Refuse the credit rather than clamp it and destroy the excess
+                    statuses[i] = BatchTransfer.Status.MAX_BALANCE_EXCEEDED;
+                    rejected = true;
+                    continue;
+                }
+                working.put(id, next);
+                statuses[i] = BatchTransfer.Status.APPLIED;
+                after[i] = next;
+            }
+            
+            if (rejected && batch.isAllOrNothing()) {
+                conn.rollback();
+                return buildBatchResult(entries, statuses, after, BatchTransfer.Status.ROLLED_BACK, false);
+            }
+            
+            boolean isSQLite = "sqlite".equalsIgnoreCase(plugin.getDatabaseManager().getDatabaseType());
+            String insertSql = isSQLite
+                ? "INSERT OR IGNORE INTO players (uuid, username, money) VALUES (?, ?, ?)"
+                : "INSERT IGNORE INTO players (uuid, username, money) VALUES (?, ?, ?)";
+            String updateSql = "UPDATE players SET money = ?, last_seen = CURRENT_TIMESTAMP WHERE uuid = ?";
+            try (PreparedStatement insert = conn.prepareStatement(insertSql);
+                 PreparedStatement update = conn.prepareStatement(updateSql)) {
+                boolean hasInserts = false;
+                boolean hasUpdates = false;
+                for (Map.Entry<UUID, Double> e : working.entrySet()) {
+                    UUID id = e.getKey();
+                    if (!existing.containsKey(id)) {
+                        OfflinePlayer account = accounts.get(id);
+                        insert.setString(1, id.toString());
+                        insert.setString(2, account.getName() != null ? account.getName() : "Unknown");
+                        insert.setDouble(3, e.getValue());
+                        insert.addBatch();
+                        hasInserts = true;
+                    } else if (e.getValue().doubleValue() != existing.get(id).doubleValue()) {
+                        update.setDouble(1, e.getValue());
+                        update.setString(2, id.toString());
+                        update.addBatch();
+                        hasUpdates = true;
+                    }
+                }
+                if (hasInserts) insert.executeBatch();
+                if (hasUpdates) update.executeBatch();
+            }
+            
+            if (hook != null && !hook.run(conn)) {
+                conn.rollback();
+                return buildBatchResult(entries, statuses, after, BatchTransfer.Status.ROLLED_BACK, false);
+            }
+            conn.commit();
+            for (Map.Entry<UUID, Double> e : working.entrySet()) {
+                OfflinePlayer account = accounts.get(e.getKey());
+                onBalanceWritten(e.getKey(), account != null ? account.getName() : null, e.getValue());
+            }
+            return buildBatchResult(entries, statuses, after, null, true);
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error applying batch transfer of " + entries.size() + " entries", e);
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackEx) {
+                    plugin.getLogger().log(Level.SEVERE, "Failed to rollback batch transfer", rollbackEx);
+                }
+            }
+            return buildBatchResult(entries, statuses, after, BatchTransfer.Status.FAILED, false);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                    conn.close();
+                } catch (SQLException e) {
+                    plugin.getLogger().log(Level.SEVERE, "Failed to close batch transfer database connection", e);
+                }
+            }
+        }
+    }
+    
+    private Map<UUID, Double> loadBalances(Connection conn, java.util.Collection<UUID> ids) throws SQLException {
+        Map<UUID, Double> balances = new HashMap<>();
+        List<UUID> all = new ArrayList<>(ids);
+        final int chunk = 500;
+        for (int from = 0; from < all.size(); from += chunk) {
+            List<UUID> part = all.subList(from, Math.min(all.size(), from + chunk));
+            StringBuilder sql = new StringBuilder("SELECT uuid, money FROM players WHERE uuid IN (");
+            for (int i = 0; i < part.size(); i++) {
+                sql.append(i == 0 ? "?" : ",?");
+            }
+            sql.append(')');
+            try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+                for (int i = 0; i < part.size(); i++) {
+                    stmt.setString(i + 1, part.get(i).toString());
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        balances.put(UUID.fromString(rs.getString("uuid")), rs.getDouble("money"));
+                    }
+                }
+            }
+        }
+        return balances;
+    }
+    
+    private BatchTransfer.Result executeBatchViaVault(BatchTransfer batch, BatchTransfer.TransactionHook hook) {
+        List<BatchTransfer.Entry> entries = batch.getEntries();
+        BatchTransfer.Status[] statuses = new BatchTransfer.Status[entries.size()];
+        double[] after = new double[entries.size()];
+        boolean rejected = false;
+        
+        for (int i = 0; i < entries.size(); i++) {
+            BatchTransfer.Entry entry = entries.get(i);
+            after[i] = Double.NaN;
+            if (!BatchTransfer.isValid(entry)) {
+                statuses[i] = BatchTransfer.Status.INVALID;
+                rejected = true;
+                continue;
+            }
+            boolean ok;
+            if (entry.delta > 0) {
+                ok = vaultEconomy.depositPlayer(entry.account, entry.delta).transactionSuccess();
+                statuses[i] = ok ? BatchTransfer.Status.APPLIED : BatchTransfer.Status.FAILED;
+            } else if (!vaultEconomy.has(entry.account, -entry.delta)) {
+                ok = false;
+                statuses[i] = BatchTransfer.Status.INSUFFICIENT_FUNDS;
+            } else {
+                ok = vaultEconomy.withdrawPlayer(entry.account, -entry.delta).transactionSuccess();
+                statuses[i] = ok ? BatchTransfer.Status.APPLIED : BatchTransfer.Status.FAILED;
+            }
+            if (ok) {
+                after[i] = vaultEconomy.getBalance(entry.account);
+            } else {
+                rejected = true;
+                if (batch.isAllOrNothing()) break;
+            }
+        }
+        
+        boolean commit = !(rejected && batch.isAllOrNothing());
+        if (commit && hook != null) {
+            commit = runHookInOwnTransaction(hook);
+        }
+        if (!commit) {
+            reverseVaultEntries(entries, statuses);
+            return buildBatchResult(entries, statuses, after, BatchTransfer.Status.ROLLED_BACK, false);
+        }
+        return buildBatchResult(entries, statuses, after, null, true);
+    }
+    
+    private boolean runHookInOwnTransaction(BatchTransfer.TransactionHook hook) {
+        Connection conn = null;
+        try {
+            conn = plugin.getDatabaseManager().getConnection();
+            conn.setAutoCommit(false);
+            if (hook.run(conn)) {
+                conn.commit();
+                return true;
+            }
+            conn.rollback();
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error running batch transfer hook", e);
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackEx) {
+                    plugin.getLogger().log(Level.SEVERE, "Failed to rollback batch transfer hook", rollbackEx);
+                }
+            }
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                    conn.close();
+                } catch (SQLException e) {
+                    plugin.getLogger().log(Level.SEVERE, "Failed to close batch transfer hook connection", e);
+                }
+            }
+        }
+        return false;
+    }
+    
+    private void reverseVaultEntries(List<BatchTransfer.Entry> entries, BatchTransfer.Status[] statuses) {
+        for (int i = 0; i < entries.size(); i++) {
+            if (statuses[i] != BatchTransfer.Status.APPLIED) continue;
+            BatchTransfer.Entry entry = entries.get(i);
+            boolean reversed = entry.delta > 0
+                ? vaultEconomy.withdrawPlayer(entry.account, entry.delta).transactionSuccess()
+                : vaultEconomy.depositPlayer(entry.account, -entry.delta).transactionSuccess();
+            if (!reversed) {
+                plugin.getLogger().warning("Could not reverse batch entry of " + entry.delta + " for " + entry.account.getUniqueId());
+            }
+        }
+    }
+    
+    /**
+     * Build the result; when {@code override} is set, entries that were APPLIED in memory are
+     * reported with that status instead because nothing was committed.
+     */
+    private BatchTransfer.Result buildBatchResult(List<BatchTransfer.Entry> entries, BatchTransfer.Status[] statuses,
+                                                  double[] after, BatchTransfer.Status override, boolean committed) {
+        List<BatchTransfer.EntryResult> results = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            BatchTransfer.Status status = statuses[i] != null ? statuses[i] : BatchTransfer.Status.ROLLED_BACK;
+            double balance = after[i];
+            if (override != null && status == BatchTransfer.Status.APPLIED) {
+                status = override;
+                balance = Double.NaN;
+            }
+            results.add(new BatchTransfer.EntryResult(entries.get(i), status, status == BatchTransfer.Status.APPLIED ? balance : Double.NaN));
+        }
+        return new BatchTransfer.Result(results, committed);
+    }
+    
     private double getInternalBalance(Player player) {
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
             String sql = "SELECT money FROM players WHERE uuid = ?";
@@ -128,11 +621,6 @@ public class EconomyManager {
     }
     
     private boolean setInternalBalance(Player player, double amount) {
-        double maxMoney = plugin.getConfig().getDouble("economy.max_money", 10000000.0);
-        if (amount > maxMoney) {
-            amount = maxMoney;
-        }
-        
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
             boolean isSQLite = "sqlite".equalsIgnoreCase(plugin.getDatabaseManager().getDatabaseType());
             String sql = isSQLite
@@ -151,7 +639,9 @@ public class EconomyManager {
                 stmt.setDouble(3, amount);
                 stmt.setDouble(4, amount);
                 
-                return stmt.executeUpdate() > 0;
+                boolean ok = stmt.executeUpdate() > 0;
+                if (ok) onBalanceWritten(player.getUniqueId(), player.getName(), amount);
+                return ok;
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Error setting balance for " + player.getName(), e);
@@ -171,6 +661,7 @@ public class EconomyManager {
                 stmt.setDouble(3, plugin.getConfig().getDouble("economy.starting_money", 1000.0));
                 stmt.executeUpdate();
             }
+            onAccountIndexed(player.getUniqueId(), player.getName(), plugin.getConfig().getDouble("economy.starting_money", 1000.0));
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Error creating player record for " + player.getName(), e);
         }
@@ -215,37 +706,38 @@ public class EconomyManager {
     }
     
     private boolean setInternalBalanceOffline(OfflinePlayer player, double amount) {
-        double maxMoney = plugin.getConfig().getDouble("economy.max_money", 10000000.0);
-        if (amount > maxMoney) {
-            amount = maxMoney;
-        }
-        
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            boolean isSQLite = "sqlite".equalsIgnoreCase(plugin.getDatabaseManager().getDatabaseType());
-            String sql = isSQLite
-                ? """
-                    INSERT INTO players (uuid, username, money) VALUES (?, ?, ?)
-                    ON CONFLICT(uuid) DO UPDATE SET money = ?, last_seen = CURRENT_TIMESTAMP
-                """
-                : """
-                    INSERT INTO players (uuid, username, money) VALUES (?, ?, ?)
-                    ON DUPLICATE KEY UPDATE money = ?, last_seen = CURRENT_TIMESTAMP
-                """;
-            
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, player.getUniqueId().toString());
-                stmt.setString(2, player.getName() != null ? player.getName() : "Unknown");
-                stmt.setDouble(3, amount);
-                stmt.setDouble(4, amount);
-                
-                return stmt.executeUpdate() > 0;
-            }
+            boolean ok = upsertBalance(conn, player, amount);
+            if (ok) onBalanceWritten(player.getUniqueId(), player.getName(), amount);
+            return ok;
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Error setting balance for offline player " + player.getName(), e);
             return false;
         }
     }
     
+    private boolean upsertBalance(Connection conn, OfflinePlayer player, double amount) throws SQLException {
+        boolean isSQLite = "sqlite".equalsIgnoreCase(plugin.getDatabaseManager().getDatabaseType());
+        String sql = isSQLite
+            ? """
+                INSERT INTO players (uuid, username, money) VALUES (?, ?, ?)
+                ON CONFLICT(uuid) DO UPDATE SET money = ?, last_seen = CURRENT_TIMESTAMP
+            """
+            : """
+                INSERT INTO players (uuid, username, money) VALUES (?, ?, ?)
+                ON DUPLICATE KEY UPDATE money = ?, last_seen = CURRENT_TIMESTAMP
+            """;
+        
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, player.getUniqueId().toString());
+            stmt.setString(2, player.getName() != null ? player.getName() : "Unknown");
+            stmt.setDouble(3, amount);
+            stmt.setDouble(4, amount);
+            
+            return stmt.executeUpdate() > 0;
+        }
+    }
+    
     private void createPlayerRecordOffline(OfflinePlayer player, double startingMoney) {
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
             boolean isSQLite = "sqlite".equalsIgnoreCase(plugin.getDatabaseManager().getDatabaseType());
@@ -258,6 +750,7 @@ public class EconomyManager {
                 stmt.setDouble(3, startingMoney);
                 stmt.executeUpdate();
             }
+            onAccountIndexed(player.getUniqueId(), player.getName(), startingMoney);
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Error creating player record for offline player " + player.getName(), e);
         }
@@ -0,0 +1,271 @@
+package com.boopugstudios.dynamicjobseconomy.economy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Running economy health totals: money supply plus hourly faucets (money entering the economy)
+ * and sinks (money leaving it).
+ *
+ * Every update is O(1) and lock-free on the hot path, so EconomyManager can feed it from each
+ * balance write. Readers such as /djeconomy doctor take a {@link Snapshot} instead of scanning
+ * the players table; EconomyManager periodically checkpoints snapshots to the economy_stats table.
+ *
+ * Money supply covers player wallets plus the holdings registered with {@link #addHoldings}
+ * (business treasuries and held gig escrow), so payroll, treasury deposits and gig payments move
+ * money within the supply instead of changing it. Whatever part of the hourly supply change the
+ * tagged flows do not explain (single-player admin edits, bulk sets, new accounts) is reported as
+ * unattributed.
+ */
+public class EconomyStats {
+
+    public enum Flow {
+        JOB_PAYOUT(true),
+        BUSINESS_REVENUE(true),
+        GIG_FEE(false),
+        ADMIN_GRANT(true),
+        ADMIN_REMOVAL(false);
+
+        private final boolean faucet;
+
+        Flow(boolean faucet) {
+            this.faucet = faucet;
+        }
+
+        public boolean isFaucet() {
+            return faucet;
+        }
+
+        /** Metric name used for checkpoint rows, e.g. "faucet.job_payout". */
+        public String metricName() {
+            return (faucet ? "faucet." : "sink.") + name().toLowerCase();
+        }
+    }
+
+    static final long HOUR_MS = 60L * 60L * 1000L;
+    private static final Flow[] FLOWS = Flow.values();
+
+    private static final class Bucket {
+        final long hourStart;
+        final double supplyAtStart;
+        final DoubleAdder[] flows = new DoubleAdder[FLOWS.length];
+
+        Bucket(long hourStart, double supplyAtStart) {
+            this.hourStart = hourStart;
+            this.supplyAtStart = supplyAtStart;
+            for (int i = 0; i < flows.length; i++) {
+                flows[i] = new DoubleAdder();
+            }
+        }
+
+        /** Same hour and counters, new opening supply. */
+        Bucket(Bucket other, double supplyAtStart) {
+            this.hourStart = other.hourStart;
+            this.supplyAtStart = supplyAtStart;
+            System.arraycopy(other.flows, 0, this.flows, 0, flows.length);
+        }
+
+        double[] sums() {
+            double[] out = new double[flows.length];
+            for (int i = 0; i < flows.length; i++) {
+                out[i] = flows[i].sum();
+            }
+            return out;
+        }
+    }
+
+    /**
+     * Immutable view of the aggregator at one point in time.
+     */
+    public static final class Snapshot {
+        public final double moneySupply;
+        public final boolean supplySeeded;
+        public final long hourStart;
+        public final double supplyAtHourStart;
+        private final double[] currentHour;
+        private final double previousSupplyAtStart;
+        private final long previousHourStart;
+        private final double[] previousHour;
+        private final double[] lifetime;
+
+        Snapshot(double moneySupply, boolean supplySeeded, Bucket current, Bucket previous, double[] lifetime) {
+            this.moneySupply = moneySupply;
+            this.supplySeeded = supplySeeded;
+            this.hourStart = current.hourStart;
+            this.supplyAtHourStart = current.supplyAtStart;
+            this.currentHour = current.sums();
+            this.previousHourStart = previous != null ? previous.hourStart : -1L;
+            this.previousSupplyAtStart = previous != null ? previous.supplyAtStart : 0.0;
+            this.previousHour = previous != null ? previous.sums() : new double[FLOWS.length];
+            this.lifetime = lifetime;
+        }
+
+        public double currentHour(Flow flow) {
+            return currentHour[flow.ordinal()];
+        }
+
+        /** Totals of the most recently closed bucket; see {@link #getPreviousHourStart()} for its hour. */
+        public double previousHour(Flow flow) {
+            return previousHour[flow.ordinal()];
+        }
+
+        public double lifetime(Flow flow) {
+            return lifetime[flow.ordinal()];
+        }
+
+        /** Start of the most recently closed bucket, or -1 when no bucket has closed since startup. */
+        public long getPreviousHourStart() {
+            return previousHourStart;
+        }
+
+        /** Money supply when the most recently closed bucket opened. */
+        public double getPreviousSupplyAtStart() {
+            return previousSupplyAtStart;
+        }
+
+        public double faucetsThisHour() {
+            return total(currentHour, true);
+        }
+
+        public double sinksThisHour() {
+            return total(currentHour, false);
+        }
+
+        /** Faucets of the hour immediately before the current one (0 if nothing was recorded then). */
+        public double faucetsLastHour() {
+            return previousHourStart == hourStart - HOUR_MS ? total(previousHour, true) : 0.0;
+        }
+
+        /** Sinks of the hour immediately before the current one (0 if nothing was recorded then). */
+        public double sinksLastHour() {
+            return previousHourStart == hourStart - HOUR_MS ? total(previousHour, false) : 0.0;
+        }
+
+        /** Supply change this hour not explained by tagged faucets and sinks. */
+        public double unattributedThisHour() {
+            return (moneySupply - supplyAtHourStart) - (faucetsThisHour() - sinksThisHour());
+        }
+
+        private static double total(double[] values, boolean faucets) {
+            double sum = 0;
+            for (Flow flow : FLOWS) {
+                if (flow.isFaucet() == faucets) sum += values[flow.ordinal()];
+            }
+            return sum;
+        }
+    }
+
+    private final LongSupplier clock;
+    private final DoubleAdder supply = new DoubleAdder();
+    private final List<DoubleSupplier> holdings = new CopyOnWriteArrayList<>();
+    private final DoubleAdder[] lifetime = new DoubleAdder[FLOWS.length];
+    private volatile boolean supplySeeded;
+    private volatile Bucket current;
+    private volatile Bucket previous;
+
+    public EconomyStats() {
+        this(System::currentTimeMillis);
+    }
+
+    EconomyStats(LongSupplier clock) {
+        this.clock = clock;
+        for (int i = 0; i < lifetime.length; i++) {
+            lifetime[i] = new DoubleAdder();
+        }
+        this.current = new Bucket(hourStart(clock.getAsLong()), 0.0);
+    }
+
+    /**
+     * Apply a change in player-held money, e.g. new balance minus old balance after a write.
+     */
+    public void adjustSupply(double delta) {
+        if (delta != 0 && Double.isFinite(delta)) {
+            supply.add(delta);
+        }
+    }
+
+    /**
+     * Count money held outside wallets, read whenever the supply is (e.g. the sum of cached
+     * business balances). Register holdings before the supply is seeded.
+     */
+    public void addHoldings(DoubleSupplier source) {
+        if (source != null) {
+            holdings.add(source);
+        }
+    }
+
+    /**
+     * Mark the supply as complete once every existing account has been counted. The current
+     * hour's opening supply is rebased so the seed itself is not reported as unattributed change.
+     */
+    public void markSupplySeeded() {
+        synchronized (this) {
+            Bucket b = bucket();
+            double net = 0;
+            for (Flow flow : FLOWS) {
+                double v = b.flows[flow.ordinal()].sum();
+                net += flow.isFaucet() ? v : -v;
+            }
+            current = new Bucket(b, totalSupply() - net);
+            this.supplySeeded = true;
+        }
+    }
+
+    /**
+     * Record money entering (faucet flows) or leaving (sink flows) the economy.
+     * The amount is a magnitude; non-positive values are ignored.
+     */
+    public void record(Flow flow, double amount) {
+        if (flow == null || !(amount > 0) || !Double.isFinite(amount)) return;
+        bucket().flows[flow.ordinal()].add(amount);
+        lifetime[flow.ordinal()].add(amount);
+    }
+
+    public double getMoneySupply() {
+        return totalSupply();
+    }
+
+    public boolean isSupplySeeded() {
+        return supplySeeded;
+    }
+
+    public Snapshot snapshot() {
+        Bucket b = bucket();
+        double[] life = new double[FLOWS.length];
+        for (int i = 0; i < life.length; i++) {
+            life[i] = lifetime[i].sum();
+        }
+        return new Snapshot(totalSupply(), supplySeeded, b, previous, life);
+    }
+
+    private Bucket bucket() {
+        long hour = hourStart(clock.getAsLong());
+        Bucket b = current;
+        if (b.hourStart == hour) return b;
+        synchronized (this) {
+            b = current;
+            if (b.hourStart != hour) {
+                previous = b;
+                b = new Bucket(hour, totalSupply());
+                current = b;
+            }
+            return b;
+        }
+    }
+
+    private double totalSupply() {
+        double total = supply.sum();
+        for (DoubleSupplier source : holdings) {
+            double held = source.getAsDouble();
+            if (Double.isFinite(held)) total += held;
+        }
+        return total;
+    }
+
+    static long hourStart(long millis) {
+        return millis - Math.floorMod(millis, HOUR_MS);
+    }
+}
@@ -0,0 +1,81 @@
+package com.boopugstudios.dynamicjobseconomy.gigs;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The escrow_accounts rows behind gig payments.
+ *
+ * A gig's payment is HELD from the transaction that debits its poster until the transaction that
+ * pays the worker (RELEASED) or refunds the poster (REFUNDED). A refund records how much actually
+ * went back to the poster; the rest of {@code amount} is the cancellation penalty. Every method runs on the caller's
+ * connection so the ledger commits or rolls back together with the money it tracks, and a row
+ * only leaves HELD once, so two servers settling the same gig cannot both pay.
+ */
+final class EscrowLedger {
+
+    static final String HELD = "HELD";
+    static final String RELEASED = "RELEASED";
+    static final String REFUNDED = "REFUNDED";
+
+    private EscrowLedger() {
+    }
+
+    /**
+     * Open the escrow row for a new gig; called in the transaction that debits the poster.
+     */
+    static void hold(Connection conn, int gigId, UUID poster, double amount) throws SQLException {
+        String sql = "INSERT INTO escrow_accounts (gig_id, poster_uuid, amount, state, created_at) VALUES (?, ?, ?, '"
+            + HELD + "', ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, gigId);
+            stmt.setString(2, poster.toString());
+            stmt.setDouble(3, amount);
+            stmt.setTimestamp(4, new Timestamp(System.currentTimeMillis()));
+            stmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Close a gig's escrow as REFUNDED, recording the part of the held amount returned to the poster.
+     *
+     * @return false if the gig has no held escrow (already settled elsewhere), so the caller rolls back
+     */
+    static boolean refund(Connection conn, int gigId, double refundedAmount) throws SQLException {
+        String sql = "UPDATE escrow_accounts SET state = '" + REFUNDED + "', refunded_amount = ?, settled_at = ? WHERE gig_id = ? AND state = '"
+            + HELD + "'";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setDouble(1, refundedAmount);
+            stmt.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
+            stmt.setInt(3, gigId);
+            return stmt.executeUpdate() > 0;
+        }
+    }
+
+    /**
+     * Move the gigs' escrow from HELD to {@code state} in the caller's transaction.
+     *
+     * @return false if any gig has no held escrow (already settled elsewhere), so the caller rolls back
+     */
+    static boolean settle(Connection conn, List<Integer> gigIds, String state) throws SQLException {
+        String sql = "UPDATE escrow_accounts SET state = ?, settled_at = ? WHERE gig_id = ? AND state = '" + HELD + "'";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (int gigId : gigIds) {
+                stmt.setString(1, state);
+                stmt.setTimestamp(2, now);
+                stmt.setInt(3, gigId);
+                stmt.addBatch();
+            }
+            for (int count : stmt.executeBatch()) {
+                if (count == 0 || count == Statement.EXECUTE_FAILED) return false;
+            }
+        }
+        return true;
+    }
+}
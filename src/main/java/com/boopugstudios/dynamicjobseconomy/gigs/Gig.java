@@ -11,6 +11,7 @@ public class Gig {
     private UUID workerUUID;
     private final double payment;
     private String status;
+    private long submittedAt; // Epoch millis of the pending completion; 0 if none
     
     public Gig(int id, String title, String description, UUID posterUUID, double payment) {
         this.id = id;
@@ -50,6 +51,10 @@ public class Gig {
         return status;
     }
     
+    public long getSubmittedAt() {
+        return submittedAt;
+    }
+    
     // Setters
     public void setWorkerUUID(UUID workerUUID) {
         this.workerUUID = workerUUID;
@@ -58,4 +63,8 @@ public class Gig {
     public void setStatus(String status) {
         this.status = status;
     }
+    
+    public void setSubmittedAt(long submittedAt) {
+        this.submittedAt = submittedAt;
+    }
 }
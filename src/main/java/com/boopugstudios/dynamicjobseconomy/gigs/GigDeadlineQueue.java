@@ -0,0 +1,71 @@
+package com.boopugstudios.dynamicjobseconomy.gigs;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Auto-approval deadlines of gigs waiting for their poster's review, as a min-heap.
+ *
+ * The manager schedules a gig when its completion is submitted and cancels it once the poster
+ * approves or rejects it. {@link #pollDue} pops everything past its deadline in O(k log n), so
+ * the approval task never scans the table. Cancelled or rescheduled entries stay in the heap
+ * and are skipped when they surface.
+ */
+public class GigDeadlineQueue {
+
+    private static final class Deadline {
+        final long dueAt;
+        final int gigId;
+
+        Deadline(long dueAt, int gigId) {
+            this.dueAt = dueAt;
+            this.gigId = gigId;
+        }
+    }
+
+    private final Map<Integer, Long> dueById = new HashMap<>();
+    private final PriorityQueue<Deadline> deadlines = new PriorityQueue<>(Comparator.comparingLong(d -> d.dueAt));
+
+    /** Schedule (or move) a gig's deadline. */
+    public synchronized void schedule(int gigId, long dueAt) {
+        dueById.put(gigId, dueAt);
+        deadlines.add(new Deadline(dueAt, gigId));
+    }
+
+    /** @return true if the gig had a deadline */
+    public synchronized boolean cancel(int gigId) {
+        return dueById.remove(gigId) != null;
+    }
+
+    public synchronized Long getDueAt(int gigId) {
+        return dueById.get(gigId);
+    }
+
+    public synchronized int size() {
+        return dueById.size();
+    }
+
+    /**
+     * Remove and return every gig whose deadline is at or before {@code now}, earliest first.
+     */
+    public synchronized List<Integer> pollDue(long now) {
+        List<Integer> due = new ArrayList<>();
+        while (!deadlines.isEmpty() && deadlines.peek().dueAt <= now) {
+            Deadline d = deadlines.poll();
+            Long current = dueById.get(d.gigId);
+            if (current == null || current != d.dueAt) continue;
+            dueById.remove(d.gigId);
+            due.add(d.gigId);
+        }
+        return due;
+    }
+
+    public synchronized void clear() {
+        dueById.clear();
+        deadlines.clear();
+    }
+}
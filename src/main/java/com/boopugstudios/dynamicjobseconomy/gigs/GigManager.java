@@ -1,6 +1,9 @@
 package com.boopugstudios.dynamicjobseconomy.gigs;
 
 import com.boopugstudios.dynamicjobseconomy.DynamicJobsEconomy;
+import com.boopugstudios.dynamicjobseconomy.database.ChangeFeed;
+import com.boopugstudios.dynamicjobseconomy.economy.BatchTransfer;
+import com.boopugstudios.dynamicjobseconomy.economy.EconomyStats;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 
@@ -10,24 +13,28 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 
 public class GigManager {
     
     private final DynamicJobsEconomy plugin;
-    private final Map<Integer, Gig> activeGigs = new HashMap<>();
+    private final GigRegistry activeGigs = new GigRegistry();
+    // Submitted gigs are auto-approved once their poster has not reviewed them in time
+    private final GigDeadlineQueue autoApprovals = new GigDeadlineQueue();
+    private final AtomicBoolean autoApproveInProgress = new AtomicBoolean(false);
+    private static final long AUTO_APPROVE_TICKS = 20L * 60; // Every minute
+    private static final long AUTO_APPROVE_RETRY_MS = 5L * 60L * 1000L;
     
     public GigManager(DynamicJobsEconomy plugin) {
         this.plugin = plugin;
         loadActiveGigs();
         
-        // Schedule gig timeout checker to run every hour
-        plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, new Runnable() {
-            @Override
-            public void run() {
-                checkGigTimeouts();
-            }
-        }, 3600L, 3600L);
+        plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, this::autoApproveDueGigs,
+            AUTO_APPROVE_TICKS, AUTO_APPROVE_TICKS);
+        
+        ChangeFeed feed = plugin.getChangeFeed();
+        if (feed != null) feed.subscribe(ChangeFeed.GIG, this::onRemoteGigChange);
     }
     
     public boolean createGig(Player poster, String title, String description, double payment) {
@@ -39,36 +46,34 @@ public class GigManager {
             return false;
         }
         
-        // Withdraw total amount (posting cost + payment goes into escrow)
-        if (!plugin.getEconomyManager().withdraw(poster, totalCost)) {
-            return false;
-        }
-        
-        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+        // Debit the poster, insert the gig and hold its payment in escrow in one transaction
+        int[] gigId = new int[1];
+        BatchTransfer batch = new BatchTransfer().allOrNothing().add(poster, -totalCost);
+        BatchTransfer.Result result = plugin.getEconomyManager().executeBatch(batch, conn -> {
             String sql = "INSERT INTO gigs (title, description, poster_uuid, payment, status) VALUES (?, ?, ?, ?, 'OPEN')";
             try (PreparedStatement stmt = conn.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
                 stmt.setString(1, title);
                 stmt.setString(2, description);
                 stmt.setString(3, poster.getUniqueId().toString());
                 stmt.setDouble(4, payment);
-                
-                int result = stmt.executeUpdate();
-                if (result > 0) {
-                    try (ResultSet keys = stmt.getGeneratedKeys()) {
-                        if (keys.next()) {
-                            int gigId = keys.getInt(1);
-                            Gig gig = new Gig(gigId, title, description, poster.getUniqueId(), payment);
-                            activeGigs.put(gigId, gig);
-                            return true;
-                        }
-                    }
+                if (stmt.executeUpdate() == 0) return false;
+                try (ResultSet keys = stmt.getGeneratedKeys()) {
+                    if (!keys.next()) return false;
+                    gigId[0] = keys.getInt(1);
                 }
             }
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Error creating gig", e);
+            EscrowLedger.hold(conn, gigId[0], poster.getUniqueId(), payment);
+            recordChange(conn, gigId[0]);
+            return true;
+        });
+        if (!result.isCommitted()) {
+            return false;
         }
         
-        return false;
+        Gig gig = new Gig(gigId[0], title, description, poster.getUniqueId(), payment);
+        activeGigs.put(gig);
+        recordGigFee(postingCost);
+        return true;
     }
     
     public boolean acceptGig(Player worker, int gigId) {
@@ -85,8 +90,9 @@ public class GigManager {
                 
                 int result = stmt.executeUpdate();
                 if (result > 0) {
-                    gig.setWorkerUUID(worker.getUniqueId());
-                    gig.setStatus("IN_PROGRESS");
+                    recordChange(conn, gigId);
+                    activeGigs.assignWorker(gigId, worker.getUniqueId());
+                    activeGigs.setStatus(gigId, "IN_PROGRESS");
                     return true;
                 }
             }
@@ -105,13 +111,18 @@ public class GigManager {
         }
         
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql = "UPDATE gigs SET status = 'PENDING_APPROVAL', submitted_at = CURRENT_TIMESTAMP WHERE id = ?";
+            String sql = "UPDATE gigs SET status = 'PENDING_APPROVAL', submitted_at = ? WHERE id = ?";
+            long now = System.currentTimeMillis();
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setInt(1, gigId);
+                stmt.setTimestamp(1, new Timestamp(now));
+                stmt.setInt(2, gigId);
                 
                 int result = stmt.executeUpdate();
                 if (result > 0) {
-                    gig.setStatus("PENDING_APPROVAL");
+                    recordChange(conn, gigId);
+                    gig.setSubmittedAt(now);
+                    activeGigs.setStatus(gigId, "PENDING_APPROVAL");
+                    autoApprovals.schedule(gigId, now + getAutoApproveMillis());
                     
                     // Notify poster that gig is ready for review
                     Player poster = plugin.getServer().getPlayer(gig.getPosterUUID());
@@ -138,146 +149,35 @@ public class GigManager {
             return false;
         }
         
+        // The poster decided; the gig must not also be auto-approved
+        autoApprovals.cancel(gigId);
         double commission = plugin.getConfig().getDouble("gigs.commission_rate", 0.05);
         double workerPayment = gig.getPayment() * (1.0 - commission);
         
-        // Use atomic transaction for gig approval
-        Connection conn = null;
-        try {
-            conn = plugin.getDatabaseManager().getConnection();
-            conn.setAutoCommit(false); // Start transaction
-            
-            // Try to pay the worker from escrow
-            OfflinePlayer worker = plugin.getServer().getOfflinePlayer(gig.getWorkerUUID());
-            boolean paymentSuccessful = false;
-            
-            // Try online player first, then offline
-            Player onlineWorker = plugin.getServer().getPlayer(gig.getWorkerUUID());
-            if (onlineWorker != null) {
-                paymentSuccessful = plugin.getEconomyManager().deposit(onlineWorker, workerPayment);
-            } else {
-                paymentSuccessful = plugin.getEconomyManager().depositPlayer(worker, workerPayment);
-            }
-            
-            if (paymentSuccessful) {
-                // Payment successful - mark gig as completed
-                String sql = "UPDATE gigs SET status = 'COMPLETED', completed_at = CURRENT_TIMESTAMP WHERE id = ?";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setInt(1, gigId);
-                    
-                    int result = stmt.executeUpdate();
-                    if (result > 0) {
-                        conn.commit(); // Commit transaction
-                        
-                        gig.setStatus("COMPLETED");
-                        activeGigs.remove(gigId);
-                        
-                        // Notify worker if online
-                        if (onlineWorker != null) {
-                            String prefix = getPrefix();
-                            onlineWorker.sendMessage(prefix + "§aGig approved! Payment of §f$" + String.format("%.2f", workerPayment) + " §areceived.");
-                        }
-                        
-                        plugin.getLogger().info("Gig #" + gigId + " approved successfully. Worker paid $" + String.format("%.2f", workerPayment));
-                        return true;
-                    } else {
-                        // Database update failed - rollback and refund
-                        conn.rollback();
-                        refundEscrowToGigPoster(gig, "Database update failed during approval");
-                    }
-                }
-            } else {
-                // Worker payment failed - refund escrow to poster
-                conn.rollback();
-                refundEscrowToGigPoster(gig, "Worker payment failed");
-            }
-            
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Database error during gig approval", e);
-            
-            // Attempt rollback on database error
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException rollbackEx) {
-                    plugin.getLogger().log(Level.SEVERE, "Failed to rollback gig approval transaction", rollbackEx);
-                }
-            }
-            
-            // Refund escrow to poster due to system error
-            refundEscrowToGigPoster(gig, "System error during approval");
-        } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true); // Restore auto-commit
-                    conn.close();
-                } catch (SQLException e) {
-                    plugin.getLogger().log(Level.SEVERE, "Failed to close gig approval database connection", e);
-                }
-            }
+        // Pay the worker, complete the gig and release its escrow in one transaction
+        OfflinePlayer worker = plugin.getServer().getOfflinePlayer(gig.getWorkerUUID());
+        BatchTransfer batch = new BatchTransfer().allOrNothing().add(worker, workerPayment);
+        BatchTransfer.Result result = plugin.getEconomyManager().executeBatch(batch, conn -> completeGig(conn, gig));
+        if (!result.isCommitted()) {
+            // Nothing moved: the gig stays pending with its escrow held
+            plugin.getLogger().warning("Approval of gig #" + gigId + " was rolled back; escrow is still held");
+            trackAutoApproval(gig);
+            return false;
         }
         
-        return false;
-    }
-    
-    /**
-     * Refunds escrow money to the gig poster when approval fails
-     */
-    private void refundEscrowToGigPoster(Gig gig, String reason) {
-        try {
-            OfflinePlayer poster = plugin.getServer().getOfflinePlayer(gig.getPosterUUID());
-            double refundAmount = gig.getPayment();
-            
-            // Try to refund to online player first, then offline
-            Player onlinePoster = plugin.getServer().getPlayer(gig.getPosterUUID());
-            boolean refundSuccessful = false;
-            
-            if (onlinePoster != null) {
-                refundSuccessful = plugin.getEconomyManager().deposit(onlinePoster, refundAmount);
-            } else {
-                refundSuccessful = plugin.getEconomyManager().depositPlayer(poster, refundAmount);
-            }
-            
-            if (refundSuccessful) {
-                // Update gig status to cancelled
-                try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-                    String sql = "UPDATE gigs SET status = 'CANCELLED' WHERE id = ?";
-                    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                        stmt.setInt(1, gig.getId());
-                        stmt.executeUpdate();
-                    }
-                }
-                
-                gig.setStatus("CANCELLED");
-                activeGigs.remove(gig.getId());
-                
-                // Notify poster if online
-                if (onlinePoster != null) {
-                    String prefix = getPrefix();
-                    onlinePoster.sendMessage(prefix + "§cGig #" + gig.getId() + " approval failed. Escrow refunded: $" + 
-                        String.format("%.2f", refundAmount));
-                    onlinePoster.sendMessage(prefix + "§7Reason: " + reason);
-                }
-                
-                plugin.getLogger().info("Refunded $" + String.format("%.2f", refundAmount) + 
-                    " to gig poster " + poster.getName() + " for gig #" + gig.getId() + ". Reason: " + reason);
-            } else {
-                plugin.getLogger().severe("CRITICAL: Failed to refund escrow $" + String.format("%.2f", refundAmount) + 
-                    " to poster " + poster.getName() + " for gig #" + gig.getId() + ". Manual intervention required!");
-                
-                // Notify online poster of the issue
-                if (onlinePoster != null) {
-                    String prefix = getPrefix();
-                    onlinePoster.sendMessage(prefix + "§4CRITICAL ERROR: Escrow refund failed! Contact an administrator immediately.");
-                    onlinePoster.sendMessage(prefix + "§7Gig ID: #" + gig.getId() + ", Amount: $" + String.format("%.2f", refundAmount));
-                }
-            }
-            
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Database error during escrow refund for gig #" + gig.getId(), e);
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.SEVERE, "Unexpected error during escrow refund for gig #" + gig.getId(), e);
+        recordGigFee(gig.getPayment() - workerPayment);
+        activeGigs.remove(gigId);
+        gig.setStatus("COMPLETED");
+        
+        // Notify worker if online
+        Player onlineWorker = plugin.getServer().getPlayer(gig.getWorkerUUID());
+        if (onlineWorker != null) {
+            String prefix = getPrefix();
+            onlineWorker.sendMessage(prefix + "§aGig approved! Payment of §f$" + String.format("%.2f", workerPayment) + " §areceived.");
         }
+        
+        plugin.getLogger().info("Gig #" + gigId + " approved successfully. Worker paid $" + String.format("%.2f", workerPayment));
+        return true;
     }
     
     public boolean rejectGig(Player poster, int gigId, String reason) {
@@ -294,7 +194,9 @@ public class GigManager {
                 
                 int result = stmt.executeUpdate();
                 if (result > 0) {
-                    gig.setStatus("IN_PROGRESS");
+                    recordChange(conn, gigId);
+                    activeGigs.setStatus(gigId, "IN_PROGRESS");
+                    autoApprovals.cancel(gigId);
                     
                     // Notify worker if online
                     Player worker = plugin.getServer().getPlayer(gig.getWorkerUUID());
@@ -337,72 +239,155 @@ public class GigManager {
             refundAmount *= (1.0 - penalty);
         }
         
-        // Refund money from escrow
-        if (plugin.getEconomyManager().deposit(poster, refundAmount)) {
-            try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-                String sql = "UPDATE gigs SET status = 'CANCELLED', cancelled_at = CURRENT_TIMESTAMP WHERE id = ?";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setInt(1, gigId);
-                    
-                    int result = stmt.executeUpdate();
-                    if (result > 0) {
-                        gig.setStatus("CANCELLED");
-                        activeGigs.remove(gigId);
-                        
-                        // Notify worker if gig was in progress
-                        if (isInProgress && gig.getWorkerUUID() != null) {
-                            Player worker = plugin.getServer().getPlayer(gig.getWorkerUUID());
-                            if (worker != null && worker.isOnline()) {
-                                String prefix = getPrefix();
-                                worker.sendMessage(prefix + "§cGig '" + gig.getTitle() + "' has been cancelled by the poster.");
-                            }
-                        }
-                        
-                        return true;
-                    }
-                }
-            } catch (SQLException e) {
-                plugin.getLogger().log(Level.SEVERE, "Error cancelling gig", e);
+        // Refund the poster, cancel the gig and close its escrow in one transaction
+        String previousStatus = gig.getStatus();
+        double refunded = refundAmount;
+        BatchTransfer batch = new BatchTransfer().allOrNothing();
+        if (refundAmount > 0) batch.add(poster, refundAmount);
+        BatchTransfer.Result result = plugin.getEconomyManager().executeBatch(batch, conn -> {
+            String sql = "UPDATE gigs SET status = 'CANCELLED', cancelled_at = ? WHERE id = ? AND status = ?";
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setTimestamp(1, new Timestamp(System.currentTimeMillis()));
+                stmt.setInt(2, gigId);
+                stmt.setString(3, previousStatus);
+                if (stmt.executeUpdate() == 0) return false;
             }
+            if (!EscrowLedger.refund(conn, gigId, refunded)) return false;
+            recordChange(conn, gigId);
+            return true;
+        });
+        if (!result.isCommitted()) {
+            return false;
         }
         
-        return false;
+        // The cancellation penalty stays out of circulation like other gig fees
+        recordGigFee(gig.getPayment() - refundAmount);
+        activeGigs.remove(gigId);
+        gig.setStatus("CANCELLED");
+        
+        // Notify worker if gig was in progress
+        if (isInProgress && gig.getWorkerUUID() != null) {
+            Player worker = plugin.getServer().getPlayer(gig.getWorkerUUID());
+            if (worker != null && worker.isOnline()) {
+                String prefix = getPrefix();
+                worker.sendMessage(prefix + "§cGig '" + gig.getTitle() + "' has been cancelled by the poster.");
+            }
+        }
+        
+        return true;
     }
     
     public List<Gig> getOpenGigs() {
-        return activeGigs.values().stream()
-            .filter(gig -> "OPEN".equals(gig.getStatus()))
-            .toList();
+        return activeGigs.getOpen(GigRegistry.Order.NEWEST);
+    }
+    
+    /**
+     * Payments currently held in escrow, i.e. those of every gig not yet completed or cancelled.
+     */
+    public double getHeldEscrow() {
+        return activeGigs.totalPayment();
+    }
+    
+    /**
+     * One page of the open-gig board; pass the previous page's cursor (or null) to continue.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public GigRegistry.Page getOpenGigPage(GigRegistry.Order order, String cursor, int limit) {
+        return activeGigs.openPage(order, cursor, limit);
+    }
+    
+    /**
+     * Open gigs whose title or description match every search word (prefixes included), best first.
+     */
+    public List<Gig> searchOpenGigs(String query, int limit) {
+        return activeGigs.searchOpen(query, limit);
     }
     
     public List<Gig> getPlayerGigs(Player player) {
-        return activeGigs.values().stream()
-            .filter(gig -> player.getUniqueId().equals(gig.getPosterUUID()) || 
-                          player.getUniqueId().equals(gig.getWorkerUUID()))
-            .toList();
+        return activeGigs.getInvolving(player.getUniqueId());
+    }
+    
+    private void recordChange(Connection conn, int gigId) throws SQLException {
+        ChangeFeed feed = plugin.getChangeFeed();
+        if (feed != null) feed.record(conn, ChangeFeed.GIG, gigId);
+    }
+    
+    /**
+     * Another node wrote a gig: reload the row on the poller thread, then keep or drop it from the
+     * active map on the main thread depending on its new status.
+     */
+    private void onRemoteGigChange(String key) {
+        int gigId;
+        try {
+            gigId = Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            return;
+        }
+        Gig fresh = null;
+        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT * FROM gigs WHERE id = ?")) {
+                stmt.setInt(1, gigId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) fresh = readGig(rs);
+                }
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error reloading gig #" + gigId + " after remote change", e);
+            return;
+        }
+        Gig gig = fresh;
+        plugin.getServer().getScheduler().runTask(plugin, () -> {
+            String status = gig != null ? gig.getStatus() : null;
+            if ("OPEN".equals(status) || "IN_PROGRESS".equals(status) || "PENDING_APPROVAL".equals(status)) {
+                activeGigs.put(gig);
+                trackAutoApproval(gig);
+            } else {
+                activeGigs.remove(gigId);
+                autoApprovals.cancel(gigId);
+            }
+        });
+    }
+    
+    private Gig readGig(ResultSet rs) throws SQLException {
+        String workerUUIDStr = rs.getString("worker_uuid");
+        Gig gig = new Gig(rs.getInt("id"), rs.getString("title"), rs.getString("description"),
+            UUID.fromString(rs.getString("poster_uuid")), rs.getDouble("payment"));
+        gig.setWorkerUUID(workerUUIDStr != null ? UUID.fromString(workerUUIDStr) : null);
+        gig.setStatus(rs.getString("status"));
+        Timestamp submittedAt = rs.getTimestamp("submitted_at");
+        gig.setSubmittedAt(submittedAt != null ? submittedAt.getTime() : 0L);
+        return gig;
+    }
+    
+    /**
+     * Keep the auto-approval deadline in step with a gig's status. Gigs submitted before
+     * submitted_at existed count from their creation time.
+     */
+    private void trackAutoApproval(Gig gig) {
+        if (!"PENDING_APPROVAL".equals(gig.getStatus())) {
+            autoApprovals.cancel(gig.getId());
+            return;
+        }
+        long submittedAt = gig.getSubmittedAt();
+        autoApprovals.schedule(gig.getId(), (submittedAt > 0 ? submittedAt : System.currentTimeMillis()) + getAutoApproveMillis());
+    }
+    
+    private long getAutoApproveMillis() {
+        double hours = plugin.getConfig().getDouble("gigs.auto_approve_hours", 168.0);
+        return (long) (Math.max(0.0, hours) * 60L * 60L * 1000L);
     }
     
     private void loadActiveGigs() {
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql = "SELECT * FROM gigs WHERE status IN ('OPEN', 'IN_PROGRESS')";
+            String sql = "SELECT * FROM gigs WHERE status IN ('OPEN', 'IN_PROGRESS', 'PENDING_APPROVAL')";
             try (PreparedStatement stmt = conn.prepareStatement(sql);
                  ResultSet rs = stmt.executeQuery()) {
                 
                 while (rs.next()) {
-                    int id = rs.getInt("id");
-                    String title = rs.getString("title");
-                    String description = rs.getString("description");
-                    UUID posterUUID = UUID.fromString(rs.getString("poster_uuid"));
-                    String workerUUIDStr = rs.getString("worker_uuid");
-                    UUID workerUUID = workerUUIDStr != null ? UUID.fromString(workerUUIDStr) : null;
-                    double payment = rs.getDouble("payment");
-                    String status = rs.getString("status");
-                    
-                    Gig gig = new Gig(id, title, description, posterUUID, payment);
-                    gig.setWorkerUUID(workerUUID);
-                    gig.setStatus(status);
-                    
-                    activeGigs.put(id, gig);
+                    Gig gig = readGig(rs);
+                    activeGigs.put(gig);
+                    trackAutoApproval(gig);
                 }
             }
         } catch (SQLException e) {
@@ -412,9 +397,19 @@ public class GigManager {
     
     public void reload() {
         activeGigs.clear();
+        autoApprovals.clear();
         loadActiveGigs();
     }
     
+    /**
+     * Posting costs and commission leave the economy; count them as gig-fee sinks.
+     */
+    private void recordGigFee(double amount) {
+        if (plugin.getEconomyManager() != null) {
+            plugin.getEconomyManager().getStats().record(EconomyStats.Flow.GIG_FEE, amount);
+        }
+    }
+    
     private String getPrefix() {
         // Centralized prefix retrieval via Messages; it already prefers config.yml override then messages.yml
         try {
@@ -427,87 +422,120 @@ public class GigManager {
     }
     
     /**
-     * Checks for gigs that have exceeded the timeout period and auto-resolves them
+     * Auto-approve every submitted gig whose review deadline has passed. Each gig's payout, status
+     * update and escrow release commit in their own transaction, so one gig that cannot be settled
+     * does not hold up the rest. Only database errors are retried a few minutes later. A gig whose
+     * worker is at economy.max_money keeps its escrow held for another review window, and one
+     * that another server already settled is dropped from the queue. Players are told on the
+     * main thread.
      */
-    private void checkGigTimeouts() {
+    private void autoApproveDueGigs() {
+        if (!autoApproveInProgress.compareAndSet(false, true)) return;
         try {
-            int timeoutDays = plugin.getConfig().getInt("gigs.timeout_days", 7);
-            long timeoutMillis = timeoutDays * 24L * 60L * 60L * 1000L; // Convert days to milliseconds
-            long currentTime = System.currentTimeMillis();
+            long now = System.currentTimeMillis();
+            List<Gig> due = new ArrayList<>();
+            for (int gigId : autoApprovals.pollDue(now)) {
+                Gig gig = activeGigs.get(gigId);
+                if (gig != null && "PENDING_APPROVAL".equals(gig.getStatus()) && gig.getWorkerUUID() != null) {
+                    due.add(gig);
+                }
+            }
+            if (due.isEmpty()) return;
             
-            try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-                // Find gigs that are stuck in PENDING_APPROVAL status for too long
-                String sql = "SELECT * FROM gigs WHERE status = 'PENDING_APPROVAL' AND created_at < ?";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setTimestamp(1, new Timestamp(currentTime - timeoutMillis));
-                    
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        int timeoutCount = 0;
-                        
-                        while (rs.next()) {
-                            int gigId = rs.getInt("id");
-                            UUID posterUUID = UUID.fromString(rs.getString("poster_uuid"));
-                            UUID workerUUID = UUID.fromString(rs.getString("worker_uuid"));
-                            double payment = rs.getDouble("payment");
-                            String title = rs.getString("title");
-                            
-                            // Auto-approve the gig (worker gets paid)
-                            OfflinePlayer worker = plugin.getServer().getOfflinePlayer(workerUUID);
-                            
-                            double commission = plugin.getConfig().getDouble("gigs.commission_rate", 0.05);
-                            double workerPayment = payment * (1.0 - commission);
-                            
-                            boolean paymentSuccessful = false;
-                            Player onlineWorker = plugin.getServer().getPlayer(workerUUID);
-                            if (onlineWorker != null) {
-                                paymentSuccessful = plugin.getEconomyManager().deposit(onlineWorker, workerPayment);
-                            } else {
-                                paymentSuccessful = plugin.getEconomyManager().depositPlayer(worker, workerPayment);
-                            }
-                            
-                            if (paymentSuccessful) {
-                                // Mark gig as completed
-                                String updateSql = "UPDATE gigs SET status = 'COMPLETED', completed_at = CURRENT_TIMESTAMP WHERE id = ?";
-                                try (PreparedStatement updateStmt = conn.prepareStatement(updateSql)) {
-                                    updateStmt.setInt(1, gigId);
-                                    updateStmt.executeUpdate();
-                                }
-                                
-                                // Remove from active gigs
-                                activeGigs.remove(gigId);
-                                timeoutCount++;
-                                
-                                // Notify players if online
-                                if (onlineWorker != null) {
-                                    String prefix = getPrefix();
-                                    onlineWorker.sendMessage(prefix + "§aGig '" + title + "' auto-approved due to timeout. Payment received: $" + 
-                                        String.format("%.2f", workerPayment));
-                                }
-                                
-                                Player onlinePoster = plugin.getServer().getPlayer(posterUUID);
-                                if (onlinePoster != null) {
-                                    String prefix = getPrefix();
-                                    onlinePoster.sendMessage(prefix + "§7Gig '" + title + "' was auto-approved due to " + timeoutDays + 
-                                        " day timeout. Worker has been paid.");
-                                }
-                                
-                                plugin.getLogger().info("Auto-approved gig #" + gigId + " (" + title + ") due to " + timeoutDays + " day timeout");
-                            } else {
-                                plugin.getLogger().warning("Failed to auto-approve gig #" + gigId + " - worker payment failed");
-                            }
-                        }
-                        
-                        if (timeoutCount > 0) {
-                            plugin.getLogger().info("Auto-resolved " + timeoutCount + " timed-out gigs");
-                        }
-                    }
+            double commission = plugin.getConfig().getDouble("gigs.commission_rate", 0.05);
+            List<Gig> approved = new ArrayList<>(due.size());
+            List<Gig> heldAtMax = new ArrayList<>();
+            int retried = 0;
+            double fees = 0.0;
+            for (Gig gig : due) {
+                double workerPayment = gig.getPayment() * (1.0 - commission);
+                BatchTransfer batch = new BatchTransfer().allOrNothing();
+                batch.add(plugin.getServer().getOfflinePlayer(gig.getWorkerUUID()), workerPayment);
+                BatchTransfer.Result result = plugin.getEconomyManager().executeBatch(batch, conn -> completeGig(conn, gig));
+                if (result.isCommitted()) {
+                    activeGigs.remove(gig.getId());
+                    gig.setStatus("COMPLETED");
+                    approved.add(gig);
+                    fees += gig.getPayment() - workerPayment;
+                } else if (hasStatus(result, BatchTransfer.Status.MAX_BALANCE_EXCEEDED)) {
+                    autoApprovals.schedule(gig.getId(), now + getAutoApproveMillis());
+                    heldAtMax.add(gig);
+                } else if (hasStatus(result, BatchTransfer.Status.FAILED)) {
+                    autoApprovals.schedule(gig.getId(), now + AUTO_APPROVE_RETRY_MS);
+                    retried++;
                 }
+                // Otherwise the gig is no longer pending in the database; the change feed updates it here
             }
             
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Error checking gig timeouts", e);
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.SEVERE, "Unexpected error during gig timeout check", e);
+            if (retried > 0) {
+                plugin.getLogger().warning("Auto-approval of " + retried + " gigs failed; retrying later");
+            }
+            if (!heldAtMax.isEmpty()) {
+                plugin.getLogger().warning("Auto-approval of " + heldAtMax.size() + " gigs is on hold: their worker is at the maximum balance");
+            }
+            if (!approved.isEmpty()) {
+                recordGigFee(fees);
+                plugin.getLogger().info("Auto-approved " + approved.size() + " gigs past their review deadline");
+            }
+            if (plugin.isEnabled() && (!approved.isEmpty() || !heldAtMax.isEmpty())) {
+                plugin.getServer().getScheduler().runTask(plugin, () -> {
+                    notifyAutoApproved(approved, commission);
+                    notifyHeldAtMax(heldAtMax);
+                });
+            }
+        } finally {
+            autoApproveInProgress.set(false);
+        }
+    }
+    
+    /**
+     * Mark one gig COMPLETED and release its escrow inside that gig's payout transaction. Each gig
+     * is settled in a transaction of its own, so returning false (the gig is no longer pending, or
+     * another server already settled its escrow) rolls back only this gig's payout.
+     */
+    private boolean completeGig(Connection conn, Gig gig) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "UPDATE gigs SET status = 'COMPLETED', completed_at = ? WHERE id = ? AND status = 'PENDING_APPROVAL'")) {
+            stmt.setTimestamp(1, new Timestamp(System.currentTimeMillis()));
+            stmt.setInt(2, gig.getId());
+            if (stmt.executeUpdate() == 0) return false;
+        }
+        if (!EscrowLedger.settle(conn, List.of(gig.getId()), EscrowLedger.RELEASED)) return false;
+        ChangeFeed feed = plugin.getChangeFeed();
+        if (feed != null) feed.record(conn, ChangeFeed.GIG, List.of(gig.getId()));
+        return true;
+    }
+    
+    private static boolean hasStatus(BatchTransfer.Result result, BatchTransfer.Status status) {
+        for (BatchTransfer.EntryResult entry : result.getResults()) {
+            if (entry.status == status) return true;
+        }
+        return false;
+    }
+    
+    private void notifyHeldAtMax(List<Gig> gigs) {
+        String prefix = getPrefix();
+        for (Gig gig : gigs) {
+            Player worker = plugin.getServer().getPlayer(gig.getWorkerUUID());
+            if (worker != null) {
+                worker.sendMessage(prefix + "§eGig '" + gig.getTitle() + "' could not be paid out because your balance is at the maximum. " +
+                    "Its payment stays in escrow.");
+            }
+        }
+    }
+    
+    private void notifyAutoApproved(List<Gig> gigs, double commission) {
+        String prefix = getPrefix();
+        for (Gig gig : gigs) {
+            Player worker = plugin.getServer().getPlayer(gig.getWorkerUUID());
+            if (worker != null) {
+                worker.sendMessage(prefix + "§aGig '" + gig.getTitle() + "' was auto-approved. Payment received: $" + 
+                    String.format("%.2f", gig.getPayment() * (1.0 - commission)));
+            }
+            Player poster = plugin.getServer().getPlayer(gig.getPosterUUID());
+            if (poster != null) {
+                poster.sendMessage(prefix + "§7Gig '" + gig.getTitle() + "' was auto-approved because it was not reviewed in time. Worker has been paid.");
+            }
         }
     }
 }
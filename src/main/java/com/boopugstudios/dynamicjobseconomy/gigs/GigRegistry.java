@@ -0,0 +1,237 @@
+package com.boopugstudios.dynamicjobseconomy.gigs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Thread-safe store of live gigs with indexes by status, poster and worker.
+ *
+ * Open gigs are additionally kept in two sorted sets (newest first, best paid first) so the gig
+ * board can be read a page at a time: a page starts right after the cursor returned with the
+ * previous one, costing O(log n + page size) however many gigs are live. Reads are lock-free;
+ * writes are serialized on the registry. A gig's status and worker may only change through
+ * {@link #setStatus} and {@link #assignWorker} so the indexes stay consistent. Open gigs are also
+ * kept in a {@link GigSearchIndex} for /gigs search.
+ */
+public class GigRegistry {
+
+    public enum Order { NEWEST, PAYMENT }
+
+    private static final Comparator<Gig> NEWEST_FIRST = Comparator.comparingInt(Gig::getId).reversed();
+    private static final Comparator<Gig> BEST_PAID_FIRST =
+        Comparator.comparingDouble(Gig::getPayment).reversed().thenComparing(NEWEST_FIRST);
+
+    private final Map<Integer, Gig> byId = new ConcurrentHashMap<>();
+    private final Map<String, Set<Integer>> byStatus = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<Integer>> byPoster = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<Integer>> byWorker = new ConcurrentHashMap<>();
+    private final NavigableSet<Gig> openByNewest = new ConcurrentSkipListSet<>(NEWEST_FIRST);
+    private final NavigableSet<Gig> openByPayment = new ConcurrentSkipListSet<>(BEST_PAID_FIRST);
+    private final GigSearchIndex openText = new GigSearchIndex();
+
+    /**
+     * One page of the open-gig board.
+     */
+    public static final class Page {
+        public final List<Gig> gigs;
+        /** Pass back to read the next page; null on the last page. */
+        public final String nextCursor;
+
+        Page(List<Gig> gigs, String nextCursor) {
+            this.gigs = gigs;
+            this.nextCursor = nextCursor;
+        }
+    }
+
+    /**
+     * Add or replace a gig.
+     */
+    public synchronized void put(Gig gig) {
+        Gig previous = byId.put(gig.getId(), gig);
+        if (previous != null) unindex(previous);
+        index(gig);
+    }
+
+    public synchronized Gig remove(int gigId) {
+        Gig removed = byId.remove(gigId);
+        if (removed != null) unindex(removed);
+        return removed;
+    }
+
+    public synchronized boolean setStatus(int gigId, String status) {
+        Gig gig = byId.get(gigId);
+        if (gig == null || status == null) return false;
+        unindex(gig);
+        gig.setStatus(status);
+        index(gig);
+        return true;
+    }
+
+    public synchronized boolean assignWorker(int gigId, UUID worker) {
+        Gig gig = byId.get(gigId);
+        if (gig == null) return false;
+        unindex(gig);
+        gig.setWorkerUUID(worker);
+        index(gig);
+        return true;
+    }
+
+    public synchronized void clear() {
+        byId.clear();
+        byStatus.clear();
+        byPoster.clear();
+        byWorker.clear();
+        openByNewest.clear();
+        openByPayment.clear();
+        openText.clear();
+    }
+
+    public Gig get(int gigId) {
+        return byId.get(gigId);
+    }
+
+    public List<Gig> getByStatus(String status) {
+        return resolve(byStatus.get(status));
+    }
+
+    public int countByStatus(String status) {
+        Set<Integer> ids = byStatus.get(status);
+        return ids != null ? ids.size() : 0;
+    }
+
+    /**
+     * Gigs the player posted or is working on, each once.
+     */
+    public List<Gig> getInvolving(UUID player) {
+        Map<Integer, Gig> out = new LinkedHashMap<>();
+        for (Gig gig : resolve(byPoster.get(player))) out.put(gig.getId(), gig);
+        for (Gig gig : resolve(byWorker.get(player))) out.put(gig.getId(), gig);
+        return new ArrayList<>(out.values());
+    }
+
+    /**
+     * Every open gig in the given order.
+     */
+    public List<Gig> getOpen(Order order) {
+        return new ArrayList<>(sorted(order));
+    }
+
+    /**
+     * Up to {@code limit} open gigs following {@code cursor} (null for the first page).
+     *
+     * @throws IllegalArgumentException if the cursor is not one this registry issued for {@code order}
+     */
+    public Page openPage(Order order, String cursor, int limit) {
+        NavigableSet<Gig> sorted = sorted(order);
+        Iterator<Gig> it = (cursor == null ? sorted : sorted.tailSet(probe(order, cursor), false)).iterator();
+        List<Gig> gigs = new ArrayList<>(Math.max(0, limit));
+        while (gigs.size() < limit && it.hasNext()) {
+            gigs.add(it.next());
+        }
+        String next = !gigs.isEmpty() && it.hasNext() ? cursorOf(order, gigs.get(gigs.size() - 1)) : null;
+        return new Page(Collections.unmodifiableList(gigs), next);
+    }
+
+    /**
+     * Open gigs matching every word of {@code query}, best match first.
+     */
+    public List<Gig> searchOpen(String query, int limit) {
+        List<Gig> out = new ArrayList<>();
+        for (int id : openText.search(query, limit)) {
+            Gig gig = byId.get(id);
+            if (gig != null) out.add(gig);
+        }
+        return out;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Sum of the payments of every indexed gig.
+     */
+    public double totalPayment() {
+        double total = 0;
+        for (Gig gig : byId.values()) {
+            total += gig.getPayment();
+        }
+        return total;
+    }
+
+    private NavigableSet<Gig> sorted(Order order) {
+        return order == Order.PAYMENT ? openByPayment : openByNewest;
+    }
+
+    private void index(Gig gig) {
+        int id = gig.getId();
+        byStatus.computeIfAbsent(gig.getStatus(), k -> ConcurrentHashMap.newKeySet()).add(id);
+        byPoster.computeIfAbsent(gig.getPosterUUID(), k -> ConcurrentHashMap.newKeySet()).add(id);
+        if (gig.getWorkerUUID() != null) {
+            byWorker.computeIfAbsent(gig.getWorkerUUID(), k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+        if ("OPEN".equals(gig.getStatus())) {
+            openByNewest.add(gig);
+            openByPayment.add(gig);
+            openText.add(gig);
+        }
+    }
+
+    private void unindex(Gig gig) {
+        int id = gig.getId();
+        removeFrom(byStatus, gig.getStatus(), id);
+        removeFrom(byPoster, gig.getPosterUUID(), id);
+        if (gig.getWorkerUUID() != null) removeFrom(byWorker, gig.getWorkerUUID(), id);
+        openByNewest.remove(gig);
+        openByPayment.remove(gig);
+        openText.remove(id);
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Integer>> index, K key, int id) {
+        if (key == null) return;
+        Set<Integer> ids = index.get(key);
+        if (ids == null) return;
+        ids.remove(id);
+        if (ids.isEmpty()) index.remove(key);
+    }
+
+    private List<Gig> resolve(Set<Integer> ids) {
+        if (ids == null || ids.isEmpty()) return new ArrayList<>(0);
+        List<Gig> out = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            Gig gig = byId.get(id);
+            if (gig != null) out.add(gig);
+        }
+        out.sort(NEWEST_FIRST);
+        return out;
+    }
+
+    // Cursors carry the sort key itself, so they stay valid after the gig they point at is taken
+    private static String cursorOf(Order order, Gig last) {
+        return order == Order.PAYMENT ? last.getPayment() + ":" + last.getId() : String.valueOf(last.getId());
+    }
+
+    private static Gig probe(Order order, String cursor) {
+        try {
+            if (order == Order.PAYMENT) {
+                int split = cursor.lastIndexOf(':');
+                if (split < 0) throw new IllegalArgumentException("Invalid gig cursor: " + cursor);
+                double payment = Double.parseDouble(cursor.substring(0, split));
+                return new Gig(Integer.parseInt(cursor.substring(split + 1)), null, null, null, payment);
+            }
+            return new Gig(Integer.parseInt(cursor), null, null, null, 0.0);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid gig cursor: " + cursor, e);
+        }
+    }
+}
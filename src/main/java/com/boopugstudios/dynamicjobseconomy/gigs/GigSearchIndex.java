@@ -0,0 +1,130 @@
+package com.boopugstudios.dynamicjobseconomy.gigs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Inverted index over gig titles and descriptions for /gigs search.
+ *
+ * Text is lower-cased and split on anything that is not a letter or digit. Each term maps to the
+ * gigs containing it with a weight (title words count more than description words). Terms are
+ * kept sorted, so a query word also matches every term it is a prefix of. A gig matches when it
+ * matches every query word; results are ranked by summed weight, exact words beating prefixes,
+ * then newest first. Writes are serialized; searches read concurrently.
+ */
+public class GigSearchIndex {
+
+    static final int TITLE_WEIGHT = 3;
+    static final int DESCRIPTION_WEIGHT = 1;
+    // Shorter query words only match whole terms; "a" would otherwise expand to half the index
+    static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_TERM_LENGTH = 32;
+
+    private final NavigableMap<String, Map<Integer, Integer>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Integer, Set<String>> termsOf = new ConcurrentHashMap<>();
+
+    public synchronized void add(Gig gig) {
+        remove(gig.getId());
+        Map<String, Integer> weights = new HashMap<>();
+        for (String term : tokenize(gig.getTitle())) weights.merge(term, TITLE_WEIGHT, Math::max);
+        for (String term : tokenize(gig.getDescription())) weights.merge(term, DESCRIPTION_WEIGHT, Math::max);
+        if (weights.isEmpty()) return;
+        for (Map.Entry<String, Integer> e : weights.entrySet()) {
+            postings.computeIfAbsent(e.getKey(), k -> new ConcurrentHashMap<>()).put(gig.getId(), e.getValue());
+        }
+        termsOf.put(gig.getId(), weights.keySet());
+    }
+
+    public synchronized void remove(int gigId) {
+        Set<String> terms = termsOf.remove(gigId);
+        if (terms == null) return;
+        for (String term : terms) {
+            Map<Integer, Integer> gigs = postings.get(term);
+            if (gigs == null) continue;
+            gigs.remove(gigId);
+            if (gigs.isEmpty()) postings.remove(term);
+        }
+    }
+
+    public synchronized void clear() {
+        postings.clear();
+        termsOf.clear();
+    }
+
+    /**
+     * Ids of the best matching gigs, best first.
+     */
+    public List<Integer> search(String query, int limit) {
+        List<String> words = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (words.isEmpty() || limit <= 0) return Collections.emptyList();
+
+        List<Map<Integer, Integer>> perWord = new ArrayList<>(words.size());
+        for (String word : words) {
+            Map<Integer, Integer> scores = match(word);
+            if (scores.isEmpty()) return Collections.emptyList();
+            perWord.add(scores);
+        }
+        // Intersect starting from the most selective word
+        perWord.sort(Comparator.comparingInt(Map::size));
+        Map<Integer, Integer> total = new HashMap<>(perWord.get(0));
+        for (int i = 1; i < perWord.size() && !total.isEmpty(); i++) {
+            Map<Integer, Integer> scores = perWord.get(i);
+            total.entrySet().removeIf(e -> {
+                Integer score = scores.get(e.getKey());
+                if (score == null) return true;
+                e.setValue(e.getValue() + score);
+                return false;
+            });
+        }
+
+        List<Map.Entry<Integer, Integer>> ranked = new ArrayList<>(total.entrySet());
+        ranked.sort(Map.Entry.<Integer, Integer>comparingByValue().reversed()
+            .thenComparing(Map.Entry.<Integer, Integer>comparingByKey().reversed()));
+        List<Integer> ids = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (int i = 0; i < ranked.size() && ids.size() < limit; i++) {
+            ids.add(ranked.get(i).getKey());
+        }
+        return ids;
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * Best score per gig for one query word: exact terms count double, prefix matches once.
+     */
+    private Map<Integer, Integer> match(String word) {
+        Map<Integer, Integer> scores = new HashMap<>();
+        Map<Integer, Integer> exact = postings.get(word);
+        if (exact != null) {
+            for (Map.Entry<Integer, Integer> e : exact.entrySet()) scores.put(e.getKey(), e.getValue() * 2);
+        }
+        if (word.length() >= MIN_PREFIX_LENGTH) {
+            for (Map.Entry<String, Map<Integer, Integer>> term : postings.subMap(word, false, word + Character.MAX_VALUE, false).entrySet()) {
+                for (Map.Entry<Integer, Integer> e : term.getValue().entrySet()) scores.merge(e.getKey(), e.getValue(), Math::max);
+            }
+        }
+        return scores;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) return Collections.emptyList();
+        List<String> terms = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.isEmpty()) continue;
+            terms.add(token.length() > MAX_TERM_LENGTH ? token.substring(0, MAX_TERM_LENGTH) : token);
+        }
+        return terms;
+    }
+}
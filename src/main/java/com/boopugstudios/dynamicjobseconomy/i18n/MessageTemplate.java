@@ -0,0 +1,108 @@
+package com.boopugstudios.dynamicjobseconomy.i18n;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A message compiled once into alternating literal and placeholder segments.
+ *
+ * A template with n placeholders is stored as n + 1 literals and n placeholder keys, so
+ * rendering is a single left-to-right pass into a caller-supplied StringBuilder instead of
+ * one full-string replace per placeholder. Placeholders use the existing %key% syntax; a
+ * key without a value renders back as %key% so unknown tokens stay visible, and a lone '%'
+ * (e.g. "50% off") is kept as a literal. Substituted values are never re-scanned.
+ */
+public final class MessageTemplate {
+
+    private final String[] literals;
+    private final String[] keys;
+    private final int literalLength;
+
+    private MessageTemplate(String[] literals, String[] keys) {
+        this.literals = literals;
+        this.keys = keys;
+        int len = 0;
+        for (String l : literals) len += l.length();
+        this.literalLength = len;
+    }
+
+    /**
+     * Compile an already-colorized message string.
+     */
+    public static MessageTemplate compile(String text) {
+        if (text == null) text = "";
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        int n = text.length();
+        while (i < n) {
+            char c = text.charAt(i);
+            if (c == '%') {
+                int end = i + 1;
+                while (end < n && isKeyChar(text.charAt(end))) end++;
+                if (end < n && end > i + 1 && text.charAt(end) == '%') {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    keys.add(text.substring(i + 1, end));
+                    i = end + 1;
+                    continue;
+                }
+            }
+            literal.append(c);
+            i++;
+        }
+        literals.add(literal.toString());
+        return new MessageTemplate(literals.toArray(new String[0]), keys.toArray(new String[0]));
+    }
+
+    /**
+     * Append the rendered message to {@code out}.
+     * Values may be any object (rendered via toString) or a {@code Consumer<StringBuilder>} that
+     * writes itself directly into the builder, such as {@code EconomyFormat.moneyArg(amount)}.
+     */
+    @SuppressWarnings("unchecked")
+    public void render(StringBuilder out, Map<String, ?> placeholders) {
+        out.append(literals[0]);
+        for (int k = 0; k < keys.length; k++) {
+            Object value = placeholders != null ? placeholders.get(keys[k]) : null;
+            if (value == null) {
+                out.append('%').append(keys[k]).append('%');
+            } else if (value instanceof Consumer) {
+                ((Consumer<StringBuilder>) value).accept(out);
+            } else if (value instanceof CharSequence) {
+                out.append((CharSequence) value);
+            } else {
+                out.append(value);
+            }
+            out.append(literals[k + 1]);
+        }
+    }
+
+    /**
+     * True when the template has no placeholders, so the literal can be returned as-is.
+     */
+    public boolean isConstant() {
+        return keys.length == 0;
+    }
+
+    /**
+     * The literal text of a constant template.
+     */
+    public String constant() {
+        return literals[0];
+    }
+
+    /**
+     * Capacity hint for rendering: literal characters plus a small allowance per placeholder.
+     */
+    public int estimatedLength() {
+        return literalLength + keys.length * 16;
+    }
+
+    private static boolean isKeyChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '-' || c == '.';
+    }
+}
@@ -6,12 +6,25 @@ import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Messages {
+    private static final String DEFAULT_PREFIX = "§8[§6DynamicJobs§8] ";
+    // Builders larger than this are dropped after use rather than pinned to the thread
+    private static final int MAX_RETAINED_CAPACITY = 4096;
+
     private final JavaPlugin plugin;
     private File file;
     private FileConfiguration config;
 
+    // Templates compiled from messages.yml at load, keyed by path
+    private volatile Map<String, MessageTemplate> templates = new ConcurrentHashMap<>();
+    // Templates compiled from code-supplied defaults, keyed by the raw default text
+    private final Map<String, MessageTemplate> defaultTemplates = new ConcurrentHashMap<>();
+    private volatile String filePrefix = DEFAULT_PREFIX;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
     public Messages(JavaPlugin plugin) {
         this.plugin = plugin;
     }
@@ -31,6 +44,19 @@ public class Messages {
             plugin.getLogger().warning("Failed to load messages.yml: " + e.getMessage());
             this.config = new YamlConfiguration();
         }
+        compileTemplates();
+    }
+
+    private void compileTemplates() {
+        Map<String, MessageTemplate> compiled = new ConcurrentHashMap<>();
+        for (String path : config.getKeys(true)) {
+            if (!config.isConfigurationSection(path)) {
+                String raw = config.getString(path);
+                if (raw != null) compiled.put(path, MessageTemplate.compile(colorize(raw)));
+            }
+        }
+        this.templates = compiled;
+        this.filePrefix = colorize(config.getString("messages.prefix", DEFAULT_PREFIX));
     }
 
     public String getPrefix() {
@@ -46,21 +72,28 @@ public class Messages {
         } catch (Throwable ignored) {
             // If plugin.getConfig() is unavailable in tests/mocks, fall back below
         }
-        String raw = (config != null)
-            ? config.getString("messages.prefix", "§8[§6DynamicJobs§8] ")
-            : "§8[§6DynamicJobs§8] ";
-        return colorize(raw);
+        return filePrefix;
     }
 
-    public String get(String path, Map<String, String> placeholders, String def) {
-        String raw = config.getString(path, def);
-        raw = colorize(raw);
-        if (placeholders != null) {
-            for (Map.Entry<String, String> e : placeholders.entrySet()) {
-                raw = raw.replace("%" + e.getKey() + "%", e.getValue());
-            }
+    public String get(String path, Map<String, ?> placeholders, String def) {
+        MessageTemplate template = template(path, def);
+        if (template == null) return null;
+        if (template.isConstant()) return template.constant();
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        template.render(sb, placeholders);
+        String out = sb.toString();
+        if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.set(new StringBuilder(256));
         }
-        return raw;
+        return out;
+    }
+
+    private MessageTemplate template(String path, String def) {
+        MessageTemplate template = templates.get(path);
+        if (template != null) return template;
+        if (def == null) return null;
+        return defaultTemplates.computeIfAbsent(def, d -> MessageTemplate.compile(colorize(d)));
     }
 
     private String colorize(String s) {
@@ -1,6 +1,7 @@
 package com.boopugstudios.dynamicjobseconomy.jobs;
 
 import com.boopugstudios.dynamicjobseconomy.DynamicJobsEconomy;
+import com.boopugstudios.dynamicjobseconomy.database.ChangeFeed;
 import com.boopugstudios.dynamicjobseconomy.util.JobNameUtil;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
@@ -25,6 +26,8 @@ public class JobManager {
     public JobManager(DynamicJobsEconomy plugin) {
         this.plugin = plugin;
         loadJobs();
+        ChangeFeed feed = plugin.getChangeFeed();
+        if (feed != null) feed.subscribe(ChangeFeed.PLAYER_JOBS, this::onRemotePlayerJobsChange);
     }
 
     private String getPrefix() {
@@ -278,6 +281,7 @@ public class JobManager {
                 
                 stmt.executeUpdate();
             }
+            recordChange(conn, player.getUniqueId());
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Error saving job data for " + player.getName(), e);
         }
@@ -305,6 +309,7 @@ public class JobManager {
                 stmt.setString(2, jobName);
                 stmt.executeUpdate();
             }
+            recordChange(conn, player.getUniqueId());
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Error removing job data for " + player.getName(), e);
         }
@@ -390,6 +395,7 @@ public Job getJob(String name) {
                 stmt.setInt(3, level);
                 stmt.executeUpdate();
             }
+            recordChange(conn, offlinePlayer.getUniqueId());
             return true;
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Error setting offline job level for " + offlinePlayer.getUniqueId() + ", job=" + job.getName(), e);
@@ -397,11 +403,72 @@ public Job getJob(String name) {
         }
     }
 
+    /**
+     * Mirror a level written straight to job_levels (bulk admin tools) into an online player's
+     * cached data, leaving their other jobs and unsaved experience alone. Main thread only.
+     */
+    public void applyStoredLevel(Player player, String jobName, int level) {
+        PlayerJobData data = playerData.get(player.getUniqueId());
+        if (data == null || !data.isLoaded()) return; // the next read loads the stored row
+        JobLevel jl = data.getJobLevel(jobName);
+        jl.setLevel(level);
+        jl.setExperience(0);
+    }
+
     public void invalidatePlayerData(Player player) {
         PlayerJobData data = playerData.computeIfAbsent(player.getUniqueId(), PlayerJobData::new);
         data.setLoaded(false);
     }
 
+    /**
+     * Another node wrote this player's job levels. The rows are re-read on the poller thread and
+     * merged into an online player's cached copy on the main thread, so experience earned here
+     * since the last save survives; a player who is not online here just has the copy dropped.
+     */
+    private void onRemotePlayerJobsChange(String key) {
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(key);
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        Map<String, JobLevel> stored = readJobLevels(uuid);
+        plugin.getServer().getScheduler().runTask(plugin, () -> {
+            PlayerJobData data = playerData.get(uuid);
+            if (data == null) return;
+            if (plugin.getServer().getPlayer(uuid) == null || !data.isLoaded()) {
+                playerData.remove(uuid);
+            } else if (stored != null) {
+                data.mergeStored(stored);
+            }
+        });
+    }
+
+    /** A player's stored job rows, or null if they could not be read. */
+    private Map<String, JobLevel> readJobLevels(UUID playerUUID) {
+        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+            String sql = "SELECT job_name, level, experience FROM job_levels WHERE player_uuid = ?";
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, playerUUID.toString());
+                try (ResultSet rs = stmt.executeQuery()) {
+                    Map<String, JobLevel> levels = new HashMap<>();
+                    while (rs.next()) {
+                        levels.put(rs.getString("job_name"), new JobLevel(rs.getInt("level"), rs.getInt("experience")));
+                    }
+                    return levels;
+                }
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error reloading job data for " + playerUUID, e);
+            return null;
+        }
+    }
+
+    private void recordChange(Connection conn, UUID playerUUID) throws SQLException {
+        ChangeFeed feed = plugin.getChangeFeed();
+        if (feed != null) feed.record(conn, ChangeFeed.PLAYER_JOBS, playerUUID);
+    }
+
     public void refreshPlayerData(Player player) {
         PlayerJobData data = playerData.computeIfAbsent(player.getUniqueId(), PlayerJobData::new);
         data.setLoaded(false);
@@ -47,6 +47,26 @@ public class PlayerJobData {
         return new HashMap<>(jobLevels);
     }
 
+    /**
+     * Fold in job rows another node wrote, keeping progress this node has not saved yet. Level-ups
+     * are saved as they happen, so a stored level that differs from ours was set elsewhere and
+     * wins with its experience; at the same level our experience is at least the stored one and
+     * is kept. Jobs missing from {@code stored} were left elsewhere and are dropped.
+     */
+    public void mergeStored(Map<String, JobLevel> stored) {
+        jobLevels.keySet().retainAll(stored.keySet());
+        for (Map.Entry<String, JobLevel> e : stored.entrySet()) {
+            JobLevel theirs = e.getValue();
+            JobLevel ours = jobLevels.get(e.getKey());
+            if (ours == null) {
+                jobLevels.put(e.getKey(), new JobLevel(theirs.getLevel(), theirs.getExperience()));
+            } else if (ours.getLevel() != theirs.getLevel()) {
+                ours.setLevel(theirs.getLevel());
+                ours.setExperience(theirs.getExperience());
+            }
+        }
+    }
+
     public boolean isLoaded() {
         return loaded;
     }
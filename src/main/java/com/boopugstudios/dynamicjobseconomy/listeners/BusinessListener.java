@@ -1,17 +1,51 @@
 package com.boopugstudios.dynamicjobseconomy.listeners;
 
 import com.boopugstudios.dynamicjobseconomy.DynamicJobsEconomy;
+import com.boopugstudios.dynamicjobseconomy.business.Business;
+import com.boopugstudios.dynamicjobseconomy.business.BusinessLocation;
+import com.boopugstudios.dynamicjobseconomy.business.ConsolidatedBusinessManager;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
 
 public class BusinessListener implements Listener {
-    
-    @SuppressWarnings("unused") // Will be used when business events are implemented
+
     private final DynamicJobsEconomy plugin;
-    
+
     public BusinessListener(DynamicJobsEconomy plugin) {
         this.plugin = plugin;
     }
-    
-    // Business-related event handlers will be implemented here
-    // Future events: business transactions, employee actions, etc.
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        attributeActivity(event.getPlayer(), event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        attributeActivity(event.getPlayer(), event.getBlock());
+    }
+
+    /**
+     * Credit work done inside a business location to that business when the player is its owner
+     * or one of its employees. The location lookup is a single chunk-grid probe.
+     */
+    private void attributeActivity(Player player, Block block) {
+        ConsolidatedBusinessManager manager = plugin.getConsolidatedBusinessManager();
+        if (manager == null) return;
+        BusinessLocation location = manager.getBusinessLocationAt(block.getLocation());
+        if (location == null) return;
+
+        int businessId = location.getBusinessId();
+        Business business = manager.getBusiness(businessId);
+        if (business == null) return;
+        if (player.getUniqueId().equals(business.getOwnerUUID())
+                || manager.isPlayerEmployedByBusiness(businessId, player.getUniqueId())) {
+            manager.recordLocationActivity(businessId);
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.boopugstudios.dynamicjobseconomy.listeners;
 
 import com.boopugstudios.dynamicjobseconomy.DynamicJobsEconomy;
+import com.boopugstudios.dynamicjobseconomy.economy.EconomyStats;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -9,6 +10,7 @@ import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.event.inventory.FurnaceExtractEvent;
 import org.bukkit.event.player.PlayerHarvestBlockEvent;
+import org.bukkit.inventory.ItemStack;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -46,6 +48,8 @@ public class JobListener implements Listener {
             blockPlacementTimes.remove(blockKey); // Clean up
         }
         
+        boolean paid = false;
+        
         // Check if player has miner job and is mining ores
         if (isMiningMaterial(material)) {
             if (plugin.getJobManager().getPlayerData(player).hasJob("miner")) {
@@ -61,7 +65,8 @@ public class JobListener implements Listener {
                 double basePay = 50.0;
                 
                 plugin.getJobManager().addExperience(player, "miner", (int)(baseXP * (1 + bonus)));
-                plugin.getEconomyManager().deposit(player, basePay * (1 + bonus));
+                plugin.getEconomyManager().deposit(player, basePay * (1 + bonus), EconomyStats.Flow.JOB_PAYOUT);
+                paid = true;
                 
                 updateJobCooldown(player);
             }
@@ -75,10 +80,15 @@ public class JobListener implements Listener {
             double basePay = 25.0; // Reduced from 45 to prevent exploitation
             
             plugin.getJobManager().addExperience(player, "builder", (int)(baseXP * (1 + bonus)));
-            plugin.getEconomyManager().deposit(player, basePay * (1 + bonus));
+            plugin.getEconomyManager().deposit(player, basePay * (1 + bonus), EconomyStats.Flow.JOB_PAYOUT);
+            paid = true;
             
             updateJobCooldown(player);
         }
+        
+        if (paid) {
+            recordSupply(material, 1);
+        }
     }
     
     @EventHandler
@@ -87,7 +97,8 @@ public class JobListener implements Listener {
         
         // Chef job for cooking
         if (plugin.getJobManager().getPlayerData(player).hasJob("chef")) {
-            plugin.getEconomyManager().deposit(player, 40);
+            plugin.getEconomyManager().deposit(player, 40, EconomyStats.Flow.JOB_PAYOUT);
+            recordSupply(event.getItemType(), event.getItemAmount());
         }
     }
     
@@ -98,7 +109,10 @@ public class JobListener implements Listener {
         // Farmer job for harvesting
         if (plugin.getJobManager().getPlayerData(player).hasJob("farmer")) {
             plugin.getJobManager().addExperience(player, "farmer", 12);
-            plugin.getEconomyManager().deposit(player, 35);
+            plugin.getEconomyManager().deposit(player, 35, EconomyStats.Flow.JOB_PAYOUT);
+            for (ItemStack item : event.getItemsHarvested()) {
+                recordSupply(item.getType(), item.getAmount());
+            }
         }
     }
     
@@ -112,6 +126,15 @@ public class JobListener implements Listener {
         cleanupOldPlacements();
     }
     
+    /**
+     * Report goods produced by paid job work to the market price engine.
+     */
+    private void recordSupply(Material material, int amount) {
+        if (plugin.getConsolidatedBusinessManager() != null) {
+            plugin.getConsolidatedBusinessManager().getMarketPrices().recordSupply(material, amount);
+        }
+    }
+    
     private boolean checkJobCooldown(Player player) {
         long now = System.currentTimeMillis();
         Long lastPay = lastJobPayment.get(player.getUniqueId());
@@ -1,8 +1,11 @@
 package com.boopugstudios.dynamicjobseconomy.util;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Locale;
+import java.util.function.Consumer;
 import org.bukkit.configuration.file.FileConfiguration;
 
 /**
@@ -34,6 +37,15 @@ public final class EconomyFormat {
     // Thread-local number formatter based on current config
     private static ThreadLocal<DecimalFormat> NUMBER_FMT = ThreadLocal.withInitial(EconomyFormat::createNumberFormat);
 
+    // Reused builder for money(); appendMoney() callers bring their own
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(32));
+
+    // Digit-writing fast path covers |amount| * 10^decimals below this bound; larger values use DecimalFormat
+    private static final double FAST_PATH_LIMIT = 1e15;
+    private static final long[] POW10 = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L
+    };
+
     private EconomyFormat() {}
 
     public static String format(double amount) {
@@ -52,11 +64,92 @@ public final class EconomyFormat {
      * Returns a money string with currency symbol applied according to config.
      */
     public static String money(double amount) {
-        String num = number(amount);
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        appendMoney(sb, amount);
+        return sb.toString();
+    }
+
+    /**
+     * Append a money value (symbol, grouping and decimals per config) to the builder without
+     * creating intermediate strings.
+     */
+    public static StringBuilder appendMoney(StringBuilder out, double amount) {
+        String symbol = SYMBOL;
+        boolean space = SPACE;
         if (PREFIX) {
-            return SYMBOL + (SPACE ? " " : "") + num;
+            out.append(symbol);
+            if (space) out.append(' ');
+            appendNumber(out, amount);
         } else {
-            return num + (SPACE ? " " : "") + SYMBOL;
+            appendNumber(out, amount);
+            if (space) out.append(' ');
+            out.append(symbol);
+        }
+        return out;
+    }
+
+    /**
+     * Append a number formatted like {@link #number(double)} by writing digits directly.
+     * Output matches DecimalFormat (HALF_EVEN rounding); exact ties and values outside the
+     * fast-path range are delegated to BigDecimal/DecimalFormat.
+     */
+    public static StringBuilder appendNumber(StringBuilder out, double amount) {
+        int decimals = DECIMALS;
+        boolean grouping = GROUPING;
+        char groupSep = GROUPING_SEP;
+        char decSep = DECIMAL_SEP;
+        if (decimals >= POW10.length || !Double.isFinite(amount)) {
+            return out.append(number(amount));
+        }
+        long scale = POW10[decimals];
+        double abs = Math.abs(amount);
+        double scaled = abs * scale;
+        if (scaled >= FAST_PATH_LIMIT) {
+            return out.append(number(amount));
+        }
+
+        long units = (long) scaled;
+        double frac = scaled - units;
+        if (Math.abs(frac - 0.5) < 1e-7) {
+            // Near a tie the scaled double is not trustworthy; round the exact binary value like DecimalFormat does
+            units = new BigDecimal(abs).setScale(decimals, RoundingMode.HALF_EVEN).unscaledValue().longValue();
+        } else if (frac > 0.5) {
+            units++;
+        }
+
+        // DecimalFormat keeps the sign of negative values even when they round to zero
+        if (Double.doubleToRawLongBits(amount) < 0) out.append('-');
+
+        long intPart = units / scale;
+        long fracPart = units % scale;
+        appendGrouped(out, intPart, grouping, groupSep);
+        if (decimals > 0) {
+            out.append(decSep);
+            for (long p = scale / 10; p > 0; p /= 10) {
+                out.append((char) ('0' + (fracPart / p) % 10));
+            }
+        }
+        return out;
+    }
+
+    /**
+     * A placeholder value that writes the formatted money straight into a message builder.
+     */
+    public static Consumer<StringBuilder> moneyArg(double amount) {
+        return sb -> appendMoney(sb, amount);
+    }
+
+    private static void appendGrouped(StringBuilder out, long value, boolean grouping, char sep) {
+        long p = 1;
+        int digits = 1;
+        while (p <= value / 10) {
+            p *= 10;
+            digits++;
+        }
+        for (; p > 0; p /= 10, digits--) {
+            out.append((char) ('0' + (value / p) % 10));
+            if (grouping && digits > 1 && (digits - 1) % 3 == 0) out.append(sep);
         }
     }
 
@@ -0,0 +1,183 @@
+package com.boopugstudios.dynamicjobseconomy.admin;
+
+import com.boopugstudios.dynamicjobseconomy.DynamicJobsEconomy;
+import com.boopugstudios.dynamicjobseconomy.database.DatabaseManager;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkAdminOperationTest {
+
+    @TempDir
+    Path tempDir;
+
+    private DatabaseManager db;
+
+    @AfterEach
+    void tearDown() {
+        if (db != null) {
+            db.closeConnections();
+        }
+    }
+
+    @Test
+    void parseUuidLines_skipsBlankCommentsAndMalformed() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        List<UUID> parsed = BulkAdminOperation.parseUuidLines(Arrays.asList(
+            "# season 3 compensation",
+            "",
+            "  " + a + "  ",
+            "not-a-uuid",
+            b.toString()
+        ));
+        assertEquals(Arrays.asList(a, b), parsed);
+    }
+
+    @Test
+    void parseUuidLines_collapsesDuplicatesPreservingOrder() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        List<UUID> parsed = BulkAdminOperation.parseUuidLines(Arrays.asList(
+            b.toString(), a.toString(), b.toString()
+        ));
+        assertEquals(Arrays.asList(b, a), parsed);
+    }
+
+    @Test
+    @Tag("integration")
+    void take_skipsPlayersWhoWouldOverdrawAndCommitsTheRest() throws Exception {
+        BulkAdminOperation op = new BulkAdminOperation(sqlitePlugin());
+        OfflinePlayer rich = seed("Rich", 500.0);
+        OfflinePlayer poor = seed("Poor", 10.0);
+        OfflinePlayer fresh = player("Fresh"); // no row yet: created at the starting balance
+
+        BulkAdminOperation.Result result = op.applyEconomy("take", List.of(rich, poor, fresh), 100.0, null);
+
+        assertEquals(3, result.total);
+        assertEquals(2, result.succeeded);
+        assertEquals(1, result.skipped);
+        assertEquals(0, result.failed);
+        assertEquals(200.0, result.volume, 0.001);
+        assertEquals(400.0, balance(rich), 0.001);
+        assertEquals(10.0, balance(poor), 0.001);
+        assertEquals(900.0, balance(fresh), 0.001);
+    }
+
+    @Test
+    @Tag("integration")
+    void give_skipsTargetsItWouldPushPastMaxMoney() throws Exception {
+        BulkAdminOperation op = new BulkAdminOperation(sqlitePlugin());
+        OfflinePlayer a = seed("A", 50.0);
+        OfflinePlayer capped = seed("Capped", 9_999_990.0);
+
+        List<int[]> progress = new ArrayList<>();
+        BulkAdminOperation.Result result = op.applyEconomy("give", List.of(a, capped), 25.0,
+            (done, total) -> progress.add(new int[]{done, total}));
+
+        assertEquals(1, result.succeeded);
+        assertEquals(1, result.skipped);
+        assertEquals(25.0, result.volume, 0.001);
+        assertEquals(75.0, balance(a), 0.001);
+        assertEquals(9_999_990.0, balance(capped), 0.001);
+        assertEquals(1, progress.size());
+        assertArrayEquals(new int[]{2, 2}, progress.get(0));
+    }
+
+    @Test
+    @Tag("integration")
+    void set_overwritesEveryBalanceAndRefusesAmountsAboveMaxMoney() throws Exception {
+        BulkAdminOperation op = new BulkAdminOperation(sqlitePlugin());
+        OfflinePlayer a = seed("A", 50.0);
+        OfflinePlayer b = seed("B", 5_000.0);
+
+        BulkAdminOperation.Result set = op.applyEconomy("set", List.of(a, b), 1_234.0, null);
+        assertEquals(2, set.succeeded);
+        assertEquals(1_234.0, balance(a), 0.001);
+        assertEquals(1_234.0, balance(b), 0.001);
+
+        BulkAdminOperation.Result huge = op.applyEconomy("set", List.of(a), 50_000_000.0, null);
+        assertEquals(0, huge.succeeded);
+        assertEquals(1, huge.skipped);
+        assertEquals(0.0, huge.volume, 0.001);
+        assertEquals(1_234.0, balance(a), 0.001);
+    }
+
+    @Test
+    void unknownActionIsRejectedBeforeAnyWrite() throws Exception {
+        DynamicJobsEconomy plugin = sqlitePlugin();
+        BulkAdminOperation op = new BulkAdminOperation(plugin);
+        OfflinePlayer a = player("A");
+
+        assertThrows(IllegalArgumentException.class, () -> op.applyEconomy("steal", List.of(a), 10.0, null));
+        try (Connection conn = db.getConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT COUNT(*) FROM players");
+             ResultSet rs = ps.executeQuery()) {
+            assertTrue(rs.next());
+            assertEquals(0, rs.getInt(1));
+        }
+    }
+
+    private DynamicJobsEconomy sqlitePlugin() {
+        FileConfiguration cfg = Mockito.mock(FileConfiguration.class);
+        Mockito.when(cfg.getString(Mockito.eq("database.type"), ArgumentMatchers.anyString())).thenReturn("sqlite");
+        Mockito.when(cfg.getDouble(ArgumentMatchers.anyString(), ArgumentMatchers.anyDouble()))
+            .thenAnswer(inv -> inv.getArgument(1));
+        DynamicJobsEconomy plugin = Mockito.mock(DynamicJobsEconomy.class);
+        Mockito.when(plugin.getConfig()).thenReturn(cfg);
+        Mockito.when(plugin.getDataFolder()).thenReturn(tempDir.toFile());
+        Mockito.when(plugin.getLogger()).thenReturn(Logger.getLogger("DJE-Test"));
+        db = new DatabaseManager(plugin);
+        assertTrue(db.initialize(), "SQLite initialize() should return true");
+        Mockito.when(plugin.getDatabaseManager()).thenReturn(db);
+        return plugin;
+    }
+
+    private static OfflinePlayer player(String name) {
+        OfflinePlayer p = Mockito.mock(OfflinePlayer.class);
+        UUID id = UUID.randomUUID();
+        Mockito.when(p.getUniqueId()).thenReturn(id);
+        Mockito.when(p.getName()).thenReturn(name);
+        return p;
+    }
+
+    private OfflinePlayer seed(String name, double money) throws Exception {
+        OfflinePlayer p = player(name);
+        try (Connection conn = db.getConnection();
+             PreparedStatement ps = conn.prepareStatement("INSERT INTO players (uuid, username, money) VALUES (?, ?, ?)")) {
+            ps.setString(1, p.getUniqueId().toString());
+            ps.setString(2, name);
+            ps.setDouble(3, money);
+            ps.executeUpdate();
+        }
+        return p;
+    }
+
+    private double balance(OfflinePlayer p) throws Exception {
+        try (Connection conn = db.getConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT money FROM players WHERE uuid = ?")) {
+            ps.setString(1, p.getUniqueId().toString());
+            try (ResultSet rs = ps.executeQuery()) {
+                assertTrue(rs.next(), "player row should exist");
+                return rs.getDouble(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessAssetRepositoryTest {
+
+    private static BusinessContract contract(String title) {
+        return new BusinessContract(title, "", BusinessContract.ContractType.CUSTOM, 100.0, 10.0, 1,
+            System.currentTimeMillis() + 60_000L, "{}", "Client");
+    }
+
+    @Test
+    void get_loadsOnceAndEvictsLeastRecentlyUsed() {
+        AtomicInteger loads = new AtomicInteger();
+        BusinessAssetRepository repo = new BusinessAssetRepository(2);
+        IntFunction<BusinessAssetRepository.Assets> loader = id -> {
+            loads.incrementAndGet();
+            return new BusinessAssetRepository.Assets();
+        };
+
+        repo.getContracts(1, loader);
+        repo.getContracts(2, loader);
+        repo.getContracts(1, loader); // 1 is now most recently used
+        repo.getContracts(3, loader); // evicts 2
+        assertEquals(3, loads.get());
+        assertEquals(2, repo.size());
+
+        repo.getContracts(1, loader);
+        assertEquals(3, loads.get());
+        repo.getContracts(2, loader);
+        assertEquals(4, loads.get());
+        assertEquals(2, repo.getEvictions()); // 2, then 3 when 2 came back
+    }
+
+    @Test
+    void queuedContracts_surviveEvictionUntilDrained() {
+        BusinessAssetRepository repo = new BusinessAssetRepository(1);
+        IntFunction<BusinessAssetRepository.Assets> loader = id -> new BusinessAssetRepository.Assets();
+
+        repo.getContracts(1, loader);
+        repo.queueContract(1, contract("a"));
+        repo.queueContract(7, contract("b")); // not cached
+        assertEquals(1, repo.getContracts(1, loader).size());
+
+        repo.getContracts(2, loader); // evicts 1
+        assertEquals(List.of("a"), repo.getContracts(1, loader).stream().map(BusinessContract::getTitle).toList());
+        assertEquals(1, repo.getContracts(7, loader).size());
+
+        Map<Integer, List<BusinessContract>> drained = repo.drainPendingContracts();
+        assertEquals(2, drained.size());
+        assertEquals(0, repo.getPendingContractCount());
+
+        repo.restorePendingContracts(drained);
+        assertEquals(2, repo.getPendingContractCount());
+    }
+
+    @Test
+    void loadDuringContractWrite_mergesInFlightButCachesOnlyAfterItFinishes() {
+        BusinessAssetRepository repo = new BusinessAssetRepository(4);
+        AtomicInteger loads = new AtomicInteger();
+        IntFunction<BusinessAssetRepository.Assets> loader = id -> {
+            loads.incrementAndGet();
+            return new BusinessAssetRepository.Assets();
+        };
+
+        repo.queueContract(1, contract("a"));
+        Map<Integer, List<BusinessContract>> drained = repo.drainPendingContracts();
+
+        // Evicted business read while its contract is written: still visible, not cached
+        assertEquals(1, repo.getContracts(1, loader).size());
+        assertEquals(0, repo.size());
+
+        repo.restorePendingContracts(drained); // write failed
+        assertEquals(1, repo.getContracts(1, loader).size());
+        assertEquals(1, repo.size());
+
+        drained = repo.drainPendingContracts();
+        repo.completePendingContracts(drained);
+        assertEquals(1, repo.getContracts(1, loader).size()); // cached bundle already held it
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void loadRacingAWrite_isReturnedButNotCached() {
+        BusinessAssetRepository repo = new BusinessAssetRepository(4);
+        AtomicInteger loads = new AtomicInteger();
+
+        repo.getChains(1, id -> {
+            loads.incrementAndGet();
+            repo.invalidate(1); // a write lands while the load is in flight
+            return new BusinessAssetRepository.Assets();
+        });
+        assertEquals(0, repo.size());
+
+        repo.getChains(1, id -> {
+            loads.incrementAndGet();
+            return new BusinessAssetRepository.Assets();
+        });
+        assertEquals(1, repo.size());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evictIdle_releasesDormantBusinesses() {
+        AtomicLong now = new AtomicLong(0);
+        BusinessAssetRepository repo = new BusinessAssetRepository(10, now::get);
+        IntFunction<BusinessAssetRepository.Assets> loader = id -> new BusinessAssetRepository.Assets();
+
+        repo.getLocations(1, loader);
+        now.set(1_000);
+        repo.getLocations(2, loader);
+        now.set(1_500);
+
+        assertEquals(1, repo.evictIdle(1_000));
+        assertEquals(1, repo.size());
+    }
+}
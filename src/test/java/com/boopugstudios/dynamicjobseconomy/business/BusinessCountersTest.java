@@ -0,0 +1,58 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessCountersTest {
+
+    @Test
+    void deltas_updateBusinessAndTotals() {
+        BusinessCounters counters = new BusinessCounters();
+        counters.positionsChanged(1, 1);
+        counters.positionsChanged(2, 1);
+        counters.employeesChanged(1, 1);
+        counters.employeesChanged(1, 1);
+        counters.employeesChanged(1, -1);
+        counters.pendingRequestsChanged(2, 1);
+
+        assertEquals(2, counters.getActivePositions());
+        assertEquals(1, counters.getActiveEmployees());
+        assertEquals(1, counters.getActiveEmployees(1));
+        assertEquals(1, counters.getPendingRequests(2));
+        assertEquals(0, counters.getPendingRequests(3));
+
+        counters.businessDeleted(1);
+        assertEquals(1, counters.getActivePositions());
+        assertEquals(0, counters.getActiveEmployees());
+    }
+
+    @Test
+    void reconcile_overwritesDriftAndReportsIt() {
+        BusinessCounters counters = new BusinessCounters();
+        counters.positionsChanged(1, 3);
+        counters.pendingRequestsChanged(1, 2);
+        counters.employeesChanged(2, -1); // drifted negative; readers never see it
+
+        assertEquals(0, counters.getActiveEmployees());
+
+        Map<Integer, Integer> positions = new HashMap<>();
+        positions.put(1, 3);
+        Map<Integer, Integer> employees = new HashMap<>();
+        employees.put(5, 4);
+        Map<Integer, Integer> pending = new HashMap<>(); // both requests expired
+
+        int drifted = counters.reconcile(positions, employees, pending);
+
+        assertTrue(drifted > 0);
+        assertEquals(3, counters.getActivePositions(1));
+        assertEquals(0, counters.getPendingRequests());
+        assertEquals(0, counters.getActiveEmployees(2));
+        assertEquals(4, counters.getActiveEmployees(5));
+        assertEquals(4, counters.getActiveEmployees());
+        assertEquals(0, counters.reconcile(positions, employees, pending));
+    }
+}
@@ -0,0 +1,70 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessLocationIndexTest {
+
+    private static BusinessLocation location(int id, int businessId, String world, double x, double z) {
+        return new BusinessLocation(id, businessId, "loc" + id, world, x, 64, z, "region_" + id,
+            BusinessLocation.BusinessLocationType.SHOP_FRONT, true, UUID.randomUUID(), 0L, 0.0, "");
+    }
+
+    @Test
+    void chunkKey_packsSignedCoordinates() {
+        assertEquals(-1, BusinessLocationIndex.chunkOf(-0.5));
+        assertEquals(0, BusinessLocationIndex.chunkOf(15.9));
+        assertNotEquals(BusinessLocationIndex.chunkKey(-1, 0), BusinessLocationIndex.chunkKey(0, -1));
+        assertNotEquals(BusinessLocationIndex.chunkKey(1, 0), BusinessLocationIndex.chunkKey(0, 1));
+    }
+
+    @Test
+    void locate_findsNearestContainingLocation() {
+        BusinessLocationIndex index = new BusinessLocationIndex();
+        BusinessLocation shop = location(1, 10, "world", 0, 0);
+        BusinessLocation farm = location(2, 20, "world", 60, 0);
+        index.add(shop);
+        index.add(farm);
+        index.add(location(3, 30, "world_nether", 0, 0));
+
+        assertSame(shop, index.locate("world", 5, 64, 5));
+        assertSame(farm, index.locate("world", 40, 64, 0)); // inside both, farm is nearer
+        assertSame(shop, index.locate("world", -49, 64, 0));
+        assertNull(index.locate("world", -51, 64, 0));
+        assertNull(index.locate("world", 0, 200, 0)); // footprint is a sphere
+        assertNull(index.locate("the_end", 0, 64, 0));
+    }
+
+    @Test
+    void within_returnsAnchorsInRadiusNearestFirst() {
+        BusinessLocationIndex index = new BusinessLocationIndex();
+        BusinessLocation a = location(1, 10, "world", 100, 100);
+        BusinessLocation b = location(2, 10, "world", 130, 100);
+        index.add(a);
+        index.add(b);
+        index.add(location(3, 20, "world", 400, 100));
+
+        List<BusinessLocation> near = index.within("world", 125, 64, 100, 40);
+        assertEquals(List.of(b, a), near);
+        assertTrue(index.within("world", 0, 64, 0, 10).isEmpty());
+    }
+
+    @Test
+    void removeBusiness_dropsAllItsLocations() {
+        BusinessLocationIndex index = new BusinessLocationIndex();
+        index.add(location(1, 10, "world", 0, 0));
+        index.add(location(2, 10, "world", 500, 500));
+        BusinessLocation other = location(3, 20, "world", 10, 0);
+        index.add(other);
+
+        index.removeBusiness(10);
+
+        assertEquals(1, index.size());
+        assertSame(other, index.locate("world", 0, 64, 0));
+        assertNull(index.locate("world", 500, 64, 500));
+    }
+}
@@ -0,0 +1,73 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessRegistryTest {
+
+    @Test
+    void getByName_isCaseInsensitiveAndFollowsRename() {
+        BusinessRegistry registry = new BusinessRegistry();
+        registry.put(new Business(1, "Pug Bakery", UUID.randomUUID(), "shop", 0.0));
+
+        assertEquals(1, registry.getByName("pug bakery").getId());
+        assertEquals(1, registry.getByName("PUG BAKERY").getId());
+
+        assertTrue(registry.rename(1, "Pug Cafe"));
+        assertNull(registry.getByName("pug bakery"));
+        assertEquals("Pug Cafe", registry.getByName("pug cafe").getName());
+    }
+
+    @Test
+    void getByName_prefersLowestIdOnDuplicates() {
+        BusinessRegistry registry = new BusinessRegistry();
+        registry.put(new Business(7, "Shop", UUID.randomUUID(), "shop", 0.0));
+        registry.put(new Business(3, "shop", UUID.randomUUID(), "shop", 0.0));
+
+        assertEquals(3, registry.getByName("SHOP").getId());
+    }
+
+    @Test
+    void ownerIndex_tracksTransferAndRemove() {
+        BusinessRegistry registry = new BusinessRegistry();
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        registry.put(new Business(1, "A", alice, "shop", 0.0));
+        registry.put(new Business(2, "B", alice, "shop", 0.0));
+
+        assertEquals(2, registry.getByOwner(alice).size());
+        assertTrue(registry.getByOwner(bob).isEmpty());
+
+        assertTrue(registry.transferOwnership(2, bob));
+        assertEquals(1, registry.getByOwner(alice).size());
+        assertEquals(2, registry.getByOwner(bob).get(0).getId());
+        assertEquals(bob, registry.get(2).getOwnerUUID());
+
+        registry.remove(1);
+        assertTrue(registry.getByOwner(alice).isEmpty());
+        assertNull(registry.getByName("a"));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void employeeIndex_clearedWhenBusinessRemoved() {
+        BusinessRegistry registry = new BusinessRegistry();
+        UUID worker = UUID.randomUUID();
+        registry.put(new Business(1, "A", UUID.randomUUID(), "shop", 0.0));
+        registry.put(new Business(2, "B", UUID.randomUUID(), "shop", 0.0));
+        registry.addEmployee(worker, 1);
+        registry.addEmployee(worker, 2);
+
+        assertEquals(2, registry.getByEmployee(worker).size());
+        assertTrue(registry.isEmployedBy(worker, 1));
+
+        registry.removeEmployee(worker, 1);
+        assertFalse(registry.isEmployedBy(worker, 1));
+
+        registry.remove(2);
+        assertTrue(registry.getByEmployee(worker).isEmpty());
+    }
+}
@@ -0,0 +1,48 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessRollupsTest {
+
+    @Test
+    void epochDay_floorsToUtcDay() {
+        assertEquals(0, BusinessRollups.epochDay(0));
+        assertEquals(0, BusinessRollups.epochDay(BusinessRollups.DAY_MS - 1));
+        assertEquals(1, BusinessRollups.epochDay(BusinessRollups.DAY_MS));
+        assertEquals(-1, BusinessRollups.epochDay(-1));
+    }
+
+    @Test
+    void summary_foldsDaysAndCategories() {
+        String service = BusinessRollups.revenueCategory(BusinessRevenue.RevenueType.SERVICE_COMPLETION);
+        String shop = BusinessRollups.revenueCategory(BusinessRevenue.RevenueType.SHOP_SALE);
+
+        BusinessRollups.Summary summary = new BusinessRollups.Summary();
+        summary.add(100, service, 50.0, 2);
+        summary.add(100, shop, 25.0, 1);
+        summary.add(101, service, 10.0, 1);
+        summary.add(101, BusinessRollups.DEPOSIT, 300.0, 3);
+        summary.add(101, BusinessRollups.PAYROLL, 80.0, 1);
+        summary.add(101, "revenue.RETIRED_TYPE", 5.0, 1);
+
+        assertEquals(90.0, summary.revenueTotal(), 1e-9);
+        assertEquals(60.0, summary.revenueByType().get(BusinessRevenue.RevenueType.SERVICE_COMPLETION), 1e-9);
+        assertEquals(5.0, summary.revenueByType().get(BusinessRevenue.RevenueType.OTHER), 1e-9);
+        assertEquals(300.0, summary.total(BusinessRollups.DEPOSIT), 1e-9);
+        assertEquals(3, summary.entries(BusinessRollups.DEPOSIT));
+        assertEquals(0.0, summary.total(BusinessRollups.WITHDRAWAL), 1e-9);
+        assertEquals(3, summary.revenueEntries(100));
+
+        Iterator<Map.Entry<Long, Double>> days = summary.revenueByDay().entrySet().iterator();
+        Map.Entry<Long, Double> newest = days.next();
+        assertEquals(101L, (long) newest.getKey());
+        assertEquals(15.0, newest.getValue(), 1e-9);
+        assertEquals(100L, (long) days.next().getKey());
+        assertFalse(days.hasNext());
+    }
+}
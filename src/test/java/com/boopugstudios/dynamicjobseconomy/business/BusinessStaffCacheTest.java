@@ -0,0 +1,106 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessStaffCacheTest {
+
+    private static BusinessStaffCache.Staff staff(int businessId, UUID worker) {
+        BusinessStaffCache.Staff staff = new BusinessStaffCache.Staff();
+        staff.addPosition(new BusinessPosition(10, businessId, "Cook", 50.0, "", 2, true, null, 0L));
+        staff.addPosition(new BusinessPosition(11, businessId, "Old", 10.0, "", 1, false, null, 0L));
+        staff.addEmployee(new BusinessEmployee(100, businessId, 10, worker, "worker", 50.0, 1000L, true, null));
+        return staff;
+    }
+
+    @Test
+    void get_loadsOnceThenHits() {
+        BusinessStaffCache cache = new BusinessStaffCache();
+        UUID worker = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            cache.get(1, id -> { loads.incrementAndGet(); return staff(id, worker); });
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getMisses());
+        assertEquals(2, cache.getHits());
+        assertEquals(Integer.valueOf(1), cache.businessOfPosition(10));
+        assertEquals(1, cache.get(1, id -> null).activePositions().size());
+    }
+
+    @Test
+    void writes_areAppliedToCachedEntry() {
+        BusinessStaffCache cache = new BusinessStaffCache();
+        UUID worker = UUID.randomUUID();
+        UUID hire = UUID.randomUUID();
+        cache.get(1, id -> staff(id, worker));
+
+        cache.putEmployee(new BusinessEmployee(101, 1, 10, hire, "hire", 60.0, 2000L, true, null));
+        cache.updateEmployeePosition(1, worker, 11, 10.0);
+        cache.setPositionActive(1, 11, true);
+        cache.updatePositionSalary(1, "Cook", 75.0);
+
+        BusinessStaffCache.Staff s = cache.get(1, id -> fail("should be cached"));
+        assertEquals(hire, s.employees().get(0).getPlayerUUID()); // newest hire first
+        assertEquals(11, s.employee(worker).getPositionId());
+        assertEquals(1, s.employeesInPosition(10));
+        assertEquals(2, s.activePositions().size());
+        assertEquals(75.0, s.position(10).getSalary(), 1e-9);
+
+        cache.removeEmployee(1, hire);
+        assertNull(s.employee(hire));
+    }
+
+    @Test
+    void returnedObjects_areCopies() {
+        BusinessStaffCache cache = new BusinessStaffCache();
+        UUID worker = UUID.randomUUID();
+        BusinessStaffCache.Staff s = cache.get(1, id -> staff(id, worker));
+
+        s.employee(worker).setCurrentSalary(9999);
+        s.position(10).setTitle("Changed");
+
+        assertEquals(50.0, s.employee(worker).getCurrentSalary(), 1e-9);
+        assertEquals("Cook", s.position(10).getTitle());
+    }
+
+    @Test
+    void loadRacingAWrite_isNotCached() {
+        BusinessStaffCache cache = new BusinessStaffCache();
+        UUID worker = UUID.randomUUID();
+
+        cache.get(1, id -> {
+            cache.removeEmployee(1, worker); // a write lands while the load is in flight
+            return staff(id, worker);
+        });
+
+        assertEquals(0, cache.size());
+        cache.get(1, id -> staff(id, worker));
+        assertEquals(2, cache.getMisses());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void evictIdle_dropsUnreadBusinesses() {
+        AtomicLong now = new AtomicLong(0);
+        BusinessStaffCache cache = new BusinessStaffCache(now::get);
+        cache.get(1, id -> staff(id, UUID.randomUUID()));
+        now.set(500);
+        cache.get(2, id -> staff(id, UUID.randomUUID()));
+
+        now.set(1_200);
+        assertEquals(1, cache.evictIdle(1_000));
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getEvictions());
+
+        cache.invalidate(2);
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,77 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessWorkPoolTest {
+
+    private static List<Integer> range(int n) {
+        List<Integer> items = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) items.add(i);
+        return items;
+    }
+
+    @Test
+    void map_keepsInputOrderAndDropsNulls() {
+        BusinessWorkPool pool = new BusinessWorkPool(4, 16);
+        try {
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            List<Integer> evens = pool.map(range(10_000), i -> {
+                threads.add(Thread.currentThread().getName());
+                return i % 2 == 0 ? i : null;
+            });
+
+            assertEquals(5_000, evens.size());
+            for (int i = 0; i < evens.size(); i++) {
+                assertEquals(i * 2, (int) evens.get(i));
+            }
+            assertTrue(threads.stream().anyMatch(name -> name.startsWith("DJE-Business-Worker-")));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void sum_matchesSequentialTotal() {
+        BusinessWorkPool pool = new BusinessWorkPool(3, 8);
+        try {
+            assertEquals(49_995_000.0, pool.sum(range(10_000), i -> i), 1e-6);
+            assertEquals(0.0, pool.sum(new ArrayList<Integer>(), i -> i), 1e-9);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void smallInputsRunOnCallerThread() {
+        BusinessWorkPool pool = new BusinessWorkPool(4, 100);
+        try {
+            String caller = Thread.currentThread().getName();
+            assertFalse(pool.isParallel(99));
+            assertEquals(List.of(caller), pool.map(range(1), i -> Thread.currentThread().getName()));
+
+            BusinessWorkPool single = new BusinessWorkPool(1, 1);
+            assertFalse(single.isParallel(1_000_000));
+            assertEquals(List.of(1, 2), single.map(List.of(0, 1), i -> i + 1));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void leafSize_neverBelowHalfThreshold() {
+        BusinessWorkPool pool = new BusinessWorkPool(4, 512);
+        try {
+            assertEquals(256, pool.leafSize(1_000));
+            assertEquals(625, pool.leafSize(10_000));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
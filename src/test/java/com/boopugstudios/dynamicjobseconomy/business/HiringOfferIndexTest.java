@@ -0,0 +1,63 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HiringOfferIndexTest {
+
+    private static final UUID ALICE = UUID.randomUUID();
+    private static final UUID BOB = UUID.randomUUID();
+    private static final UUID OWNER = UUID.randomUUID();
+
+    private static HiringRequest request(int id, int businessId, UUID player, long requestedAt, long expiresAt) {
+        return new HiringRequest(id, businessId, 1, player, OWNER, 100.0, "", requestedAt, expiresAt,
+            HiringRequest.HiringRequestStatus.PENDING);
+    }
+
+    @Test
+    void lookups_byPlayerAndBusiness() {
+        HiringOfferIndex index = new HiringOfferIndex();
+        index.put(request(2, 10, ALICE, 200, 5_000));
+        index.put(request(1, 20, ALICE, 100, 5_000));
+        index.put(request(3, 10, BOB, 300, 5_000));
+        index.put(new HiringRequest(4, 10, 1, BOB, OWNER, 1.0, "", 0, 5_000, HiringRequest.HiringRequestStatus.ACCEPTED));
+
+        List<HiringRequest> alice = index.getForPlayer(ALICE, 1_000);
+        assertEquals(2, alice.size());
+        assertEquals(1, alice.get(0).getRequestId()); // oldest first
+        assertTrue(index.hasPending(ALICE, 10, 1_000));
+        assertFalse(index.hasPending(BOB, 20, 1_000));
+        assertEquals(2, index.countForBusiness(10));
+        assertEquals(3, index.size());
+
+        assertNotNull(index.remove(2));
+        assertNull(index.remove(2));
+        assertFalse(index.hasPending(ALICE, 10, 1_000));
+        assertEquals(1, index.countForBusiness(10));
+    }
+
+    @Test
+    void pollExpired_popsOnlyDueRequestsInDeadlineOrder() {
+        HiringOfferIndex index = new HiringOfferIndex();
+        index.put(request(1, 10, ALICE, 0, 3_000));
+        index.put(request(2, 10, BOB, 0, 1_000));
+        index.put(request(3, 20, BOB, 0, 9_000));
+        index.remove(1); // accepted before it expired
+
+        assertTrue(index.getForPlayer(BOB, 1_000).stream().noneMatch(r -> r.getRequestId() == 2));
+
+        List<HiringRequest> expired = index.pollExpired(5_000);
+        assertEquals(1, expired.size());
+        assertEquals(2, expired.get(0).getRequestId());
+        assertEquals(1, index.size());
+        assertTrue(index.pollExpired(5_000).isEmpty());
+
+        index.removeBusiness(20);
+        assertTrue(index.pollExpired(10_000).isEmpty());
+        assertEquals(0, index.size());
+    }
+}
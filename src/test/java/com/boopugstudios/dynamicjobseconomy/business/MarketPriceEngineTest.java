@@ -0,0 +1,110 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import org.bukkit.Material;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarketPriceEngineTest {
+
+    @Test
+    void pricesStartAtBaseAndMoveWithSupplyAndDemand() {
+        MarketPriceEngine engine = new MarketPriceEngine(true, 0.5, 10);
+        assertEquals(2.0, engine.getPrice(Material.IRON_ORE), 1e-9);
+        assertEquals(1.0, engine.getPrice(Material.AIR), 1e-9); // unlisted materials default to 1.0
+
+        engine.recordSupply(Material.IRON_ORE, 30); // target = 2.0 * (0 + 10) / (30 + 10) = 0.5
+        engine.recordDemand(Material.COAL, 10);      // target = 1.0 * (10 + 10) / (0 + 10) = 2.0
+        assertEquals(2, engine.tick());
+
+        assertEquals(1.25, engine.getPrice(Material.IRON_ORE), 1e-9); // halfway, smoothing 0.5
+        assertEquals(1.5, engine.getPrice(Material.COAL), 1e-9);
+
+        engine.tick(); // no activity: both drift back toward base
+        assertEquals(1.625, engine.getPrice(Material.IRON_ORE), 1e-9);
+        assertEquals(1.25, engine.getPrice(Material.COAL), 1e-9);
+    }
+
+    @Test
+    void targetIsClampedToBand() {
+        MarketPriceEngine engine = new MarketPriceEngine(true, 1.0, 1);
+        engine.recordDemand(Material.STONE, 1_000_000);
+        engine.tick();
+        assertEquals(0.2 * MarketPriceEngine.MAX_MULTIPLIER, engine.getPrice(Material.STONE), 1e-9);
+
+        engine.recordSupply(Material.STONE, 1_000_000);
+        engine.tick();
+        assertEquals(0.2 * MarketPriceEngine.MIN_MULTIPLIER, engine.getPrice(Material.STONE), 1e-9);
+    }
+
+    @Test
+    void staticPricingCountsActivityButKeepsBase() {
+        MarketPriceEngine engine = new MarketPriceEngine(false, 0.5, 10);
+        engine.recordSupply(Material.IRON_INGOT, 500);
+        assertEquals(0, engine.tick());
+        assertEquals(3.0, engine.getPrice(Material.IRON_INGOT), 1e-9);
+
+        List<MarketPriceEngine.Quote> dirty = engine.drainDirty();
+        assertEquals(1, dirty.size());
+        assertEquals(500L, dirty.get(0).supply);
+    }
+
+    @Test
+    void drainDirty_reportsChangesOnceAndRestoreRetries() {
+        MarketPriceEngine engine = new MarketPriceEngine(true, 0.5, 10);
+        engine.setBasePrice(Material.COAL, 4.0);
+        assertEquals(4.0, engine.getPrice(Material.COAL), 1e-9);
+        engine.setBasePrice(Material.COAL, -1); // ignored
+
+        List<MarketPriceEngine.Quote> dirty = engine.drainDirty();
+        assertEquals(1, dirty.size());
+        assertSame(Material.COAL, dirty.get(0).material);
+        assertTrue(engine.drainDirty().isEmpty());
+
+        engine.restoreDirty(dirty);
+        assertEquals(1, engine.drainDirty().size());
+    }
+
+    @Test
+    void restore_seedsPricesWithinBandAndTotals() {
+        MarketPriceEngine engine = new MarketPriceEngine(true, 0.5, 10);
+        Map<Material, MarketPriceEngine.Quote> rows = new EnumMap<>(Material.class);
+        rows.put(Material.IRON_ORE, new MarketPriceEngine.Quote(Material.IRON_ORE, 3.0, 40, 7));
+        rows.put(Material.COAL, new MarketPriceEngine.Quote(Material.COAL, 500.0, 0, 0));
+        engine.restore(rows);
+
+        assertEquals(3.0, engine.getPrice(Material.IRON_ORE), 1e-9);
+        assertEquals(MarketPriceEngine.MAX_MULTIPLIER, engine.getPrice(Material.COAL), 1e-9);
+
+        engine.recordSupply(Material.IRON_ORE, 2);
+        engine.tick();
+        MarketPriceEngine.Quote iron = engine.drainDirty().stream()
+            .filter(q -> q.material == Material.IRON_ORE).findFirst().orElseThrow();
+        assertEquals(42L, iron.supply);
+        assertEquals(7L, iron.demand);
+    }
+
+    @Test
+    void restore_clampsAgainstStoredBase() {
+        MarketPriceEngine engine = new MarketPriceEngine(true, 0.5, 10);
+        engine.setBasePrice(Material.DIAMOND, 100.0);
+        MarketPriceEngine.Quote saved = engine.drainDirty().stream()
+            .filter(q -> q.material == Material.DIAMOND).findFirst().orElseThrow();
+        assertEquals(100.0, saved.base, 1e-9);
+
+        MarketPriceEngine restarted = new MarketPriceEngine(true, 0.5, 10);
+        Map<Material, MarketPriceEngine.Quote> rows = new EnumMap<>(Material.class);
+        rows.put(Material.DIAMOND, new MarketPriceEngine.Quote(Material.DIAMOND, 300.0, saved.base, 0, 0));
+        restarted.restore(rows);
+
+        // 300 is outside the built-in band (20 * 4) but inside the stored one (100 * 4)
+        assertEquals(300.0, restarted.getPrice(Material.DIAMOND), 1e-9);
+        restarted.tick();
+        assertTrue(restarted.getPrice(Material.DIAMOND) < 300.0);
+        assertTrue(restarted.getPrice(Material.DIAMOND) > 100.0);
+    }
+}
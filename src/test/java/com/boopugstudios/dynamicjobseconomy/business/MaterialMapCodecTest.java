@@ -0,0 +1,85 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import org.bukkit.Material;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MaterialMapCodecTest {
+
+    private static MaterialMapCodec codec() {
+        Map<Integer, String> dictionary = new HashMap<>();
+        dictionary.put(1, "IRON_ORE");
+        dictionary.put(2, "IRON_INGOT");
+        dictionary.put(300, "COAL");
+        return new MaterialMapCodec(dictionary);
+    }
+
+    @Test
+    void encode_roundTripsThroughCompactForm() {
+        MaterialMapCodec codec = codec();
+        Map<Material, Integer> map = new EnumMap<>(Material.class);
+        map.put(Material.IRON_ORE, 9);
+        map.put(Material.COAL, 1_000_000);
+
+        String stored = codec.encode(map);
+
+        assertTrue(stored.startsWith(MaterialMapCodec.PREFIX));
+        assertTrue(stored.length() < "{\"IRON_ORE\":9,\"COAL\":1000000}".length());
+        assertEquals(map, codec.decode(stored));
+    }
+
+    @Test
+    void decode_readsLegacyTextAndReturnsIndependentCopies() {
+        MaterialMapCodec codec = codec();
+        String legacy = "{\"IRON_ORE\":9,\"NOT_A_MATERIAL\":2}";
+
+        EnumMap<Material, Integer> first = codec.decode(legacy);
+        assertEquals(Map.of(Material.IRON_ORE, 9), first);
+
+        first.put(Material.COAL, 1);
+        assertEquals(1, codec.decode(legacy).size()); // cache not affected by caller edits
+    }
+
+    @Test
+    void unknownIdsAndMalformedInputAreSkipped() {
+        Map<Material, Integer> map = new EnumMap<>(Material.class);
+        map.put(Material.IRON_INGOT, 3);
+        map.put(Material.COAL, 2);
+        String stored = codec().encode(map);
+
+        // A server whose dictionary no longer resolves id 2 still reads the rest
+        Map<Integer, String> partial = new HashMap<>();
+        partial.put(300, "COAL");
+        assertEquals(Map.of(Material.COAL, 2), new MaterialMapCodec(partial).decode(stored));
+
+        assertTrue(codec().decode(MaterialMapCodec.PREFIX + "!!!").isEmpty());
+        assertTrue(codec().decode(MaterialMapCodec.PREFIX + "AQU").isEmpty()); // truncated
+    }
+
+    @Test
+    void migrate_keepsTextWhenAnEntryWouldBeLost() {
+        MaterialMapCodec codec = codec();
+        assertTrue(codec.migrate("{\"COAL\":4}").startsWith(MaterialMapCodec.PREFIX));
+        assertEquals("{\"COAL\":4,\"GONE\":1}", codec.migrate("{\"COAL\":4,\"GONE\":1}"));
+
+        Map<Material, Integer> unassigned = new EnumMap<>(Material.class);
+        unassigned.put(Material.STONE, 1);
+        assertEquals("{\"STONE\":1}", codec.encode(unassigned)); // no id yet, text fallback
+    }
+
+    @Test
+    void missingEntries_appendsAfterHighestId() {
+        Map<Integer, String> dictionary = new HashMap<>();
+        dictionary.put(7, "STONE");
+        Map<Integer, String> missing = MaterialMapCodec.missingEntries(dictionary);
+
+        assertFalse(missing.containsValue("STONE"));
+        assertEquals(8, (int) missing.keySet().iterator().next());
+        assertTrue(missing.containsValue("COAL"));
+    }
+}
@@ -0,0 +1,55 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayrollBatchTest {
+
+    private static BusinessEmployee employee(int businessId, double salary) {
+        return new BusinessEmployee(businessId, 1, UUID.randomUUID(), "emp", salary);
+    }
+
+    @Test
+    void add_groupsByBusinessAndSkipsUnpaid() {
+        PayrollBatch payroll = new PayrollBatch();
+        payroll.add(employee(1, 100));
+        payroll.add(employee(1, 50));
+        payroll.add(employee(2, 75));
+        payroll.add(employee(2, 0));
+        payroll.add(employee(3, -10));
+
+        assertEquals(3, payroll.getEmployeeCount());
+        assertEquals(2, payroll.getGroups().size());
+        PayrollBatch.Group first = payroll.getGroups().iterator().next();
+        assertEquals(1, first.getBusinessId());
+        assertEquals(150.0, first.getTotal(), 1e-9);
+        assertEquals(2, first.getEmployees().size());
+    }
+
+    @Test
+    void splitFunded_checksEachBusinessBalance() {
+        PayrollBatch payroll = new PayrollBatch();
+        payroll.add(employee(1, 100));
+        payroll.add(employee(2, 500));
+        payroll.add(employee(3, 10)); // business not loaded
+
+        Map<Integer, Business> businesses = new HashMap<>();
+        businesses.put(1, new Business(1, "Rich", UUID.randomUUID(), "shop", 100.0));
+        businesses.put(2, new Business(2, "Poor", UUID.randomUUID(), "shop", 499.99));
+
+        List<PayrollBatch.Group> unfunded = new ArrayList<>();
+        List<PayrollBatch.Group> funded = payroll.splitFunded(businesses, unfunded);
+
+        assertEquals(1, funded.size());
+        assertEquals(1, funded.get(0).getBusinessId());
+        assertEquals(1, unfunded.size());
+        assertEquals(2, unfunded.get(0).getBusinessId());
+    }
+}
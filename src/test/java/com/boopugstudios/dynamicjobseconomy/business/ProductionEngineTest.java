@@ -0,0 +1,55 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import org.bukkit.Material;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductionEngineTest {
+
+    private static ResourceProcessingChain ironChain(int chainId, int businessId, long processingTimeMs) {
+        // 9 ore (2.0 each) into 1 block (27.0) at no cost and full margin: 9.0 potential profit per cycle
+        return new ResourceProcessingChain(chainId, businessId, "Iron " + chainId,
+                ResourceProcessingChain.ProcessingType.SMELTING_OPERATION,
+                Map.of(Material.IRON_ORE, 9), Map.of(Material.IRON_BLOCK, 1),
+                0.0, processingTimeMs, 2, 100.0, true, 0L);
+    }
+
+    private static void runFor(ProductionEngine engine, long fromSeconds, long seconds) {
+        for (long t = fromSeconds + 1; t <= fromSeconds + seconds; t++) {
+            engine.tick(t, businessId -> 2);
+        }
+    }
+
+    @Test
+    void hourlyPayout_isTheBaselineRateWhateverTheCycleLength() {
+        ProductionEngine engine = new ProductionEngine(0, new MarketPriceEngine(false, 0.5, 10));
+        engine.register(ironChain(1, 10, 60_000));   // one-minute cycles
+        engine.register(ironChain(2, 20, 900_000));  // fifteen-minute cycles
+
+        runFor(engine, 0, 3600);
+        Map<Integer, Double> settled = engine.drainSettlements();
+
+        // 10% of the 9.0 potential profit per 15 minutes = 3.6 per hour for both chains
+        assertEquals(3.6, settled.get(10), 1e-9);
+        assertEquals(3.6, settled.get(20), 1e-9);
+        assertEquals(64, engine.getCyclesCompleted());
+        assertEquals(-540L, (long) engine.getLedger(10).get(Material.IRON_ORE));
+        assertEquals(60L, (long) engine.getLedger(10).get(Material.IRON_BLOCK));
+    }
+
+    @Test
+    void unregisteredChain_stopsPayingOut() {
+        ProductionEngine engine = new ProductionEngine(0, new MarketPriceEngine(false, 0.5, 10));
+        engine.register(ironChain(1, 10, 60_000));
+        runFor(engine, 0, 60);
+        assertEquals(0.06, engine.drainSettlements().get(10), 1e-9);
+
+        engine.unregister(1);
+        runFor(engine, 60, 600);
+        assertTrue(engine.drainSettlements().isEmpty());
+        assertEquals(0, engine.getActiveChainCount());
+    }
+}
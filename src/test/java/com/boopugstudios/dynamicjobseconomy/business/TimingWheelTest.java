@@ -0,0 +1,61 @@
+package com.boopugstudios.dynamicjobseconomy.business;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    @Test
+    void advance_deliversOnlyItemsDue() {
+        TimingWheel<String> wheel = new TimingWheel<>(8, 100);
+        wheel.schedule("a", 101);
+        wheel.schedule("b", 103);
+        wheel.schedule("past", 50); // clamped to the next tick
+
+        List<String> out = new ArrayList<>();
+        assertEquals(2, wheel.advance(102, out::add));
+        assertEquals(List.of("a", "past"), out);
+        assertEquals(1, wheel.size());
+
+        out.clear();
+        wheel.advance(103, out::add);
+        assertEquals(List.of("b"), out);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void itemsBeyondOneRevolution_waitForTheirRound() {
+        TimingWheel<String> wheel = new TimingWheel<>(8, 0);
+        wheel.schedule("near", 3);
+        wheel.schedule("far", 3 + 8 * 2); // same slot, two revolutions later
+
+        List<String> out = new ArrayList<>();
+        wheel.advance(3, out::add);
+        assertEquals(List.of("near"), out);
+
+        out.clear();
+        wheel.advance(18, out::add);
+        assertTrue(out.isEmpty());
+        wheel.advance(19, out::add);
+        assertEquals(List.of("far"), out);
+    }
+
+    @Test
+    void sink_canRescheduleIntoTheSameSlot() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(4, 0);
+        wheel.schedule(1, 1);
+
+        int[] fired = {0};
+        wheel.advance(9, item -> {
+            fired[0]++;
+            wheel.schedule(item, wheel.getCurrentTick() + 4); // a full revolution
+        });
+
+        assertEquals(3, fired[0]); // ticks 1, 5 and 9
+        assertEquals(1, wheel.size());
+    }
+}
@@ -0,0 +1,113 @@
+package com.boopugstudios.dynamicjobseconomy.commands;
+
+import com.boopugstudios.dynamicjobseconomy.DynamicJobsEconomy;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AdminCommandBulkTest {
+
+    private static class TestableAdminCommand extends AdminCommand {
+        private final List<Player> online;
+        TestableAdminCommand(DynamicJobsEconomy plugin, List<Player> online) {
+            super(plugin);
+            this.online = online;
+        }
+        protected Collection<? extends Player> getOnlinePlayers() {
+            return online;
+        }
+        protected OfflinePlayer[] getOfflinePlayersArray() {
+            return online.toArray(new OfflinePlayer[0]);
+        }
+        protected void runAsync(Runnable task) {
+            fail("bulk work must not start for a rejected selector");
+        }
+    }
+
+    private DynamicJobsEconomy plugin(FileConfiguration cfg) {
+        DynamicJobsEconomy plugin = mock(DynamicJobsEconomy.class);
+        when(plugin.getConfig()).thenReturn(cfg);
+        when(cfg.getString(eq("messages.prefix"), anyString())).thenAnswer(inv -> inv.getArgument(1));
+        when(plugin.getLogger()).thenReturn(Logger.getLogger("test"));
+        return plugin;
+    }
+
+    private CommandSender console(List<String> messages) {
+        CommandSender sender = mock(CommandSender.class);
+        when(sender.hasPermission(anyString())).thenReturn(true);
+        doAnswer(inv -> { messages.add(inv.getArgument(0)); return null; }).when(sender).sendMessage(anyString());
+        return sender;
+    }
+
+    private List<Player> onlinePlayers(int count) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Player p = mock(Player.class);
+            when(p.getUniqueId()).thenReturn(UUID.randomUUID());
+            when(p.getName()).thenReturn("P" + i);
+            players.add(p);
+        }
+        return players;
+    }
+
+    @Test
+    void unknownSelectorIsRejected() {
+        FileConfiguration cfg = mock(FileConfiguration.class);
+        DynamicJobsEconomy plugin = plugin(cfg);
+        AdminCommand admin = new TestableAdminCommand(plugin, onlinePlayers(2));
+        List<String> messages = new ArrayList<>();
+
+        admin.onCommand(console(messages), mock(Command.class), "djeconomy", new String[]{"bulk", "give", "everyone", "10"});
+
+        assertTrue(messages.stream().anyMatch(m -> m.contains("Unknown selector 'everyone'")), messages.toString());
+        verify(plugin, never()).getDatabaseManager();
+    }
+
+    @Test
+    void selectorMatchingNobodyIsRejected() {
+        FileConfiguration cfg = mock(FileConfiguration.class);
+        DynamicJobsEconomy plugin = plugin(cfg);
+        AdminCommand admin = new TestableAdminCommand(plugin, onlinePlayers(2)); // nobody has the node
+        List<String> messages = new ArrayList<>();
+
+        admin.onCommand(console(messages), mock(Command.class), "djeconomy", new String[]{"bulk", "take", "perm:vip.gold", "10"});
+
+        assertTrue(messages.stream().anyMatch(m -> m.contains("matched no players")), messages.toString());
+    }
+
+    @Test
+    void missingUuidFileIsRejected() {
+        FileConfiguration cfg = mock(FileConfiguration.class);
+        DynamicJobsEconomy plugin = plugin(cfg);
+        AdminCommand admin = new TestableAdminCommand(plugin, onlinePlayers(1));
+        List<String> messages = new ArrayList<>();
+
+        admin.onCommand(console(messages), mock(Command.class), "djeconomy", new String[]{"bulk", "set", "file:../../etc/passwd", "10"});
+
+        assertTrue(messages.stream().anyMatch(m -> m.contains("not found in the plugin folder")), messages.toString());
+    }
+
+    @Test
+    void oversizedTargetListIsRejected() {
+        FileConfiguration cfg = mock(FileConfiguration.class);
+        when(cfg.getInt(eq("economy.admin_bulk.max_targets"), anyInt())).thenReturn(2);
+        DynamicJobsEconomy plugin = plugin(cfg);
+        AdminCommand admin = new TestableAdminCommand(plugin, onlinePlayers(3));
+        List<String> messages = new ArrayList<>();
+
+        admin.onCommand(console(messages), mock(Command.class), "djeconomy", new String[]{"bulk", "give", "online", "10"});
+
+        assertTrue(messages.stream().anyMatch(m -> m.contains("matched 3 players; the limit is 2")), messages.toString());
+        verify(plugin, never()).getDatabaseManager();
+    }
+}
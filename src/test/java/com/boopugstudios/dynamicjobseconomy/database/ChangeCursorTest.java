@@ -0,0 +1,53 @@
+package com.boopugstudios.dynamicjobseconomy.database;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeCursorTest {
+
+    @Test
+    void inOrderIdsAdvanceWithoutGaps() {
+        ChangeCursor cursor = new ChangeCursor(10, 1_000, 16);
+        assertTrue(cursor.accept(11, 0));
+        assertTrue(cursor.accept(12, 0));
+        assertEquals(12, cursor.getPosition());
+        assertEquals(0, cursor.getGapCount());
+    }
+
+    @Test
+    void skippedIdIsAcceptedOnceWhenItCommitsLate() {
+        ChangeCursor cursor = new ChangeCursor(10, 1_000, 16);
+        assertTrue(cursor.accept(13, 0));
+        assertEquals(List.of(11L, 12L), cursor.pendingGaps(0));
+
+        assertTrue(cursor.accept(12, 100));
+        assertFalse(cursor.accept(12, 100));
+        assertFalse(cursor.accept(13, 100));
+        assertEquals(List.of(11L), cursor.pendingGaps(100));
+        assertEquals(13, cursor.getPosition());
+    }
+
+    @Test
+    void gapsExpireAfterTimeout() {
+        ChangeCursor cursor = new ChangeCursor(0, 1_000, 16);
+        cursor.accept(2, 0);
+        cursor.accept(5, 500);
+        assertEquals(List.of(1L, 3L, 4L), cursor.pendingGaps(999));
+        assertEquals(List.of(3L, 4L), cursor.pendingGaps(1_000));
+        assertTrue(cursor.pendingGaps(1_500).isEmpty());
+        assertFalse(cursor.accept(1, 1_500));
+    }
+
+    @Test
+    void gapCountIsCapped() {
+        ChangeCursor cursor = new ChangeCursor(0, 1_000, 3);
+        cursor.accept(100, 0);
+        assertEquals(List.of(97L, 98L, 99L), cursor.pendingGaps(0));
+
+        cursor.accept(102, 0);
+        assertEquals(List.of(98L, 99L, 101L), cursor.pendingGaps(0));
+    }
+}
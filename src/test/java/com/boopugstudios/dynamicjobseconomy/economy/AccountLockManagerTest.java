@@ -0,0 +1,63 @@
+package com.boopugstudios.dynamicjobseconomy.economy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountLockManagerTest {
+
+    @Test
+    void stripeCount_isRoundedUpToPowerOfTwo() {
+        assertEquals(64, new AccountLockManager().getStripeCount());
+        assertEquals(16, new AccountLockManager(10).getStripeCount());
+        assertEquals(1, new AccountLockManager(0).getStripeCount());
+    }
+
+    @Test
+    void withLock_serializesReadModifyWriteOnSameAccount() throws Exception {
+        AccountLockManager locks = new AccountLockManager(8);
+        UUID account = UUID.randomUUID();
+        long[] balance = {0};
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            pool.submit(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    locks.withLock(account, () -> {
+                        long read = balance[0];
+                        balance[0] = read + 1;
+                        return null;
+                    });
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(80_000, balance[0]);
+    }
+
+    @Test
+    void withLocks_oppositeOrderTransfersDoNotDeadlock() throws Exception {
+        AccountLockManager locks = new AccountLockManager(64);
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        CountDownLatch done = new CountDownLatch(2);
+        Runnable ab = () -> {
+            for (int i = 0; i < 10_000; i++) locks.withLocks(Arrays.asList(a, b), () -> null);
+            done.countDown();
+        };
+        Runnable ba = () -> {
+            for (int i = 0; i < 10_000; i++) locks.withLocks(Arrays.asList(b, a), () -> null);
+            done.countDown();
+        };
+        new Thread(ab).start();
+        new Thread(ba).start();
+        assertTrue(done.await(30, TimeUnit.SECONDS), "transfers in opposite order should not deadlock");
+    }
+}
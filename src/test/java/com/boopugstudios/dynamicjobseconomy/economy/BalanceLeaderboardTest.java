@@ -0,0 +1,97 @@
+package com.boopugstudios.dynamicjobseconomy.economy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BalanceLeaderboardTest {
+
+    @Test
+    void rankAndRange_orderByBalanceDescending() {
+        BalanceLeaderboard board = new BalanceLeaderboard();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        board.update(a, "Alice", 100);
+        board.update(b, "Bob", 300);
+        board.update(c, "Carol", 200);
+
+        assertEquals(1, board.getRank(b));
+        assertEquals(2, board.getRank(c));
+        assertEquals(3, board.getRank(a));
+        assertEquals(-1, board.getRank(UUID.randomUUID()));
+
+        List<BalanceLeaderboard.Entry> top = board.getRange(0, 2);
+        assertEquals(2, top.size());
+        assertEquals("Bob", top.get(0).name);
+        assertEquals(1, top.get(0).rank);
+        assertEquals("Carol", top.get(1).name);
+        assertEquals(2, top.get(1).rank);
+
+        List<BalanceLeaderboard.Entry> tail = board.getRange(2, 10);
+        assertEquals(1, tail.size());
+        assertEquals(3, tail.get(0).rank);
+        assertTrue(board.getRange(3, 10).isEmpty());
+    }
+
+    @Test
+    void update_movesAccountAndKeepsName() {
+        BalanceLeaderboard board = new BalanceLeaderboard();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        board.update(a, "Alice", 100);
+        board.update(b, "Bob", 50);
+
+        board.update(b, null, 500);
+        assertEquals(1, board.getRank(b));
+        assertEquals(2, board.size());
+        assertEquals("Bob", board.getRange(0, 1).get(0).name);
+        assertEquals(500.0, board.getBalance(b));
+    }
+
+    @Test
+    void seed_doesNotOverwriteNewerValue() {
+        BalanceLeaderboard board = new BalanceLeaderboard();
+        UUID a = UUID.randomUUID();
+        board.update(a, "Alice", 750);
+        board.seed(a, "Alice", 10);
+        assertEquals(750.0, board.getBalance(a));
+
+        board.remove(a);
+        assertNull(board.getBalance(a));
+        assertEquals(0, board.size());
+    }
+
+    @Test
+    void randomizedUpdates_matchSortedOrder() {
+        BalanceLeaderboard board = new BalanceLeaderboard();
+        Map<UUID, Double> expected = new HashMap<>();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 200; i++) ids.add(UUID.randomUUID());
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            UUID id = ids.get(random.nextInt(ids.size()));
+            double balance = random.nextInt(50) * 10.0;
+            board.update(id, null, balance);
+            expected.put(id, balance);
+        }
+
+        List<Map.Entry<UUID, Double>> sorted = new ArrayList<>(expected.entrySet());
+        sorted.sort(Comparator.<Map.Entry<UUID, Double>>comparingDouble(Map.Entry::getValue).reversed()
+            .thenComparing(Map.Entry::getKey));
+        List<BalanceLeaderboard.Entry> all = board.getRange(0, sorted.size());
+        assertEquals(sorted.size(), all.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(sorted.get(i).getKey(), all.get(i).id);
+            assertEquals(i + 1, board.getRank(sorted.get(i).getKey()));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.boopugstudios.dynamicjobseconomy.economy;
+
+import org.bukkit.OfflinePlayer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BatchTransferTest {
+
+    @Test
+    void add_preservesOrderAndFlags() {
+        OfflinePlayer a = mock(OfflinePlayer.class);
+        OfflinePlayer b = mock(OfflinePlayer.class);
+        BatchTransfer batch = new BatchTransfer().add(a, 10).add(b, -5).allOrNothing();
+
+        assertEquals(2, batch.size());
+        assertSame(a, batch.getEntries().get(0).account);
+        assertEquals(-5, batch.getEntries().get(1).delta);
+        assertTrue(batch.isAllOrNothing());
+    }
+
+    @Test
+    void isValid_rejectsMissingAccountZeroAndNonFiniteDeltas() {
+        OfflinePlayer a = mock(OfflinePlayer.class);
+        BatchTransfer batch = new BatchTransfer()
+            .add(a, 1)
+            .add(null, 1)
+            .add(a, 0)
+            .add(a, Double.NaN)
+            .add(a, Double.POSITIVE_INFINITY);
+
+        assertTrue(BatchTransfer.isValid(batch.getEntries().get(0)));
+        for (int i = 1; i < batch.size(); i++) {
+            assertFalse(BatchTransfer.isValid(batch.getEntries().get(i)), "entry " + i + " should be invalid");
+        }
+    }
+}
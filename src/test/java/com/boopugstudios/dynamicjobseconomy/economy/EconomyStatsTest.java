@@ -0,0 +1,94 @@
+package com.boopugstudios.dynamicjobseconomy.economy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EconomyStatsTest {
+
+    private static final long HOUR = EconomyStats.HOUR_MS;
+
+    @Test
+    void record_splitsFaucetsAndSinks() {
+        AtomicLong now = new AtomicLong(10 * HOUR + 5);
+        EconomyStats stats = new EconomyStats(now::get);
+        stats.record(EconomyStats.Flow.JOB_PAYOUT, 50);
+        stats.record(EconomyStats.Flow.BUSINESS_REVENUE, 25);
+        stats.record(EconomyStats.Flow.GIG_FEE, 10);
+        stats.record(EconomyStats.Flow.GIG_FEE, -3); // ignored
+
+        EconomyStats.Snapshot snap = stats.snapshot();
+        assertEquals(75.0, snap.faucetsThisHour(), 1e-9);
+        assertEquals(10.0, snap.sinksThisHour(), 1e-9);
+        assertEquals(50.0, snap.currentHour(EconomyStats.Flow.JOB_PAYOUT), 1e-9);
+        assertEquals(10.0, snap.currentHour(EconomyStats.Flow.GIG_FEE), 1e-9);
+    }
+
+    @Test
+    void hourRollover_movesTotalsToLastHour() {
+        AtomicLong now = new AtomicLong(10 * HOUR);
+        EconomyStats stats = new EconomyStats(now::get);
+        stats.record(EconomyStats.Flow.JOB_PAYOUT, 40);
+
+        now.set(11 * HOUR + 1);
+        stats.record(EconomyStats.Flow.JOB_PAYOUT, 5);
+        EconomyStats.Snapshot snap = stats.snapshot();
+        assertEquals(11 * HOUR, snap.hourStart);
+        assertEquals(5.0, snap.faucetsThisHour(), 1e-9);
+        assertEquals(40.0, snap.faucetsLastHour(), 1e-9);
+        assertEquals(45.0, snap.lifetime(EconomyStats.Flow.JOB_PAYOUT), 1e-9);
+
+        // A gap of more than an hour leaves "last hour" empty
+        now.set(14 * HOUR);
+        snap = stats.snapshot();
+        assertEquals(0.0, snap.faucetsLastHour(), 1e-9);
+        assertEquals(11 * HOUR, snap.getPreviousHourStart());
+    }
+
+    @Test
+    void supply_unattributedExcludesSeedAndTaggedFlows() {
+        AtomicLong now = new AtomicLong(3 * HOUR);
+        EconomyStats stats = new EconomyStats(now::get);
+        stats.adjustSupply(10_000); // seeded accounts
+        stats.markSupplySeeded();
+
+        stats.adjustSupply(100);
+        stats.record(EconomyStats.Flow.JOB_PAYOUT, 100);
+        stats.adjustSupply(-30);
+        stats.record(EconomyStats.Flow.GIG_FEE, 30);
+        stats.adjustSupply(500); // e.g. an admin grant
+
+        EconomyStats.Snapshot snap = stats.snapshot();
+        assertTrue(snap.supplySeeded);
+        assertEquals(10_570.0, snap.moneySupply, 1e-9);
+        assertEquals(500.0, snap.unattributedThisHour(), 1e-9);
+    }
+
+    @Test
+    void holdings_revenueAndPayrollThroughTreasuriesLeaveNothingUnattributed() {
+        AtomicLong now = new AtomicLong(5 * HOUR);
+        EconomyStats stats = new EconomyStats(now::get);
+        DoubleAdder treasuries = new DoubleAdder();
+        treasuries.add(2_000);
+        stats.addHoldings(treasuries::sum);
+        stats.adjustSupply(1_000);
+        stats.markSupplySeeded();
+        assertEquals(3_000.0, stats.getMoneySupply(), 1e-9);
+
+        treasuries.add(300); // generated revenue lands in a treasury
+        stats.record(EconomyStats.Flow.BUSINESS_REVENUE, 300);
+        treasuries.add(-120); // payroll moves it to a wallet
+        stats.adjustSupply(120);
+
+        EconomyStats.Snapshot snap = stats.snapshot();
+        assertEquals(3_300.0, snap.moneySupply, 1e-9);
+        assertEquals(0.0, snap.unattributedThisHour(), 1e-9);
+
+        // The next hour opens from the combined supply
+        now.set(6 * HOUR);
+        assertEquals(3_300.0, stats.snapshot().supplyAtHourStart, 1e-9);
+    }
+}
@@ -0,0 +1,202 @@
+package com.boopugstudios.dynamicjobseconomy.gigs;
+
+import com.boopugstudios.dynamicjobseconomy.DynamicJobsEconomy;
+import com.boopugstudios.dynamicjobseconomy.database.DatabaseManager;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("integration")
+class EscrowLedgerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private DatabaseManager db;
+    private final UUID poster = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        db = open();
+        try (Connection conn = db.getConnection();
+             PreparedStatement ps = conn.prepareStatement("INSERT INTO players (uuid, username, money) VALUES (?, 'Poster', 1000)")) {
+            ps.setString(1, poster.toString());
+            ps.executeUpdate();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (db != null) {
+            db.closeConnections();
+        }
+    }
+
+    @Test
+    void hold_thenRelease_movesTheRowOutOfHeld() throws Exception {
+        int gigId = insertGig("OPEN", 250.0);
+        try (Connection conn = db.getConnection()) {
+            EscrowLedger.hold(conn, gigId, poster, 250.0);
+        }
+        assertEquals(EscrowLedger.HELD, state(gigId));
+        assertEquals(250.0, amount(gigId), 0.001);
+
+        try (Connection conn = db.getConnection()) {
+            assertTrue(EscrowLedger.settle(conn, List.of(gigId), EscrowLedger.RELEASED));
+        }
+        assertEquals(EscrowLedger.RELEASED, state(gigId));
+        assertNotNull(settledAt(gigId));
+        assertNull(column(gigId, "refunded_amount"));
+    }
+
+    @Test
+    void cancel_recordsThePartialRefundAndBlocksALaterPayout() throws Exception {
+        int gigId = insertGig("IN_PROGRESS", 80.0);
+        try (Connection conn = db.getConnection()) {
+            EscrowLedger.hold(conn, gigId, poster, 80.0);
+        }
+
+        try (Connection conn = db.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement ps = conn.prepareStatement("UPDATE gigs SET status = 'CANCELLED' WHERE id = ?")) {
+                ps.setInt(1, gigId);
+                ps.executeUpdate();
+            }
+            // A cancelled in-progress gig keeps a 25% penalty
+            assertTrue(EscrowLedger.refund(conn, gigId, 60.0));
+            conn.commit();
+            conn.setAutoCommit(true);
+        }
+        assertEquals(EscrowLedger.REFUNDED, state(gigId));
+        assertEquals(80.0, amount(gigId), 0.001);
+        assertEquals(60.0, Double.parseDouble(column(gigId, "refunded_amount")), 0.001);
+
+        try (Connection conn = db.getConnection()) {
+            assertFalse(EscrowLedger.refund(conn, gigId, 60.0));
+        }
+
+        try (Connection conn = db.getConnection()) {
+            assertFalse(EscrowLedger.settle(conn, List.of(gigId), EscrowLedger.RELEASED));
+        }
+        assertEquals(EscrowLedger.REFUNDED, state(gigId));
+    }
+
+    @Test
+    void settle_rejectsASecondSettlementOfTheSameGig() throws Exception {
+        int settled = insertGig("PENDING_APPROVAL", 40.0);
+        int held = insertGig("PENDING_APPROVAL", 60.0);
+        try (Connection conn = db.getConnection()) {
+            EscrowLedger.hold(conn, settled, poster, 40.0);
+            EscrowLedger.hold(conn, held, poster, 60.0);
+            assertTrue(EscrowLedger.settle(conn, List.of(settled), EscrowLedger.RELEASED));
+            assertFalse(EscrowLedger.settle(conn, List.of(settled), EscrowLedger.RELEASED));
+        }
+
+        // A batch containing an already settled gig is refused; the caller's rollback keeps the rest held
+        try (Connection conn = db.getConnection()) {
+            conn.setAutoCommit(false);
+            assertFalse(EscrowLedger.settle(conn, List.of(held, settled), EscrowLedger.RELEASED));
+            conn.rollback();
+            conn.setAutoCommit(true);
+        }
+        assertEquals(EscrowLedger.HELD, state(held));
+        assertEquals(EscrowLedger.RELEASED, state(settled));
+    }
+
+    @Test
+    void startupBackfill_holdsLiveLegacyGigsOnceAndLeavesOthersAlone() throws Exception {
+        int open = insertGig("OPEN", 10.0);
+        int pending = insertGig("PENDING_APPROVAL", 20.0);
+        int completed = insertGig("COMPLETED", 30.0);
+        int tracked = insertGig("IN_PROGRESS", 40.0);
+        try (Connection conn = db.getConnection()) {
+            EscrowLedger.hold(conn, tracked, poster, 39.0);
+        }
+
+        for (int run = 0; run < 2; run++) {
+            db.closeConnections();
+            db = open();
+            assertEquals(3, escrowRows());
+            assertEquals(EscrowLedger.HELD, state(open));
+            assertEquals(10.0, amount(open), 0.001);
+            assertEquals(EscrowLedger.HELD, state(pending));
+            assertEquals(20.0, amount(pending), 0.001);
+            assertNull(state(completed));
+            assertEquals(39.0, amount(tracked), 0.001);
+        }
+    }
+
+    private DatabaseManager open() {
+        FileConfiguration cfg = Mockito.mock(FileConfiguration.class);
+        Mockito.when(cfg.getString(Mockito.eq("database.type"), ArgumentMatchers.anyString())).thenReturn("sqlite");
+        DynamicJobsEconomy plugin = Mockito.mock(DynamicJobsEconomy.class);
+        Mockito.when(plugin.getConfig()).thenReturn(cfg);
+        Mockito.when(plugin.getDataFolder()).thenReturn(tempDir.toFile());
+        Mockito.when(plugin.getLogger()).thenReturn(Logger.getLogger("DJE-Test"));
+        DatabaseManager manager = new DatabaseManager(plugin);
+        assertTrue(manager.initialize(), "SQLite initialize() should return true");
+        return manager;
+    }
+
+    private int insertGig(String status, double payment) throws Exception {
+        try (Connection conn = db.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                 "INSERT INTO gigs (title, poster_uuid, payment, status) VALUES ('Gig', ?, ?, ?)",
+                 PreparedStatement.RETURN_GENERATED_KEYS)) {
+            ps.setString(1, poster.toString());
+            ps.setDouble(2, payment);
+            ps.setString(3, status);
+            ps.executeUpdate();
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                assertTrue(keys.next());
+                return keys.getInt(1);
+            }
+        }
+    }
+
+    private String state(int gigId) throws Exception {
+        return column(gigId, "state");
+    }
+
+    private double amount(int gigId) throws Exception {
+        return Double.parseDouble(column(gigId, "amount"));
+    }
+
+    private String settledAt(int gigId) throws Exception {
+        return column(gigId, "settled_at");
+    }
+
+    private String column(int gigId, String column) throws Exception {
+        try (Connection conn = db.getConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT " + column + " FROM escrow_accounts WHERE gig_id = ?")) {
+            ps.setInt(1, gigId);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    private int escrowRows() throws Exception {
+        try (Connection conn = db.getConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT COUNT(*) FROM escrow_accounts");
+             ResultSet rs = ps.executeQuery()) {
+            assertTrue(rs.next());
+            return rs.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.boopugstudios.dynamicjobseconomy.gigs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GigDeadlineQueueTest {
+
+    @Test
+    void pollDue_returnsOnlyPassedDeadlinesEarliestFirst() {
+        GigDeadlineQueue queue = new GigDeadlineQueue();
+        queue.schedule(1, 300);
+        queue.schedule(2, 100);
+        queue.schedule(3, 200);
+
+        assertTrue(queue.pollDue(99).isEmpty());
+        assertEquals(List.of(2, 3), queue.pollDue(200));
+        assertEquals(1, queue.size());
+        assertEquals(List.of(1), queue.pollDue(1_000));
+        assertTrue(queue.pollDue(1_000).isEmpty());
+    }
+
+    @Test
+    void cancelledAndRescheduledEntriesAreSkipped() {
+        GigDeadlineQueue queue = new GigDeadlineQueue();
+        queue.schedule(1, 100);
+        queue.schedule(2, 100);
+        assertTrue(queue.cancel(1));
+        assertFalse(queue.cancel(1));
+        queue.schedule(2, 500); // retry later
+
+        assertTrue(queue.pollDue(400).isEmpty());
+        assertEquals(500L, (long) queue.getDueAt(2));
+        assertEquals(List.of(2), queue.pollDue(500));
+        assertNull(queue.getDueAt(2));
+    }
+}
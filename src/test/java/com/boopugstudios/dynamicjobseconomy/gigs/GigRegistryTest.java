@@ -0,0 +1,81 @@
+package com.boopugstudios.dynamicjobseconomy.gigs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GigRegistryTest {
+
+    private static final UUID POSTER = UUID.randomUUID();
+    private static final UUID WORKER = UUID.randomUUID();
+
+    private static List<Integer> ids(List<Gig> gigs) {
+        List<Integer> out = new ArrayList<>();
+        for (Gig gig : gigs) out.add(gig.getId());
+        return out;
+    }
+
+    @Test
+    void statusChangesMoveGigsBetweenIndexes() {
+        GigRegistry registry = new GigRegistry();
+        registry.put(new Gig(1, "a", "", POSTER, 10));
+        registry.put(new Gig(2, "b", "", POSTER, 20));
+
+        assertTrue(registry.assignWorker(1, WORKER));
+        assertTrue(registry.setStatus(1, "IN_PROGRESS"));
+
+        assertEquals(List.of(2), ids(registry.getByStatus("OPEN")));
+        assertEquals(List.of(1), ids(registry.getByStatus("IN_PROGRESS")));
+        assertEquals(List.of(2), ids(registry.getOpen(GigRegistry.Order.NEWEST)));
+        assertEquals(List.of(2, 1), ids(registry.getInvolving(POSTER)));
+        assertEquals(List.of(1), ids(registry.getInvolving(WORKER)));
+
+        registry.remove(1);
+        assertEquals(0, registry.countByStatus("IN_PROGRESS"));
+        assertTrue(registry.getInvolving(WORKER).isEmpty());
+        assertFalse(registry.setStatus(1, "OPEN"));
+    }
+
+    @Test
+    void pagesFollowCursorInEitherOrder() {
+        GigRegistry registry = new GigRegistry();
+        double[] payments = {50, 10, 50, 30, 20};
+        for (int i = 0; i < payments.length; i++) {
+            registry.put(new Gig(i + 1, "g" + (i + 1), "", POSTER, payments[i]));
+        }
+
+        GigRegistry.Page first = registry.openPage(GigRegistry.Order.NEWEST, null, 2);
+        assertEquals(List.of(5, 4), ids(first.gigs));
+        GigRegistry.Page second = registry.openPage(GigRegistry.Order.NEWEST, first.nextCursor, 2);
+        assertEquals(List.of(3, 2), ids(second.gigs));
+        GigRegistry.Page last = registry.openPage(GigRegistry.Order.NEWEST, second.nextCursor, 2);
+        assertEquals(List.of(1), ids(last.gigs));
+        assertNull(last.nextCursor);
+
+        GigRegistry.Page paid = registry.openPage(GigRegistry.Order.PAYMENT, null, 3);
+        assertEquals(List.of(3, 1, 4), ids(paid.gigs));
+        assertEquals(List.of(5, 2), ids(registry.openPage(GigRegistry.Order.PAYMENT, paid.nextCursor, 3).gigs));
+    }
+
+    @Test
+    void cursorSurvivesTheGigItPointsAtLeavingTheBoard() {
+        GigRegistry registry = new GigRegistry();
+        for (int i = 1; i <= 4; i++) registry.put(new Gig(i, "g" + i, "", POSTER, i * 10));
+
+        GigRegistry.Page first = registry.openPage(GigRegistry.Order.PAYMENT, null, 2);
+        assertEquals(List.of(4, 3), ids(first.gigs));
+        registry.setStatus(3, "IN_PROGRESS");
+        assertEquals(List.of(2, 1), ids(registry.openPage(GigRegistry.Order.PAYMENT, first.nextCursor, 2).gigs));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        GigRegistry registry = new GigRegistry();
+        assertThrows(IllegalArgumentException.class, () -> registry.openPage(GigRegistry.Order.NEWEST, "abc", 5));
+        assertThrows(IllegalArgumentException.class, () -> registry.openPage(GigRegistry.Order.PAYMENT, "42", 5));
+    }
+}
@@ -0,0 +1,70 @@
+package com.boopugstudios.dynamicjobseconomy.gigs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GigSearchIndexTest {
+
+    private static final UUID POSTER = UUID.randomUUID();
+
+    private static Gig gig(int id, String title, String description) {
+        return new Gig(id, title, description, POSTER, 10);
+    }
+
+    @Test
+    void tokenize_lowerCasesAndSplitsOnPunctuation() {
+        assertEquals(List.of("build", "a", "wall", "100", "blocks"), GigSearchIndex.tokenize("Build a WALL: 100-blocks!"));
+        assertTrue(GigSearchIndex.tokenize(null).isEmpty());
+    }
+
+    @Test
+    void ranksTitleOverDescriptionAndExactOverPrefix() {
+        GigSearchIndex index = new GigSearchIndex();
+        index.add(gig(1, "Mine iron", "deep cave work"));
+        index.add(gig(2, "Cave cleanup", "bring torches"));
+        index.add(gig(3, "Caves survey", "map the area"));
+
+        assertEquals(List.of(2, 3, 1), index.search("cave", 10));
+        assertEquals(List.of(1), index.search("IRON cav", 10)); // every word must match
+        assertEquals(List.of(2), index.search("cave", 1));
+    }
+
+    @Test
+    void singleLetterWordsMatchWholeTermsOnly() {
+        GigSearchIndex index = new GigSearchIndex();
+        index.add(gig(1, "a farm", ""));
+        index.add(gig(2, "apple farm", ""));
+
+        assertEquals(List.of(1), index.search("a", 10));
+        assertEquals(List.of(2), index.search("ap", 10));
+        assertTrue(index.search("!!", 10).isEmpty());
+    }
+
+    @Test
+    void removeDropsEveryPosting() {
+        GigSearchIndex index = new GigSearchIndex();
+        index.add(gig(1, "Build bridge", "stone bridge"));
+        index.add(gig(2, "Build house", ""));
+        index.remove(1);
+
+        assertEquals(List.of(2), index.search("build", 10));
+        assertTrue(index.search("bridge", 10).isEmpty());
+        assertEquals(2, index.termCount());
+    }
+
+    @Test
+    void registryKeepsOnlyOpenGigsSearchable() {
+        GigRegistry registry = new GigRegistry();
+        registry.put(gig(1, "Fence the farm", ""));
+        registry.put(gig(2, "Farm wheat", ""));
+        registry.setStatus(2, "IN_PROGRESS");
+
+        assertEquals(1, registry.searchOpen("farm", 10).size());
+        registry.setStatus(2, "OPEN");
+        assertEquals(2, registry.searchOpen("farm", 10).size());
+    }
+}
@@ -0,0 +1,59 @@
+package com.boopugstudios.dynamicjobseconomy.i18n;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageTemplateTest {
+
+    private String render(String text, Map<String, ?> ph) {
+        StringBuilder sb = new StringBuilder();
+        MessageTemplate.compile(text).render(sb, ph);
+        return sb.toString();
+    }
+
+    @Test
+    void replacesPlaceholdersInOnePass() {
+        Map<String, String> ph = new HashMap<>();
+        ph.put("player", "Alex");
+        ph.put("money", "$10.00");
+        assertEquals("§aGave $10.00 to Alex", render("§aGave %money% to %player%", ph));
+    }
+
+    @Test
+    void unknownPlaceholdersAndLonePercentsStayLiteral() {
+        Map<String, String> ph = new HashMap<>();
+        ph.put("rate", "5");
+        assertEquals("50% off, %missing% and 5%", render("50% off, %missing% and %rate%%", ph));
+        assertEquals("100%", render("100%", null));
+    }
+
+    @Test
+    void substitutedValuesAreNotRescanned() {
+        Map<String, String> ph = new HashMap<>();
+        ph.put("a", "%b%");
+        ph.put("b", "X");
+        assertEquals("%b% X", render("%a% %b%", ph));
+    }
+
+    @Test
+    void consumerValuesWriteDirectlyIntoBuilder() {
+        Map<String, Object> ph = new HashMap<>();
+        Consumer<StringBuilder> money = sb -> sb.append("$1,234.50");
+        ph.put("money", money);
+        ph.put("count", 3);
+        assertEquals("Paid $1,234.50 to 3 players", render("Paid %money% to %count% players", ph));
+    }
+
+    @Test
+    void constantTemplatesReportNoPlaceholders() {
+        MessageTemplate t = MessageTemplate.compile("§aConfiguration reloaded!");
+        assertTrue(t.isConstant());
+        assertEquals("§aConfiguration reloaded!", t.constant());
+        assertFalse(MessageTemplate.compile("Hi %name%").isConstant());
+    }
+}
@@ -2,6 +2,9 @@ package com.boopugstudios.dynamicjobseconomy.jobs;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,4 +46,28 @@ class PlayerJobDataTest {
         jl.setLevel(7);
         assertEquals(7, jl.getLevel());
     }
+
+    @Test
+    void mergeStored_keepsUnsavedExperienceAndTakesRemoteChanges() {
+        PlayerJobData data = new PlayerJobData(UUID.randomUUID());
+        data.getJobLevel("Miner").setLevel(5);
+        data.getJobLevel("Miner").setExperience(80); // 30 of it not saved yet
+        data.getJobLevel("Farmer").setLevel(3);
+        data.getJobLevel("Builder").setLevel(2);
+
+        Map<String, JobLevel> stored = new HashMap<>();
+        stored.put("Miner", new JobLevel(5, 50));
+        stored.put("Farmer", new JobLevel(10, 0)); // level set by an admin elsewhere
+        stored.put("Hunter", new JobLevel(4, 20)); // joined elsewhere
+        // Builder left elsewhere
+        data.mergeStored(stored);
+
+        assertEquals(Set.of("Miner", "Farmer", "Hunter"), data.getJobs());
+        assertEquals(5, data.getJobLevel("Miner").getLevel());
+        assertEquals(80, data.getJobLevel("Miner").getExperience());
+        assertEquals(10, data.getJobLevel("Farmer").getLevel());
+        assertEquals(0, data.getJobLevel("Farmer").getExperience());
+        assertEquals(4, data.getJobLevel("Hunter").getLevel());
+        assertEquals(20, data.getJobLevel("Hunter").getExperience());
+    }
 }
@@ -0,0 +1,30 @@
+package com.boopugstudios.dynamicjobseconomy.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EconomyFormatTest {
+
+    @Test
+    void appendNumber_matchesDecimalFormatOutput() {
+        double[] samples = {0.0, -0.0, 0.005, 0.015, 2.675, -0.001, 999.995, 1234567.125, 0.125, 9.995, -5.5, 999999.999, 1e14, 1e18};
+        for (double v : samples) {
+            assertEquals(EconomyFormat.number(v), EconomyFormat.appendNumber(new StringBuilder(), v).toString(), "value " + v);
+        }
+        Random r = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            double v = (r.nextInt(2_000_000) - 1_000_000) / 8.0 + r.nextDouble();
+            assertEquals(EconomyFormat.number(v), EconomyFormat.appendNumber(new StringBuilder(), v).toString(), "value " + v);
+        }
+    }
+
+    @Test
+    void appendMoney_appendsToExistingContent() {
+        StringBuilder sb = new StringBuilder("Balance: ");
+        EconomyFormat.appendMoney(sb, 12.5);
+        assertEquals("Balance: " + EconomyFormat.money(12.5), sb.toString());
+    }
+}